@@ -0,0 +1,62 @@
+package com.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.adapters.security.AccessTokenService;
+import com.taskmanager.entities.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication cost per request: HTTP Basic, which checks the password against its BCrypt hash on every
+ * request as SecurityConfig's provider does, against checking the signature and expiry of a bearer token
+ * from /api/users/login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class AuthenticationBenchmark {
+    private DaoAuthenticationProvider basicProvider;
+    private AccessTokenService accessTokens;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        basicProvider = new DaoAuthenticationProvider(passwordEncoder);
+        basicProvider.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername("demo")
+                .password(passwordEncoder.encode("demo"))
+                .roles("USER")
+                .build()));
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        Clock clock = Clock.systemUTC();
+        accessTokens = new AccessTokenService(Map.of("k1", secret), "k1", new ObjectMapper(), clock);
+        token = accessTokens.issue(UUID.randomUUID().toString(), UserRole.USER, clock.instant().plus(Duration.ofHours(1)));
+    }
+
+    @Benchmark
+    public Authentication httpBasic() {
+        return basicProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("demo", "demo"));
+    }
+
+    @Benchmark
+    public Optional<AccessTokenService.Claims> bearerToken() {
+        return accessTokens.verify(token);
+    }
+}
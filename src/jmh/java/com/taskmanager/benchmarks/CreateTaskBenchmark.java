@@ -0,0 +1,50 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.CreateTaskUseCase;
+import com.taskmanager.usecases.dto.*;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of CreateTaskUseCase.execute: user and project lookups, the task and its view being stored,
+ * and the output mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class CreateTaskBenchmark {
+
+    @Param({Repositories.STUB, Repositories.H2})
+    public String repositories;
+
+    private Repositories backend;
+    private CreateTaskUseCase useCase;
+    private CreateTaskInputData input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        backend = Repositories.open(repositories);
+        useCase = backend.useCase(CreateTaskUseCase.class, ports -> new CreateTaskUseCase(
+                ports.tasks(), ports.taskViews(), ports.users(), ports.projects(), event -> { }, event -> { }));
+        User assignee = backend.users().save(new User("assignee@example.com", "Ada", "Assignee", "Password1!", UserRole.USER));
+        Project project = backend.projects().save(new Project("Benchmark", "Description", assignee.getId(),
+                LocalDateTime.now(), LocalDateTime.now().plusDays(30)));
+        input = new CreateTaskInputData("Benchmark task", "Description", LocalDateTime.now().plusDays(7),
+                assignee.getId(), project.getId(), TaskPriority.HIGH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        backend.close();
+    }
+
+    @Benchmark
+    public TaskOutputData createTask() {
+        return useCase.execute(input);
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.adapters.events.EventLog;
+import com.taskmanager.adapters.events.JdbcDomainEventOutbox;
+import com.taskmanager.adapters.events.OutboxRelay;
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Domain events per second through the event log, in batches of 1000 as OutboxRelay moves them.
+ *
+ * "append" appends task-sized JSON records to a log in a temporary directory and forces them to disk once per
+ * batch. "outbox" is the whole path: 1000 events recorded in one transaction through JdbcDomainEventOutbox
+ * on an in-memory H2 database, then relayed into the log by OutboxRelay. The target is a sustained 50k events
+ * per second. "read" takes batches of records from the log as zero-copy slices, as the /api/events endpoint does.
+ * Sealed segments are kept for one second, so the disk holds about one second of events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class EventLogBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    private Path directory;
+    private EventLog eventLog;
+    private OutboxRelay relay;
+    private JdbcDomainEventOutbox outbox;
+    private TransactionTemplate transaction;
+    private DomainEvent event;
+    private byte[] record;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        directory = Files.createTempDirectory("event-log-benchmark");
+        eventLog = new EventLog(directory, 64 << 20, Duration.ofSeconds(1), Clock.systemUTC());
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:event-log-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        outbox = new JdbcDomainEventOutbox(jdbcTemplate, objectMapper, Clock.systemUTC());
+        // Relayed by the benchmark itself
+        relay = new OutboxRelay(jdbcTemplate, eventLog, objectMapper, BATCH_SIZE, Duration.ofHours(1), new SimpleMeterRegistry());
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        TaskOutputData task = new TaskOutputData(UUID.randomUUID().toString(), "Benchmark task", "Description of the task",
+                createdAt.plusDays(7), TaskStatus.TODO, TaskPriority.HIGH, UUID.randomUUID().toString(), "Ada Assignee",
+                UUID.randomUUID().toString(), "Benchmark", createdAt, createdAt, false, 7);
+        event = new DomainEvent(DomainEvent.Type.TASK_CREATED, task.getId(), task);
+        record = objectMapper.writeValueAsBytes(task);
+        // One batch up front, so read has records to return
+        append();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        relay.close();
+        eventLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long append() {
+        long offset = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            offset = eventLog.append(record);
+        }
+        eventLog.flush();
+        eventLog.enforceRetention();
+        return offset;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int outbox() {
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                outbox.record(event);
+            }
+        });
+        int relayed = relay.relayBatch();
+        eventLog.enforceRetention();
+        return relayed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<EventLog.Record> read() {
+        return eventLog.read(eventLog.startOffset(), BATCH_SIZE);
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.GetTasksByProjectUseCase;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.TaskViewRepository;
+import org.openjdk.jmh.annotations.*;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading one page of a project's tasks as the project grows. Keyset pagination should keep
+ * both the first page and a page from the middle of the project flat from 10 to 100k tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class GetTasksByProjectBenchmark {
+    private static final int PAGE_SIZE = 50;
+    private static final int INSERT_BATCH = 5_000;
+
+    @Param({Repositories.STUB, Repositories.H2})
+    public String repositories;
+
+    @Param({"10", "1000", "100000"})
+    public int taskCount;
+
+    private Repositories backend;
+    private GetTasksByProjectUseCase useCase;
+    private String projectId;
+    private String middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        backend = Repositories.open(repositories);
+        useCase = backend.useCase(GetTasksByProjectUseCase.class, ports -> new GetTasksByProjectUseCase(
+                ports.taskViews(), ports.projects(), Clock.systemDefaultZone()));
+        User assignee = backend.users().save(new User("assignee@example.com", "Ada", "Assignee", "Password1!", UserRole.USER));
+        Project project = backend.projects().save(new Project("Benchmark", "Description", assignee.getId(),
+                LocalDateTime.now(), LocalDateTime.now().plusDays(30)));
+        projectId = project.getId();
+        seedViews(backend.taskViews(), assignee, project);
+
+        // Walk to the page holding the middle task, so deep pages are measured too
+        String cursor = null;
+        for (int seen = 0; seen + PAGE_SIZE <= taskCount / 2; seen += PAGE_SIZE) {
+            cursor = useCase.execute(projectId, cursor, PAGE_SIZE).getNextCursor();
+        }
+        middleCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        backend.close();
+    }
+
+    @Benchmark
+    public TaskPageOutputData firstPage() {
+        return useCase.execute(projectId, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskPageOutputData middlePage() {
+        return useCase.execute(projectId, middleCursor, PAGE_SIZE);
+    }
+
+    private void seedViews(TaskViewRepository taskViews, User assignee, Project project) {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        List<TaskView> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task(TimeOrderedId.next(), "Task " + i, "Description", createdAt.plusDays(7), TaskStatus.TODO,
+                    TaskPriority.values()[i % TaskPriority.values().length], assignee.getId(), project.getId(),
+                    createdAt.plusNanos(i * 1_000L), createdAt);
+            batch.add(new TaskView(task, assignee.getFullName(), project.getName()));
+            if (batch.size() == INSERT_BATCH || i == taskCount - 1) {
+                taskViews.insertAll(batch);
+                batch = new ArrayList<>(INSERT_BATCH);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.entities.TimeOrderedId;
+import org.openjdk.jmh.annotations.*;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of generating an entity id on eight threads at once: the random UUIDs entities used to get,
+ * whose SecureRandom serializes callers, against TimeOrderedId.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class IdGenerationBenchmark {
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrderedId() {
+        return TimeOrderedId.next();
+    }
+}
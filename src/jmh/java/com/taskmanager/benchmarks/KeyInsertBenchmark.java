@@ -0,0 +1,93 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.entities.TimeOrderedId;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Insert throughput into a file-backed H2 tasks table that already holds 200k rows, for every
+ * combination of key column type and key order. The old layout is VARCHAR(36) with random keys,
+ * the new one UUID with time-ordered keys; the two other combinations separate the effect of the
+ * column type from that of the key order. Results are per inserted row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class KeyInsertBenchmark {
+    private static final int PRELOADED_ROWS = 200_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"VARCHAR(36)", "UUID"})
+    public String keyType;
+
+    @Param({"random", "time-ordered"})
+    public String keyOrder;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Timestamp now;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("key-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("tasks"), "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE tasks (id " + keyType + " PRIMARY KEY, title VARCHAR(200) NOT NULL, "
+                    + "status VARCHAR(20) NOT NULL, project_id " + keyType + " NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_tasks_project_status ON tasks (project_id, status)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO tasks (id, title, status, project_id, created_at) VALUES (?, ?, 'TODO', ?, ?)");
+        now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < PRELOADED_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertRows() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        Object projectId = key();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, key());
+            insert.setString(2, "Task");
+            insert.setObject(3, projectId);
+            insert.setTimestamp(4, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private Object key() {
+        UUID key = keyOrder.equals("random") ? UUID.randomUUID() : TimeOrderedId.nextUuid();
+        return keyType.equals("UUID") ? key : key.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.adapters.repositories.InMemoryTaskRepository;
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.GetProjectDashboardUseCase;
+import com.taskmanager.usecases.dto.ProjectDashboardOutputData;
+import com.taskmanager.usecases.ports.TaskRepository;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of the project dashboard computed by one grouped query, against loading every task of the
+ * project and counting them, which is what the client did before. The dashboard should stay under
+ * 20ms at p99 for a project with 100k tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class ProjectDashboardBenchmark {
+    private static final int INSERT_BATCH = 5_000;
+
+    @Param({"memory", Repositories.H2})
+    public String adapter;
+
+    @Param({"1000", "100000"})
+    public int taskCount;
+
+    private Repositories backend;
+    private InMemoryTaskRepository memoryRepository;
+    private Path directory;
+    private TaskRepository repository;
+    private GetProjectDashboardUseCase useCase;
+    private String projectId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        backend = Repositories.open(Repositories.H2);
+        if (adapter.equals("memory")) {
+            directory = Files.createTempDirectory("dashboard-benchmark");
+            memoryRepository = new InMemoryTaskRepository(directory, false, Duration.ZERO);
+            repository = memoryRepository;
+            useCase = new GetProjectDashboardUseCase(repository, backend.projects(), Clock.systemDefaultZone());
+        } else {
+            repository = backend.tasks();
+            useCase = backend.useCase(GetProjectDashboardUseCase.class, ports -> null);
+        }
+
+        User assignee = backend.users().save(new User("assignee@example.com", "Ada", "Assignee", "Password1!", UserRole.USER));
+        Project project = backend.projects().save(new Project("Benchmark", "Description", assignee.getId(),
+                LocalDateTime.now(), LocalDateTime.now().plusDays(30)));
+        projectId = project.getId();
+        seedTasks(assignee, project);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (memoryRepository != null) {
+            memoryRepository.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(file -> file.toFile().delete());
+            }
+        }
+        backend.close();
+    }
+
+    @Benchmark
+    public ProjectDashboardOutputData groupedQuery() {
+        return useCase.execute(projectId);
+    }
+
+    @Benchmark
+    public Map<TaskStatus, Long> loadAndCount() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (Task task : repository.findByProjectId(projectId)) {
+            counts.merge(task.getStatus(), 1L, Long::sum);
+            task.isOverdue();
+        }
+        return counts;
+    }
+
+    private void seedTasks(User assignee, Project project) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < taskCount; i++) {
+            batch.add(new Task(TimeOrderedId.next(), "Task " + i, "Description", now.plusHours(i % 200 - 50),
+                    TaskStatus.values()[i % TaskStatus.values().length], TaskPriority.values()[i % TaskPriority.values().length],
+                    assignee.getId(), project.getId(), now, now));
+            if (batch.size() == INSERT_BATCH || i == taskCount - 1) {
+                repository.insertAll(batch);
+                batch = new ArrayList<>(INSERT_BATCH);
+            }
+        }
+    }
+}
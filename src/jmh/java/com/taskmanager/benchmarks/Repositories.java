@@ -0,0 +1,88 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.TaskManagementApplication;
+import com.taskmanager.usecases.ports.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The repository ports a benchmark runs against.
+ *
+ * "stub" uses the map-backed StubRepositories, so the measurement covers the use case and entity code alone.
+ * "h2" starts the application without its web server on a private in-memory H2 database, so repositories,
+ * caches and use case transactions are wired exactly as in production.
+ */
+final class Repositories implements AutoCloseable {
+    static final String STUB = "stub";
+    static final String H2 = "h2";
+
+    private final TaskRepository taskRepository;
+    private final TaskViewRepository taskViewRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final ConfigurableApplicationContext context;
+
+    private Repositories(TaskRepository taskRepository, TaskViewRepository taskViewRepository,
+                         UserRepository userRepository, ProjectRepository projectRepository,
+                         ConfigurableApplicationContext context) {
+        this.taskRepository = taskRepository;
+        this.taskViewRepository = taskViewRepository;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.context = context;
+    }
+
+    static Repositories open(String backend) {
+        switch (backend) {
+            case STUB:
+                StubRepositories stubs = new StubRepositories();
+                return new Repositories(stubs.tasks(), stubs.taskViews(), stubs.users(), stubs.projects(), null);
+            case H2:
+                ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                        .web(WebApplicationType.NONE)
+                        // Command line arguments, so they take precedence over application.properties
+                        .run("--spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                                "--spring.jpa.show-sql=false",
+                                "--spring.main.banner-mode=off",
+                                "--logging.level.root=WARN");
+                return new Repositories(context.getBean(TaskRepository.class), context.getBean(TaskViewRepository.class),
+                        context.getBean(UserRepository.class), context.getBean(ProjectRepository.class), context);
+            default:
+                throw new IllegalArgumentException("Unknown repository backend: " + backend);
+        }
+    }
+
+    /**
+     * Returns the use case as the application runs it: the transactional bean on H2, or one built
+     * by the factory from the stub ports.
+     */
+    <T> T useCase(Class<T> type, Function<Repositories, T> factory) {
+        return context != null ? context.getBean(type) : factory.apply(this);
+    }
+
+    TaskRepository tasks() {
+        return taskRepository;
+    }
+
+    TaskViewRepository taskViews() {
+        return taskViewRepository;
+    }
+
+    UserRepository users() {
+        return userRepository;
+    }
+
+    ProjectRepository projects() {
+        return projectRepository;
+    }
+
+    @Override
+    public void close() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
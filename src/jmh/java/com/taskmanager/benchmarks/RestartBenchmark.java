@@ -0,0 +1,158 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.TaskManagementApplication;
+import com.taskmanager.adapters.repositories.NotifyingTaskRepository;
+import com.taskmanager.entities.TimeOrderedId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to restart the application with the durable profile on a file database that already holds
+ * taskCount tasks, spread over 100 users and 100 projects, until the context is ready to serve.
+ * The schema is created once by Flyway before the first restart; every measured restart only finds
+ * it up to date. Each invocation starts the full application, web server included, and closes it again.
+ * The profile fills the deadlines and the search index in the background, so that pass is not measured;
+ * it is waited for before closing, so it never overlaps the next restart.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+public class RestartBenchmark {
+    private static final int OWNERS = 100;
+    private static final int INSERT_BATCH = 5_000;
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "COMPLETED", "CANCELLED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+
+    @Param({"1000000"})
+    public int taskCount;
+
+    private Path directory;
+    private String url;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("restart-benchmark");
+        // The profile's URL with its tuning options, pointed at the temporary directory
+        String profileUrl = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-durable.properties"))
+                .getProperty("spring.datasource.url");
+        url = profileUrl.replace("./data/db/taskmanager", directory.resolve("taskmanager").toString());
+        start().close();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (context != null) {
+            NotifyingTaskRepository tasks = context.getBean("notifyingTaskRepository", NotifyingTaskRepository.class);
+            while (tasks.isRebuilding()) {
+                Thread.sleep(10);
+            }
+            context.close();
+            context = null;
+        }
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext restart() {
+        context = start();
+        return context;
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles("durable")
+                // Command line arguments, so they take precedence over the profile's properties
+                .run("--spring.datasource.url=" + url,
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            connection.setAutoCommit(false);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            UUID[] users = new UUID[OWNERS];
+            UUID[] projects = new UUID[OWNERS];
+            try (PreparedStatement user = connection.prepareStatement("INSERT INTO users (id, email, first_name, last_name, "
+                    + "password, role, status, created_at, updated_at) VALUES (?, ?, 'Bench', 'User', 'Password1!', 'USER', 'ACTIVE', ?, ?)");
+                 PreparedStatement project = connection.prepareStatement("INSERT INTO projects (id, name, owner_id, status, "
+                         + "created_at, updated_at) VALUES (?, ?, ?, 'IN_PROGRESS', ?, ?)")) {
+                for (int i = 0; i < OWNERS; i++) {
+                    users[i] = TimeOrderedId.nextUuid();
+                    user.setObject(1, users[i]);
+                    user.setString(2, "user" + i + "@example.com");
+                    user.setTimestamp(3, now);
+                    user.setTimestamp(4, now);
+                    user.addBatch();
+                    projects[i] = TimeOrderedId.nextUuid();
+                    project.setObject(1, projects[i]);
+                    project.setString(2, "Project " + i);
+                    project.setObject(3, users[i]);
+                    project.setTimestamp(4, now);
+                    project.setTimestamp(5, now);
+                    project.addBatch();
+                }
+                user.executeBatch();
+                project.executeBatch();
+            }
+            try (PreparedStatement task = connection.prepareStatement("INSERT INTO tasks (id, title, description, due_date, "
+                    + "status, priority, assigned_user_id, project_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+                 PreparedStatement view = connection.prepareStatement("INSERT INTO task_view (id, title, description, due_date, "
+                         + "status, priority, assigned_user_id, assigned_user_name, project_id, project_name, created_at, updated_at) "
+                         + "VALUES (?, ?, ?, ?, ?, ?, ?, 'Bench User', ?, ?, ?, ?)")) {
+                for (int i = 0; i < taskCount; i++) {
+                    UUID id = TimeOrderedId.nextUuid();
+                    int owner = i % OWNERS;
+                    Timestamp dueDate = Timestamp.valueOf(now.toLocalDateTime().plusDays(i % 60 - 10));
+                    String title = "Task " + i;
+                    String description = "Benchmark task " + i + " of project " + owner;
+                    String status = STATUSES[i % STATUSES.length];
+                    String priority = PRIORITIES[i % PRIORITIES.length];
+                    Object[] values = {id, title, description, dueDate, status, priority, users[owner], projects[owner], now, now};
+                    for (int column = 0; column < values.length; column++) {
+                        task.setObject(column + 1, values[column]);
+                    }
+                    task.addBatch();
+                    Object[] viewValues = {id, title, description, dueDate, status, priority, users[owner], projects[owner],
+                            "Project " + owner, now, now};
+                    for (int column = 0; column < viewValues.length; column++) {
+                        view.setObject(column + 1, viewValues[column]);
+                    }
+                    view.addBatch();
+                    if ((i + 1) % INSERT_BATCH == 0 || i == taskCount - 1) {
+                        task.executeBatch();
+                        view.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+        }
+    }
+}
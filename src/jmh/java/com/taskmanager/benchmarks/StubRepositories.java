@@ -0,0 +1,368 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Map-backed repository ports with next to no cost of their own. Only the operations the benchmarks
+ * reach are implemented; everything else throws.
+ */
+final class StubRepositories {
+    private final Map<String, Task> tasks = new HashMap<>();
+    private final Map<String, TaskView> taskViews = new HashMap<>();
+    private final Map<String, NavigableMap<Map.Entry<LocalDateTime, String>, TaskView>> taskViewsByProject = new HashMap<>();
+    private final Map<String, Long> projectVersions = new HashMap<>();
+    private final Map<String, User> users = new HashMap<>();
+    private final Map<String, Project> projects = new HashMap<>();
+
+    private static final Comparator<Map.Entry<LocalDateTime, String>> BY_CREATION =
+            Map.Entry.<LocalDateTime, String>comparingByKey().thenComparing(Map.Entry.comparingByValue());
+
+    TaskRepository tasks() {
+        return new TaskRepository() {
+            @Override
+            public Task save(Task task) {
+                tasks.put(task.getId(), task);
+                return task;
+            }
+
+            @Override
+            public List<Task> insertAll(List<Task> newTasks) {
+                newTasks.forEach(this::save);
+                return newTasks;
+            }
+
+            @Override
+            public Optional<Task> findById(String id) {
+                return Optional.ofNullable(tasks.get(id));
+            }
+
+            @Override
+            public boolean existsById(String id) {
+                return tasks.containsKey(id);
+            }
+
+            @Override
+            public void deleteById(String id) {
+                tasks.remove(id);
+            }
+
+            @Override
+            public Map<String, Task> findByIds(Collection<String> ids) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findAll() {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findByUserId(String userId) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findByProjectId(String projectId) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findByStatus(TaskStatus status) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findByPriority(TaskPriority priority) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findOverdueTasks(LocalDateTime currentTime) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findTasksDueWithin(LocalDateTime dueDateLimit) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findByUserIdAndStatus(String userId, TaskStatus status) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Task> findByProjectIdAndStatus(String projectId, TaskStatus status) {
+                throw unsupported();
+            }
+
+            @Override
+            public void forEachMatching(String projectId, TaskStatus status, LocalDateTime updatedSince, Consumer<Task> consumer) {
+                throw unsupported();
+            }
+
+            @Override
+            public int updateStatus(Collection<String> ids, Collection<TaskStatus> fromStatuses, TaskStatus status, LocalDateTime updatedAt) {
+                throw unsupported();
+            }
+
+            @Override
+            public long countByUserId(String userId) {
+                throw unsupported();
+            }
+
+            @Override
+            public long countByProjectId(String projectId) {
+                throw unsupported();
+            }
+
+            @Override
+            public long countByStatus(TaskStatus status) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<TaskCountGroup> countByProjectIdGrouped(String projectId, LocalDateTime now) {
+                throw unsupported();
+            }
+        };
+    }
+
+    TaskViewRepository taskViews() {
+        return new TaskViewRepository() {
+            @Override
+            public TaskView save(TaskView taskView) {
+                taskViews.put(taskView.getId(), taskView);
+                taskViewsByProject.computeIfAbsent(taskView.getProjectId(), projectId -> new TreeMap<>(BY_CREATION))
+                        .put(Map.entry(taskView.getCreatedAt(), taskView.getId()), taskView);
+                return taskView;
+            }
+
+            @Override
+            public List<TaskView> insertAll(List<TaskView> newViews) {
+                newViews.forEach(this::save);
+                return newViews;
+            }
+
+            @Override
+            public Optional<TaskView> findById(String id) {
+                return Optional.ofNullable(taskViews.get(id));
+            }
+
+            @Override
+            public Optional<TaskViewStamp> findStampById(String id) {
+                throw unsupported();
+            }
+
+            @Override
+            public Map<String, TaskView> findByIds(Collection<String> ids) {
+                throw unsupported();
+            }
+
+            @Override
+            public ProjectTaskViews findByProjectIdAfter(String projectId, LocalDateTime afterCreatedAt, String afterId, int limit) {
+                NavigableMap<Map.Entry<LocalDateTime, String>, TaskView> views = taskViewsByProject.get(projectId);
+                if (views == null) {
+                    return new ProjectTaskViews(List.of(), null);
+                }
+                if (afterCreatedAt != null) {
+                    views = views.tailMap(Map.entry(afterCreatedAt, afterId), false);
+                }
+                List<TaskView> page = new ArrayList<>(limit);
+                for (TaskView view : views.values()) {
+                    if (page.size() == limit) {
+                        break;
+                    }
+                    page.add(view);
+                }
+                return new ProjectTaskViews(page, page.isEmpty() ? null : projectVersions.getOrDefault(projectId, 0L));
+            }
+
+            @Override
+            public void deleteById(String id) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<TaskView> findByUserIdAfter(String userId, LocalDateTime afterCreatedAt, String afterId, int limit) {
+                throw unsupported();
+            }
+
+            @Override
+            public int updateAssignedUserName(String userId, String assignedUserName) {
+                throw unsupported();
+            }
+
+            @Override
+            public int updateProjectName(String projectId, String projectName) {
+                throw unsupported();
+            }
+
+            @Override
+            public int updateStatus(Collection<String> ids, TaskStatus status, LocalDateTime updatedAt) {
+                throw unsupported();
+            }
+
+            @Override
+            public long findProjectVersion(String projectId) {
+                return projectVersions.getOrDefault(projectId, 0L);
+            }
+
+            @Override
+            public void bumpProjectVersions(Collection<String> projectIds) {
+                projectIds.forEach(projectId -> projectVersions.merge(projectId, 1L, Long::sum));
+            }
+        };
+    }
+
+    UserRepository users() {
+        return new UserRepository() {
+            @Override
+            public User save(User user) {
+                users.put(user.getId(), user);
+                return user;
+            }
+
+            @Override
+            public Optional<User> findById(String id) {
+                return Optional.ofNullable(users.get(id));
+            }
+
+            @Override
+            public boolean existsById(String id) {
+                return users.containsKey(id);
+            }
+
+            @Override
+            public Map<String, User> findByIds(Collection<String> ids) {
+                throw unsupported();
+            }
+
+            @Override
+            public Optional<User> findByEmail(String email) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<User> findAll() {
+                throw unsupported();
+            }
+
+            @Override
+            public List<User> findActiveUsers(UserStatus status) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<User> findByRole(UserRole role) {
+                throw unsupported();
+            }
+
+            @Override
+            public boolean existsByEmail(String email) {
+                throw unsupported();
+            }
+
+            @Override
+            public void deleteById(String id) {
+                throw unsupported();
+            }
+
+            @Override
+            public long countActiveUsers(UserStatus status) {
+                throw unsupported();
+            }
+
+            @Override
+            public long countByRole(UserRole role) {
+                throw unsupported();
+            }
+        };
+    }
+
+    ProjectRepository projects() {
+        return new ProjectRepository() {
+            @Override
+            public Project save(Project project) {
+                projects.put(project.getId(), project);
+                return project;
+            }
+
+            @Override
+            public Optional<Project> findById(String id) {
+                return Optional.ofNullable(projects.get(id));
+            }
+
+            @Override
+            public boolean existsById(String id) {
+                return projects.containsKey(id);
+            }
+
+            @Override
+            public Map<String, Project> findByIds(Collection<String> ids) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Project> findAll() {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Project> findByOwnerId(String ownerId) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Project> findByStatus(ProjectStatus status) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Project> findActiveProjects() {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Project> findOverdueProjects(LocalDateTime currentTime) {
+                throw unsupported();
+            }
+
+            @Override
+            public List<Project> findProjectsEndingWithin(LocalDateTime endDateLimit) {
+                throw unsupported();
+            }
+
+            @Override
+            public void deleteById(String id) {
+                throw unsupported();
+            }
+
+            @Override
+            public long countByOwnerId(String ownerId) {
+                throw unsupported();
+            }
+
+            @Override
+            public long countByStatus(ProjectStatus status) {
+                throw unsupported();
+            }
+        };
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not used by the benchmarks");
+    }
+}
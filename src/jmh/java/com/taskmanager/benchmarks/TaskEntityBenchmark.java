@@ -0,0 +1,63 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.entities.*;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating and loading Task entities and of their state transitions. Transitions mutate the
+ * task, so each of those benchmarks loads a fresh one first; compare them against loadTask.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class TaskEntityBenchmark {
+    private final LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+    private final LocalDateTime dueDate = LocalDateTime.now().plusDays(7);
+
+    @Benchmark
+    public Task createTask() {
+        return new Task("Benchmark task", "Description", dueDate, "user-1", "project-1", TaskPriority.HIGH);
+    }
+
+    @Benchmark
+    public Task loadTask() {
+        return load(TaskStatus.TODO);
+    }
+
+    @Benchmark
+    public Task startAndComplete() {
+        Task task = load(TaskStatus.TODO);
+        task.markAsInProgress();
+        task.markAsCompleted();
+        return task;
+    }
+
+    @Benchmark
+    public Task cancel() {
+        Task task = load(TaskStatus.IN_PROGRESS);
+        task.cancel();
+        return task;
+    }
+
+    @Benchmark
+    public Task updateDetails() {
+        Task task = load(TaskStatus.IN_PROGRESS);
+        task.updateDetails("Renamed task", "New description", dueDate.plusDays(1), TaskPriority.URGENT);
+        return task;
+    }
+
+    @Benchmark
+    public boolean isOverdue() {
+        return load(TaskStatus.IN_PROGRESS).isOverdue();
+    }
+
+    private Task load(TaskStatus status) {
+        return new Task("task-1", "Benchmark task", "Description", dueDate, status, TaskPriority.HIGH,
+                "user-1", "project-1", createdAt, createdAt);
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import org.openjdk.jmh.annotations.*;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a list of task views to TaskOutputData, deriving isOverdue and daysUntilDue either
+ * from a fresh clock read per call or from one time taken for the whole list. Run with the gc profiler
+ * (the exec configuration of the benchmarks profile adds it) and compare gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class TaskListTimeFieldsBenchmark {
+
+    @Param({"10000"})
+    public int taskCount;
+
+    private final Clock clock = Clock.systemDefaultZone();
+    private List<TaskView> views;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(30);
+        TaskStatus[] statuses = TaskStatus.values();
+        views = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task("task-" + i, "Benchmark task " + i, "Description", createdAt.plusHours(i % 1440),
+                    statuses[i % statuses.length], TaskPriority.MEDIUM, "user-1", "project-1", createdAt, createdAt);
+            views.add(new TaskView(task, "Ada Assignee", "Benchmark"));
+        }
+    }
+
+    @Benchmark
+    public List<TaskOutputData> clockPerCall() {
+        List<TaskOutputData> tasks = new ArrayList<>(views.size());
+        for (TaskView view : views) {
+            tasks.add(toOutputData(view, view.isOverdue(), view.getDaysUntilDue()));
+        }
+        return tasks;
+    }
+
+    @Benchmark
+    public List<TaskOutputData> clockPerList() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<TaskOutputData> tasks = new ArrayList<>(views.size());
+        for (TaskView view : views) {
+            tasks.add(toOutputData(view, view.isOverdue(now), view.getDaysUntilDue(now)));
+        }
+        return tasks;
+    }
+
+    private static TaskOutputData toOutputData(TaskView task, boolean overdue, long daysUntilDue) {
+        return new TaskOutputData(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(),
+                task.getStatus(), task.getPriority(), task.getAssignedUserId(), task.getAssignedUserName(),
+                task.getProjectId(), task.getProjectName(), task.getCreatedAt(), task.getUpdatedAt(),
+                overdue, daysUntilDue);
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.adapters.repositories.InMemoryTaskRepository;
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.TaskRepository;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency distribution of TaskRepository.findById for the in-memory adapter against the JPA
+ * adapter on H2. Sampling mode reports the p99 alongside the mean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class TaskRepositoryBenchmark {
+    private static final int TASK_COUNT = 10_000;
+
+    @Param({"memory", Repositories.H2})
+    public String adapter;
+
+    private Repositories backend;
+    private InMemoryTaskRepository memoryRepository;
+    private Path directory;
+    private TaskRepository repository;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        backend = Repositories.open(Repositories.H2);
+        if (adapter.equals("memory")) {
+            directory = Files.createTempDirectory("task-benchmark");
+            memoryRepository = new InMemoryTaskRepository(directory, false, Duration.ZERO);
+            repository = memoryRepository;
+        } else {
+            repository = backend.tasks();
+        }
+
+        User assignee = backend.users().save(new User("assignee@example.com", "Ada", "Assignee", "Password1!", UserRole.USER));
+        Project project = backend.projects().save(new Project("Benchmark", "Description", assignee.getId(),
+                LocalDateTime.now(), LocalDateTime.now().plusDays(30)));
+        List<Task> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(new Task("Task " + i, "Description", LocalDateTime.now().plusDays(7), assignee.getId(),
+                    project.getId(), TaskPriority.MEDIUM));
+        }
+        repository.insertAll(tasks);
+        ids = tasks.stream().map(Task::getId).toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (memoryRepository != null) {
+            memoryRepository.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(file -> file.toFile().delete());
+            }
+        }
+        backend.close();
+    }
+
+    @Benchmark
+    public Task findById() {
+        return repository.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]).orElseThrow();
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.adapters.search.InvertedTaskIndex;
+import com.taskmanager.entities.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top 50 search hits from an index of one million tasks. Words follow a Zipf distribution over a
+ * 20,000 word vocabulary and are named after their rank in base 36, so "t0" is the most frequent word
+ * (in nine out of ten tasks, like "the"), "t2s" is the 100th and "t2a*" expands to 37 mid-frequency words.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+public class TaskSearchBenchmark {
+    private static final int VOCABULARY = 20_000;
+    private static final int PROJECTS = 1_000;
+
+    @Param({"1000000"})
+    public int taskCount;
+
+    @Param({"t2s", "ta t5k", "t2a*", "t0"})
+    public String query;
+
+    private InvertedTaskIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        double[] cumulative = new double[VOCABULARY];
+        double sum = 0;
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        index = new InvertedTaskIndex(new SimpleMeterRegistry());
+        for (int i = 0; i < taskCount; i++) {
+            index.index("task-" + i, text(random, cumulative, sum, 5), text(random, cumulative, sum, 20),
+                    "project-" + (i % PROJECTS), statuses[i % statuses.length]);
+        }
+    }
+
+    @Benchmark
+    public List<String> search() {
+        return index.search(query, null, null, 50);
+    }
+
+    @Benchmark
+    public List<String> searchOneProject() {
+        return index.search(query, "project-7", TaskStatus.TODO, 50);
+    }
+
+    private static String text(SplittableRandom random, double[] cumulative, double total, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            text.append(" t").append(Integer.toString(rank >= 0 ? rank : -rank - 1, Character.MAX_RADIX));
+        }
+        return text.toString();
+    }
+}
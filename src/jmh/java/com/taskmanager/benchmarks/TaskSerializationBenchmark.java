@@ -0,0 +1,49 @@
+package com.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning TaskOutputData lists into a JSON response body, from a small page through the
+ * largest page the API serves to an export-sized list. The mapper is configured the way Spring Boot
+ * configures the one behind the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class TaskSerializationBenchmark {
+
+    @Param({"10", "200", "10000"})
+    public int taskCount;
+
+    private ObjectMapper objectMapper;
+    private List<TaskOutputData> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new TaskOutputData("task-" + i, "Task " + i, "Description of task " + i, createdAt.plusDays(7),
+                    TaskStatus.values()[i % TaskStatus.values().length], TaskPriority.values()[i % TaskPriority.values().length],
+                    "user-1", "Ada Assignee", "project-1", "Benchmark", createdAt, createdAt, false, 7));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
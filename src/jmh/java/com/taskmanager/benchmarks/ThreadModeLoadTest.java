@@ -0,0 +1,222 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.TaskManagementApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test comparing thread-per-request Tomcat with the virtual-threads profile.
+ *
+ * For each mode the application starts in process on a random port with a private in-memory database,
+ * seeded with tasks in the sample project. load.concurrency clients then loop for load.warmup plus
+ * load.duration, each sending 90% task page reads and 10% task creations and waiting for the response
+ * before the next request. Throughput and the latency distribution of the measured window are printed
+ * per mode; 503s from the connection admission limiter are counted as shed, not as errors.
+ *
+ * System properties: load.mode (platform, virtual or both), load.concurrency, load.warmup, load.duration,
+ * and load.url to run a single round against an already running instance instead. Virtual mode needs JDK 21.
+ *
+ * In process, BCrypt is swapped for a no-op password encoder: every request authenticates with HTTP basic,
+ * and hashing would otherwise dominate the CPU profile of both modes. Being closed-loop, the test
+ * under-reports latency once the server saturates; compare the modes at the same concurrency only.
+ */
+public final class ThreadModeLoadTest {
+    private static final String SAMPLE_USER_ID = "00000000-0000-7000-8000-000000000001";
+    private static final String SAMPLE_PROJECT_ID = "00000000-0000-7000-8000-000000000101";
+    private static final String AUTHORIZATION = "Basic " + Base64.getEncoder().encodeToString("demo:demo".getBytes(StandardCharsets.UTF_8));
+    private static final int SEED_TASKS = 200;
+    private static final int WRITE_PERCENT = 10;
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final HttpClient client;
+
+    private ThreadModeLoadTest(int concurrency, Duration warmup, Duration duration) {
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mode = System.getProperty("load.mode", "both");
+        ThreadModeLoadTest loadTest = new ThreadModeLoadTest(
+                Integer.getInteger("load.concurrency", 400),
+                Duration.parse("PT" + System.getProperty("load.warmup", "10s")),
+                Duration.parse("PT" + System.getProperty("load.duration", "30s")));
+
+        List<Result> results = new ArrayList<>();
+        String url = System.getProperty("load.url", "");
+        if (!url.isBlank()) {
+            results.add(loadTest.run("external", URI.create(url)));
+        } else {
+            for (String threads : mode.equals("both") ? List.of("platform", "virtual") : List.of(mode)) {
+                if (threads.equals("virtual") && Runtime.version().feature() < 21) {
+                    System.out.println("Skipping virtual mode: it needs JDK 21, running on " + Runtime.version());
+                    continue;
+                }
+                results.add(loadTest.runInProcess(threads));
+            }
+        }
+
+        System.out.printf("%n%-10s %8s %10s %8s %8s %9s %9s %9s %9s %9s%n",
+                "mode", "clients", "req/s", "shed", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Result result : results) {
+            System.out.println(result.format(loadTest.concurrency, loadTest.duration));
+        }
+        System.exit(0);
+    }
+
+    private Result runInProcess(String threads) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementApplication.class, CheapPasswords.class)
+                .profiles(threads.equals("virtual") ? new String[]{"virtual-threads"} : new String[0])
+                // Command line arguments, so they take precedence over application.properties
+                .run("--server.port=0",
+                        // Thread-per-request: enough workers for every client, so only the thread model differs
+                        "--server.tomcat.threads.max=" + Math.max(200, concurrency),
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        "--spring.main.allow-bean-definition-overriding=true",
+                        "--logging.level.root=WARN");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return run(threads, URI.create("http://localhost:" + port));
+        } finally {
+            context.close();
+        }
+    }
+
+    private Result run(String label, URI baseUri) throws Exception {
+        seed(baseUri);
+        Recorder recorder = new Recorder(3);
+        AtomicLong shed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            clients.execute(() -> {
+                while (true) {
+                    long start = System.nanoTime();
+                    if (start >= end) {
+                        return;
+                    }
+                    int status = send(baseUri);
+                    if (start < measureFrom) {
+                        continue;
+                    }
+                    recorder.recordValue(System.nanoTime() - start);
+                    if (status == 503) {
+                        shed.incrementAndGet();
+                    } else if (status >= 400 || status < 0) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(warmup.toMillis() + duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+        return new Result(label, recorder.getIntervalHistogram(), shed.get(), errors.get());
+    }
+
+    private int send(URI baseUri) {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .header("Authorization", AUTHORIZATION)
+                .timeout(Duration.ofSeconds(30));
+        if (ThreadLocalRandom.current().nextInt(100) < WRITE_PERCENT) {
+            request.uri(baseUri.resolve("/api/tasks"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(taskJson("Load test task")));
+        } else {
+            request.uri(baseUri.resolve("/api/tasks/project/" + SAMPLE_PROJECT_ID + "?limit=20")).GET();
+        }
+        try {
+            return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return -1;
+        }
+    }
+
+    private void seed(URI baseUri) throws Exception {
+        List<String> tasks = new ArrayList<>();
+        for (int i = 0; i < SEED_TASKS; i++) {
+            tasks.add(taskJson("Seeded task " + i));
+        }
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/tasks/bulk"))
+                .header("Authorization", AUTHORIZATION)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("[" + String.join(",", tasks) + "]"))
+                .build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status >= 400) {
+            throw new IllegalStateException("Seeding tasks failed with HTTP " + status);
+        }
+    }
+
+    private static String taskJson(String title) {
+        return "{\"title\":\"" + title + "\",\"description\":\"Generated by ThreadModeLoadTest\","
+                + "\"dueDate\":\"" + LocalDateTime.now().plusDays(7).withNano(0) + "\","
+                + "\"assignedUserId\":\"" + SAMPLE_USER_ID + "\",\"projectId\":\"" + SAMPLE_PROJECT_ID + "\","
+                + "\"priority\":\"MEDIUM\"}";
+    }
+
+    private record Result(String label, Histogram latency, long shed, long errors) {
+
+        String format(int concurrency, Duration duration) {
+            return String.format("%-10s %8d %10.0f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                    label, concurrency, latency.getTotalCount() / (duration.toMillis() / 1000.0), shed, errors,
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Replaces the BCrypt passwordEncoder bean. It has to be the only PasswordEncoder: with two, Spring Security
+     * authenticates through its own delegating encoder, which re-hashes the demo password with BCrypt on first login.
+     */
+    static class CheapPasswords {
+
+        @Bean
+        @SuppressWarnings("deprecation")
+        PasswordEncoder passwordEncoder() {
+            return NoOpPasswordEncoder.getInstance();
+        }
+    }
+}
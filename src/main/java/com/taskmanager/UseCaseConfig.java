@@ -1,68 +1,431 @@
 package com.taskmanager;
 
+import com.taskmanager.adapters.deadlines.TaskDeadlineTracker;
+import com.taskmanager.adapters.deadlines.TaskOverdueListener;
+import com.taskmanager.adapters.events.EventLog;
+import com.taskmanager.adapters.events.JdbcDomainEventOutbox;
+import com.taskmanager.adapters.events.OutboxRelay;
+import com.taskmanager.adapters.events.TaskChangeFeed;
+import com.taskmanager.adapters.repositories.*;
+import com.taskmanager.adapters.search.InvertedTaskIndex;
+import com.taskmanager.config.ReplicaRoutingDataSource;
+import com.taskmanager.config.ReplicaRoutingInterceptor;
+import com.taskmanager.config.UseCaseMetricsInterceptor;
+import com.taskmanager.entities.User;
 import com.taskmanager.usecases.*;
 import com.taskmanager.usecases.ports.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
 
 @Configuration
 public class UseCaseConfig {
+    private static final Logger logger = LoggerFactory.getLogger(UseCaseConfig.class);
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    // Only with the replicas profile
+    private final ReplicaRoutingInterceptor replicaRouting;
+
+    public UseCaseConfig(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                         ObjectProvider<ReplicaRoutingInterceptor> replicaRouting) {
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        this.replicaRouting = replicaRouting.getIfAvailable();
+    }
+
+    /**
+     * Use cases look users and projects up by id far more often than they change them,
+     * so the ports they receive are served from a cache in front of the JPA repositories.
+     * With the replicas profile, rows a use case reads from a replica may lag behind the primary and
+     * are not cached, or they would be served to every caller, including the one who just wrote them.
+     */
+    @Bean
+    @Primary
+    public CachingUserRepository cachingUserRepository(JpaUserRepository jpaUserRepository, MeterRegistry meterRegistry,
+                                                @Value("${taskmanager.cache.users.maximum-size:10000}") long maximumSize,
+                                                @Value("${taskmanager.cache.users.expire-after-write:10m}") Duration expireAfterWrite) {
+        return new CachingUserRepository(jpaUserRepository, maximumSize, expireAfterWrite, storeLoaded(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public ProjectRepository cachingProjectRepository(JpaProjectRepository jpaProjectRepository, MeterRegistry meterRegistry,
+                                                      @Value("${taskmanager.cache.projects.maximum-size:10000}") long maximumSize,
+                                                      @Value("${taskmanager.cache.projects.expire-after-write:10m}") Duration expireAfterWrite) {
+        return new CachingProjectRepository(jpaProjectRepository, maximumSize, expireAfterWrite, storeLoaded(), meterRegistry);
+    }
+
+    private BooleanSupplier storeLoaded() {
+        return replicaRouting != null ? () -> !ReplicaRoutingDataSource.isReplicaPreferred() : () -> true;
+    }
+
+    /**
+     * Logins are coalesced per user and written behind the request in batches. Each flush evicts the users it
+     * wrote from both the repository cache and the Hibernate second-level cache, so reads catch up with it.
+     */
+    @Bean(destroyMethod = "close")
+    public WriteBehindTimestamps lastLoginTimestamps(JdbcTemplate jdbcTemplate, CachingUserRepository cachingUserRepository,
+                                                     EntityManagerFactory entityManagerFactory,
+                                                     @Value("${taskmanager.write-behind.max-pending:10000}") int maxPending,
+                                                     @Value("${taskmanager.write-behind.max-staleness:5s}") Duration maxStaleness) {
+        Cache secondLevelCache = entityManagerFactory.getCache();
+        return new WriteBehindTimestamps(jdbcTemplate, "users", "last_login_at", maxPending, maxStaleness, ids -> {
+            cachingUserRepository.evict(ids);
+            ids.forEach(id -> secondLevelCache.evict(User.class, id));
+        }, meterRegistry);
+    }
+
+    @Bean
+    public UserLoginRecorder userLoginRecorder(WriteBehindTimestamps lastLoginTimestamps) {
+        return lastLoginTimestamps::record;
+    }
+
+    /**
+     * With the memory profile, tasks live in InMemoryTaskRepository instead of the tasks table.
+     * The journal and snapshots in the configured directory keep them across restarts.
+     */
+    @Bean
+    @Profile("memory")
+    public InMemoryTaskRepository inMemoryTaskRepository(@Value("${taskmanager.memory.directory:data/tasks}") Path directory,
+                                                 @Value("${taskmanager.memory.sync-writes:false}") boolean syncWrites,
+                                                 @Value("${taskmanager.memory.snapshot-interval:5m}") Duration snapshotInterval) {
+        return new InMemoryTaskRepository(directory, syncWrites, snapshotInterval);
+    }
+
+    /**
+     * With the memory profile, task reads are served from the same in-memory store the writes go to,
+     * so the task_view table is neither read nor written.
+     */
+    @Bean
+    @Primary
+    @Profile("memory")
+    public TaskViewRepository inMemoryTaskViewRepository(InMemoryTaskRepository inMemoryTaskRepository,
+                                                         UserRepository userRepository,
+                                                         ProjectRepository projectRepository, Clock clock) {
+        return new InMemoryTaskViewRepository(inMemoryTaskRepository, userRepository, projectRepository, clock);
+    }
+
+    /**
+     * The time source of the use cases. Read use cases take the time once per request and derive
+     * every overdue flag and days-until-due figure of the response from it.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean(destroyMethod = "close")
+    public TaskDeadlineTracker taskDeadlineTracker(Clock clock, ApplicationEventPublisher eventPublisher,
+                                                   @Value("${taskmanager.deadlines.resolution:1s}") Duration resolution) {
+        return new TaskDeadlineTracker(clock, resolution, eventPublisher, meterRegistry);
+    }
+
+    @Bean
+    public InvertedTaskIndex taskSearchIndex() {
+        return new InvertedTaskIndex(meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public TaskChangeFeed taskChangeFeed(ObjectMapper objectMapper,
+                                         @Value("${taskmanager.events.replay-size:10000}") int replaySize,
+                                         @Value("${taskmanager.events.sender-threads:4}") int senderThreads,
+                                         @Value("${taskmanager.events.heartbeat:15s}") Duration heartbeat) {
+        return new TaskChangeFeed(objectMapper, replaySize, senderThreads, heartbeat, meterRegistry);
+    }
+
+    /**
+     * The write use cases record their domain events in the outbox_events table, in their own transaction.
+     */
+    @Bean
+    public DomainEventOutbox domainEventOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, Clock clock) {
+        return new JdbcDomainEventOutbox(jdbcTemplate, objectMapper, clock);
+    }
+
+    /**
+     * The log mirrors the outbox, so it is kept on disk across restarts only where a directory is configured, as
+     * the durable profile does; otherwise it lives in a temporary directory that is deleted on close.
+     */
+    @Bean(destroyMethod = "close")
+    public EventLog eventLog(Clock clock,
+                             @Value("${taskmanager.event-log.directory:}") String directory,
+                             @Value("${taskmanager.event-log.segment-size:64MB}") DataSize segmentSize,
+                             @Value("${taskmanager.event-log.retention:7d}") Duration retention) {
+        int segmentBytes = Math.toIntExact(segmentSize.toBytes());
+        if (directory.isBlank()) {
+            return EventLog.temporary(segmentBytes, retention, clock);
+        }
+        return new EventLog(Path.of(directory), segmentBytes, retention, clock);
+    }
+
+    /**
+     * Closed before the event log it appends to; events it has not relayed yet stay in the outbox until the next start.
+     */
+    @Bean(destroyMethod = "close")
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate, EventLog eventLog, ObjectMapper objectMapper,
+                                   @Value("${taskmanager.outbox.batch-size:1000}") int batchSize,
+                                   @Value("${taskmanager.outbox.interval:50ms}") Duration interval) {
+        return new OutboxRelay(jdbcTemplate, eventLog, objectMapper, batchSize, interval, meterRegistry);
+    }
+
+    /**
+     * The TaskRepository handed to use cases: the in-memory repository with the memory profile, JPA otherwise,
+     * decorated so that the deadline tracker and the search index follow every committed write. Both are filled
+     * from the tasks in one pass and only then does the tracker start collecting passed deadlines. The pass runs
+     * before the first request, or with taskmanager.listeners.rebuild-in-background on a thread of its own, in which
+     * case requests are served right away and search and the overdue list only see part of the tasks until it ends.
+     */
+    @Bean
+    @Primary
+    public TaskRepository notifyingTaskRepository(JpaTaskRepository jpaTaskRepository,
+                                                  ObjectProvider<InMemoryTaskRepository> inMemoryTaskRepository,
+                                                  TaskDeadlineTracker taskDeadlineTracker,
+                                                  InvertedTaskIndex taskSearchIndex,
+                                                  @Value("${taskmanager.listeners.rebuild-in-background:false}") boolean rebuildInBackground) {
+        TaskRepository tasks = inMemoryTaskRepository.getIfAvailable();
+        NotifyingTaskRepository repository = new NotifyingTaskRepository(
+                tasks != null ? tasks : jpaTaskRepository, List.of(taskDeadlineTracker, taskSearchIndex));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        Runnable rebuild = () -> {
+            try {
+                transaction.executeWithoutResult(status -> repository.rebuildListeners());
+            } finally {
+                taskDeadlineTracker.start();
+            }
+        };
+        if (rebuildInBackground) {
+            repository.holdChanges();
+            Thread thread = new Thread(rebuild, "task-listener-rebuild");
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((failed, e) -> logger.error("Rebuilding the task listeners failed", e));
+            thread.start();
+        } else {
+            rebuild.run();
+        }
+        return repository;
+    }
 
     @Bean
     public CreateTaskUseCase createTaskUseCase(TaskRepository taskRepository, 
+                                              TaskViewRepository taskViewRepository,
                                               UserRepository userRepository, 
-                                              ProjectRepository projectRepository) {
-        return new CreateTaskUseCase(taskRepository, userRepository, projectRepository);
+                                              ProjectRepository projectRepository,
+                                              TaskEventPublisher taskEventPublisher,
+                                              DomainEventOutbox domainEventOutbox) {
+        return transactional(new CreateTaskUseCase(taskRepository, taskViewRepository, userRepository, projectRepository,
+                taskEventPublisher, domainEventOutbox));
+    }
+
+    @Bean
+    public BulkCreateTasksUseCase bulkCreateTasksUseCase(TaskRepository taskRepository,
+                                                        TaskViewRepository taskViewRepository,
+                                                        UserRepository userRepository,
+                                                        ProjectRepository projectRepository,
+                                                        Validator validator,
+                                                        Clock clock,
+                                                        TaskEventPublisher taskEventPublisher,
+                                                        DomainEventOutbox domainEventOutbox) {
+        return transactional(new BulkCreateTasksUseCase(taskRepository, taskViewRepository, userRepository, projectRepository,
+                validator, clock, taskEventPublisher, domainEventOutbox));
     }
 
     @Bean
     public UpdateTaskUseCase updateTaskUseCase(TaskRepository taskRepository, 
+                                              TaskViewRepository taskViewRepository,
                                               UserRepository userRepository, 
-                                              ProjectRepository projectRepository) {
-        return new UpdateTaskUseCase(taskRepository, userRepository, projectRepository);
+                                              ProjectRepository projectRepository,
+                                              TaskEventPublisher taskEventPublisher,
+                                              DomainEventOutbox domainEventOutbox) {
+        return transactional(new UpdateTaskUseCase(taskRepository, taskViewRepository, userRepository, projectRepository,
+                taskEventPublisher, domainEventOutbox));
+    }
+
+    @Bean
+    public DeleteTaskUseCase deleteTaskUseCase(TaskRepository taskRepository,
+                                              TaskViewRepository taskViewRepository,
+                                              TaskEventPublisher taskEventPublisher,
+                                              DomainEventOutbox domainEventOutbox) {
+        return transactional(new DeleteTaskUseCase(taskRepository, taskViewRepository, taskEventPublisher, domainEventOutbox));
+    }
+
+    @Bean
+    public GetTaskByIdUseCase getTaskByIdUseCase(TaskViewRepository taskViewRepository, Clock clock) {
+        return replicaReadOnly(new GetTaskByIdUseCase(taskViewRepository, clock));
+    }
+
+    @Bean
+    public CheckTaskETagUseCase checkTaskETagUseCase(TaskViewRepository taskViewRepository, Clock clock) {
+        return replicaReadOnly(new CheckTaskETagUseCase(taskViewRepository, clock));
+    }
+
+    @Bean
+    public GetTasksByUserUseCase getTasksByUserUseCase(TaskViewRepository taskViewRepository, 
+                                                      UserRepository userRepository,
+                                                      Clock clock) {
+        return replicaReadOnly(new GetTasksByUserUseCase(taskViewRepository, userRepository, clock));
+    }
+
+    @Bean
+    public GetTasksByProjectUseCase getTasksByProjectUseCase(TaskViewRepository taskViewRepository, 
+                                                           ProjectRepository projectRepository,
+                                                           Clock clock) {
+        return replicaReadOnly(new GetTasksByProjectUseCase(taskViewRepository, projectRepository, clock));
+    }
+
+    @Bean
+    public CheckTasksByProjectETagUseCase checkTasksByProjectETagUseCase(TaskViewRepository taskViewRepository,
+                                                                         Clock clock) {
+        return replicaReadOnly(new CheckTasksByProjectETagUseCase(taskViewRepository, clock));
     }
 
     @Bean
-    public DeleteTaskUseCase deleteTaskUseCase(TaskRepository taskRepository) {
-        return new DeleteTaskUseCase(taskRepository);
+    public GetProjectDashboardUseCase getProjectDashboardUseCase(TaskRepository taskRepository,
+                                                                 ProjectRepository projectRepository, Clock clock) {
+        return readOnly(new GetProjectDashboardUseCase(taskRepository, projectRepository, clock));
     }
 
     @Bean
-    public GetTaskByIdUseCase getTaskByIdUseCase(TaskRepository taskRepository, 
-                                                UserRepository userRepository, 
-                                                ProjectRepository projectRepository) {
-        return new GetTaskByIdUseCase(taskRepository, userRepository, projectRepository);
+    public GetOverdueTasksUseCase getOverdueTasksUseCase(DeadlineTracker deadlineTracker,
+                                                         TaskViewRepository taskViewRepository,
+                                                         Clock clock) {
+        return readOnly(new GetOverdueTasksUseCase(deadlineTracker, taskViewRepository, clock));
     }
 
     @Bean
-    public GetTasksByUserUseCase getTasksByUserUseCase(TaskRepository taskRepository, 
-                                                      UserRepository userRepository, 
-                                                      ProjectRepository projectRepository) {
-        return new GetTasksByUserUseCase(taskRepository, userRepository, projectRepository);
+    public NotifyOverdueTaskUseCase notifyOverdueTaskUseCase(TaskViewRepository taskViewRepository,
+                                                             TaskEventPublisher taskEventPublisher,
+                                                             Clock clock) {
+        return readOnly(new NotifyOverdueTaskUseCase(taskViewRepository, taskEventPublisher, clock));
     }
 
+    /**
+     * Announces each task the deadline tracker finds overdue on the change feed.
+     */
     @Bean
-    public GetTasksByProjectUseCase getTasksByProjectUseCase(TaskRepository taskRepository, 
-                                                           UserRepository userRepository, 
-                                                           ProjectRepository projectRepository) {
-        return new GetTasksByProjectUseCase(taskRepository, userRepository, projectRepository);
+    public TaskOverdueListener taskOverdueListener(NotifyOverdueTaskUseCase notifyOverdueTaskUseCase) {
+        return new TaskOverdueListener(notifyOverdueTaskUseCase);
     }
 
     @Bean
-    public CreateUserUseCase createUserUseCase(UserRepository userRepository) {
-        return new CreateUserUseCase(userRepository);
+    public SearchTasksUseCase searchTasksUseCase(TaskSearchIndex taskSearchIndex,
+                                                 TaskViewRepository taskViewRepository,
+                                                 Clock clock) {
+        return readOnly(new SearchTasksUseCase(taskSearchIndex, taskViewRepository, clock));
+    }
+
+    @Bean
+    public ExportTasksUseCase exportTasksUseCase(TaskRepository taskRepository) {
+        return readOnly(new ExportTasksUseCase(taskRepository));
+    }
+
+    @Bean
+    public CreateUserUseCase createUserUseCase(UserRepository userRepository, PasswordHasher passwordHasher,
+                                               DomainEventOutbox domainEventOutbox) {
+        return transactional(new CreateUserUseCase(userRepository, passwordHasher, domainEventOutbox));
+    }
+
+    @Bean
+    public LoginUseCase loginUseCase(UserRepository userRepository, PasswordHasher passwordHasher,
+                                     AccessTokenIssuer accessTokenIssuer, UserLoginRecorder userLoginRecorder, Clock clock,
+                                     @Value("${taskmanager.auth.token.ttl:1h}") Duration tokenTtl) {
+        return readOnly(new LoginUseCase(userRepository, passwordHasher, accessTokenIssuer, userLoginRecorder, clock, tokenTtl));
     }
 
     @Bean
     public CreateProjectUseCase createProjectUseCase(ProjectRepository projectRepository, 
-                                                    UserRepository userRepository) {
-        return new CreateProjectUseCase(projectRepository, userRepository);
+                                                    UserRepository userRepository,
+                                                    DomainEventOutbox domainEventOutbox) {
+        return transactional(new CreateProjectUseCase(projectRepository, userRepository, domainEventOutbox));
     }
 
     @Bean
     public UpdateTaskStatusUseCase updateTaskStatusUseCase(TaskRepository taskRepository, 
+                                                         TaskViewRepository taskViewRepository,
                                                          UserRepository userRepository, 
-                                                         ProjectRepository projectRepository) {
-        return new UpdateTaskStatusUseCase(taskRepository, userRepository, projectRepository);
+                                                         ProjectRepository projectRepository,
+                                                         TaskEventPublisher taskEventPublisher,
+                                                         DomainEventOutbox domainEventOutbox) {
+        return transactional(new UpdateTaskStatusUseCase(taskRepository, taskViewRepository, userRepository, projectRepository,
+                taskEventPublisher, domainEventOutbox));
+    }
+
+    @Bean
+    public BulkUpdateTaskStatusUseCase bulkUpdateTaskStatusUseCase(TaskRepository taskRepository,
+                                                                  TaskViewRepository taskViewRepository,
+                                                                  ProjectRepository projectRepository,
+                                                                  TaskEventPublisher taskEventPublisher,
+                                                                  DomainEventOutbox domainEventOutbox,
+                                                                  Clock clock) {
+        return transactional(new BulkUpdateTaskStatusUseCase(taskRepository, taskViewRepository, projectRepository,
+                taskEventPublisher, domainEventOutbox, clock));
+    }
+
+    /**
+     * Runs each execute call in one read-write transaction, so a task and its read model commit together.
+     * Use cases stay free of framework annotations; the boundary and the usecase.* metrics are applied here instead.
+     */
+    private <T> T transactional(T useCase) {
+        return withTransaction(useCase, false, replicaRouting != null ? replicaRouting.forWrites() : null);
+    }
+
+    /**
+     * Runs each execute call in one read-only transaction.
+     */
+    private <T> T readOnly(T useCase) {
+        return withTransaction(useCase, true, null);
+    }
+
+    /**
+     * Runs each execute call in one read-only transaction that, with the replicas profile, reads from a replica
+     * unless the caller wrote something moments ago.
+     */
+    private <T> T replicaReadOnly(T useCase) {
+        return withTransaction(useCase, true, replicaRouting != null ? replicaRouting.forReads() : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T withTransaction(T useCase, boolean readOnly, ReplicaRoutingInterceptor routing) {
+        RuleBasedTransactionAttribute attribute = new RuleBasedTransactionAttribute();
+        attribute.setReadOnly(readOnly);
+        NameMatchTransactionAttributeSource attributeSource = new NameMatchTransactionAttributeSource();
+        attributeSource.addTransactionalMethod("execute", attribute);
+
+        ProxyFactory proxyFactory = new ProxyFactory(useCase);
+        proxyFactory.setProxyTargetClass(true);
+        // Outermost, so the recorded latency includes opening and committing the transaction
+        proxyFactory.addAdvice(new UseCaseMetricsInterceptor(meterRegistry, useCase.getClass().getSimpleName()));
+        // Before the transaction, which takes its connection as it opens
+        if (routing != null) {
+            proxyFactory.addAdvice(routing);
+        }
+        proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) transactionManager, attributeSource));
+        return (T) proxyFactory.getProxy();
     }
-}
\ No newline at end of file
+}
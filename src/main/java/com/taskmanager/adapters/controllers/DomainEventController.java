@@ -0,0 +1,50 @@
+package com.taskmanager.adapters.controllers;
+
+import com.taskmanager.adapters.events.EventLog;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * DomainEventController serves the event log to downstream consumers as newline-delimited JSON.
+ * It is part of the 'Interface Adapters' layer in Clean Architecture.
+ * A consumer polls with the offset after the last record it processed, which the Next-Offset header carries.
+ * Records are written from the log's mapping onto the response without being parsed or copied into objects.
+ */
+@RestController
+@RequestMapping("/api/events")
+public class DomainEventController {
+    static final String NEXT_OFFSET_HEADER = "Next-Offset";
+    private static final int MAX_LIMIT = 10_000;
+
+    private final EventLog eventLog;
+
+    public DomainEventController(EventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> readEvents(@RequestParam(defaultValue = "0") long offset,
+                                                            @RequestParam(defaultValue = "1000") int limit) {
+        List<EventLog.Record> records = eventLog.read(offset, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        long nextOffset = records.isEmpty() ? Math.max(offset, eventLog.startOffset())
+                : records.get(records.size() - 1).offset() + 1;
+
+        StreamingResponseBody body = outputStream -> {
+            WritableByteChannel channel = Channels.newChannel(outputStream);
+            for (EventLog.Record record : records) {
+                channel.write(record.data());
+                outputStream.write('\n');
+            }
+        };
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(TaskExportController.APPLICATION_NDJSON)
+                .header(NEXT_OFFSET_HEADER, Long.toString(nextOffset))
+                .body(body);
+    }
+}
@@ -17,9 +17,12 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/projects")
 public class ProjectController {
     private final CreateProjectUseCase createProjectUseCase;
+    private final GetProjectDashboardUseCase getProjectDashboardUseCase;
 
-    public ProjectController(CreateProjectUseCase createProjectUseCase) {
+    public ProjectController(CreateProjectUseCase createProjectUseCase,
+                             GetProjectDashboardUseCase getProjectDashboardUseCase) {
         this.createProjectUseCase = createProjectUseCase;
+        this.getProjectDashboardUseCase = getProjectDashboardUseCase;
     }
 
     @PostMapping
@@ -27,4 +30,10 @@ public class ProjectController {
         ProjectOutputData result = createProjectUseCase.execute(inputData);
         return new ResponseEntity<>(result, HttpStatus.CREATED);
     }
+
+    @GetMapping("/{projectId}/dashboard")
+    public ResponseEntity<ProjectDashboardOutputData> getProjectDashboard(@PathVariable String projectId) {
+        ProjectDashboardOutputData result = getProjectDashboardUseCase.execute(projectId);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
 }
\ No newline at end of file
@@ -7,9 +7,11 @@ package com.taskmanager.adapters.controllers;
  * All business logic is handled in the use case layer.
  */
 
+import com.taskmanager.entities.TaskStatus;
 import com.taskmanager.usecases.*;
 import com.taskmanager.usecases.dto.*;
 import com.taskmanager.usecases.ports.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,32 +22,53 @@ import org.slf4j.LoggerFactory;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/tasks")
 @Validated
 public class TaskController {
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     private final CreateTaskUseCase createTaskUseCase;
+    private final BulkCreateTasksUseCase bulkCreateTasksUseCase;
     private final UpdateTaskUseCase updateTaskUseCase;
+    private final BulkUpdateTaskStatusUseCase bulkUpdateTaskStatusUseCase;
     private final DeleteTaskUseCase deleteTaskUseCase;
     private final GetTaskByIdUseCase getTaskByIdUseCase;
+    private final CheckTaskETagUseCase checkTaskETagUseCase;
     private final GetTasksByUserUseCase getTasksByUserUseCase;
     private final GetTasksByProjectUseCase getTasksByProjectUseCase;
+    private final CheckTasksByProjectETagUseCase checkTasksByProjectETagUseCase;
+    private final GetOverdueTasksUseCase getOverdueTasksUseCase;
+    private final SearchTasksUseCase searchTasksUseCase;
 
     public TaskController(CreateTaskUseCase createTaskUseCase,
+                         BulkCreateTasksUseCase bulkCreateTasksUseCase,
                          UpdateTaskUseCase updateTaskUseCase,
+                         BulkUpdateTaskStatusUseCase bulkUpdateTaskStatusUseCase,
                          DeleteTaskUseCase deleteTaskUseCase,
                          GetTaskByIdUseCase getTaskByIdUseCase,
+                         CheckTaskETagUseCase checkTaskETagUseCase,
                          GetTasksByUserUseCase getTasksByUserUseCase,
-                         GetTasksByProjectUseCase getTasksByProjectUseCase) {
+                         GetTasksByProjectUseCase getTasksByProjectUseCase,
+                         CheckTasksByProjectETagUseCase checkTasksByProjectETagUseCase,
+                         GetOverdueTasksUseCase getOverdueTasksUseCase,
+                         SearchTasksUseCase searchTasksUseCase) {
         this.createTaskUseCase = createTaskUseCase;
+        this.bulkCreateTasksUseCase = bulkCreateTasksUseCase;
         this.updateTaskUseCase = updateTaskUseCase;
+        this.bulkUpdateTaskStatusUseCase = bulkUpdateTaskStatusUseCase;
         this.deleteTaskUseCase = deleteTaskUseCase;
         this.getTaskByIdUseCase = getTaskByIdUseCase;
+        this.checkTaskETagUseCase = checkTaskETagUseCase;
         this.getTasksByUserUseCase = getTasksByUserUseCase;
         this.getTasksByProjectUseCase = getTasksByProjectUseCase;
+        this.checkTasksByProjectETagUseCase = checkTasksByProjectETagUseCase;
+        this.getOverdueTasksUseCase = getOverdueTasksUseCase;
+        this.searchTasksUseCase = searchTasksUseCase;
     }
 
     @PostMapping
@@ -54,6 +77,16 @@ public class TaskController {
         return new ResponseEntity<>(result, HttpStatus.CREATED);
     }
 
+    /**
+     * Items are validated one by one; rejected items are listed in the errors of the response
+     * while the rest are still created, so a fully successful request is the only one answered with 201.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateTasksOutputData> createTasks(@RequestBody List<CreateTaskInputData> inputData) {
+        BulkCreateTasksOutputData result = bulkCreateTasksUseCase.execute(inputData);
+        return new ResponseEntity<>(result, result.hasErrors() ? HttpStatus.OK : HttpStatus.CREATED);
+    }
+
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskOutputData> updateTask(@PathVariable String taskId,
                                                     @Valid @RequestBody UpdateTaskInputData inputData) {
@@ -68,27 +101,112 @@ public class TaskController {
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
 
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkUpdateTaskStatusOutputData> updateTaskStatuses(@Valid @RequestBody BulkUpdateTaskStatusInputData inputData) {
+        BulkUpdateTaskStatusOutputData result = bulkUpdateTaskStatusUseCase.execute(inputData.getTaskIds(), inputData.getStatus());
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
     @DeleteMapping("/{taskId}")
     public ResponseEntity<Void> deleteTask(@PathVariable String taskId) {
         deleteTaskUseCase.execute(taskId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    /**
+     * A request carrying If-None-Match is checked against the task's current tag first, which reads a few
+     * columns of one row; only a changed or unknown task is loaded and serialized.
+     */
     @GetMapping("/{taskId}")
-    public ResponseEntity<TaskOutputData> getTaskById(@PathVariable String taskId) {
+    public ResponseEntity<TaskOutputData> getTaskById(@PathVariable String taskId, @RequestHeader HttpHeaders headers) {
+        List<String> ifNoneMatch = eTags(headers);
+        if (!ifNoneMatch.isEmpty()) {
+            Optional<String> eTag = checkTaskETagUseCase.execute(taskId, ifNoneMatch);
+            if (eTag.isPresent()) {
+                return notModified(eTag.get());
+            }
+        }
         TaskOutputData result = getTaskByIdUseCase.execute(taskId);
-        return new ResponseEntity<>(result, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(quoted(TaskETags.of(result))).body(result);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TaskOutputData>> getTasksByUser(@PathVariable String userId) {
-        List<TaskOutputData> results = getTasksByUserUseCase.execute(userId);
-        return new ResponseEntity<>(results, HttpStatus.OK);
+    public ResponseEntity<List<TaskOutputData>> getTasksByUser(@PathVariable String userId,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit) {
+        TaskPageOutputData page = getTasksByUserUseCase.execute(userId, cursor, limit);
+        return pageResponse(page);
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<TaskOutputData>> getTasksByProject(@PathVariable String projectId) {
-        List<TaskOutputData> results = getTasksByProjectUseCase.execute(projectId);
-        return new ResponseEntity<>(results, HttpStatus.OK);
+    public ResponseEntity<List<TaskOutputData>> getTasksByProject(@PathVariable String projectId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestHeader HttpHeaders headers) {
+        List<String> ifNoneMatch = eTags(headers);
+        if (!ifNoneMatch.isEmpty()) {
+            Optional<String> eTag = checkTasksByProjectETagUseCase.execute(projectId, cursor, limit, ifNoneMatch);
+            if (eTag.isPresent()) {
+                return notModified(eTag.get());
+            }
+        }
+        TaskPageOutputData page = getTasksByProjectUseCase.execute(projectId, cursor, limit);
+        return pageResponse(page);
+    }
+
+    /**
+     * Open tasks whose due date has passed, earliest first. A task shows up here at most
+     * one tracker resolution after its deadline.
+     */
+    @GetMapping("/overdue")
+    public ResponseEntity<List<TaskOutputData>> getOverdueTasks(@RequestParam(required = false) Integer limit) {
+        return new ResponseEntity<>(getOverdueTasksUseCase.execute(limit), HttpStatus.OK);
+    }
+
+    /**
+     * Tasks whose title or description contains every word of q, best match first.
+     * A word ending in '*' also matches longer words starting with it.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskOutputData>> searchTasks(@RequestParam String q,
+                                                            @RequestParam(required = false) String projectId,
+                                                            @RequestParam(required = false) TaskStatus status,
+                                                            @RequestParam(required = false) Integer limit) {
+        return new ResponseEntity<>(searchTasksUseCase.execute(q, projectId, status, limit), HttpStatus.OK);
+    }
+
+    /**
+     * The body stays a plain array for existing clients; the cursor for the
+     * following page travels in a response header and is absent on the last page.
+     */
+    private ResponseEntity<List<TaskOutputData>> pageResponse(TaskPageOutputData page) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.hasNext()) {
+            headers.set(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        if (page.getETag() != null) {
+            headers.setETag(quoted(page.getETag()));
+        }
+        return new ResponseEntity<>(page.getItems(), headers, HttpStatus.OK);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(quoted(eTag)).build();
+    }
+
+    /**
+     * The tags listed in If-None-Match without quotes. Weak tags are compared like strong ones,
+     * as RFC 9110 asks for GET requests.
+     */
+    private static List<String> eTags(HttpHeaders headers) {
+        return headers.getIfNoneMatch().stream()
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .filter(tag -> tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\""))
+                .map(tag -> tag.substring(1, tag.length() - 1))
+                .collect(Collectors.toList());
+    }
+
+    private static String quoted(String eTag) {
+        return "\"" + eTag + "\"";
     }
 }
\ No newline at end of file
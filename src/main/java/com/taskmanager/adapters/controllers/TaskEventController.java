@@ -0,0 +1,31 @@
+package com.taskmanager.adapters.controllers;
+
+import com.taskmanager.adapters.events.TaskChangeFeed;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * TaskEventController streams task changes as server-sent events, so clients no longer re-fetch whole lists.
+ * It is part of the 'Interface Adapters' layer in Clean Architecture.
+ * The connection stays open until the async request timeout; EventSource clients reconnect on their own and
+ * send the Last-Event-ID header, from which the feed replays what they missed.
+ */
+@RestController
+@RequestMapping("/api/tasks/events")
+public class TaskEventController {
+    private final TaskChangeFeed taskChangeFeed;
+
+    public TaskEventController(TaskChangeFeed taskChangeFeed) {
+        this.taskChangeFeed = taskChangeFeed;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(@RequestParam(required = false) String projectId,
+                                       @RequestParam(required = false) String userId,
+                                       @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter();
+        taskChangeFeed.subscribe(projectId, userId, lastEventId, emitter);
+        return emitter;
+    }
+}
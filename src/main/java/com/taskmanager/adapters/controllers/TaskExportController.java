@@ -0,0 +1,66 @@
+package com.taskmanager.adapters.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.*;
+import com.taskmanager.usecases.dto.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * TaskExportController streams tasks as newline-delimited JSON for warehouse loads.
+ * It is part of the 'Interface Adapters' layer in Clean Architecture.
+ * Records are serialized straight onto the response stream as the use case produces them,
+ * so the response is never buffered as a whole.
+ */
+@RestController
+@RequestMapping("/api/tasks/export")
+public class TaskExportController {
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportTasksUseCase exportTasksUseCase;
+    private final ObjectMapper objectMapper;
+
+    public TaskExportController(ExportTasksUseCase exportTasksUseCase, ObjectMapper objectMapper) {
+        this.exportTasksUseCase = exportTasksUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(required = false) String projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+        ObjectWriter writer = objectMapper.writerFor(TaskExportData.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // Lines are separated by the newline alone, not by Jackson's default space between root values
+                generator.setRootValueSeparator(null);
+                exportTasksUseCase.execute(projectId, status, updatedSince, task -> {
+                    try {
+                        writer.writeValue(generator, task);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+}
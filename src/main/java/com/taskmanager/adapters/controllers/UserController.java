@@ -11,9 +11,11 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/users")
 public class UserController {
     private final CreateUserUseCase createUserUseCase;
+    private final LoginUseCase loginUseCase;
 
-    public UserController(CreateUserUseCase createUserUseCase) {
+    public UserController(CreateUserUseCase createUserUseCase, LoginUseCase loginUseCase) {
         this.createUserUseCase = createUserUseCase;
+        this.loginUseCase = loginUseCase;
     }
 
     @PostMapping
@@ -21,4 +23,12 @@ public class UserController {
         UserOutputData result = createUserUseCase.execute(inputData);
         return new ResponseEntity<>(result, HttpStatus.CREATED);
     }
+
+    /**
+     * Checks the credentials once and returns a bearer token for the requests that follow.
+     */
+    @PostMapping("/login")
+    public ResponseEntity<LoginOutputData> login(@Valid @RequestBody LoginInputData inputData) {
+        return ResponseEntity.ok(loginUseCase.execute(inputData));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package com.taskmanager.adapters.deadlines;
+
+import com.taskmanager.adapters.repositories.TaskChangeListener;
+import com.taskmanager.entities.Task;
+import com.taskmanager.entities.TaskStatus;
+import com.taskmanager.usecases.ports.DeadlineTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskDeadlineTracker is the in-memory implementation of the DeadlineTracker output port.
+ * It belongs to the 'Frameworks & Drivers' layer in Clean Architecture.
+ *
+ * Open tasks with a due date sit in a pending set ordered by due date. A background thread wakes up once per
+ * resolution, moves every deadline that has passed into the overdue set and publishes a TaskOverdueEvent for
+ * each, so the work per tick is proportional to the deadlines that expired rather than to the tasks tracked.
+ * Listing overdue tasks walks the head of the overdue set. A task is reported overdue at most one resolution
+ * after its due date.
+ *
+ * The sets only reflect writes made through this process; NotifyingTaskRepository feeds them after
+ * each commit and they are filled from the repository at startup.
+ */
+public class TaskDeadlineTracker implements DeadlineTracker, TaskChangeListener, Closeable {
+    static final String PENDING_METRIC = "tasks.deadlines.pending";
+    static final String OVERDUE_METRIC = "tasks.deadlines.overdue";
+    static final String EXPIRED_METRIC = "tasks.deadlines.expired";
+    private static final Comparator<Deadline> BY_DUE_DATE =
+            Comparator.comparing(Deadline::dueDate).thenComparing(Deadline::taskId);
+    private static final Logger logger = LoggerFactory.getLogger(TaskDeadlineTracker.class);
+
+    private final Clock clock;
+    private final Duration resolution;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter expired;
+    private final Map<String, Deadline> deadlines = new HashMap<>();
+    private final NavigableSet<Deadline> pending = new TreeSet<>(BY_DUE_DATE);
+    private final NavigableSet<Deadline> overdue = new TreeSet<>(BY_DUE_DATE);
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    /**
+     * @param resolution how often passed deadlines are collected
+     */
+    public TaskDeadlineTracker(Clock clock, Duration resolution, ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.resolution = resolution;
+        this.eventPublisher = eventPublisher;
+        Gauge.builder(PENDING_METRIC, this, TaskDeadlineTracker::countPending)
+                .description("Open tasks whose due date has not passed yet")
+                .register(meterRegistry);
+        Gauge.builder(OVERDUE_METRIC, this, TaskDeadlineTracker::countOverdue)
+                .description("Open tasks whose due date has passed")
+                .register(meterRegistry);
+        this.expired = Counter.builder(EXPIRED_METRIC)
+                .description("Deadlines that passed while their task was open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts collecting passed deadlines. Does nothing once closed, so a rebuild finishing after shutdown
+     * cannot restart the collecting thread.
+     */
+    public synchronized void start() {
+        if (scheduler != null || closed) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = resolution.toMillis();
+        scheduler.scheduleWithFixedDelay(this::tick, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Captures the task's deadline now; the entity may still change before the transaction commits.
+     */
+    @Override
+    public Runnable saved(Task task) {
+        String id = task.getId();
+        LocalDateTime dueDate = task.getDueDate();
+        TaskStatus status = task.getStatus();
+        return () -> track(id, dueDate, status);
+    }
+
+    /**
+     * Moving between open statuses keeps the due date, so only closing a task changes what is tracked.
+     */
+    @Override
+    public Runnable statusChanged(List<String> ids, TaskStatus status) {
+        if (status.isActive()) {
+            return () -> { };
+        }
+        return () -> ids.forEach(this::untrack);
+    }
+
+    @Override
+    public Runnable deleted(String id) {
+        return () -> untrack(id);
+    }
+
+    /**
+     * Starts, moves or stops tracking a task after it was written. Only open tasks with a due date are tracked.
+     */
+    public synchronized void track(String taskId, LocalDateTime dueDate, TaskStatus status) {
+        if (dueDate == null || status == null || !status.isActive()) {
+            untrack(taskId);
+            return;
+        }
+        Deadline current = deadlines.get(taskId);
+        if (current != null) {
+            if (current.dueDate().equals(dueDate)) {
+                return;
+            }
+            pending.remove(current);
+            overdue.remove(current);
+        }
+        Deadline deadline = new Deadline(taskId, dueDate);
+        deadlines.put(taskId, deadline);
+        // Even a due date in the past goes through pending, so its overdue event is published like any other
+        pending.add(deadline);
+    }
+
+    public synchronized void untrack(String taskId) {
+        Deadline deadline = deadlines.remove(taskId);
+        if (deadline != null) {
+            pending.remove(deadline);
+            overdue.remove(deadline);
+        }
+    }
+
+    /**
+     * Moves every deadline that has passed to the overdue set and publishes an event for each of them.
+     */
+    public void advance() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Deadline> passed = new ArrayList<>();
+        synchronized (this) {
+            while (!pending.isEmpty() && pending.first().dueDate().isBefore(now)) {
+                Deadline deadline = pending.pollFirst();
+                overdue.add(deadline);
+                passed.add(deadline);
+            }
+        }
+        if (passed.isEmpty()) {
+            return;
+        }
+        expired.increment(passed.size());
+        logger.info("{} tasks became overdue", passed.size());
+        for (Deadline deadline : passed) {
+            eventPublisher.publishEvent(new TaskOverdueEvent(deadline.taskId(), deadline.dueDate(), now));
+        }
+    }
+
+    @Override
+    public synchronized List<String> findOverdueTaskIds(int limit) {
+        List<String> ids = new ArrayList<>(Math.min(limit, overdue.size()));
+        for (Deadline deadline : overdue) {
+            if (ids.size() == limit) {
+                break;
+            }
+            ids.add(deadline.taskId());
+        }
+        return ids;
+    }
+
+    @Override
+    public synchronized long countOverdue() {
+        return overdue.size();
+    }
+
+    public synchronized long countPending() {
+        return pending.size();
+    }
+
+    private void tick() {
+        // An exception escaping a scheduled task would cancel every later tick
+        try {
+            advance();
+        } catch (RuntimeException e) {
+            logger.error("Collecting passed task deadlines failed", e);
+        }
+    }
+
+    private record Deadline(String taskId, LocalDateTime dueDate) {
+    }
+}
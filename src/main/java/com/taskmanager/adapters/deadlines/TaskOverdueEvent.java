@@ -0,0 +1,23 @@
+package com.taskmanager.adapters.deadlines;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published once when the due date of an open task passes.
+ */
+public class TaskOverdueEvent {
+    private final String taskId;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime detectedAt;
+
+    public TaskOverdueEvent(String taskId, LocalDateTime dueDate, LocalDateTime detectedAt) {
+        this.taskId = taskId;
+        this.dueDate = dueDate;
+        this.detectedAt = detectedAt;
+    }
+
+    // Getters
+    public String getTaskId() { return taskId; }
+    public LocalDateTime getDueDate() { return dueDate; }
+    public LocalDateTime getDetectedAt() { return detectedAt; }
+}
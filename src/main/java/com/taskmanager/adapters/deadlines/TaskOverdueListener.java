@@ -0,0 +1,20 @@
+package com.taskmanager.adapters.deadlines;
+
+import com.taskmanager.usecases.NotifyOverdueTaskUseCase;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Passes the TaskOverdueEvents of the deadline tracker to NotifyOverdueTaskUseCase, on the tracker's thread.
+ */
+public class TaskOverdueListener {
+    private final NotifyOverdueTaskUseCase notifyOverdueTaskUseCase;
+
+    public TaskOverdueListener(NotifyOverdueTaskUseCase notifyOverdueTaskUseCase) {
+        this.notifyOverdueTaskUseCase = notifyOverdueTaskUseCase;
+    }
+
+    @EventListener
+    public void onTaskOverdue(TaskOverdueEvent event) {
+        notifyOverdueTaskUseCase.execute(event.getTaskId());
+    }
+}
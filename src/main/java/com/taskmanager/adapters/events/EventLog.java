@@ -0,0 +1,371 @@
+package com.taskmanager.adapters.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of records addressed by offset, stored as a series of memory-mapped segment files.
+ *
+ * Each segment is named after the offset of its first record and preallocated to the segment size, so an
+ * append is a copy into the mapping. Records are framed with their length and a CRC32; a zero length marks
+ * the end of a segment's records, and recovery stops at the first torn or corrupt frame, which is what a crash
+ * in the middle of an append leaves behind. When a record no longer fits, the segment is sealed and a new one
+ * is started. Sealed segments older than the retention are deleted by enforceRetention.
+ *
+ * There is one writer: append, flush and enforceRetention must be serialized by the caller. Reads may run
+ * concurrently with them and return read-only slices of the mapping instead of copies. A slice stays valid
+ * after its segment is deleted; the mapping is released once no slice refers to it.
+ *
+ * A temporary log lives in a directory of its own that close deletes, for when the records it mirrors do not
+ * outlive the process either.
+ */
+public class EventLog implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(EventLog.class);
+    private static final Pattern SEGMENT_FILE = Pattern.compile("(\\d{20})\\.log");
+    private static final int FRAME_HEADER = 8;
+    // One position is kept per this many records; a read skips over at most this many frames to find its start
+    private static final int INDEX_INTERVAL = 32;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration retention;
+    private final Clock clock;
+    private final boolean temporary;
+    private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active;
+    // Offset the next record gets; records below it are complete and visible to readers
+    private volatile long endOffset;
+
+    /**
+     * Opens the log in the directory, recovering the records of its existing segments.
+     *
+     * @param segmentSize size in bytes of each segment file, and so the upper bound of a record's size
+     * @param retention how long a sealed segment is kept; a zero retention keeps every segment
+     */
+    public EventLog(Path directory, int segmentSize, Duration retention, Clock clock) {
+        this(directory, segmentSize, retention, clock, false);
+    }
+
+    private EventLog(Path directory, int segmentSize, Duration retention, Clock clock, boolean temporary) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.retention = retention;
+        this.clock = clock;
+        this.temporary = temporary;
+        try {
+            Files.createDirectories(directory);
+            for (long baseOffset : baseOffsets()) {
+                Segment segment = Segment.recover(file(baseOffset), baseOffset);
+                segments.put(baseOffset, segment);
+                endOffset = baseOffset + segment.count;
+            }
+            if (segments.isEmpty()) {
+                roll(0);
+            } else {
+                active = segments.lastEntry().getValue();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open event log in " + directory, e);
+        }
+        logger.info("Opened event log in {} with offsets {} to {}", directory, startOffset(), endOffset);
+    }
+
+    /**
+     * Opens an empty log in a new temporary directory, which close deletes with its segments.
+     */
+    public static EventLog temporary(int segmentSize, Duration retention, Clock clock) {
+        try {
+            return new EventLog(Files.createTempDirectory("event-log"), segmentSize, retention, clock, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create a temporary event log directory", e);
+        }
+    }
+
+    /**
+     * Appends the record and returns its offset. It is visible to readers on return, and durable after
+     * the next flush.
+     */
+    public long append(byte[] record) {
+        if (record.length == 0 || record.length > segmentSize - FRAME_HEADER) {
+            throw new IllegalArgumentException("Event log record of " + record.length + " bytes does not fit a segment");
+        }
+        try {
+            if (!active.fits(record.length)) {
+                active.seal(clock.instant());
+                roll(endOffset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot roll event log segment in " + directory, e);
+        }
+        active.write(record);
+        return endOffset++;
+    }
+
+    /**
+     * Forces the records appended so far to disk.
+     */
+    public void flush() {
+        active.force();
+    }
+
+    /**
+     * Returns up to maxRecords records starting at the given offset, as read-only slices of the mapping.
+     * Reading from below the start offset, whose records retention deleted, starts at the start offset.
+     */
+    public List<Record> read(long offset, int maxRecords) {
+        long end = endOffset;
+        List<Record> records = new ArrayList<>(Math.max(0, (int) Math.min(maxRecords, end - offset)));
+        long next = Math.max(offset, startOffset());
+        while (records.size() < maxRecords && next < end) {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(next);
+            if (entry == null) {
+                // Deleted by retention since startOffset was read
+                next = startOffset();
+                continue;
+            }
+            Segment segment = entry.getValue();
+            long segmentEnd = Math.min(end, segment.baseOffset + segment.count);
+            int position = segment.position(next);
+            while (records.size() < maxRecords && next < segmentEnd) {
+                int length = segment.buffer.getInt(position);
+                records.add(new Record(next, segment.buffer.slice(position + FRAME_HEADER, length).asReadOnlyBuffer()));
+                position += FRAME_HEADER + length;
+                next++;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Offset of the oldest retained record.
+     */
+    public long startOffset() {
+        Map.Entry<Long, Segment> first = segments.firstEntry();
+        return first != null ? first.getKey() : endOffset;
+    }
+
+    /**
+     * Offset the next appended record will get.
+     */
+    public long endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Deletes the sealed segments that were sealed longer than the retention ago.
+     */
+    public void enforceRetention() {
+        if (retention.isZero() || retention.isNegative()) {
+            return;
+        }
+        Instant cutoff = clock.instant().minus(retention);
+        for (Segment segment : segments.values()) {
+            if (segment == active || segment.sealedAt == null || !segment.sealedAt.isBefore(cutoff)) {
+                return;
+            }
+            segments.remove(segment.baseOffset);
+            try {
+                Files.deleteIfExists(file(segment.baseOffset));
+            } catch (IOException e) {
+                logger.warn("Cannot delete event log segment {}", segment.baseOffset, e);
+            }
+            logger.info("Deleted event log segment {} sealed at {}", segment.baseOffset, segment.sealedAt);
+        }
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        if (!temporary) {
+            flush();
+            return;
+        }
+        try {
+            for (long baseOffset : segments.keySet()) {
+                Files.deleteIfExists(file(baseOffset));
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            logger.warn("Cannot delete temporary event log in {}", directory, e);
+        }
+    }
+
+    private void roll(long baseOffset) throws IOException {
+        active = Segment.create(file(baseOffset), baseOffset, segmentSize);
+        segments.put(baseOffset, active);
+    }
+
+    private Path file(long baseOffset) {
+        return directory.resolve(String.format("%020d.log", baseOffset));
+    }
+
+    private List<Long> baseOffsets() throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    offsets.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        offsets.sort(null);
+        return offsets;
+    }
+
+    /**
+     * A record of the log: its offset and its bytes, a read-only slice of the segment mapping.
+     */
+    public static final class Record {
+        private final long offset;
+        private final ByteBuffer data;
+
+        Record(long offset, ByteBuffer data) {
+            this.offset = offset;
+            this.data = data;
+        }
+
+        public long offset() {
+            return offset;
+        }
+
+        public ByteBuffer data() {
+            return data;
+        }
+    }
+
+    private static final class Segment {
+        final long baseOffset;
+        final MappedByteBuffer buffer;
+        // Frame positions of every INDEX_INTERVAL-th record; written before the records become visible
+        int[] index = new int[64];
+        int count;
+        int writePosition;
+        int flushedPosition;
+        // Null while the segment is the one being written
+        Instant sealedAt;
+
+        private Segment(long baseOffset, MappedByteBuffer buffer) {
+            this.baseOffset = baseOffset;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path file, long baseOffset, int size) throws IOException {
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(size);
+                return new Segment(baseOffset, raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+
+        static Segment recover(Path file, long baseOffset) throws IOException {
+            Segment segment;
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                segment = new Segment(baseOffset, raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, raf.length()));
+            }
+            ByteBuffer buffer = segment.buffer;
+            int position = 0;
+            while (position + FRAME_HEADER <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || length > buffer.capacity() - position - FRAME_HEADER) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(buffer.slice(position + FRAME_HEADER, length));
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    break;
+                }
+                segment.indexRecord(position);
+                position += FRAME_HEADER + length;
+            }
+            segment.writePosition = position;
+            segment.flushedPosition = position;
+            // Clear a torn frame, so the next append does not leave stale bytes behind its own
+            if (position + FRAME_HEADER <= buffer.capacity()) {
+                buffer.putInt(position, 0);
+            }
+            segment.sealedAt = Files.getLastModifiedTime(file).toInstant();
+            return segment;
+        }
+
+        boolean fits(int length) {
+            return writePosition + FRAME_HEADER + length <= buffer.capacity();
+        }
+
+        void write(byte[] record) {
+            CRC32 crc = new CRC32();
+            crc.update(record);
+            int position = writePosition;
+            buffer.put(position + FRAME_HEADER, record);
+            buffer.putInt(position + 4, (int) crc.getValue());
+            // Terminate the records before the length makes this one valid
+            if (position + 2 * FRAME_HEADER + record.length <= buffer.capacity()) {
+                buffer.putInt(position + FRAME_HEADER + record.length, 0);
+            }
+            buffer.putInt(position, record.length);
+            indexRecord(position);
+            writePosition = position + FRAME_HEADER + record.length;
+            sealedAt = null;
+        }
+
+        /**
+         * Returns the frame position of the record at the given offset, which must be in this segment.
+         */
+        int position(long offset) {
+            int relative = (int) (offset - baseOffset);
+            int position = index[relative / INDEX_INTERVAL];
+            for (int i = relative - relative % INDEX_INTERVAL; i < relative; i++) {
+                position += FRAME_HEADER + buffer.getInt(position);
+            }
+            return position;
+        }
+
+        void force() {
+            if (writePosition > flushedPosition) {
+                buffer.force(flushedPosition, writePosition - flushedPosition);
+                flushedPosition = writePosition;
+            }
+        }
+
+        void seal(Instant now) {
+            force();
+            sealedAt = now;
+        }
+
+        private void indexRecord(int position) {
+            if (count % INDEX_INTERVAL == 0) {
+                int slot = count / INDEX_INTERVAL;
+                if (slot == index.length) {
+                    index = Arrays.copyOf(index, index.length * 2);
+                }
+                index[slot] = position;
+            }
+            count++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.adapters.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.entities.TimeOrderedId;
+import com.taskmanager.usecases.dto.DomainEvent;
+import com.taskmanager.usecases.ports.DomainEventOutbox;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JdbcDomainEventOutbox is the transactional outbox implementation of the DomainEventOutbox output port.
+ * It belongs to the 'Frameworks & Drivers' layer in Clean Architecture.
+ *
+ * Each event is one INSERT into outbox_events on the connection of the use case's transaction, so it commits
+ * or rolls back with the change it describes. The payload is serialized to JSON here; moving the rows on to
+ * the event log is left to OutboxRelay, off the request thread. The event gets its id here as well, a UUID,
+ * because the row id starts over whenever an in-memory database does while the event log keeps its records.
+ */
+public class JdbcDomainEventOutbox implements DomainEventOutbox {
+    private static final String INSERT = "INSERT INTO outbox_events (event_id, event_type, aggregate_type, aggregate_id, "
+            + "payload, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public JdbcDomainEventOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(DomainEvent event) {
+        jdbcTemplate.update(INSERT, TimeOrderedId.nextUuid(), event.getType().name(), event.getAggregateType(),
+                event.getAggregateId(), payload(event), Timestamp.valueOf(LocalDateTime.now(clock)));
+    }
+
+    /**
+     * Inserts the events with one JDBC batch.
+     */
+    @Override
+    public void recordAll(List<DomainEvent> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (statement, event) -> {
+            statement.setObject(1, TimeOrderedId.nextUuid());
+            statement.setString(2, event.getType().name());
+            statement.setString(3, event.getAggregateType());
+            statement.setString(4, event.getAggregateId());
+            statement.setString(5, payload(event));
+            statement.setTimestamp(6, now);
+        });
+    }
+
+    private String payload(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.taskmanager.adapters.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves committed outbox_events rows into the EventLog on a background thread and deletes them once the log
+ * has them on disk.
+ *
+ * Each batch is appended in id order and flushed with one force of the log, then its rows are deleted in one
+ * JDBC batch. A crash between the two relays the batch again on restart, so delivery is at least once and
+ * consumers drop duplicates by the event id, the UUID JdbcDomainEventOutbox gave the event; the row id is not
+ * used outside the outbox, as an in-memory database hands out the same ones again after every restart.
+ * An event whose transaction commits after one with a higher row id lands in a later batch, so log order is
+ * the order events were relayed in. Each record is a JSON object with its offset, event id, type, aggregate,
+ * time and the payload as the use case serialized it.
+ */
+public class OutboxRelay implements Closeable {
+    static final String RELAYED_METRIC = "events.outbox.relayed";
+    static final String END_OFFSET_METRIC = "events.log.end.offset";
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String SELECT = "SELECT id, event_id, event_type, aggregate_type, aggregate_id, payload, "
+            + "created_at FROM outbox_events ORDER BY id LIMIT ?";
+    private static final String DELETE = "DELETE FROM outbox_events WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventLog eventLog;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream(1024);
+    private final ScheduledExecutorService scheduler;
+    private final Counter relayed;
+
+    /**
+     * @param batchSize how many events are appended per flush of the log
+     * @param interval how long the relay waits after finding the outbox empty
+     */
+    public OutboxRelay(JdbcTemplate jdbcTemplate, EventLog eventLog, ObjectMapper objectMapper, int batchSize,
+                       Duration interval, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventLog = eventLog;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.relayed = Counter.builder(RELAYED_METRIC)
+                .description("Domain events moved from the outbox to the event log")
+                .register(meterRegistry);
+        Gauge.builder(END_OFFSET_METRIC, eventLog, EventLog::endOffset)
+                .description("Offset the next event log record will get")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::drainQuietly, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Relays one batch and returns the number of events in it.
+     */
+    public synchronized int relayBatch() {
+        List<Long> ids = new ArrayList<>(batchSize);
+        jdbcTemplate.query(SELECT, resultSet -> {
+            eventLog.append(record(eventLog.endOffset(), resultSet.getString(2), resultSet.getString(3),
+                    resultSet.getString(4), resultSet.getString(5), resultSet.getTimestamp(7).toLocalDateTime().toString(),
+                    resultSet.getString(6)));
+            ids.add(resultSet.getLong(1));
+        }, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        eventLog.flush();
+        jdbcTemplate.batchUpdate(DELETE, ids, ids.size(), (statement, id) -> statement.setLong(1, id));
+        relayed.increment(ids.size());
+        return ids.size();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            while (relayBatch() == batchSize && !Thread.currentThread().isInterrupted()) {
+                // Keep going while the outbox has a backlog
+            }
+            eventLog.enforceRetention();
+        } catch (RuntimeException e) {
+            logger.error("Relaying outbox events failed", e);
+        }
+    }
+
+    private byte[] record(long offset, String eventId, String type, String aggregateType, String aggregateId,
+                          String occurredAt, String payload) {
+        recordBuffer.reset();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(recordBuffer)) {
+            generator.writeStartObject();
+            generator.writeNumberField("offset", offset);
+            generator.writeStringField("id", eventId);
+            generator.writeStringField("type", type);
+            generator.writeStringField("aggregateType", aggregateType);
+            generator.writeStringField("aggregateId", aggregateId);
+            generator.writeStringField("occurredAt", occurredAt);
+            generator.writeFieldName("payload");
+            generator.writeRawValue(payload);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return recordBuffer.toByteArray();
+    }
+}
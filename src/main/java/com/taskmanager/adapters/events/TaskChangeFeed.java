@@ -0,0 +1,282 @@
+package com.taskmanager.adapters.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.usecases.dto.TaskChangeEvent;
+import com.taskmanager.usecases.ports.TaskEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * TaskChangeFeed is the server-sent events implementation of the TaskEventPublisher output port.
+ * It belongs to the 'Frameworks & Drivers' layer in Clean Architecture.
+ *
+ * Committed events are numbered and kept in a ring of the most recent ones, serialized once. A subscriber is
+ * an SseEmitter plus the number of the last event it was offered; an idle subscriber holds no thread. When an
+ * event matches a subscriber's filter, a small pool of sender threads catches it up from the ring, so one slow
+ * connection delays the others by at most one sender. A subscriber that resumes with a Last-Event-ID still in
+ * the ring gets every matching event after it; one that falls further behind than the ring reaches, or that
+ * resumes from an event of an earlier run, gets a "reset" event and should reload its lists.
+ */
+public class TaskChangeFeed implements TaskEventPublisher, Closeable {
+    static final String SUBSCRIBERS_METRIC = "tasks.events.subscribers";
+    static final String PUBLISHED_METRIC = "tasks.events.published";
+    static final String RESET_EVENT = "reset";
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    private final ObjectMapper objectMapper;
+    private final Entry[] ring;
+    // Event ids carry the start time of this run, so ids handed out before a restart are recognised as stale
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter published;
+    // Number of the last event published; guarded by the ring
+    private long last;
+
+    /**
+     * @param replaySize how many recent events a reconnecting subscriber can catch up on
+     * @param senderThreads how many subscribers can be written to at the same time
+     * @param heartbeat how often idle connections get a comment, so proxies keep them open and dead ones are noticed
+     */
+    public TaskChangeFeed(ObjectMapper objectMapper, int replaySize, int senderThreads, Duration heartbeat,
+                          MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.ring = new Entry[replaySize];
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-change-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-change-feed-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder(SUBSCRIBERS_METRIC, subscriptions, Set::size)
+                .description("Open change feed connections")
+                .register(meterRegistry);
+        this.published = Counter.builder(PUBLISHED_METRIC)
+                .description("Task changes published to the change feed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(TaskChangeEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        afterCommit(() -> append(event, data));
+    }
+
+    /**
+     * Streams the events for tasks of the given project and assignee to the emitter; null matches any.
+     * With a lastEventId, the events after it that are still in the ring are sent first.
+     */
+    public void subscribe(String projectId, String userId, String lastEventId, SseEmitter emitter) {
+        Subscription subscription = new Subscription(projectId, userId, emitter);
+        synchronized (ring) {
+            long resumeFrom = resumeFrom(lastEventId);
+            if (resumeFrom < 0) {
+                subscription.position = last;
+                subscription.reset = "No events retained after " + lastEventId;
+            } else {
+                subscription.position = resumeFrom;
+            }
+        }
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        schedule(subscription);
+    }
+
+    public int countSubscribers() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    private void append(TaskChangeEvent event, String data) {
+        Entry entry;
+        synchronized (ring) {
+            last++;
+            entry = new Entry(last, event.getProjectId(), event.getAssignedUserId(), data);
+            ring[(int) (last % ring.length)] = entry;
+        }
+        published.increment();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(entry)) {
+                schedule(subscription);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the last event the subscriber has seen, or -1 when the events after it are gone.
+     */
+    private long resumeFrom(String lastEventId) {
+        if (lastEventId == null) {
+            return last;
+        }
+        int separator = lastEventId.indexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        long number;
+        try {
+            number = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        return number >= 0 && number <= last && number >= last - ring.length ? number : -1;
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    /**
+     * Sends the subscriber every matching event it has not been offered yet, until it is caught up.
+     */
+    private void drain(Subscription subscription) {
+        while (true) {
+            List<Entry> batch = new ArrayList<>();
+            String reset;
+            long resetAt;
+            synchronized (ring) {
+                reset = subscription.reset;
+                subscription.reset = null;
+                if (subscription.position < last - ring.length) {
+                    reset = "Fell behind the change feed";
+                    subscription.position = last;
+                }
+                resetAt = subscription.position;
+                for (long number = subscription.position + 1; number <= last; number++) {
+                    Entry entry = ring[(int) (number % ring.length)];
+                    if (subscription.matches(entry)) {
+                        batch.add(entry);
+                    }
+                }
+                subscription.position = last;
+            }
+            // The reset carries the id to resume from, so a reconnect after it does not start over again
+            if (reset != null && !send(subscription, SseEmitter.event().id(eventId(resetAt)).name(RESET_EVENT).data(reset))) {
+                return;
+            }
+            for (Entry entry : batch) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event()
+                        .id(eventId(entry.number()))
+                        .data(entry.data(), MediaType.APPLICATION_JSON);
+                if (!send(subscription, event)) {
+                    return;
+                }
+            }
+            if (!batch.isEmpty() || reset != null) {
+                continue;
+            }
+            subscription.scheduled.set(false);
+            // An event appended after the scan above found the flag still set and left the work to this loop
+            synchronized (ring) {
+                if (subscription.position == last) {
+                    return;
+                }
+            }
+            if (!subscription.scheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private String eventId(long number) {
+        return epoch + "-" + number;
+    }
+
+    private void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            senders.execute(() -> send(subscription, SseEmitter.event().comment("keep-alive")));
+        }
+    }
+
+    private boolean send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The container completes the request of a broken connection itself
+            logger.debug("Dropping change feed subscriber: {}", e.getMessage());
+            subscriptions.remove(subscription);
+            return false;
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private record Entry(long number, String projectId, String assignedUserId, String data) {
+    }
+
+    private static final class Subscription {
+        private final String projectId;
+        private final String userId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // Number of the last event offered to this subscriber, and why it must reload first; guarded by the ring
+        private long position;
+        private String reset;
+
+        Subscription(String projectId, String userId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        boolean matches(Entry entry) {
+            return (projectId == null || projectId.equals(entry.projectId()))
+                    && (userId == null || userId.equals(entry.assignedUserId()));
+        }
+    }
+}
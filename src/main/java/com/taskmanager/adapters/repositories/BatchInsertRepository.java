@@ -0,0 +1,11 @@
+package com.taskmanager.adapters.repositories;
+
+import java.util.List;
+
+/**
+ * Spring Data fragment for inserting many new entities through JDBC batching.
+ * Implemented by BatchInsertRepositoryImpl and mixed into the JPA repositories that need it.
+ */
+public interface BatchInsertRepository<T> {
+    List<T> insertAll(List<T> entities);
+}
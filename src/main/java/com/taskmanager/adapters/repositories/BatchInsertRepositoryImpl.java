@@ -0,0 +1,52 @@
+package com.taskmanager.adapters.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Persists new entities and flushes them once per JDBC batch.
+ * persist skips the SELECT that save issues for entities with assigned ids, and with
+ * hibernate.order_inserts the flushed statements are grouped per table, so each flush
+ * becomes one batched INSERT per table. Detaching the inserted entities after each flush keeps
+ * the persistence context from growing with the number of inserted rows; entities the caller's
+ * transaction loaded itself stay managed.
+ */
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public BatchInsertRepositoryImpl(EntityManager entityManager,
+                                     @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public List<T> insertAll(List<T> entities) {
+        int flushed = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flushed = flushAndDetach(entities, flushed, i + 1);
+            }
+        }
+        flushAndDetach(entities, flushed, entities.size());
+        return entities;
+    }
+
+    /**
+     * Flushes and detaches the entities persisted since the last flush, leaving anything else
+     * the caller's transaction has loaded managed.
+     */
+    private int flushAndDetach(List<T> entities, int from, int to) {
+        entityManager.flush();
+        for (int i = from; i < to; i++) {
+            entityManager.detach(entities.get(i));
+        }
+        return to;
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+/**
+ * CachingProjectRepository decorates another ProjectRepository with an in-process cache of projects by id.
+ * It belongs to the 'Interface Adapters' layer in Clean Architecture.
+ * Lookups by id are served from the cache; every other query goes to the delegate,
+ * and save and deleteById evict the affected project.
+ */
+public class CachingProjectRepository implements ProjectRepository {
+    private final ProjectRepository delegate;
+    private final EntityCache<Project> cache;
+
+    public CachingProjectRepository(ProjectRepository delegate, long maximumSize, Duration expireAfterWrite,
+                                    MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, expireAfterWrite, () -> true, meterRegistry);
+    }
+
+    /**
+     * @param storeLoaded whether projects loaded by the current thread may be cached; see EntityCache
+     */
+    public CachingProjectRepository(ProjectRepository delegate, long maximumSize, Duration expireAfterWrite, BooleanSupplier storeLoaded,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = new EntityCache<>("projects", maximumSize, expireAfterWrite, CachingProjectRepository::copy, storeLoaded, meterRegistry);
+    }
+
+    @Override
+    public Project save(Project project) {
+        Project saved = delegate.save(project);
+        cache.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Project> findById(String id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public Map<String, Project> findByIds(Collection<String> ids) {
+        return cache.getAll(ids, delegate::findByIds);
+    }
+
+    @Override
+    public List<Project> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Project> findByOwnerId(String ownerId) {
+        return delegate.findByOwnerId(ownerId);
+    }
+
+    @Override
+    public List<Project> findByStatus(ProjectStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<Project> findActiveProjects() {
+        return delegate.findActiveProjects();
+    }
+
+    @Override
+    public List<Project> findOverdueProjects(LocalDateTime currentTime) {
+        return delegate.findOverdueProjects(currentTime);
+    }
+
+    @Override
+    public List<Project> findProjectsEndingWithin(LocalDateTime endDateLimit) {
+        return delegate.findProjectsEndingWithin(endDateLimit);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return cache.contains(id) || delegate.existsById(id);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public long countByOwnerId(String ownerId) {
+        return delegate.countByOwnerId(ownerId);
+    }
+
+    @Override
+    public long countByStatus(ProjectStatus status) {
+        return delegate.countByStatus(status);
+    }
+
+    private static Project copy(Project project) {
+        return new Project(project.getId(), project.getName(), project.getDescription(), project.getOwnerId(),
+                project.getStatus(), project.getStartDate(), project.getEndDate(),
+                project.getCreatedAt(), project.getUpdatedAt());
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+/**
+ * CachingUserRepository decorates another UserRepository with an in-process cache of users by id.
+ * It belongs to the 'Interface Adapters' layer in Clean Architecture.
+ * Lookups by id are served from the cache; every other query goes to the delegate,
+ * and save and deleteById evict the affected user.
+ */
+public class CachingUserRepository implements UserRepository {
+    private final UserRepository delegate;
+    private final EntityCache<User> cache;
+
+    public CachingUserRepository(UserRepository delegate, long maximumSize, Duration expireAfterWrite,
+                                 MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, expireAfterWrite, () -> true, meterRegistry);
+    }
+
+    /**
+     * @param storeLoaded whether users loaded by the current thread may be cached; see EntityCache
+     */
+    public CachingUserRepository(UserRepository delegate, long maximumSize, Duration expireAfterWrite, BooleanSupplier storeLoaded,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = new EntityCache<>("users", maximumSize, expireAfterWrite, CachingUserRepository::copy, storeLoaded, meterRegistry);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        cache.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findById(String id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public Map<String, User> findByIds(Collection<String> ids) {
+        return cache.getAll(ids, delegate::findByIds);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<User> findActiveUsers(UserStatus status) {
+        return delegate.findActiveUsers(status);
+    }
+
+    @Override
+    public List<User> findByRole(UserRole role) {
+        return delegate.findByRole(role);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return cache.contains(id) || delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public long countActiveUsers(UserStatus status) {
+        return delegate.countActiveUsers(status);
+    }
+
+    @Override
+    public long countByRole(UserRole role) {
+        return delegate.countByRole(role);
+    }
+
+    /**
+     * Drops the cached copies of users whose rows were changed without going through save.
+     */
+    public void evict(Collection<String> ids) {
+        ids.forEach(cache::invalidate);
+    }
+
+    private static User copy(User user) {
+        return new User(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(), user.getPassword(),
+                user.getRole(), user.getStatus(), user.getCreatedAt(), user.getUpdatedAt(), user.getLastLoginAt());
+    }
+}
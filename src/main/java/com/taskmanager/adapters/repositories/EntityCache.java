@@ -0,0 +1,111 @@
+package com.taskmanager.adapters.repositories;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded, expiring read-through cache of entities keyed by id, shared by the caching repository decorators.
+ * Entities are copied on the way in and on the way out, so a caller mutating the instance it got back
+ * can never change what other callers see. Hits, misses and evictions are published to the meter
+ * registry under the given cache name.
+ *
+ * Single lookups load outside the cache: Caffeine runs a loader while holding the monitor of a
+ * ConcurrentHashMap bin, and a virtual thread blocking on JDBC inside a monitor pins its carrier.
+ *
+ * While storeLoaded is false, cached entries are still served but what the loader returns is not kept,
+ * for reads whose rows may be older than what everyone else should see, such as reads from a replica.
+ */
+class EntityCache<T> {
+    private final Cache<String, T> cache;
+    private final UnaryOperator<T> copy;
+    private final BooleanSupplier storeLoaded;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    EntityCache(String name, long maximumSize, Duration expireAfterWrite, UnaryOperator<T> copy, MeterRegistry meterRegistry) {
+        this(name, maximumSize, expireAfterWrite, copy, () -> true, meterRegistry);
+    }
+
+    EntityCache(String name, long maximumSize, Duration expireAfterWrite, UnaryOperator<T> copy, BooleanSupplier storeLoaded,
+                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.copy = copy;
+        this.storeLoaded = storeLoaded;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    Optional<T> get(String id, Function<String, Optional<T>> loader) {
+        T entity = cache.getIfPresent(id);
+        if (entity == null) {
+            long seen = invalidations.get();
+            entity = loader.apply(id).map(copy).orElse(null);
+            // An invalidation while loading means the row may already be stale; return it but don't cache it
+            if (entity != null && invalidations.get() == seen && storeLoaded.getAsBoolean()) {
+                cache.put(id, entity);
+            }
+        }
+        return Optional.ofNullable(entity).map(copy);
+    }
+
+    Map<String, T> getAll(Collection<String> ids, Function<Collection<String>, Map<String, T>> loader) {
+        if (!storeLoaded.getAsBoolean()) {
+            Map<String, T> result = new HashMap<>();
+            cache.getAllPresent(ids).forEach((id, entity) -> result.put(id, copy.apply(entity)));
+            Set<String> missing = new HashSet<>(ids);
+            missing.removeAll(result.keySet());
+            if (!missing.isEmpty()) {
+                loader.apply(missing).forEach((id, entity) -> result.put(id, copy.apply(entity)));
+            }
+            return result;
+        }
+        Map<String, T> cached = cache.getAll(ids, missing -> {
+            Map<String, T> loaded = new HashMap<>();
+            loader.apply(Set.copyOf(missing)).forEach((id, entity) -> loaded.put(id, copy.apply(entity)));
+            return loaded;
+        });
+        Map<String, T> result = new HashMap<>();
+        cached.forEach((id, entity) -> result.put(id, copy.apply(entity)));
+        return result;
+    }
+
+    boolean contains(String id) {
+        return cache.getIfPresent(id) != null;
+    }
+
+    /**
+     * Drops the entry now and, inside a transaction, once more after it completes, so a reader that
+     * loaded the old row between the write and the commit cannot leave it cached.
+     */
+    void invalidate(String id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidations.incrementAndGet();
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * InMemoryTaskRepository is an implementation of the TaskRepository output port that keeps every task in memory.
+ * It belongs to the 'Frameworks & Drivers' layer in Clean Architecture.
+ *
+ * Tasks are held as compact TaskRecords with secondary indexes by project, assignee, status and due date,
+ * so queries on those are answered from an index; findAll and findByPriority go through every task.
+ * Every write is appended to a TaskJournal before it is applied, and the full state is snapshotted
+ * periodically and on close, which keeps recovery time bounded by the writes made since the last snapshot.
+ *
+ * Writes are journaled and applied once the surrounding transaction commits, so a use case that fails later
+ * leaves no task change behind; outside a transaction they are applied at once. Until then reads, including
+ * the writer's own, see the committed tasks, and insertAll checks for duplicates against those.
+ * Returned tasks are copies; changing them has no effect until they are saved.
+ */
+public class InMemoryTaskRepository implements TaskRepository, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryTaskRepository.class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final Map<String, TaskRecord> tasks = new HashMap<>();
+    // Project and assignee entries are kept in creation order, so task list pages are read straight off them
+    private final Map<String, NavigableSet<TaskRecord>> byProject = new HashMap<>();
+    private final Map<String, NavigableSet<TaskRecord>> byUser = new HashMap<>();
+    private final Map<TaskStatus, Set<TaskRecord>> byStatus = new EnumMap<>(TaskStatus.class);
+    private final NavigableMap<Long, Set<TaskRecord>> byDueDate = new TreeMap<>();
+    private final TaskJournal journal;
+    private final ScheduledExecutorService snapshotScheduler;
+
+    /**
+     * Recovers the tasks stored in the directory and schedules snapshots at the given interval.
+     * A zero interval disables periodic snapshots; one is still taken on close.
+     */
+    public InMemoryTaskRepository(Path directory, boolean syncWrites, Duration snapshotInterval) {
+        Map<String, TaskRecord> recovered = new HashMap<>();
+        Map<String, String> recoveredIds = new HashMap<>();
+        try {
+            this.journal = TaskJournal.open(directory, syncWrites, recovered,
+                    id -> id == null ? null : recoveredIds.computeIfAbsent(id, key -> key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open task journal in " + directory, e);
+        }
+        recovered.values().forEach(this::put);
+        logger.info("Recovered {} tasks from {}", tasks.size(), directory);
+
+        if (snapshotInterval.isZero() || snapshotInterval.isNegative()) {
+            this.snapshotScheduler = null;
+        } else {
+            this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "task-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = snapshotInterval.toMillis();
+            snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Task save(Task task) {
+        TaskRecord record;
+        lock.readLock().lock();
+        try {
+            record = TaskRecord.of(task, this::shared);
+        } finally {
+            lock.readLock().unlock();
+        }
+        afterCommit("Cannot journal task " + task.getId(), () -> {
+            journal.appendPut(record);
+            put(record);
+        });
+        return record.toTask();
+    }
+
+    @Override
+    public List<Task> insertAll(List<Task> newTasks) {
+        List<TaskRecord> records = new ArrayList<>(newTasks.size());
+        lock.readLock().lock();
+        try {
+            for (Task task : newTasks) {
+                if (tasks.containsKey(task.getId())) {
+                    throw new DuplicateKeyException("Task already exists: " + task.getId());
+                }
+                records.add(TaskRecord.of(task, this::shared));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        afterCommit("Cannot journal tasks", () -> {
+            for (TaskRecord record : records) {
+                journal.appendPut(record);
+                put(record);
+            }
+        });
+        return newTasks;
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(tasks.get(id)).map(TaskRecord::toTask);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Task> findByIds(Collection<String> ids) {
+        Map<String, Task> found = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String id : ids) {
+                TaskRecord record = tasks.get(id);
+                if (record != null) {
+                    found.put(id, record.toTask());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return select(tasks::values, record -> true);
+    }
+
+    @Override
+    public List<Task> findByUserId(String userId) {
+        return select(() -> byUser.getOrDefault(userId, Collections.emptyNavigableSet()), record -> true);
+    }
+
+    @Override
+    public List<Task> findByProjectId(String projectId) {
+        return select(() -> byProject.getOrDefault(projectId, Collections.emptyNavigableSet()), record -> true);
+    }
+
+    @Override
+    public List<Task> findByStatus(TaskStatus status) {
+        return select(() -> byStatus.getOrDefault(status, Collections.emptySet()), record -> true);
+    }
+
+    @Override
+    public List<Task> findByPriority(TaskPriority priority) {
+        return select(tasks::values, record -> record.priority == priority);
+    }
+
+    @Override
+    public List<Task> findOverdueTasks(LocalDateTime currentTime) {
+        return findOpenTasksDueBefore(currentTime);
+    }
+
+    @Override
+    public List<Task> findTasksDueWithin(LocalDateTime dueDateLimit) {
+        return findOpenTasksDueBefore(dueDateLimit);
+    }
+
+    @Override
+    public List<Task> findByUserIdAndStatus(String userId, TaskStatus status) {
+        return select(() -> byUser.getOrDefault(userId, Collections.emptyNavigableSet()), record -> record.status == status);
+    }
+
+    @Override
+    public List<Task> findByProjectIdAndStatus(String projectId, TaskStatus status) {
+        return select(() -> byProject.getOrDefault(projectId, Collections.emptyNavigableSet()), record -> record.status == status);
+    }
+
+    /**
+     * The matching records are collected under the read lock, but the consumer runs after it is released,
+     * so a slow consumer such as an HTTP response never blocks writers.
+     */
+    @Override
+    public void forEachMatching(String projectId, TaskStatus status, LocalDateTime updatedSince, Consumer<Task> consumer) {
+        long updatedSinceMicros = TaskRecord.toMicros(updatedSince);
+        List<TaskRecord> matching = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Collection<TaskRecord> candidates = projectId != null ? byProject.getOrDefault(projectId, Collections.emptyNavigableSet())
+                    : status != null ? byStatus.getOrDefault(status, Collections.emptySet())
+                    : tasks.values();
+            for (TaskRecord record : candidates) {
+                if ((status == null || record.status == status)
+                        && (updatedSince == null || record.updatedAt >= updatedSinceMicros)) {
+                    matching.add(record);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matching.forEach(record -> consumer.accept(record.toTask()));
+    }
+
+    /**
+     * Returns the number of tasks in a source status now; which tasks change is decided again at commit,
+     * against the tasks as they are then.
+     */
+    @Override
+    public int updateStatus(Collection<String> ids, Collection<TaskStatus> fromStatuses, TaskStatus status, LocalDateTime updatedAt) {
+        long updatedAtMicros = TaskRecord.toMicros(updatedAt);
+        Set<String> distinctIds = new HashSet<>(ids);
+        Set<TaskStatus> sourceStatuses = Set.copyOf(fromStatuses);
+        int updated = 0;
+        lock.readLock().lock();
+        try {
+            for (String id : distinctIds) {
+                TaskRecord record = tasks.get(id);
+                if (record != null && sourceStatuses.contains(record.status)) {
+                    updated++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (updated > 0) {
+            afterCommit("Cannot journal task status change", () -> {
+                for (String id : distinctIds) {
+                    TaskRecord record = tasks.get(id);
+                    if (record != null && sourceStatuses.contains(record.status)) {
+                        TaskRecord changed = record.withStatus(status, updatedAtMicros);
+                        journal.appendPut(changed);
+                        put(changed);
+                    }
+                }
+            });
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        lock.readLock().lock();
+        try {
+            return tasks.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        afterCommit("Cannot journal deletion of task " + id, () -> {
+            if (tasks.containsKey(id)) {
+                journal.appendDelete(id);
+                remove(id);
+            }
+        });
+    }
+
+    @Override
+    public long countByUserId(String userId) {
+        return count(() -> byUser.get(userId));
+    }
+
+    @Override
+    public long countByProjectId(String projectId) {
+        return count(() -> byProject.get(projectId));
+    }
+
+    @Override
+    public long countByStatus(TaskStatus status) {
+        return count(() -> byStatus.get(status));
+    }
+
+    @Override
+    public List<TaskCountGroup> countByProjectIdGrouped(String projectId, LocalDateTime now) {
+        long nowMicros = TaskRecord.toMicros(now);
+        int priorities = TaskPriority.values().length;
+        long[] counts = new long[TaskStatus.values().length * priorities];
+        long[] overdue = new long[counts.length];
+        long[] nextDue = new long[counts.length];
+        Arrays.fill(nextDue, Long.MAX_VALUE);
+        lock.readLock().lock();
+        try {
+            for (TaskRecord record : byProject.getOrDefault(projectId, Collections.emptyNavigableSet())) {
+                int group = record.status.ordinal() * priorities + record.priority.ordinal();
+                counts[group]++;
+                if (record.isOpen() && record.dueDate != TaskRecord.NO_DATE) {
+                    if (record.dueDate < nowMicros) {
+                        overdue[group]++;
+                    } else {
+                        nextDue[group] = Math.min(nextDue[group], record.dueDate);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<TaskCountGroup> groups = new ArrayList<>();
+        for (int group = 0; group < counts.length; group++) {
+            if (counts[group] > 0) {
+                groups.add(new TaskCountGroup(TaskStatus.values()[group / priorities], TaskPriority.values()[group % priorities],
+                        counts[group], overdue[group],
+                        nextDue[group] == Long.MAX_VALUE ? null : TaskRecord.toDateTime(nextDue[group])));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Returns up to limit tasks of the project ordered by (createdAt, id), starting strictly after the given
+     * position, or from the first task when afterCreatedAt is null.
+     */
+    public List<Task> findByProjectIdAfter(String projectId, LocalDateTime afterCreatedAt, String afterId, int limit) {
+        return page(() -> byProject.get(projectId), afterCreatedAt, afterId, limit);
+    }
+
+    /**
+     * Returns up to limit tasks assigned to the user ordered by (createdAt, id), starting strictly after the
+     * given position, or from the first task when afterCreatedAt is null.
+     */
+    public List<Task> findByUserIdAfter(String userId, LocalDateTime afterCreatedAt, String afterId, int limit) {
+        return page(() -> byUser.get(userId), afterCreatedAt, afterId, limit);
+    }
+
+    /**
+     * Writes a snapshot of the current state and drops the journal entries it covers.
+     * Writers are only blocked while the journal is rotated and the record references are copied.
+     */
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            long generation;
+            List<TaskRecord> records;
+            lock.writeLock().lock();
+            try {
+                if (journal.entriesSinceSnapshot() == 0) {
+                    return;
+                }
+                generation = journal.rotate();
+                records = new ArrayList<>(tasks.values());
+            } finally {
+                lock.writeLock().unlock();
+            }
+            journal.writeSnapshot(generation, records);
+            logger.info("Snapshotted {} tasks", records.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot snapshot tasks", e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        snapshot();
+        lock.writeLock().lock();
+        try {
+            journal.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            logger.error("Periodic task snapshot failed", e);
+        }
+    }
+
+    private List<Task> findOpenTasksDueBefore(LocalDateTime limit) {
+        List<Task> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Set<TaskRecord> records : byDueDate.headMap(TaskRecord.toMicros(limit), false).values()) {
+                for (TaskRecord record : records) {
+                    if (record.isOpen()) {
+                        found.add(record.toTask());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    /**
+     * Resolves the candidates from an index and filters them, both under the read lock.
+     */
+    private List<Task> select(Supplier<Collection<TaskRecord>> candidates, Predicate<TaskRecord> filter) {
+        List<Task> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (TaskRecord record : candidates.get()) {
+                if (filter.test(record)) {
+                    found.add(record.toTask());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    private List<Task> page(Supplier<NavigableSet<TaskRecord>> index, LocalDateTime afterCreatedAt, String afterId, int limit) {
+        List<Task> found = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            NavigableSet<TaskRecord> records = index.get();
+            if (records == null) {
+                return found;
+            }
+            if (afterCreatedAt != null) {
+                records = records.tailSet(TaskRecord.position(TaskRecord.toMicros(afterCreatedAt), afterId), false);
+            }
+            for (TaskRecord record : records) {
+                if (found.size() == limit) {
+                    break;
+                }
+                found.add(record.toTask());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    private long count(Supplier<Set<TaskRecord>> index) {
+        lock.readLock().lock();
+        try {
+            Set<TaskRecord> records = index.get();
+            return records == null ? 0 : records.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Journals and applies the write under the write lock once the surrounding transaction commits,
+     * or at once outside of one.
+     */
+    private void afterCommit(String failure, Write write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(failure, write);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(failure, write);
+            }
+        });
+    }
+
+    private void apply(String failure, Write write) {
+        lock.writeLock().lock();
+        try {
+            write.apply();
+        } catch (IOException e) {
+            throw new UncheckedIOException(failure, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the id instance the indexes already hold for this project or assignee, so all of its records
+     * share one string without a table of ids that outlives them; callers hold the lock.
+     */
+    private String shared(String id) {
+        if (id == null) {
+            return null;
+        }
+        NavigableSet<TaskRecord> records = byProject.get(id);
+        if (records != null) {
+            return records.first().projectId;
+        }
+        records = byUser.get(id);
+        return records != null ? records.first().assignedUserId : id;
+    }
+
+    /**
+     * Stores the record and moves it between index entries; callers hold the write lock.
+     */
+    private void put(TaskRecord record) {
+        TaskRecord previous = tasks.put(record.id, record);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(record);
+    }
+
+    private void remove(String id) {
+        TaskRecord previous = tasks.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    /**
+     * Index entries hold the records themselves. A record is only ever replaced as a whole, and the replaced
+     * instance is unindexed before its successor is indexed, so the hash sets can compare records by identity.
+     */
+    private void index(TaskRecord record) {
+        byProject.computeIfAbsent(record.projectId, key -> new TreeSet<>(TaskRecord.CREATION_ORDER)).add(record);
+        if (record.assignedUserId != null) {
+            byUser.computeIfAbsent(record.assignedUserId, key -> new TreeSet<>(TaskRecord.CREATION_ORDER)).add(record);
+        }
+        byStatus.computeIfAbsent(record.status, key -> new HashSet<>()).add(record);
+        if (record.dueDate != TaskRecord.NO_DATE) {
+            byDueDate.computeIfAbsent(record.dueDate, key -> new HashSet<>()).add(record);
+        }
+    }
+
+    private void unindex(TaskRecord record) {
+        removeFromIndex(byProject, record.projectId, record);
+        if (record.assignedUserId != null) {
+            removeFromIndex(byUser, record.assignedUserId, record);
+        }
+        removeFromIndex(byStatus, record.status, record);
+        if (record.dueDate != TaskRecord.NO_DATE) {
+            removeFromIndex(byDueDate, record.dueDate, record);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void apply() throws IOException;
+    }
+
+    private static <K> void removeFromIndex(Map<K, ? extends Set<TaskRecord>> index, K key, TaskRecord record) {
+        Set<TaskRecord> records = index.get(key);
+        if (records != null && records.remove(record) && records.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.Project;
+import com.taskmanager.entities.Task;
+import com.taskmanager.entities.TaskStatus;
+import com.taskmanager.entities.TaskView;
+import com.taskmanager.entities.User;
+import com.taskmanager.usecases.ports.ProjectRepository;
+import com.taskmanager.usecases.ports.ProjectTaskViews;
+import com.taskmanager.usecases.ports.TaskViewRepository;
+import com.taskmanager.usecases.ports.TaskViewStamp;
+import com.taskmanager.usecases.ports.UserRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The task read model of the memory profile, served from InMemoryTaskRepository instead of a stored copy.
+ *
+ * <p>Views are built on read from the task records, with the assignee and project names looked up through
+ * the cached user and project repositories. There is no second copy of a task to keep in step with the
+ * journal, so the write methods of the port have nothing to do. Project change versions are kept in memory
+ * and start from the boot time in microseconds, so a list ETag handed out before a restart never matches
+ * after it.
+ */
+public class InMemoryTaskViewRepository implements TaskViewRepository {
+    private final InMemoryTaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final long initialVersion;
+
+    public InMemoryTaskViewRepository(InMemoryTaskRepository taskRepository, UserRepository userRepository,
+                                      ProjectRepository projectRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.initialVersion = ChronoUnit.MICROS.between(Instant.EPOCH, clock.instant());
+    }
+
+    @Override
+    public TaskView save(TaskView taskView) {
+        return taskView;
+    }
+
+    @Override
+    public List<TaskView> insertAll(List<TaskView> taskViews) {
+        return taskViews;
+    }
+
+    @Override
+    public Optional<TaskView> findById(String id) {
+        return taskRepository.findById(id).map(task -> toViews(List.of(task)).get(0));
+    }
+
+    @Override
+    public Optional<TaskViewStamp> findStampById(String id) {
+        return findById(id).map(view -> new TaskViewStamp(view.getId(), view.getDueDate(), view.getStatus(),
+                view.getAssignedUserName(), view.getProjectName(), view.getUpdatedAt()));
+    }
+
+    @Override
+    public Map<String, TaskView> findByIds(Collection<String> ids) {
+        return toViews(taskRepository.findByIds(ids).values()).stream()
+                .collect(Collectors.toMap(TaskView::getId, view -> view));
+    }
+
+    @Override
+    public void deleteById(String id) {
+    }
+
+    /**
+     * The version is read before the tasks. Writers bump it after writing, so a concurrent write can only make
+     * the version older than the tasks, which costs a client one extra full response, never a stale one.
+     */
+    @Override
+    public ProjectTaskViews findByProjectIdAfter(String projectId, LocalDateTime afterCreatedAt, String afterId, int limit) {
+        long version = findProjectVersion(projectId);
+        List<TaskView> views = toViews(taskRepository.findByProjectIdAfter(projectId, afterCreatedAt, afterId, limit));
+        return new ProjectTaskViews(views, views.isEmpty() ? null : version);
+    }
+
+    @Override
+    public List<TaskView> findByUserIdAfter(String userId, LocalDateTime afterCreatedAt, String afterId, int limit) {
+        return toViews(taskRepository.findByUserIdAfter(userId, afterCreatedAt, afterId, limit));
+    }
+
+    /**
+     * Names are looked up on read, so a rename only has to invalidate the list ETags of the projects it shows in.
+     */
+    @Override
+    public int updateAssignedUserName(String userId, String assignedUserName) {
+        List<Task> tasks = taskRepository.findByUserId(userId);
+        bumpProjectVersions(tasks.stream().map(Task::getProjectId).collect(Collectors.toSet()));
+        return tasks.size();
+    }
+
+    @Override
+    public int updateProjectName(String projectId, String projectName) {
+        bumpProjectVersions(List.of(projectId));
+        return (int) taskRepository.countByProjectId(projectId);
+    }
+
+    @Override
+    public int updateStatus(Collection<String> ids, TaskStatus status, LocalDateTime updatedAt) {
+        return ids.size();
+    }
+
+    @Override
+    public long findProjectVersion(String projectId) {
+        return versions.getOrDefault(projectId, initialVersion);
+    }
+
+    @Override
+    public void bumpProjectVersions(Collection<String> projectIds) {
+        for (String projectId : new HashSet<>(projectIds)) {
+            versions.merge(projectId, initialVersion + 1, (current, one) -> current + 1);
+        }
+    }
+
+    /**
+     * Resolves the names of all tasks with one lookup per repository, in the order the tasks were given.
+     */
+    private List<TaskView> toViews(Collection<Task> tasks) {
+        Set<String> userIds = new HashSet<>();
+        Set<String> projectIds = new HashSet<>();
+        for (Task task : tasks) {
+            if (task.getAssignedUserId() != null) {
+                userIds.add(task.getAssignedUserId());
+            }
+            projectIds.add(task.getProjectId());
+        }
+        Map<String, User> users = userIds.isEmpty() ? Map.of() : userRepository.findByIds(userIds);
+        Map<String, Project> projects = projectRepository.findByIds(projectIds);
+        return tasks.stream()
+                .map(task -> {
+                    User user = task.getAssignedUserId() == null ? null : users.get(task.getAssignedUserId());
+                    Project project = projects.get(task.getProjectId());
+                    return new TaskView(task, user == null ? null : user.getFullName(),
+                            project == null ? null : project.getName());
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -2,14 +2,22 @@ package com.taskmanager.adapters.repositories;
 
 import com.taskmanager.entities.*;
 import com.taskmanager.usecases.ports.*;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JpaProjectRepository is the implementation of the ProjectRepository output port.
@@ -24,6 +32,8 @@ public interface JpaProjectRepository extends JpaRepository<Project, String>, Pr
     @Query("SELECT p FROM Project p WHERE p.status = :status")
     List<Project> findByStatus(ProjectStatus status);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "project-queries")})
     @Query("SELECT p FROM Project p WHERE p.status IN ('PLANNING', 'IN_PROGRESS')")
     List<Project> findActiveProjects();
 
@@ -38,4 +48,13 @@ public interface JpaProjectRepository extends JpaRepository<Project, String>, Pr
 
     @Query("SELECT COUNT(p) FROM Project p WHERE p.status = :status")
     long countByStatus(ProjectStatus status);
+
+    @Override
+    default Map<String, Project> findByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return findAllById(ids).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+    }
 }
\ No newline at end of file
@@ -7,8 +7,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JpaTaskRepository is the implementation of the TaskRepository output port.
@@ -16,7 +21,8 @@ import java.util.Optional;
  * This class adapts the domain repository interface to Spring Data JPA.
  */
 @Repository
-public interface JpaTaskRepository extends JpaRepository<Task, String>, TaskRepository {
+public interface JpaTaskRepository extends JpaRepository<Task, String>, BatchInsertRepository<Task>, TaskStreamingRepository,
+        TaskStatusUpdateRepository, TaskRepository {
     @Query("SELECT t FROM Task t WHERE t.assignedUserId = :userId")
     List<Task> findByUserId(String userId);
 
@@ -49,4 +55,29 @@ public interface JpaTaskRepository extends JpaRepository<Task, String>, TaskRepo
 
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
     long countByStatus(TaskStatus status);
+
+    /**
+     * The totals are the summed slots of project_task_counts, which ProjectTaskCounts keeps as tasks are written. Only what depends on now is read from the
+     * tasks, per open group and through idx_tasks_project_status: the overdue tasks are counted and the next due
+     * date is the first index entry at or after now. H2 scans the whole range for MIN, so that one is written as an
+     * ORDER BY of every index column, which it answers from the first entry.
+     */
+    @Query("SELECT new com.taskmanager.usecases.ports.TaskCountGroup(c.status, c.priority, SUM(c.taskCount), " +
+           "CASE WHEN c.status NOT IN ('COMPLETED', 'CANCELLED') THEN (SELECT COUNT(t) FROM Task t " +
+           "WHERE t.projectId = c.projectId AND t.status = c.status AND t.priority = c.priority AND t.dueDate < :now) END, " +
+           "CASE WHEN c.status NOT IN ('COMPLETED', 'CANCELLED') THEN (SELECT t.dueDate FROM Task t " +
+           "WHERE t.projectId = c.projectId AND t.status = c.status AND t.priority = c.priority AND t.dueDate >= :now " +
+           "ORDER BY t.projectId, t.status, t.priority, t.dueDate LIMIT 1) END) " +
+           "FROM ProjectTaskCount c WHERE c.projectId = :projectId " +
+           "GROUP BY c.projectId, c.status, c.priority HAVING SUM(c.taskCount) > 0")
+    List<TaskCountGroup> countByProjectIdGrouped(String projectId, LocalDateTime now);
+
+    @Override
+    default Map<String, Task> findByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
 }
\ No newline at end of file
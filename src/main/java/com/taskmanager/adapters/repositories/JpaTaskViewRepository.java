@@ -0,0 +1,141 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JpaTaskViewRepository is the implementation of the TaskViewRepository output port.
+ * It belongs to the 'Frameworks & Drivers' layer in Clean Architecture.
+ * This class adapts the read model repository interface to Spring Data JPA.
+ */
+@Repository
+public interface JpaTaskViewRepository extends JpaRepository<TaskView, String>, BatchInsertRepository<TaskView>,
+        TaskViewStatusUpdateRepository, TaskViewRepository {
+    @Query("SELECT v, pv.version FROM TaskView v LEFT JOIN ProjectTaskVersion pv ON pv.projectId = v.projectId " +
+           "WHERE v.projectId = :projectId ORDER BY v.createdAt, v.id")
+    List<Object[]> findProjectViewsFromStart(String projectId, Pageable pageable);
+
+    @Query("SELECT v, pv.version FROM TaskView v LEFT JOIN ProjectTaskVersion pv ON pv.projectId = v.projectId " +
+           "WHERE v.projectId = :projectId AND v.createdAt >= :createdAt " +
+           "AND (v.createdAt > :createdAt OR v.id > :id) ORDER BY v.createdAt, v.id")
+    List<Object[]> findProjectViewsAfter(String projectId, LocalDateTime createdAt, String id, Pageable pageable);
+
+    @Query("SELECT v FROM TaskView v WHERE v.assignedUserId = :userId ORDER BY v.createdAt, v.id")
+    List<TaskView> findUserViewsFromStart(String userId, Pageable pageable);
+
+    @Query("SELECT v FROM TaskView v WHERE v.assignedUserId = :userId AND v.createdAt >= :createdAt " +
+           "AND (v.createdAt > :createdAt OR v.id > :id) ORDER BY v.createdAt, v.id")
+    List<TaskView> findUserViewsAfter(String userId, LocalDateTime createdAt, String id, Pageable pageable);
+
+    @Query("SELECT DISTINCT v.projectId FROM TaskView v WHERE v.assignedUserId = :userId")
+    List<String> findProjectIdsByAssignedUserId(String userId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TaskView v SET v.assignedUserName = :assignedUserName WHERE v.assignedUserId = :userId")
+    int renameAssignedUser(String userId, String assignedUserName);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TaskView v SET v.projectName = :projectName WHERE v.projectId = :projectId")
+    int renameProject(String projectId, String projectName);
+
+    @Query("SELECT new com.taskmanager.usecases.ports.TaskViewStamp(v.id, v.dueDate, v.status, v.assignedUserName, "
+           + "v.projectName, v.updatedAt) FROM TaskView v WHERE v.id = :id")
+    Optional<TaskViewStamp> findStampById(String id);
+
+    @Query("SELECT v.version FROM ProjectTaskVersion v WHERE v.projectId = :projectId")
+    Optional<Long> findVersionByProjectId(String projectId);
+
+    /**
+     * Creates the version row on the first write to the project's tasks, so no other code path has to.
+     */
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO ProjectTaskVersion (projectId, version) VALUES (:projectId, 1) "
+           + "ON CONFLICT (projectId) DO UPDATE SET version = version + 1")
+    int bumpVersion(String projectId);
+
+    @Override
+    @Transactional
+    default int updateAssignedUserName(String userId, String assignedUserName) {
+        bumpProjectVersions(findProjectIdsByAssignedUserId(userId));
+        return renameAssignedUser(userId, assignedUserName);
+    }
+
+    @Override
+    @Transactional
+    default int updateProjectName(String projectId, String projectName) {
+        bumpProjectVersions(List.of(projectId));
+        return renameProject(projectId, projectName);
+    }
+
+    @Override
+    default Map<String, TaskView> findByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return findAllById(ids).stream()
+                .collect(Collectors.toMap(TaskView::getId, Function.identity()));
+    }
+
+    @Override
+    default long findProjectVersion(String projectId) {
+        return findVersionByProjectId(projectId).orElse(0L);
+    }
+
+    /**
+     * Projects are bumped in id order, so two writers touching the same projects lock their rows in the same order.
+     */
+    @Override
+    @Transactional
+    default void bumpProjectVersions(Collection<String> projectIds) {
+        new TreeSet<>(projectIds).forEach(this::bumpVersion);
+    }
+
+    /**
+     * Every row carries the version; a project without a version row has never had a task written and is at 0.
+     */
+    @Override
+    default ProjectTaskViews findByProjectIdAfter(String projectId, LocalDateTime afterCreatedAt, String afterId, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        List<Object[]> rows = afterCreatedAt == null
+                ? findProjectViewsFromStart(projectId, firstRows)
+                : findProjectViewsAfter(projectId, afterCreatedAt, afterId, firstRows);
+        if (rows.isEmpty()) {
+            return new ProjectTaskViews(List.of(), null);
+        }
+        List<TaskView> views = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            views.add((TaskView) row[0]);
+        }
+        Long version = (Long) rows.get(0)[1];
+        return new ProjectTaskViews(views, version != null ? version : 0L);
+    }
+
+    @Override
+    default List<TaskView> findByUserIdAfter(String userId, LocalDateTime afterCreatedAt, String afterId, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        return afterCreatedAt == null
+                ? findUserViewsFromStart(userId, firstRows)
+                : findUserViewsAfter(userId, afterCreatedAt, afterId, firstRows);
+    }
+}
@@ -2,12 +2,20 @@ package com.taskmanager.adapters.repositories;
 
 import com.taskmanager.entities.*;
 import com.taskmanager.usecases.ports.*;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JpaUserRepository is the implementation of the UserRepository output port.
@@ -16,12 +24,18 @@ import java.util.Optional;
  */
 @Repository
 public interface JpaUserRepository extends JpaRepository<User, String>, UserRepository {
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-queries")})
     @Query("SELECT u FROM User u WHERE u.email = :email")
     Optional<User> findByEmail(String email);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-queries")})
     @Query("SELECT u FROM User u WHERE u.status = :status")
     List<User> findActiveUsers(UserStatus status);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-queries")})
     @Query("SELECT u FROM User u WHERE u.role = :role")
     List<User> findByRole(UserRole role);
 
@@ -37,4 +51,13 @@ public interface JpaUserRepository extends JpaRepository<User, String>, UserRepo
     default boolean existsByEmail(String email) {
         return countByEmail(email) > 0;
     }
+
+    @Override
+    default Map<String, User> findByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * NotifyingTaskRepository decorates another TaskRepository and keeps in-memory listeners, such as the deadline
+ * tracker and the search index, in step with it.
+ * It belongs to the 'Interface Adapters' layer in Clean Architecture.
+ * Every write is passed to the delegate first; the listeners see it only once the surrounding transaction
+ * commits, so a rolled back write never reaches them. Reads go straight to the delegate.
+ * While the listeners are being rebuilt, committed writes are held back and applied in order once the rebuild
+ * is done, so the rebuild, which may read an older version of a task, never overwrites a newer change.
+ */
+public class NotifyingTaskRepository implements TaskRepository {
+    private final TaskRepository delegate;
+    private final List<TaskChangeListener> listeners;
+    private List<Runnable> heldChanges;
+
+    public NotifyingTaskRepository(TaskRepository delegate, List<TaskChangeListener> listeners) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    /**
+     * Fills every listener from the delegate in a single pass over the tasks, each one handed to every listener
+     * as if it had just been saved. Must run inside a transaction when the delegate streams from a database.
+     */
+    public void rebuildListeners() {
+        holdChanges();
+        try {
+            delegate.forEachMatching(null, null, null, task -> {
+                for (TaskChangeListener listener : listeners) {
+                    listener.saved(task).run();
+                }
+            });
+        } finally {
+            synchronized (this) {
+                heldChanges.forEach(Runnable::run);
+                heldChanges = null;
+            }
+        }
+    }
+
+    /**
+     * Holds back committed writes from the listeners until the next rebuild is done.
+     */
+    public synchronized void holdChanges() {
+        if (heldChanges == null) {
+            heldChanges = new ArrayList<>();
+        }
+    }
+
+    public synchronized boolean isRebuilding() {
+        return heldChanges != null;
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved = delegate.save(task);
+        afterCommit(changes(listener -> listener.saved(saved)));
+        return saved;
+    }
+
+    @Override
+    public List<Task> insertAll(List<Task> tasks) {
+        List<Task> inserted = delegate.insertAll(tasks);
+        List<Runnable> changes = new ArrayList<>(inserted.size());
+        for (Task task : inserted) {
+            changes.add(changes(listener -> listener.saved(task)));
+        }
+        afterCommit(() -> changes.forEach(Runnable::run));
+        return inserted;
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Map<String, Task> findByIds(Collection<String> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Task> findByUserId(String userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public List<Task> findByProjectId(String projectId) {
+        return delegate.findByProjectId(projectId);
+    }
+
+    @Override
+    public List<Task> findByStatus(TaskStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public List<Task> findByPriority(TaskPriority priority) {
+        return delegate.findByPriority(priority);
+    }
+
+    @Override
+    public List<Task> findOverdueTasks(LocalDateTime currentTime) {
+        return delegate.findOverdueTasks(currentTime);
+    }
+
+    @Override
+    public List<Task> findTasksDueWithin(LocalDateTime dueDateLimit) {
+        return delegate.findTasksDueWithin(dueDateLimit);
+    }
+
+    @Override
+    public List<Task> findByUserIdAndStatus(String userId, TaskStatus status) {
+        return delegate.findByUserIdAndStatus(userId, status);
+    }
+
+    @Override
+    public List<Task> findByProjectIdAndStatus(String projectId, TaskStatus status) {
+        return delegate.findByProjectIdAndStatus(projectId, status);
+    }
+
+    @Override
+    public void forEachMatching(String projectId, TaskStatus status, LocalDateTime updatedSince, Consumer<Task> consumer) {
+        delegate.forEachMatching(projectId, status, updatedSince, consumer);
+    }
+
+    @Override
+    public int updateStatus(Collection<String> ids, Collection<TaskStatus> fromStatuses, TaskStatus status, LocalDateTime updatedAt) {
+        int updated = delegate.updateStatus(ids, fromStatuses, status, updatedAt);
+        if (updated > 0) {
+            List<String> changed = List.copyOf(ids);
+            afterCommit(changes(listener -> listener.statusChanged(changed, status)));
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        afterCommit(changes(listener -> listener.deleted(id)));
+    }
+
+    @Override
+    public long countByUserId(String userId) {
+        return delegate.countByUserId(userId);
+    }
+
+    @Override
+    public long countByProjectId(String projectId) {
+        return delegate.countByProjectId(projectId);
+    }
+
+    @Override
+    public long countByStatus(TaskStatus status) {
+        return delegate.countByStatus(status);
+    }
+
+    @Override
+    public List<TaskCountGroup> countByProjectIdGrouped(String projectId, LocalDateTime now) {
+        return delegate.countByProjectIdGrouped(projectId, now);
+    }
+
+    /**
+     * Collects each listener's change now, while the written state is at hand.
+     */
+    private Runnable changes(Function<TaskChangeListener, Runnable> callback) {
+        List<Runnable> changes = new ArrayList<>(listeners.size());
+        for (TaskChangeListener listener : listeners) {
+            changes.add(callback.apply(listener));
+        }
+        return () -> changes.forEach(Runnable::run);
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        synchronized (this) {
+            if (heldChanges != null) {
+                heldChanges.add(change);
+                return;
+            }
+        }
+        change.run();
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskmanager.adapters.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.Collection;
+
+/**
+ * Helpers for bulk JPQL statements, which change rows without touching the entities already loaded for them.
+ */
+final class PersistenceContexts {
+    private PersistenceContexts() {
+    }
+
+    /**
+     * Detaches the entities of the given type and ids that the persistence context holds, so that a later read
+     * loads the rows a bulk statement changed. Ids that are not loaded are skipped rather than fetched, and every
+     * other entity the caller's transaction has loaded stays managed.
+     */
+    static void detach(EntityManager entityManager, Class<?> type, Collection<?> ids) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(type);
+        PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+        for (Object id : ids) {
+            Object entity = persistenceContext.getEntity(session.generateEntityKey(id, persister));
+            if (entity != null) {
+                entityManager.detach(entity);
+            }
+        }
+    }
+}
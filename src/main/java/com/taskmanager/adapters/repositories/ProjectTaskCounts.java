@@ -0,0 +1,170 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.Task;
+import com.taskmanager.entities.TaskPriority;
+import com.taskmanager.entities.TaskStatus;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps project_task_counts, the number of tasks per project, status and priority, in step with the tasks
+ * written through Hibernate. The tasks a flush inserts, updates and deletes are summed and applied at its end,
+ * in the same transaction, as one upsert per changed count; bulk JPQL updates, which raise no entity events,
+ * report their rows through {@link #record} and are applied by the next flush, at the latest the one before
+ * commit. Registered through hibernate.integrator_provider.
+ *
+ * <p>Each count is spread over {@link #SLOTS} rows and a transaction adds to a random one, so concurrent
+ * writers to the same project, status and priority seldom wait on each other's row lock. Readers sum the slots.
+ */
+public class ProjectTaskCounts implements IntegratorProvider, Integrator,
+        PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener, FlushEventListener, AutoFlushEventListener {
+    public static final int SLOTS = 8;
+
+    private static final String ADD_TO_COUNT = "INSERT INTO ProjectTaskCount (projectId, status, priority, slot, taskCount) "
+            + "VALUES (:projectId, :status, :priority, :slot, :delta) "
+            + "ON CONFLICT (projectId, status, priority, slot) DO UPDATE SET taskCount = taskCount + :delta";
+
+    // Keys are taken in one order by every transaction, so two of them never wait on each other's rows
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::projectId)
+            .thenComparing(Key::status).thenComparing(Key::priority);
+
+    private static final Map<EventSource, Map<Key, Long>> PENDING = new ConcurrentHashMap<>();
+
+    /**
+     * Adds delta to the count of the project, status and priority at the session's next flush.
+     */
+    public static void record(EventSource session, String projectId, TaskStatus status, TaskPriority priority, long delta) {
+        PENDING.computeIfAbsent(session, ProjectTaskCounts::register)
+                .merge(new Key(projectId, status, priority), delta, Long::sum);
+    }
+
+    private static Map<Key, Long> register(EventSource session) {
+        // Drops what a rolled back transaction recorded but never flushed
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> PENDING.remove(session));
+        return new TreeMap<>(KEY_ORDER);
+    }
+
+    private static void apply(EventSource session) {
+        Map<Key, Long> deltas = PENDING.remove(session);
+        if (deltas == null) {
+            return;
+        }
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                session.createMutationQuery(ADD_TO_COUNT)
+                        .setParameter("projectId", key.projectId())
+                        .setParameter("status", key.status())
+                        .setParameter("priority", key.priority())
+                        .setParameter("slot", ThreadLocalRandom.current().nextInt(SLOTS))
+                        .setParameter("delta", delta)
+                        .executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public List<Integrator> getIntegrators() {
+        return List.of(this);
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+        // Appended, so they run after the default listeners have flushed
+        listeners.appendListeners(EventType.FLUSH, this);
+        listeners.appendListeners(EventType.AUTO_FLUSH, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Task) {
+            add(event.getSession(), event.getPersister(), event.getState(), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Task)) {
+            return;
+        }
+        if (event.getOldState() == null) {
+            // Only an update of a detached task without merge has no loaded state, and nothing here issues one
+            throw new IllegalStateException("No previous state to move the count of task " + event.getId());
+        }
+        Key before = key(event.getPersister(), event.getOldState());
+        Key after = key(event.getPersister(), event.getState());
+        if (!before.equals(after)) {
+            record(event.getSession(), before.projectId(), before.status(), before.priority(), -1);
+            record(event.getSession(), after.projectId(), after.status(), after.priority(), 1);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Task) {
+            add(event.getSession(), event.getPersister(), event.getDeletedState(), -1);
+        }
+    }
+
+    @Override
+    public void onFlush(FlushEvent event) {
+        apply(event.getSession());
+    }
+
+    @Override
+    public void onAutoFlush(AutoFlushEvent event) {
+        apply(event.getSession());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static void add(EventSource session, EntityPersister persister, Object[] state, long delta) {
+        Key key = key(persister, state);
+        record(session, key.projectId(), key.status(), key.priority(), delta);
+    }
+
+    private static Key key(EntityPersister persister, Object[] state) {
+        return new Key((String) state[persister.getPropertyIndex("projectId")],
+                (TaskStatus) state[persister.getPropertyIndex("status")],
+                (TaskPriority) state[persister.getPropertyIndex("priority")]);
+    }
+
+    private record Key(String projectId, TaskStatus status, TaskPriority priority) {
+    }
+}
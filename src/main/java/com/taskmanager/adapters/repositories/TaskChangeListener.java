@@ -0,0 +1,19 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.Task;
+import com.taskmanager.entities.TaskStatus;
+import java.util.List;
+
+/**
+ * An in-memory structure that follows the writes made through a NotifyingTaskRepository.
+ * Each callback runs when the write is made and returns the change to apply once the surrounding
+ * transaction commits, so it can capture what it needs before the entity changes again.
+ * On startup every stored task is passed through saved, so the same callback also fills the listener.
+ */
+public interface TaskChangeListener {
+    Runnable saved(Task task);
+
+    Runnable statusChanged(List<String> ids, TaskStatus status);
+
+    Runnable deleted(String id);
+}
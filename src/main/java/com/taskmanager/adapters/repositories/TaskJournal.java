@@ -0,0 +1,288 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal plus snapshots that make InMemoryTaskRepository durable.
+ *
+ * The directory holds numbered generations. journal-N.log lists the writes made during generation N,
+ * and snapshot-N.bin is the full state at the start of generation N, so recovery loads the newest
+ * snapshot and replays the journals of that generation and later ones. Each journal entry is framed
+ * with its length and a CRC32, and replay stops at the first torn or corrupt entry, which is what a
+ * crash in the middle of an append leaves behind. Snapshots are written to a temporary file and moved
+ * into place, so a snapshot file that exists is always complete.
+ *
+ * Appends and rotation must be serialized by the caller; writeSnapshot touches no shared state
+ * and may run while appends to the new generation continue.
+ */
+final class TaskJournal implements Closeable {
+    private static final Pattern JOURNAL_FILE = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final int SNAPSHOT_MAGIC = 0x54534e31;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final Path directory;
+    private final boolean syncWrites;
+    private final ByteArrayOutputStream entryBuffer = new ByteArrayOutputStream(512);
+    private long generation;
+    private FileChannel channel;
+    private long entriesSinceSnapshot;
+
+    private TaskJournal(Path directory, boolean syncWrites) {
+        this.directory = directory;
+        this.syncWrites = syncWrites;
+    }
+
+    /**
+     * Recovers the state stored in the directory into the given map and opens a fresh journal generation.
+     */
+    static TaskJournal open(Path directory, boolean syncWrites, Map<String, TaskRecord> records,
+                            UnaryOperator<String> interner) throws IOException {
+        Files.createDirectories(directory);
+        TaskJournal journal = new TaskJournal(directory, syncWrites);
+
+        long snapshotGeneration = latest(directory, SNAPSHOT_FILE).orElse(0L);
+        if (snapshotGeneration > 0) {
+            readSnapshot(snapshotFile(directory, snapshotGeneration), records, interner);
+        }
+        long lastGeneration = snapshotGeneration;
+        for (long generation : generations(directory, JOURNAL_FILE)) {
+            if (generation >= snapshotGeneration) {
+                journal.entriesSinceSnapshot += replay(journalFile(directory, generation), records, interner);
+                lastGeneration = Math.max(lastGeneration, generation);
+            }
+        }
+        journal.startGeneration(lastGeneration + 1);
+        return journal;
+    }
+
+    void appendPut(TaskRecord record) throws IOException {
+        DataOutputStream out = beginEntry();
+        out.writeByte(PUT);
+        writeRecord(out, record);
+        commitEntry();
+    }
+
+    void appendDelete(String id) throws IOException {
+        DataOutputStream out = beginEntry();
+        out.writeByte(DELETE);
+        out.writeUTF(id);
+        commitEntry();
+    }
+
+    long entriesSinceSnapshot() {
+        return entriesSinceSnapshot;
+    }
+
+    /**
+     * Switches appends to a new generation and returns it. Every write made before this call is in
+     * an older journal, so a snapshot of the current state can be stored under the returned generation.
+     */
+    long rotate() throws IOException {
+        channel.close();
+        startGeneration(generation + 1);
+        entriesSinceSnapshot = 0;
+        return generation;
+    }
+
+    /**
+     * Stores the state as of the start of the given generation, then drops the files it supersedes.
+     */
+    void writeSnapshot(long snapshotGeneration, Collection<TaskRecord> records) throws IOException {
+        Path target = snapshotFile(directory, snapshotGeneration);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(records.size());
+            for (TaskRecord record : records) {
+                writeRecord(out, record);
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        for (long older : generations(directory, JOURNAL_FILE)) {
+            if (older < snapshotGeneration) {
+                Files.deleteIfExists(journalFile(directory, older));
+            }
+        }
+        for (long older : generations(directory, SNAPSHOT_FILE)) {
+            if (older < snapshotGeneration) {
+                Files.deleteIfExists(snapshotFile(directory, older));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void startGeneration(long newGeneration) throws IOException {
+        generation = newGeneration;
+        channel = FileChannel.open(journalFile(directory, generation),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private DataOutputStream beginEntry() {
+        entryBuffer.reset();
+        return new DataOutputStream(entryBuffer);
+    }
+
+    private void commitEntry() throws IOException {
+        byte[] payload = entryBuffer.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(8 + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+        if (syncWrites) {
+            channel.force(false);
+        }
+        entriesSinceSnapshot++;
+    }
+
+    private static long replay(Path file, Map<String, TaskRecord> records, UnaryOperator<String> interner) throws IOException {
+        long entries = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            while (true) {
+                byte[] payload;
+                try {
+                    int length = in.readInt();
+                    int checksum = in.readInt();
+                    payload = in.readNBytes(length);
+                    CRC32 crc = new CRC32();
+                    crc.update(payload);
+                    if (payload.length != length || (int) crc.getValue() != checksum) {
+                        return entries;
+                    }
+                } catch (EOFException e) {
+                    return entries;
+                }
+                DataInputStream entry = new DataInputStream(new ByteArrayInputStream(payload));
+                byte operation = entry.readByte();
+                if (operation == PUT) {
+                    TaskRecord record = readRecord(entry, interner);
+                    records.put(record.id, record);
+                } else if (operation == DELETE) {
+                    records.remove(entry.readUTF());
+                } else {
+                    throw new IOException("Unknown journal operation " + operation + " in " + file);
+                }
+                entries++;
+            }
+        }
+    }
+
+    private static void readSnapshot(Path file, Map<String, TaskRecord> records, UnaryOperator<String> interner) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a task snapshot: " + file);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                TaskRecord record = readRecord(in, interner);
+                records.put(record.id, record);
+            }
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, TaskRecord record) throws IOException {
+        out.writeUTF(record.id);
+        out.writeUTF(record.title);
+        writeNullable(out, record.description);
+        out.writeLong(record.dueDate);
+        out.writeByte(record.status.ordinal());
+        out.writeByte(record.priority.ordinal());
+        writeNullable(out, record.assignedUserId);
+        out.writeUTF(record.projectId);
+        out.writeLong(record.createdAt);
+        out.writeLong(record.updatedAt);
+    }
+
+    private static TaskRecord readRecord(DataInputStream in, UnaryOperator<String> interner) throws IOException {
+        return new TaskRecord(
+                in.readUTF(),
+                in.readUTF(),
+                readNullable(in),
+                in.readLong(),
+                TaskStatus.values()[in.readByte()],
+                TaskPriority.values()[in.readByte()],
+                interner.apply(readNullable(in)),
+                interner.apply(in.readUTF()),
+                in.readLong(),
+                in.readLong()
+        );
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static Path journalFile(Path directory, long generation) {
+        return directory.resolve("journal-" + generation + ".log");
+    }
+
+    private static Path snapshotFile(Path directory, long generation) {
+        return directory.resolve("snapshot-" + generation + ".bin");
+    }
+
+    private static Optional<Long> latest(Path directory, Pattern pattern) throws IOException {
+        List<Long> generations = generations(directory, pattern);
+        return generations.isEmpty() ? Optional.empty() : Optional.of(generations.get(generations.size() - 1));
+    }
+
+    private static List<Long> generations(Path directory, Pattern pattern) throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    generations.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable, compact in-memory form of a task used by InMemoryTaskRepository.
+ * Timestamps are kept as epoch microseconds instead of LocalDateTime objects, and user and
+ * project ids are interned so that every task of a project shares a single id string.
+ */
+final class TaskRecord {
+    static final long NO_DATE = Long.MIN_VALUE;
+    /**
+     * The (createdAt, id) order of task list pages.
+     */
+    static final Comparator<TaskRecord> CREATION_ORDER = Comparator.comparingLong((TaskRecord record) -> record.createdAt)
+            .thenComparing(record -> record.id);
+
+    final String id;
+    final String title;
+    final String description;
+    final long dueDate;
+    final TaskStatus status;
+    final TaskPriority priority;
+    final String assignedUserId;
+    final String projectId;
+    final long createdAt;
+    final long updatedAt;
+
+    TaskRecord(String id, String title, String description, long dueDate, TaskStatus status, TaskPriority priority,
+               String assignedUserId, String projectId, long createdAt, long updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.priority = priority;
+        this.assignedUserId = assignedUserId;
+        this.projectId = projectId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    static TaskRecord of(Task task, UnaryOperator<String> interner) {
+        return new TaskRecord(task.getId(), task.getTitle(), task.getDescription(), toMicros(task.getDueDate()),
+                task.getStatus(), task.getPriority(), interner.apply(task.getAssignedUserId()),
+                interner.apply(task.getProjectId()), toMicros(task.getCreatedAt()), toMicros(task.getUpdatedAt()));
+    }
+
+    /**
+     * A record that only marks a position in CREATION_ORDER, for seeking into an ordered index.
+     */
+    static TaskRecord position(long createdAt, String id) {
+        return new TaskRecord(id, null, null, NO_DATE, null, null, null, null, createdAt, NO_DATE);
+    }
+
+    TaskRecord withStatus(TaskStatus newStatus, long newUpdatedAt) {
+        return new TaskRecord(id, title, description, dueDate, newStatus, priority,
+                assignedUserId, projectId, createdAt, newUpdatedAt);
+    }
+
+    Task toTask() {
+        return new Task(id, title, description, toDateTime(dueDate), status, priority,
+                assignedUserId, projectId, toDateTime(createdAt), toDateTime(updatedAt));
+    }
+
+    boolean isOpen() {
+        return status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+    }
+
+    /**
+     * Microsecond precision matches the TIMESTAMP columns of the JPA adapter.
+     */
+    static long toMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_DATE;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime toDateTime(long micros) {
+        if (micros == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
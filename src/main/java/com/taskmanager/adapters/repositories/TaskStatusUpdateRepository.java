@@ -0,0 +1,14 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Spring Data fragment for the bulk status update, which has to move the project task counts it changes.
+ * Implemented by TaskStatusUpdateRepositoryImpl and mixed into JpaTaskRepository.
+ */
+public interface TaskStatusUpdateRepository {
+    int updateStatus(Collection<String> ids, Collection<TaskStatus> fromStatuses, TaskStatus status, LocalDateTime updatedAt);
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.event.spi.EventSource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Changes the status of many tasks in one UPDATE statement. A bulk update raises no entity events, so the
+ * rows it will change are read first, locked so no other transaction moves them in between, and their
+ * counts are moved through ProjectTaskCounts. The tasks it changes are detached afterwards, as the
+ * persistence context may hold them with their old status; everything else the caller loaded stays managed.
+ */
+public class TaskStatusUpdateRepositoryImpl implements TaskStatusUpdateRepository {
+    private final EntityManager entityManager;
+
+    public TaskStatusUpdateRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Collection<String> ids, Collection<TaskStatus> fromStatuses, TaskStatus status, LocalDateTime updatedAt) {
+        List<Object[]> changed = entityManager.createQuery("SELECT t.id, t.projectId, t.status, t.priority FROM Task t "
+                        + "WHERE t.id IN :ids AND t.status IN :fromStatuses", Object[].class)
+                .setParameter("ids", ids)
+                .setParameter("fromStatuses", fromStatuses)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        int updated = entityManager.createQuery("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt "
+                        + "WHERE t.id IN :ids AND t.status IN :fromStatuses")
+                .setParameter("ids", ids)
+                .setParameter("fromStatuses", fromStatuses)
+                .setParameter("status", status)
+                .setParameter("updatedAt", updatedAt)
+                .executeUpdate();
+        PersistenceContexts.detach(entityManager, Task.class, changed.stream().map(row -> row[0]).toList());
+
+        EventSource session = entityManager.unwrap(EventSource.class);
+        for (Object[] row : changed) {
+            if (row[2] == status) {
+                continue;
+            }
+            ProjectTaskCounts.record(session, (String) row[1], (TaskStatus) row[2], (TaskPriority) row[3], -1);
+            ProjectTaskCounts.record(session, (String) row[1], status, (TaskPriority) row[3], 1);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Spring Data fragment for task queries that must stream instead of returning a List.
+ * Implemented by TaskStreamingRepositoryImpl and mixed into JpaTaskRepository.
+ */
+public interface TaskStreamingRepository {
+    void forEachMatching(String projectId, TaskStatus status, LocalDateTime updatedSince, Consumer<Task> consumer);
+}
@@ -0,0 +1,64 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Streams tasks through a forward-only JDBC cursor with a bounded fetch size.
+ * The rows are read as a constructor projection, so every task is built straight from its columns
+ * and never enters the persistence context: no entity entries, no snapshots and nothing to detach,
+ * and the heap stays flat regardless of how many rows are read.
+ */
+public class TaskStreamingRepositoryImpl implements TaskStreamingRepository {
+    private static final String SELECT_TASKS = "SELECT new com.taskmanager.entities.Task(t.id, t.title, t.description, "
+            + "t.dueDate, t.status, t.priority, t.assignedUserId, t.projectId, t.createdAt, t.updatedAt) FROM Task t WHERE 1 = 1";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public TaskStreamingRepositoryImpl(EntityManager entityManager,
+                                       @Value("${taskmanager.export.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachMatching(String projectId, TaskStatus status, LocalDateTime updatedSince, Consumer<Task> consumer) {
+        StringBuilder jpql = new StringBuilder(SELECT_TASKS);
+        if (projectId != null) {
+            jpql.append(" AND t.projectId = :projectId");
+        }
+        if (status != null) {
+            jpql.append(" AND t.status = :status");
+        }
+        if (updatedSince != null) {
+            jpql.append(" AND t.updatedAt >= :updatedSince");
+        }
+
+        TypedQuery<Task> query = entityManager.createQuery(jpql.toString(), Task.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        if (projectId != null) {
+            query.setParameter("projectId", projectId);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (updatedSince != null) {
+            query.setParameter("updatedSince", updatedSince);
+        }
+
+        // getResultStream scrolls forward-only instead of loading the whole result
+        try (Stream<Task> tasks = query.getResultStream()) {
+            tasks.forEach(consumer);
+        }
+    }
+}
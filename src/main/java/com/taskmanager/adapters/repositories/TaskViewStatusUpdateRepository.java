@@ -0,0 +1,14 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Spring Data fragment for the bulk status update of the read model, which detaches only the views it changes.
+ * Implemented by TaskViewStatusUpdateRepositoryImpl and mixed into JpaTaskViewRepository.
+ */
+public interface TaskViewStatusUpdateRepository {
+    int updateStatus(Collection<String> ids, TaskStatus status, LocalDateTime updatedAt);
+}
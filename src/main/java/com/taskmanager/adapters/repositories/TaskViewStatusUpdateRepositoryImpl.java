@@ -0,0 +1,33 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Copies a bulk status change onto the task views in one UPDATE statement. The views it changes are detached
+ * afterwards, as the persistence context may hold them with their old status.
+ */
+public class TaskViewStatusUpdateRepositoryImpl implements TaskViewStatusUpdateRepository {
+    private final EntityManager entityManager;
+
+    public TaskViewStatusUpdateRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Collection<String> ids, TaskStatus status, LocalDateTime updatedAt) {
+        int updated = entityManager.createQuery("UPDATE TaskView v SET v.status = :status, v.updatedAt = :updatedAt "
+                        + "WHERE v.id IN :ids")
+                .setParameter("ids", ids)
+                .setParameter("status", status)
+                .setParameter("updatedAt", updatedAt)
+                .executeUpdate();
+        PersistenceContexts.detach(entityManager, TaskView.class, ids);
+        return updated;
+    }
+}
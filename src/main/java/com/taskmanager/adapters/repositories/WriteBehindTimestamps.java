@@ -0,0 +1,166 @@
+package com.taskmanager.adapters.repositories;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Closeable;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for one timestamp column that only ever moves forward, such as users.last_login_at.
+ *
+ * Each record keeps the latest timestamp per row id in memory, so a row touched a thousand times between
+ * flushes costs one UPDATE. Flushes run on a background thread every maxStaleness, or as soon as maxPending
+ * rows are waiting, and write all of them in one JDBC batch. The UPDATE only raises the column, so a flush
+ * racing an older value, or the same value written twice, leaves the newest one in place. Whatever is still
+ * pending on close is written before the buffer shuts down; a crash loses at most one interval of touches.
+ */
+public class WriteBehindTimestamps implements Closeable {
+    static final String RECORDED_METRIC = "writebehind.recorded";
+    static final String ABSORBED_METRIC = "writebehind.absorbed";
+    static final String WRITTEN_METRIC = "writebehind.written";
+    static final String PENDING_METRIC = "writebehind.pending";
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindTimestamps.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String update;
+    private final int maxPending;
+    private final Consumer<List<String>> afterFlush;
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+    private final Counter recorded;
+    private final Counter absorbed;
+    private final Counter written;
+
+    /**
+     * @param table table holding the column, keyed by a UUID id column
+     * @param column timestamp column the buffer owns
+     * @param maxPending how many rows may wait before a flush starts early
+     * @param maxStaleness how long a recorded timestamp may wait before it is written
+     * @param afterFlush called with the ids of each flushed batch, to evict cached copies of their rows
+     */
+    public WriteBehindTimestamps(JdbcTemplate jdbcTemplate, String table, String column, int maxPending,
+                                 Duration maxStaleness, Consumer<List<String>> afterFlush, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.update = "UPDATE " + table + " SET " + column + " = ? WHERE id = ? AND (" + column + " IS NULL OR "
+                + column + " < ?)";
+        this.maxPending = maxPending;
+        this.afterFlush = afterFlush;
+        String name = table + "." + column;
+        this.recorded = Counter.builder(RECORDED_METRIC)
+                .description("Timestamp updates handed to the write-behind buffer")
+                .tag("column", name)
+                .register(meterRegistry);
+        this.absorbed = Counter.builder(ABSORBED_METRIC)
+                .description("Timestamp updates merged into one still waiting for the same row")
+                .tag("column", name)
+                .register(meterRegistry);
+        this.written = Counter.builder(WRITTEN_METRIC)
+                .description("Rows written by write-behind flushes")
+                .tag("column", name)
+                .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, pending, Map::size)
+                .description("Rows with a timestamp waiting to be written")
+                .tag("column", name)
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = maxStaleness.toMillis();
+        scheduler.scheduleAtFixedRate(this::flushQuietly, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records the timestamp for the row, keeping the later one if the row already has one waiting.
+     * An id that is not a UUID is rejected here rather than failing, and holding back, a whole batch.
+     */
+    public void record(String id, LocalDateTime timestamp) {
+        UUID.fromString(id);
+        recorded.increment();
+        if (pending.putIfAbsent(id, timestamp) != null) {
+            absorbed.increment();
+            pending.merge(id, timestamp, WriteBehindTimestamps::latest);
+        }
+        if (pending.size() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Writes every pending timestamp in one batch and returns the number of rows in it.
+     * A failed batch is put back to be retried by the next flush.
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+        List<Map.Entry<String, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (String id : pending.keySet()) {
+            LocalDateTime timestamp = pending.remove(id);
+            if (timestamp != null) {
+                batch.add(Map.entry(id, timestamp));
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(update, batch, batch.size(), (statement, entry) -> {
+                Timestamp timestamp = Timestamp.valueOf(entry.getValue());
+                statement.setTimestamp(1, timestamp);
+                statement.setObject(2, UUID.fromString(entry.getKey()));
+                statement.setTimestamp(3, timestamp);
+            });
+        } catch (RuntimeException e) {
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), WriteBehindTimestamps::latest));
+            throw e;
+        }
+        written.increment(batch.size());
+        afterFlush.accept(batch.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+        return batch.size();
+    }
+
+    /**
+     * Stops the background flushes, then writes what is still pending.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("Flushing write-behind timestamps failed", e);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,476 @@
+package com.taskmanager.adapters.search;
+
+import com.taskmanager.adapters.repositories.TaskChangeListener;
+import com.taskmanager.entities.Task;
+import com.taskmanager.entities.TaskStatus;
+import com.taskmanager.usecases.ports.TaskSearchIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * InvertedTaskIndex is the in-memory implementation of the TaskSearchIndex output port.
+ * It belongs to the 'Frameworks & Drivers' layer in Clean Architecture.
+ *
+ * Titles and descriptions are split into lower-cased words made of letters and digits. Every word keeps a
+ * postings list of the documents containing it, ordered by document number, and the words sit in a sorted map
+ * so a prefix is a range of it. A query walks the documents of its rarest word and skips through the other
+ * postings lists, so its cost follows the rarest word rather than the corpus. Matches are ranked by BM25
+ * with title words counting {@value #TITLE_WEIGHT} times, and the best ones are kept in a bounded heap.
+ *
+ * A changed or deleted task leaves its old document behind as a tombstone that searches skip; once tombstones
+ * outnumber live documents, the postings lists are rewritten without them. Like the deadline tracker, the index
+ * only reflects writes made through this process: NotifyingTaskRepository feeds it after each commit and it is
+ * rebuilt from the repository at startup.
+ */
+public class InvertedTaskIndex implements TaskSearchIndex, TaskChangeListener {
+    static final String DOCUMENTS_METRIC = "tasks.search.documents";
+    static final String TERMS_METRIC = "tasks.search.terms";
+    static final int TITLE_WEIGHT = 3;
+    private static final int MAX_WORD_LENGTH = 64;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 10_000;
+    // The usual BM25 parameters: how fast repeated words saturate and how much document length matters
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    // Equal scores go to the newer task
+    private static final Comparator<Hit> WORST_FIRST =
+            Comparator.comparingDouble(Hit::score).thenComparingInt(Hit::document);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> words = new TreeMap<>();
+    private final Map<String, Integer> documents = new HashMap<>();
+    private final Map<String, Integer> projectNumbers = new HashMap<>();
+    private String[] taskIds = new String[1024];
+    private int[] projects = new int[1024];
+    private TaskStatus[] statuses = new TaskStatus[1024];
+    private int[] lengths = new int[1024];
+    private int size;
+    private int tombstones;
+    private long totalLength;
+
+    public InvertedTaskIndex(MeterRegistry meterRegistry) {
+        Gauge.builder(DOCUMENTS_METRIC, this, InvertedTaskIndex::countDocuments)
+                .description("Tasks in the search index")
+                .register(meterRegistry);
+        Gauge.builder(TERMS_METRIC, this, InvertedTaskIndex::countWords)
+                .description("Distinct words in the search index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Captures the indexed fields now; the entity may still change before the transaction commits.
+     */
+    @Override
+    public Runnable saved(Task task) {
+        String id = task.getId();
+        String title = task.getTitle();
+        String description = task.getDescription();
+        String projectId = task.getProjectId();
+        TaskStatus status = task.getStatus();
+        return () -> index(id, title, description, projectId, status);
+    }
+
+    /**
+     * A status change leaves the words alone, so the documents are updated in place.
+     */
+    @Override
+    public Runnable statusChanged(List<String> ids, TaskStatus status) {
+        return () -> {
+            lock.writeLock().lock();
+            try {
+                for (String id : ids) {
+                    Integer document = documents.get(id);
+                    if (document != null) {
+                        statuses[document] = status;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+    }
+
+    @Override
+    public Runnable deleted(String id) {
+        return () -> {
+            lock.writeLock().lock();
+            try {
+                remove(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+    }
+
+    /**
+     * Adds the task, replacing what was indexed for it before.
+     */
+    public void index(String id, String title, String description, String projectId, TaskStatus status) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = count(title, TITLE_WEIGHT, frequencies) + count(description, 1, frequencies);
+
+        lock.writeLock().lock();
+        try {
+            remove(id);
+            int document = size++;
+            ensureCapacity(size);
+            taskIds[document] = id;
+            projects[document] = projectNumbers.computeIfAbsent(projectId, project -> projectNumbers.size());
+            statuses[document] = status;
+            lengths[document] = length;
+            documents.put(id, document);
+            totalLength += length;
+            // Documents are numbered in insertion order, so appending keeps every postings list sorted
+            frequencies.forEach((word, frequency) -> words.computeIfAbsent(word, w -> new Postings()).add(document, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> search(String query, String projectId, TaskStatus status, int limit) {
+        List<String> queryWords = new ArrayList<>();
+        List<Boolean> prefixes = new ArrayList<>();
+        for (String part : query.trim().split("\\s+")) {
+            boolean prefix = part.endsWith("*");
+            List<String> partWords = new ArrayList<>();
+            tokenize(part, partWords::add);
+            for (int i = 0; i < partWords.size(); i++) {
+                queryWords.add(partWords.get(i));
+                prefixes.add(prefix && i == partWords.size() - 1);
+            }
+        }
+        if (queryWords.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int project = -1;
+            if (projectId != null) {
+                Integer number = projectNumbers.get(projectId);
+                if (number == null) {
+                    return List.of();
+                }
+                project = number;
+            }
+            int live = size - tombstones;
+            if (live == 0) {
+                return List.of();
+            }
+
+            float averageLength = (float) totalLength / live;
+            Cursor[] cursors = new Cursor[queryWords.size()];
+            int rarest = 0;
+            for (int i = 0; i < cursors.length; i++) {
+                Collection<Postings> matches = matches(queryWords.get(i), prefixes.get(i));
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                cursors[i] = cursor(matches, live, averageLength);
+                if (cursors[i].postings.size < cursors[rarest].postings.size) {
+                    rarest = i;
+                }
+            }
+
+            int[] candidates = cursors[rarest].postings.documents;
+            int candidateCount = cursors[rarest].postings.size;
+            PriorityQueue<Hit> best = new PriorityQueue<>(limit, WORST_FIRST);
+            for (int i = 0; i < candidateCount; i++) {
+                int document = candidates[i];
+                if (taskIds[document] == null
+                        || (project >= 0 && projects[document] != project)
+                        || (status != null && statuses[document] != status)) {
+                    continue;
+                }
+                float score = score(cursors, document, lengths[document] / averageLength);
+                if (score < 0) {
+                    continue;
+                }
+                if (best.size() < limit) {
+                    best.add(new Hit(document, score));
+                } else if (score > best.peek().score() || (score == best.peek().score() && document > best.peek().document())) {
+                    best.poll();
+                    best.add(new Hit(document, score));
+                }
+            }
+
+            String[] ids = new String[best.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = taskIds[best.poll().document()];
+            }
+            return Arrays.asList(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long countDocuments() {
+        lock.readLock().lock();
+        try {
+            return size - tombstones;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long countWords() {
+        lock.readLock().lock();
+        try {
+            return words.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lower-cased runs of letters and digits, cut at {@value #MAX_WORD_LENGTH} characters.
+     */
+    static void tokenize(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (word.length() < MAX_WORD_LENGTH) {
+                    word.append(Character.toLowerCase(c));
+                }
+            } else if (word.length() > 0) {
+                consumer.accept(word.toString());
+                word.setLength(0);
+            }
+        }
+    }
+
+    private static int count(String text, int weight, Map<String, Integer> frequencies) {
+        int[] length = new int[1];
+        tokenize(text, word -> {
+            frequencies.merge(word, weight, Integer::sum);
+            length[0] += weight;
+        });
+        return length[0];
+    }
+
+    private Collection<Postings> matches(String word, boolean prefix) {
+        if (prefix) {
+            return words.subMap(word, true, word + Character.MAX_VALUE, false).values();
+        }
+        Postings postings = words.get(word);
+        return postings == null ? List.of() : List.of(postings);
+    }
+
+    private Cursor cursor(Collection<Postings> matches, int live, float averageLength) {
+        if (matches.size() == 1) {
+            Postings postings = matches.iterator().next();
+            return new Cursor(postings, idf(postings, live), null);
+        }
+        // A prefix matching several words is merged into one list with the summed score of each document,
+        // so the other query words are not re-checked against every one of them. Each live posting is packed
+        // into a long with its document in the high half, and sorting those brings a document's postings
+        // together: the work and the memory follow the postings of the matched words, not the whole index.
+        int total = 0;
+        for (Postings postings : matches) {
+            total += postings.size;
+        }
+        long[] entries = new long[total];
+        int count = 0;
+        for (Postings postings : matches) {
+            float idf = idf(postings, live);
+            for (int i = 0; i < postings.size; i++) {
+                int document = postings.documents[i];
+                if (taskIds[document] != null) {
+                    float score = bm25(idf, postings.frequencies[i], lengths[document] / averageLength);
+                    entries[count++] = (long) document << 32 | (Float.floatToRawIntBits(score) & 0xFFFFFFFFL);
+                }
+            }
+        }
+        Arrays.sort(entries, 0, count);
+        Postings merged = new Postings(count);
+        float[] scores = new float[count];
+        for (int i = 0; i < count; i++) {
+            int document = (int) (entries[i] >>> 32);
+            float score = Float.intBitsToFloat((int) entries[i]);
+            if (merged.size > 0 && merged.documents[merged.size - 1] == document) {
+                scores[merged.size - 1] += score;
+            } else {
+                scores[merged.size] = score;
+                merged.add(document, 0);
+            }
+        }
+        return new Cursor(merged, 0, scores);
+    }
+
+    // Tombstones can push the document frequency above the live count; keep such words barely positive
+    private static float idf(Postings postings, int live) {
+        double idf = Math.log(1 + (live - postings.size + 0.5) / (postings.size + 0.5));
+        return (float) Math.max(idf, 1e-6);
+    }
+
+    private static float bm25(float idf, int frequency, float relativeLength) {
+        return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * relativeLength));
+    }
+
+    /**
+     * Sums the BM25 score of the document over the query words, or returns -1 when one of them is missing.
+     * Documents arrive in ascending order, so every cursor only ever moves forward.
+     */
+    private static float score(Cursor[] cursors, int document, float relativeLength) {
+        float total = 0;
+        for (Cursor cursor : cursors) {
+            Postings postings = cursor.postings;
+            cursor.position = postings.advance(cursor.position, document);
+            if (cursor.position == postings.size || postings.documents[cursor.position] != document) {
+                return -1;
+            }
+            total += cursor.scores != null
+                    ? cursor.scores[cursor.position]
+                    : bm25(cursor.idf, postings.frequencies[cursor.position], relativeLength);
+        }
+        return total;
+    }
+
+    // Callers hold the write lock
+    private void remove(String id) {
+        Integer document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        taskIds[document] = null;
+        totalLength -= lengths[document];
+        tombstones++;
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > size - tombstones) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumbers the live documents densely and drops the tombstones from every postings list.
+     */
+    private void compact() {
+        int[] renumbered = new int[size];
+        int live = 0;
+        for (int document = 0; document < size; document++) {
+            if (taskIds[document] == null) {
+                renumbered[document] = -1;
+                continue;
+            }
+            renumbered[document] = live;
+            taskIds[live] = taskIds[document];
+            projects[live] = projects[document];
+            statuses[live] = statuses[document];
+            lengths[live] = lengths[document];
+            documents.put(taskIds[live], live);
+            live++;
+        }
+        Arrays.fill(taskIds, live, size, null);
+        Arrays.fill(statuses, live, size, null);
+        size = live;
+        tombstones = 0;
+        words.values().removeIf(postings -> postings.renumber(renumbered) == 0);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= taskIds.length) {
+            return;
+        }
+        int grown = Math.max(capacity, taskIds.length * 2);
+        taskIds = Arrays.copyOf(taskIds, grown);
+        projects = Arrays.copyOf(projects, grown);
+        statuses = Arrays.copyOf(statuses, grown);
+        lengths = Arrays.copyOf(lengths, grown);
+    }
+
+    /**
+     * The documents containing one word, ascending, with the weighted number of times it occurs in each.
+     */
+    private static final class Postings {
+        private int[] documents;
+        private int[] frequencies;
+        private int size;
+
+        Postings() {
+            this(2);
+        }
+
+        Postings(int capacity) {
+            documents = new int[Math.max(capacity, 1)];
+            frequencies = new int[documents.length];
+        }
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        /**
+         * Returns the first position at or after from whose document is not below the given one. Gallops ahead
+         * before searching, so walking a long list in steps costs about the log of each step.
+         */
+        int advance(int from, int document) {
+            if (from >= size || documents[from] >= document) {
+                return from;
+            }
+            int low = from;
+            int step = 1;
+            int high = from + step;
+            while (high < size && documents[high] < document) {
+                low = high;
+                step <<= 1;
+                high = from + step;
+            }
+            int index = Arrays.binarySearch(documents, low + 1, Math.min(high, size), document);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[documents[i]];
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+
+    private static final class Cursor {
+        private final Postings postings;
+        private final float idf;
+        // Precomputed scores of a merged prefix, in place of the idf
+        private final float[] scores;
+        private int position;
+
+        Cursor(Postings postings, float idf, float[] scores) {
+            this.postings = postings;
+            this.idf = idf;
+            this.scores = scores;
+        }
+    }
+
+    private record Hit(int document, float score) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.taskmanager.adapters.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.entities.UserRole;
+import com.taskmanager.usecases.ports.AccessTokenIssuer;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * AccessTokenService issues and checks stateless access tokens signed with HMAC-SHA256.
+ * It belongs to the 'Frameworks & Drivers' layer in Clean Architecture.
+ *
+ * Tokens are compact JWS (JWT) strings whose header names the signing key and whose claims carry the user id,
+ * role and expiry, so checking one needs a MAC over a few hundred bytes and no lookup of the user. Several keys
+ * can be configured at once: tokens are signed with the one named as signing key and accepted under any of them.
+ * A key is rotated by adding its successor, making that the signing key, and removing the old one once the
+ * tokens it signed have expired. Only the exact headers this service writes are recognized, which keeps other
+ * algorithms, including "none", from ever being accepted.
+ */
+public class AccessTokenService implements AccessTokenIssuer {
+    static final String ALGORITHM = "HmacSHA256";
+    static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, SigningKey> keysByHeader = new HashMap<>();
+    private final SigningKey signingKey;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    /**
+     * The authenticated subject of a valid token.
+     */
+    public record Claims(String userId, UserRole role, Instant expiresAt) {
+    }
+
+    private record SigningKey(String header, Mac prototype) {
+    }
+
+    /**
+     * @param keys secret of each key by key id, at least 32 bytes each
+     * @param signingKeyId id of the key new tokens are signed with
+     */
+    public AccessTokenService(Map<String, byte[]> keys, String signingKeyId, ObjectMapper objectMapper, Clock clock) {
+        if (!keys.containsKey(signingKeyId)) {
+            throw new IllegalArgumentException("Signing key " + signingKeyId + " is not among the configured keys " + keys.keySet());
+        }
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        keys.forEach((id, secret) -> {
+            SigningKey key = signingKey(id, secret);
+            keysByHeader.put(key.header(), key);
+        });
+        this.signingKey = keysByHeader.get(header(signingKeyId));
+    }
+
+    @Override
+    public String issue(String userId, UserRole role, Instant expiresAt) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", userId);
+        claims.put("role", role.name());
+        claims.put("iat", clock.instant().getEpochSecond());
+        claims.put("exp", expiresAt.getEpochSecond());
+        String signed = signingKey.header() + "." + ENCODER.encodeToString(json(claims));
+        return signed + "." + ENCODER.encodeToString(sign(signingKey, signed));
+    }
+
+    /**
+     * Returns the claims of the token if it was signed with one of the keys and has not expired.
+     */
+    public Optional<Claims> verify(String token) {
+        int headerEnd = token.indexOf('.');
+        int claimsEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd < 0 || claimsEnd < 0) {
+            return Optional.empty();
+        }
+        SigningKey key = keysByHeader.get(token.substring(0, headerEnd));
+        if (key == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] signature = DECODER.decode(token.substring(claimsEnd + 1));
+            if (!MessageDigest.isEqual(signature, sign(key, token.substring(0, claimsEnd)))) {
+                return Optional.empty();
+            }
+            JsonNode claims = objectMapper.readTree(DECODER.decode(token.substring(headerEnd + 1, claimsEnd)));
+            Instant expiresAt = Instant.ofEpochSecond(claims.path("exp").asLong());
+            if (!clock.instant().isBefore(expiresAt)) {
+                return Optional.empty();
+            }
+            return Optional.of(new Claims(claims.path("sub").asText(), UserRole.valueOf(claims.path("role").asText()),
+                    expiresAt));
+        } catch (IllegalArgumentException | IOException e) {
+            // Not Base64, not JSON or an unknown role: a token this service never signed
+            return Optional.empty();
+        }
+    }
+
+    private static SigningKey signingKey(String id, byte[] secret) {
+        if (secret.length < MIN_KEY_BYTES) {
+            throw new IllegalArgumentException("Key " + id + " has " + secret.length + " bytes, at least "
+                    + MIN_KEY_BYTES + " are required");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return new SigningKey(header(id), mac);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot create " + ALGORITHM + " for key " + id, e);
+        }
+    }
+
+    private static String header(String keyId) {
+        String json = "{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + keyId.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] sign(SigningKey key, String signed) {
+        Mac mac;
+        try {
+            // Cloning skips the provider lookup and key setup of a new Mac; a Mac is not safe to share between threads
+            mac = (Mac) key.prototype().clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " cannot be cloned", e);
+        }
+        return mac.doFinal(signed.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private byte[] json(Map<String, Object> claims) {
+        try {
+            return objectMapper.writeValueAsBytes(claims);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
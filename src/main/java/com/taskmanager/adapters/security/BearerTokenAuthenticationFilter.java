@@ -0,0 +1,65 @@
+package com.taskmanager.adapters.security;
+
+import com.taskmanager.entities.UserRole;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Authenticates requests that carry an "Authorization: Bearer" token issued by AccessTokenService.
+ * The user and role are taken from the token itself, so no user is loaded and no password hash is checked.
+ * A request with a token that is forged, malformed or expired is rejected with 401 straight away; requests
+ * without one pass through to the other authentication mechanisms.
+ */
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER = "Bearer ";
+
+    private final AccessTokenService accessTokens;
+    private final Map<UserRole, List<GrantedAuthority>> authorities = new EnumMap<>(UserRole.class);
+
+    public BearerTokenAuthenticationFilter(AccessTokenService accessTokens) {
+        this.accessTokens = accessTokens;
+        for (UserRole role : UserRole.values()) {
+            authorities.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AccessTokenService.Claims> claims = accessTokens.verify(authorization.substring(BEARER.length()).trim());
+        if (claims.isEmpty()) {
+            SecurityContextHolder.clearContext();
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            // Not sendError: the error dispatch would run the chain again and answer with the Basic challenge
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                claims.get().userId(), null, authorities.get(claims.get().role())));
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+}
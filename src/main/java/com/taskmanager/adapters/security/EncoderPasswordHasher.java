@@ -0,0 +1,35 @@
+package com.taskmanager.adapters.security;
+
+import com.taskmanager.usecases.ports.PasswordHasher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.UUID;
+
+/**
+ * EncoderPasswordHasher implements the PasswordHasher output port with a Spring Security PasswordEncoder.
+ * It belongs to the 'Frameworks & Drivers' layer in Clean Architecture.
+ */
+public class EncoderPasswordHasher implements PasswordHasher {
+    private final PasswordEncoder passwordEncoder;
+    // Compared against when there is no stored hash, so that check costs as much as a real one
+    private final String unknownUserHash;
+
+    public EncoderPasswordHasher(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        this.unknownUserHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String passwordHash) {
+        if (passwordHash == null) {
+            passwordEncoder.matches(rawPassword, unknownUserHash);
+            return false;
+        }
+        return passwordEncoder.matches(rawPassword, passwordHash);
+    }
+}
@@ -0,0 +1,186 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits at most one borrower per pooled connection and makes everyone else wait in a bounded, fair queue.
+ *
+ * With a thread per request, Tomcat's worker pool caps how many callers can reach the connection pool.
+ * Virtual threads remove that cap, so thousands of requests would otherwise pile up inside the pool's
+ * own hand-off and time out there together. Here the excess waits on a semaphore instead, which parks
+ * a virtual thread without pinning it; once the queue is full, or a caller has waited for the acquire
+ * timeout, getConnection fails fast with a SQLTransientConnectionException and the request is shed.
+ *
+ * datasource.admission.active and datasource.admission.waiting report the permits in use and the queue
+ * length, datasource.admission.rejected counts shed callers tagged with the reason. Every meter is tagged
+ * with the pool, so the pools behind a ReplicaRoutingDataSource each report their own.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+    static final String ACTIVE_METRIC = "datasource.admission.active";
+    static final String WAITING_METRIC = "datasource.admission.waiting";
+    static final String REJECTED_METRIC = "datasource.admission.rejected";
+
+    private final int maxConnections;
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    /**
+     * @param pool name of the pool in the meters' pool tag
+     * @param maxConnections connections handed out at once, normally the pool's maximum size
+     * @param maxWaiting callers allowed to queue for a connection before new ones are rejected
+     * @param acquireTimeout how long a queued caller waits before giving up
+     */
+    public AdmissionControlledDataSource(DataSource target, String pool, int maxConnections, int maxWaiting,
+                                         Duration acquireTimeout, MeterRegistry meterRegistry) {
+        super(target);
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be at least 1");
+        }
+        this.maxConnections = maxConnections;
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxWaiting = Math.max(0, maxWaiting);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        Gauge.builder(ACTIVE_METRIC, this, AdmissionControlledDataSource::getActiveConnections)
+                .description("Connections handed out through the admission limiter")
+                .tag("pool", pool)
+                .register(meterRegistry);
+        Gauge.builder(WAITING_METRIC, waiting, AtomicInteger::get)
+                .description("Callers queued for a connection")
+                .tag("pool", pool)
+                .register(meterRegistry);
+        this.queueFull = rejectedCounter(meterRegistry, pool, "queue-full");
+        this.timedOut = rejectedCounter(meterRegistry, pool, "timeout");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getActiveConnections() {
+        return maxConnections - permits.availablePermits();
+    }
+
+    public int getWaitingCallers() {
+        return waiting.get();
+    }
+
+    private void acquire() throws SQLException {
+        // The timed variant honours fairness; a plain tryAcquire() would barge past queued callers
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                queueFull.increment();
+                throw new SQLTransientConnectionException("Connection queue is full (" + maxWaiting + " callers waiting)");
+            }
+            try {
+                if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    timedOut.increment();
+                    throw new SQLTransientConnectionException("No connection available within "
+                            + Duration.ofNanos(acquireTimeoutNanos).toMillis() + "ms");
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection releaseOnClose(Connection target) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new PermitReleasingHandler(target));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder(REJECTED_METRIC)
+                .description("Callers refused a connection by the admission limiter")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hands the permit back on the first close; closing twice must not let an extra caller in.
+     */
+    private class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Admission-controlled proxy for " + target;
+                case "getTargetConnection":
+                    return target;
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports virtual threads that blocked while pinned to their carrier, typically inside a synchronized
+ * block or a native frame of a JDBC driver or repository adapter.
+ *
+ * Listens to the JFR jdk.VirtualThreadPinned event in process and attributes each one to the innermost
+ * application frame on its stack. Every site is counted in virtualthreads.pinned, logged with its stack
+ * the first time it shows up, and listed with count and longest pin at /actuator/pinning; a DELETE
+ * clears the list. The event only exists on JDK 21 and later; on older runtimes the monitor stays idle.
+ */
+@Endpoint(id = "pinning")
+public class PinnedThreadMonitor implements Closeable {
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_METRIC = "virtualthreads.pinned";
+    static final String OUTSIDE_APPLICATION = "outside application code";
+    private static final String APPLICATION_PACKAGE = "com.taskmanager.";
+    private static final int REPORTED_FRAMES = 16;
+    private static final Logger logger = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, PinnedSite> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    /**
+     * @param threshold pins shorter than this are not recorded
+     */
+    public PinnedThreadMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        if (Runtime.version().feature() < 21) {
+            logger.warn("Pinned virtual thread monitoring needs JDK 21 or later, running on {}", Runtime.version());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onEvent);
+        stream.startAsync();
+    }
+
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("monitoring", isRunning());
+        result.put("threshold", threshold.toString());
+        List<Map<String, Object>> reported = new ArrayList<>();
+        sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, PinnedSite> entry) -> entry.getValue().count.sum()).reversed())
+                .forEach(entry -> {
+                    Map<String, Object> site = new LinkedHashMap<>();
+                    site.put("site", entry.getKey());
+                    site.put("count", entry.getValue().count.sum());
+                    site.put("maxDuration", Duration.ofNanos(entry.getValue().maxNanos.get()).toString());
+                    site.put("stackTrace", entry.getValue().stackTrace);
+                    reported.add(site);
+                });
+        result.put("sites", reported);
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sites.clear();
+    }
+
+    private void onEvent(RecordedEvent event) {
+        List<String> frames = new ArrayList<>();
+        if (event.getStackTrace() != null) {
+            for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                if (frame.isJavaFrame()) {
+                    frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber());
+                }
+            }
+        }
+        record(frames, event.getDuration());
+    }
+
+    /**
+     * Records one pin; frames are innermost first, formatted as class.method:line.
+     */
+    void record(List<String> frames, Duration duration) {
+        String site = siteOf(frames);
+        PinnedSite pinnedSite = sites.computeIfAbsent(site, key -> {
+            List<String> stackTrace = List.copyOf(frames.subList(0, Math.min(frames.size(), REPORTED_FRAMES)));
+            logger.warn("Virtual thread pinned for {} at {}:\n\t{}", duration, key, String.join("\n\t", stackTrace));
+            return new PinnedSite(stackTrace);
+        });
+        pinnedSite.count.increment();
+        pinnedSite.maxNanos.accumulateAndGet(duration.toNanos(), Math::max);
+        Counter.builder(PINNED_METRIC)
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .tag("site", site)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String siteOf(List<String> frames) {
+        for (String frame : frames) {
+            if (frame.startsWith(APPLICATION_PACKAGE)) {
+                int line = frame.lastIndexOf(':');
+                return line < 0 ? frame : frame.substring(0, line);
+            }
+        }
+        return OUTSIDE_APPLICATION;
+    }
+
+    private static class PinnedSite {
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final List<String> stackTrace;
+
+        PinnedSite(List<String> stackTrace) {
+            this.stackTrace = stackTrace;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.CacheStoreMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Support for the replicas profile: the primary from spring.datasource.* and the read replicas behind one
+ * routing DataSource, plus the interceptor that UseCaseConfig puts in front of the use cases to route them
+ * and the hook that keeps replica reads out of the Hibernate caches.
+ * Every pool takes its settings from spring.datasource.hikari.*.
+ */
+@Configuration
+@Profile("replicas")
+public class ReplicaConfig {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaConfig.class);
+
+    /**
+     * With initialize set, each replica is filled from the primary's schema and data scripts at startup,
+     * which lets a second in-memory H2 database stand in for a replica locally.
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties, Environment environment,
+                                               ResourceLoader resourceLoader, MeterRegistry meterRegistry,
+                                               @Value("${taskmanager.datasource.replicas.urls}") List<String> urls,
+                                               @Value("${taskmanager.datasource.replicas.initialize:false}") boolean initialize,
+                                               @Value("${taskmanager.datasource.replicas.health-check-interval:5s}") Duration healthCheckInterval,
+                                               @Value("${spring.sql.init.schema-locations:classpath:schema.sql}") List<String> schemaLocations,
+                                               @Value("${spring.sql.init.data-locations:classpath:data.sql}") List<String> dataLocations) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary", environment);
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = pool(properties, urls.get(i), "replica-" + i, environment);
+            if (initialize) {
+                ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+                schemaLocations.forEach(location -> populator.addScript(resourceLoader.getResource(location)));
+                dataLocations.forEach(location -> populator.addScript(resourceLoader.getResource(location)));
+                populator.execute(replica);
+            }
+            replicas.add(replica);
+        }
+        logger.info("Routing reads of replica-enabled use cases to {} read replicas", replicas.size());
+        return new ReplicaRoutingDataSource(primary, replicas, healthCheckInterval, meterRegistry);
+    }
+
+    /**
+     * @param stickiness how long a user's reads stay on the primary after their own write
+     */
+    @Bean
+    public ReplicaRoutingInterceptor replicaRoutingInterceptor(
+            @Value("${taskmanager.datasource.replicas.stickiness:5s}") Duration stickiness,
+            @Value("${taskmanager.datasource.replicas.sticky-users:100000}") long maximumUsers) {
+        return new ReplicaRoutingInterceptor(stickiness, maximumUsers);
+    }
+
+    /**
+     * Sessions of reads routed to a replica use the second-level and query caches but never fill them: what they
+     * load may lag behind the primary, and a cached copy would be served to every later caller, the writer included.
+     */
+    @Bean
+    public TransactionManagerCustomizer<JpaTransactionManager> replicaReadsDoNotFillSharedCaches() {
+        return transactionManager -> transactionManager.setEntityManagerInitializer(entityManager -> {
+            if (ReplicaRoutingDataSource.isReplicaPreferred()) {
+                entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+            }
+        });
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String url, String name, Environment environment) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        return pool;
+    }
+}
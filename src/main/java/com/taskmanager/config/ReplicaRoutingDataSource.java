@@ -0,0 +1,195 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Hands out connections to the primary database unless the current thread asked to read from a replica.
+ *
+ * The choice is made per use case rather than per statement: ReplicaRoutingInterceptor marks the thread before
+ * the use case's read-only transaction opens, and the connection taken for that transaction serves every query
+ * of the call. Replicas are picked round robin. A background check validates each replica once per interval;
+ * one that fails the check, or fails to hand out a connection, is skipped until it passes again, and with no
+ * healthy replica left the reads go to the primary. A replica that only has no connection to spare, its pool or
+ * admission limiter timing out or turning the caller away, stays in rotation and the read tries the next one.
+ *
+ * datasource.replicas.healthy reports the replicas in rotation, datasource.replicas.fallbacks counts the reads
+ * that wanted a replica and got the primary.
+ */
+public class ReplicaRoutingDataSource extends DelegatingDataSource implements Closeable {
+    static final String HEALTHY_METRIC = "datasource.replicas.healthy";
+    static final String FALLBACKS_METRIC = "datasource.replicas.fallbacks";
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final ThreadLocal<Boolean> replicaPreferred = ThreadLocal.withInitial(() -> false);
+
+    private final DataSource primaryPool;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+    private final ScheduledExecutorService healthChecks;
+
+    /**
+     * @param healthCheckInterval how often each replica is validated
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration healthCheckInterval,
+                                    MeterRegistry meterRegistry) {
+        super(primary);
+        this.primaryPool = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + i, replicas.get(i)));
+        }
+        Gauge.builder(HEALTHY_METRIC, this, ReplicaRoutingDataSource::countHealthy)
+                .description("Read replicas in rotation")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder(FALLBACKS_METRIC)
+                .description("Replica reads served by the primary because no replica was healthy")
+                .register(meterRegistry);
+        this.healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecks.scheduleWithFixedDelay(this::checkHealth, healthCheckInterval.toMillis(),
+                healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets whether connections taken by the current thread should come from a replica and returns the previous
+     * setting, so that callers can restore it.
+     */
+    public static boolean preferReplica(boolean preferred) {
+        boolean previous = replicaPreferred.get();
+        replicaPreferred.set(preferred);
+        return previous;
+    }
+
+    /**
+     * Whether connections taken by the current thread should come from a replica.
+     */
+    public static boolean isReplicaPreferred() {
+        return replicaPreferred.get();
+    }
+
+    /**
+     * Puts a wrapper, such as an admission limiter, in front of the primary and of each replica, given the name
+     * of the pool ("primary", "replica-0", ...). Health checks and close still go to the pools themselves.
+     */
+    public void wrapPools(BiFunction<String, DataSource, DataSource> wrapper) {
+        setTargetDataSource(wrapper.apply("primary", primaryPool));
+        replicas.forEach(replica -> replica.dataSource = wrapper.apply(replica.name, replica.pool));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicaPreferred.get() && !replicas.isEmpty()) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLTransientConnectionException e) {
+                    logger.debug("Read replica {} has no connection to spare: {}", replica.name, e.getMessage());
+                } catch (SQLException e) {
+                    markDown(replica, e);
+                }
+            }
+            fallbacks.increment();
+        }
+        return obtainTargetDataSource().getConnection();
+    }
+
+    /**
+     * Explicit credentials belong to the primary; the replicas only know the credentials of their own pools.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return obtainTargetDataSource().getConnection(username, password);
+    }
+
+    public int countHealthy() {
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    /**
+     * Validates every replica once; runs on the health check thread and can be called directly.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!connection.isValid(1)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                if (!replica.healthy) {
+                    logger.info("Read replica {} is healthy again and back in rotation", replica.name);
+                    replica.healthy = true;
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecks.shutdownNow();
+        closeQuietly(primaryPool);
+        replicas.forEach(replica -> closeQuietly(replica.pool));
+    }
+
+    private static void markDown(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            logger.warn("Read replica {} failed and is out of rotation: {}", replica.name, cause.getMessage());
+            replica.healthy = false;
+        }
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.debug("Failed to close data source: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource pool;
+        private volatile DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(String name, DataSource pool) {
+            this.name = name;
+            this.pool = pool;
+            this.dataSource = pool;
+        }
+    }
+}
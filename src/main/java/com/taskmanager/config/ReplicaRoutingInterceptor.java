@@ -0,0 +1,84 @@
+package com.taskmanager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Decides where one use case's execute calls read from, for ReplicaRoutingDataSource.
+ *
+ * A read interceptor sends the call to a replica unless its user committed a write within the stickiness
+ * window, so users always see their own changes even while the replicas lag behind; the window should be longer
+ * than the replicas' usual lag. A write interceptor leaves the routing alone and records the user once the call
+ * has committed. Both kinds made by one instance share the record of recent writers. Calls without an
+ * authenticated user carry no stickiness.
+ */
+public class ReplicaRoutingInterceptor implements MethodInterceptor {
+    private static final String EXECUTE = "execute";
+
+    private final Cache<String, Boolean> recentWriters;
+    private final boolean reads;
+
+    /**
+     * @param stickiness how long a user's reads stay on the primary after a write of theirs
+     * @param maximumUsers how many recent writers are remembered at most
+     */
+    public ReplicaRoutingInterceptor(Duration stickiness, long maximumUsers) {
+        this(Caffeine.newBuilder().expireAfterWrite(stickiness).maximumSize(maximumUsers).build(), false);
+    }
+
+    private ReplicaRoutingInterceptor(Cache<String, Boolean> recentWriters, boolean reads) {
+        this.recentWriters = recentWriters;
+        this.reads = reads;
+    }
+
+    /**
+     * An interceptor for a read-only use case that may be served by a replica.
+     */
+    public ReplicaRoutingInterceptor forReads() {
+        return new ReplicaRoutingInterceptor(recentWriters, true);
+    }
+
+    /**
+     * An interceptor for a use case that writes; this instance itself.
+     */
+    public ReplicaRoutingInterceptor forWrites() {
+        return reads ? new ReplicaRoutingInterceptor(recentWriters, false) : this;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!invocation.getMethod().getName().equals(EXECUTE)) {
+            return invocation.proceed();
+        }
+        String user = currentUser();
+        if (!reads) {
+            Object result = invocation.proceed();
+            if (user != null) {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+            return result;
+        }
+        boolean replica = user == null || recentWriters.getIfPresent(user) == null;
+        boolean previous = ReplicaRoutingDataSource.preferReplica(replica);
+        try {
+            return invocation.proceed();
+        } finally {
+            ReplicaRoutingDataSource.preferReplica(previous);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
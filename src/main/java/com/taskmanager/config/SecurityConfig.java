@@ -1,9 +1,22 @@
 package com.taskmanager.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.adapters.security.AccessTokenService;
+import com.taskmanager.adapters.security.BearerTokenAuthenticationFilter;
+import com.taskmanager.adapters.security.EncoderPasswordHasher;
+import com.taskmanager.usecases.ports.PasswordHasher;
+import jakarta.servlet.DispatcherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -11,22 +24,41 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
-    
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
+    /**
+     * Requests authenticate with a bearer token from /api/users/login, checked by its signature alone.
+     * HTTP Basic stays available, but it runs the password hash on every request.
+     * Actuator endpoints other than health expose internals or change them, so they are for admins only.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AccessTokenService accessTokenService) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // The error dispatch is not re-authenticated; without this a denied request would answer 401, not 403
+                .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
                 .requestMatchers("/api/users/register", "/api/users/login").permitAll()
                 .requestMatchers("/api/projects/**").hasAnyRole("USER", "PROJECT_MANAGER", "ADMIN")
                 .requestMatchers("/api/tasks/**").hasAnyRole("USER", "PROJECT_MANAGER", "ADMIN")
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
+            .addFilterBefore(new BearerTokenAuthenticationFilter(accessTokenService), BasicAuthenticationFilter.class)
             .httpBasic();
         return http.build();
     }
@@ -36,6 +68,32 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    @Bean
+    public PasswordHasher passwordHasher(PasswordEncoder passwordEncoder) {
+        return new EncoderPasswordHasher(passwordEncoder);
+    }
+
+    /**
+     * Signing keys come from taskmanager.auth.token.keys.&lt;id&gt;, Base64 secrets of at least 32 bytes.
+     * Without any, a random key is generated, and tokens are then valid on this instance until it restarts.
+     */
+    @Bean
+    public AccessTokenService accessTokenService(Environment environment, ObjectMapper objectMapper, Clock clock,
+                                                 @Value("${taskmanager.auth.token.signing-key:generated}") String signingKeyId) {
+        Map<String, byte[]> keys = new HashMap<>();
+        Binder.get(environment).bind("taskmanager.auth.token.keys", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of())
+                .forEach((id, secret) -> keys.put(id, Base64.getDecoder().decode(secret)));
+        if (keys.isEmpty()) {
+            logger.warn("No taskmanager.auth.token.keys configured; access tokens are signed with a generated key "
+                    + "and will not be accepted by other instances or after a restart");
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            keys.put(signingKeyId, secret);
+        }
+        return new AccessTokenService(keys, signingKeyId, objectMapper, clock);
+    }
+
     @Bean
     public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
         UserDetails user = User.withUsername("demo")
@@ -0,0 +1,75 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records latency, outcome and concurrency of one use case's execute calls.
+ *
+ * Every call lands in the usecase.execution timer, tagged with the use case, its outcome and the
+ * exception class when it failed, so the timer counts double as success and failure counters.
+ * The timer publishes a histogram for server-side quantiles plus p50/p95/p99 computed in process.
+ * usecase.active is the number of calls currently running.
+ *
+ * Meters are resolved once per use case and exception type, so a call only pays for a clock read
+ * on entry and exit, one histogram update and two atomic increments.
+ */
+public class UseCaseMetricsInterceptor implements MethodInterceptor {
+    static final String EXECUTION_METRIC = "usecase.execution";
+    static final String ACTIVE_METRIC = "usecase.active";
+    private static final String EXECUTE = "execute";
+
+    private final MeterRegistry meterRegistry;
+    private final String useCase;
+    private final Timer successTimer;
+    private final Map<Class<?>, Timer> failureTimers = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+
+    public UseCaseMetricsInterceptor(MeterRegistry meterRegistry, String useCase) {
+        this.meterRegistry = meterRegistry;
+        this.useCase = useCase;
+        this.successTimer = timer("SUCCESS", "none");
+        Gauge.builder(ACTIVE_METRIC, active, AtomicInteger::get)
+                .description("Use case calls in progress")
+                .tag("usecase", useCase)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!invocation.getMethod().getName().equals(EXECUTE)) {
+            return invocation.proceed();
+        }
+        active.incrementAndGet();
+        long start = meterRegistry.config().clock().monotonicTime();
+        Timer timer = successTimer;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            timer = failureTimers.computeIfAbsent(e.getClass(), type -> timer("ERROR", type.getSimpleName()));
+            throw e;
+        } finally {
+            timer.record(meterRegistry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+            active.decrementAndGet();
+        }
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return Timer.builder(EXECUTION_METRIC)
+                .description("Use case execute calls")
+                .tag("usecase", useCase)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
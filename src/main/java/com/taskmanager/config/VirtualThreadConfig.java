@@ -0,0 +1,85 @@
+package com.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Support for the virtual-threads profile: the connection admission limiter and the pinned thread monitor.
+ * Both are switched on by properties, so either can also be used with platform threads.
+ */
+@Configuration
+public class VirtualThreadConfig {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    public VirtualThreadConfig(Environment environment) {
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && Runtime.version().feature() < 21) {
+            logger.warn("spring.threads.virtual.enabled is set but virtual threads need JDK 21 or later; "
+                    + "requests are served on platform threads on {}", Runtime.version());
+        }
+    }
+
+    /**
+     * Wraps the DataSource in an AdmissionControlledDataSource. Unless max-connections is set, the limit
+     * is the Hikari pool's maximum size, so every admitted caller can get a connection without waiting.
+     * Behind a ReplicaRoutingDataSource each pool gets a limiter of its own, and max-connections applies per pool.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.datasource.admission.enabled", havingValue = "true")
+    public static BeanPostProcessor dataSourceAdmissionPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${taskmanager.datasource.admission.max-connections:0}") int maxConnections,
+            @Value("${taskmanager.datasource.admission.max-waiting:1000}") int maxWaiting,
+            @Value("${taskmanager.datasource.admission.acquire-timeout:5s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ReplicaRoutingDataSource routing) {
+                    routing.wrapPools(this::admit);
+                    return routing;
+                }
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) {
+                    return bean;
+                }
+                return admit(beanName, dataSource);
+            }
+
+            private DataSource admit(String name, DataSource dataSource) {
+                int limit = maxConnections > 0 ? maxConnections : poolSize(dataSource, name);
+                logger.info("Admitting {} concurrent connections from '{}', queueing up to {} callers for {}",
+                        limit, name, maxWaiting, acquireTimeout);
+                return new AdmissionControlledDataSource(dataSource, name, limit, maxWaiting, acquireTimeout,
+                        meterRegistry.getObject());
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "taskmanager.pinning.enabled", havingValue = "true")
+    public PinnedThreadMonitor pinnedThreadMonitor(MeterRegistry meterRegistry,
+                                                   @Value("${taskmanager.pinning.threshold:20ms}") Duration threshold) {
+        PinnedThreadMonitor monitor = new PinnedThreadMonitor(meterRegistry, threshold);
+        monitor.start();
+        return monitor;
+    }
+
+    private static int poolSize(DataSource dataSource, String beanName) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException("Cannot tell the pool size of DataSource '" + beanName
+                + "'; set taskmanager.datasource.admission.max-connections");
+    }
+}
@@ -1,9 +1,11 @@
 package com.taskmanager.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JavaType;
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Project entity representing the core business object for project management.
@@ -11,9 +13,12 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 public class Project {
     @Id
     @Column(name = "id")
+    @JavaType(UuidStringJavaType.class)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -23,6 +28,7 @@ public class Project {
     private String description;
 
     @Column(name = "owner_id", nullable = false)
+    @JavaType(UuidStringJavaType.class)
     private String ownerId;
 
     @Enumerated(EnumType.STRING)
@@ -44,7 +50,7 @@ public class Project {
     // Constructor for creating new projects
     public Project(String name, String description, String ownerId, 
                    LocalDateTime startDate, LocalDateTime endDate) {
-        this.id = UUID.randomUUID().toString();
+        this.id = TimeOrderedId.next();
         this.name = validateName(name);
         this.description = description;
         this.ownerId = validateOwnerId(ownerId);
@@ -179,8 +185,15 @@ public class Project {
      * Checks if the project is overdue
      */
     public boolean isOverdue() {
+        return isOverdue(LocalDateTime.now());
+    }
+
+    /**
+     * Checks if the project is overdue at the given time
+     */
+    public boolean isOverdue(LocalDateTime now) {
         return endDate != null && 
-               LocalDateTime.now().isAfter(endDate) && 
+               now.isAfter(endDate) && 
                status != ProjectStatus.COMPLETED && 
                status != ProjectStatus.CANCELLED;
     }
@@ -206,10 +219,17 @@ public class Project {
      * Calculates days remaining until project end
      */
     public long getDaysRemaining() {
+        return getDaysRemaining(LocalDateTime.now());
+    }
+
+    /**
+     * Calculates days remaining from the given time until project end
+     */
+    public long getDaysRemaining(LocalDateTime now) {
         if (endDate == null) {
             return Long.MAX_VALUE;
         }
-        return LocalDateTime.now().until(endDate, java.time.temporal.ChronoUnit.DAYS);
+        return now.until(endDate, java.time.temporal.ChronoUnit.DAYS);
     }
 
     /**
@@ -217,11 +237,17 @@ public class Project {
      * Based on time elapsed vs total duration
      */
     public double getTimeProgress() {
+        return getTimeProgress(LocalDateTime.now());
+    }
+
+    /**
+     * Calculates project progress at the given time as percentage (0-100)
+     */
+    public double getTimeProgress(LocalDateTime now) {
         if (startDate == null || endDate == null) {
             return 0.0;
         }
         
-        LocalDateTime now = LocalDateTime.now();
         if (now.isBefore(startDate)) {
             return 0.0;
         }
@@ -239,7 +265,15 @@ public class Project {
      * Checks if project is near deadline (within 7 days)
      */
     public boolean isNearDeadline() {
-        return getDaysRemaining() <= 7 && getDaysRemaining() > 0;
+        return isNearDeadline(LocalDateTime.now());
+    }
+
+    /**
+     * Checks if project is near deadline (within 7 days) at the given time
+     */
+    public boolean isNearDeadline(LocalDateTime now) {
+        long daysRemaining = getDaysRemaining(now);
+        return daysRemaining <= 7 && daysRemaining > 0;
     }
 
     // Validation methods
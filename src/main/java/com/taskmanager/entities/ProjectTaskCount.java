@@ -0,0 +1,88 @@
+package com.taskmanager.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JavaType;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Part of the number of tasks of a project with one status and priority, so the project dashboard reads its
+ * totals without counting the tasks. A count is the sum of its slots, which the task repository adds to as it
+ * writes tasks; a slot can go negative when its row took a removal and another took the matching addition.
+ */
+@Entity
+@Table(name = "project_task_counts")
+@IdClass(ProjectTaskCount.Key.class)
+public class ProjectTaskCount {
+    @Id
+    @Column(name = "project_id")
+    @JavaType(UuidStringJavaType.class)
+    private String projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private TaskStatus status;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority")
+    private TaskPriority priority;
+
+    @Id
+    @Column(name = "slot")
+    private int slot;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    // No-args constructor for JPA
+    public ProjectTaskCount() {
+        // Required by JPA
+    }
+
+    // Getters
+    public String getProjectId() { return projectId; }
+    public TaskStatus getStatus() { return status; }
+    public TaskPriority getPriority() { return priority; }
+    public int getSlot() { return slot; }
+    public long getTaskCount() { return taskCount; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProjectTaskCount that = (ProjectTaskCount) o;
+        return Objects.equals(projectId, that.projectId) && status == that.status && priority == that.priority
+                && slot == that.slot;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId, status, priority, slot);
+    }
+
+    public static class Key implements Serializable {
+        private String projectId;
+        private TaskStatus status;
+        private TaskPriority priority;
+        private int slot;
+
+        public Key() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return Objects.equals(projectId, that.projectId) && status == that.status && priority == that.priority
+                    && slot == that.slot;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectId, status, priority, slot);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanager.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JavaType;
+import java.util.Objects;
+
+/**
+ * Counter that goes up whenever a task of the project is created, changed or deleted,
+ * so a client that saw a task list can learn whether it is still current without reading it again.
+ * A project whose tasks have never been written has no row, which reads as version 0.
+ */
+@Entity
+@Table(name = "project_task_versions")
+public class ProjectTaskVersion {
+    @Id
+    @Column(name = "project_id")
+    @JavaType(UuidStringJavaType.class)
+    private String projectId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // No-args constructor for JPA
+    public ProjectTaskVersion() {
+        // Required by JPA
+    }
+
+    // Getters
+    public String getProjectId() { return projectId; }
+    public long getVersion() { return version; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProjectTaskVersion that = (ProjectTaskVersion) o;
+        return Objects.equals(projectId, that.projectId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId);
+    }
+}
@@ -1,9 +1,9 @@
 package com.taskmanager.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JavaType;
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Task entity representing the core business object for task management.
@@ -14,6 +14,7 @@ import java.util.UUID;
 public class Task {
     @Id
     @Column(name = "id")
+    @JavaType(UuidStringJavaType.class)
     private String id;
 
     @Column(name = "title", nullable = false)
@@ -34,9 +35,11 @@ public class Task {
     private TaskPriority priority;
 
     @Column(name = "assigned_user_id", nullable = false)
+    @JavaType(UuidStringJavaType.class)
     private String assignedUserId;
 
     @Column(name = "project_id", nullable = false)
+    @JavaType(UuidStringJavaType.class)
     private String projectId;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -48,7 +51,7 @@ public class Task {
     // Constructor for creating new tasks
     public Task(String title, String description, LocalDateTime dueDate, 
                 String assignedUserId, String projectId, TaskPriority priority) {
-        this.id = UUID.randomUUID().toString();
+        this.id = TimeOrderedId.next();
         this.title = validateTitle(title);
         this.description = description;
         this.dueDate = dueDate;
@@ -123,8 +126,16 @@ public class Task {
      * Checks if the task is overdue
      */
     public boolean isOverdue() {
+        return isOverdue(LocalDateTime.now());
+    }
+
+    /**
+     * Checks if the task is overdue at the given time; callers deriving several
+     * fields or tasks at once pass the same time to all of them
+     */
+    public boolean isOverdue(LocalDateTime now) {
         return dueDate != null && 
-               LocalDateTime.now().isAfter(dueDate) && 
+               now.isAfter(dueDate) && 
                status != TaskStatus.COMPLETED && 
                status != TaskStatus.CANCELLED;
     }
@@ -167,10 +178,17 @@ public class Task {
      * Calculates the number of days until due date
      */
     public long getDaysUntilDue() {
+        return getDaysUntilDue(LocalDateTime.now());
+    }
+
+    /**
+     * Calculates the number of days from the given time until due date
+     */
+    public long getDaysUntilDue(LocalDateTime now) {
         if (dueDate == null) {
             return Long.MAX_VALUE;
         }
-        return LocalDateTime.now().until(dueDate, java.time.temporal.ChronoUnit.DAYS);
+        return now.until(dueDate, java.time.temporal.ChronoUnit.DAYS);
     }
 
     /**
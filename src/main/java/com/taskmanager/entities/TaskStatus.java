@@ -39,4 +39,24 @@ public enum TaskStatus {
     public boolean isCancelled() {
         return this == CANCELLED;
     }
+
+    /**
+     * Checks if a task in this status may be moved to the target status.
+     * Mirrors the guards of Task.markAsCompleted, markAsInProgress and cancel. No Task method moves a
+     * task back to TODO, so TODO is only reachable from TODO itself.
+     */
+    public boolean canTransitionTo(TaskStatus target) {
+        switch (target) {
+            case COMPLETED:
+                return this != CANCELLED;
+            case CANCELLED:
+                return this != COMPLETED;
+            case IN_PROGRESS:
+                return isActive();
+            case TODO:
+                return this == TODO;
+            default:
+                return false;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.taskmanager.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JavaType;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Denormalized read model of a task that already carries the assignee's full name
+ * and the project name, so task reads don't need to join users and projects.
+ * It is written alongside every task change and never edited on its own.
+ */
+@Entity
+@Table(name = "task_view")
+public class TaskView {
+    @Id
+    @Column(name = "id")
+    @JavaType(UuidStringJavaType.class)
+    private String id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false)
+    private TaskPriority priority;
+
+    @Column(name = "assigned_user_id", nullable = false)
+    @JavaType(UuidStringJavaType.class)
+    private String assignedUserId;
+
+    @Column(name = "assigned_user_name", nullable = false)
+    private String assignedUserName;
+
+    @Column(name = "project_id", nullable = false)
+    @JavaType(UuidStringJavaType.class)
+    private String projectId;
+
+    @Column(name = "project_name", nullable = false)
+    private String projectName;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructor for projecting a task together with its resolved names
+    public TaskView(Task task, String assignedUserName, String projectName) {
+        this.id = task.getId();
+        this.title = task.getTitle();
+        this.description = task.getDescription();
+        this.dueDate = task.getDueDate();
+        this.status = task.getStatus();
+        this.priority = task.getPriority();
+        this.assignedUserId = task.getAssignedUserId();
+        this.assignedUserName = assignedUserName;
+        this.projectId = task.getProjectId();
+        this.projectName = projectName;
+        this.createdAt = task.getCreatedAt();
+        this.updatedAt = task.getUpdatedAt();
+    }
+
+    // No-args constructor for JPA
+    public TaskView() {
+        // Required by JPA
+    }
+
+    /**
+     * Checks if the task is overdue, using the same rule as {@link Task#isOverdue()}
+     */
+    public boolean isOverdue() {
+        return isOverdue(LocalDateTime.now());
+    }
+
+    /**
+     * Checks if the task is overdue at the given time, using the same rule as {@link Task#isOverdue(LocalDateTime)}
+     */
+    public boolean isOverdue(LocalDateTime now) {
+        return dueDate != null &&
+               now.isAfter(dueDate) &&
+               status != TaskStatus.COMPLETED &&
+               status != TaskStatus.CANCELLED;
+    }
+
+    /**
+     * Calculates the number of days until due date, using the same rule as {@link Task#getDaysUntilDue()}
+     */
+    public long getDaysUntilDue() {
+        return getDaysUntilDue(LocalDateTime.now());
+    }
+
+    /**
+     * Calculates the number of days from the given time until due date
+     */
+    public long getDaysUntilDue(LocalDateTime now) {
+        if (dueDate == null) {
+            return Long.MAX_VALUE;
+        }
+        return now.until(dueDate, java.time.temporal.ChronoUnit.DAYS);
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public LocalDateTime getDueDate() { return dueDate; }
+    public TaskStatus getStatus() { return status; }
+    public TaskPriority getPriority() { return priority; }
+    public String getAssignedUserId() { return assignedUserId; }
+    public String getAssignedUserName() { return assignedUserName; }
+    public String getProjectId() { return projectId; }
+    public String getProjectName() { return projectName; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskView taskView = (TaskView) o;
+        return Objects.equals(id, taskView.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskView{" +
+                "id='" + id + '\'' +
+                ", title='" + title + '\'' +
+                ", status=" + status +
+                ", assignedUserName='" + assignedUserName + '\'' +
+                ", projectName='" + projectName + '\'' +
+                '}';
+    }
+}
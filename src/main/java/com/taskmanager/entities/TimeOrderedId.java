@@ -0,0 +1,38 @@
+package com.taskmanager.entities;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates entity identifiers as version 7 UUIDs (RFC 9562): a 48-bit Unix millisecond timestamp,
+ * a 12-bit sequence within that millisecond, and 62 random bits.
+ *
+ * Identifiers from one JVM are strictly increasing, so new rows are appended at the right edge of
+ * the primary key index instead of splitting pages all over it. The random part comes from
+ * ThreadLocalRandom rather than the SecureRandom behind UUID.randomUUID(), which serializes callers;
+ * identifiers are not secrets, they already expose their creation time.
+ */
+public final class TimeOrderedId {
+    private static final int SEQUENCE_BITS = 12;
+    // Last issued (millisecond << SEQUENCE_BITS | sequence); a sequence overflow borrows the next millisecond
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private TimeOrderedId() {
+    }
+
+    /**
+     * Returns a new identifier in the canonical 36-character form used throughout the API.
+     */
+    public static String next() {
+        return nextUuid().toString();
+    }
+
+    public static UUID nextUuid() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long stamp = LAST_STAMP.updateAndGet(last -> Math.max(last + 1, now));
+        long mostSignificant = (stamp >>> SEQUENCE_BITS) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long leastSignificant = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -1,9 +1,12 @@
 package com.taskmanager.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JavaType;
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
 /**
@@ -12,9 +15,12 @@ import java.util.regex.Pattern;
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
     @Id
     @Column(name = "id")
+    @JavaType(UuidStringJavaType.class)
     private String id;
 
     @Column(name = "email", nullable = false, unique = true)
@@ -43,7 +49,9 @@ public class User {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    @Column(name = "last_login_at", nullable = true)
+    // Written by the login recorder in coalesced batches, never by saving the entity,
+    // so saving a copy loaded before a login cannot move it back
+    @Column(name = "last_login_at", nullable = true, updatable = false)
     private LocalDateTime lastLoginAt;
 
     // Email validation pattern
@@ -52,7 +60,7 @@ public class User {
 
     // Constructor for creating new users
     public User(String email, String firstName, String lastName, String password, UserRole role) {
-        this.id = UUID.randomUUID().toString();
+        this.id = TimeOrderedId.next();
         this.email = validateEmail(email);
         this.firstName = validateName(firstName, "First name");
         this.lastName = validateName(lastName, "Last name");
@@ -101,17 +109,24 @@ public class User {
     }
 
     /**
-     * Changes user password
+     * Changes user password, validating the plain text and storing only its hash
      */
-    public void changePassword(String newPassword) {
+    public void changePassword(String newPassword, UnaryOperator<String> hasher) {
         if (this.status == UserStatus.DELETED) {
             throw new IllegalStateException("Cannot change password of deleted user");
         }
         
-        this.password = validatePassword(newPassword);
+        this.password = hasher.apply(validatePassword(newPassword));
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Replaces the password, validated when it was set, with its hash so the plain text is never stored
+     */
+    public void hashPassword(UnaryOperator<String> hasher) {
+        this.password = hasher.apply(this.password);
+    }
+
     /**
      * Deactivates the user account
      */
@@ -144,17 +159,6 @@ public class User {
         this.updatedAt = LocalDateTime.now();
     }
 
-    /**
-     * Updates last login timestamp
-     */
-    public void updateLastLogin() {
-        if (this.status != UserStatus.ACTIVE) {
-            throw new IllegalStateException("Only active users can login");
-        }
-        
-        this.lastLoginAt = LocalDateTime.now();
-    }
-
     /**
      * Checks if user can be assigned tasks
      */
@@ -232,7 +236,6 @@ public class User {
             throw new IllegalArgumentException("Password must contain at least one uppercase letter, " +
                 "one lowercase letter, one number, and one special character");
         }
-        // TODO: Use PasswordEncoder bean for hashing in service layer
         return password;
     }
 
@@ -0,0 +1,75 @@
+package com.taskmanager.entities;
+
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Maps identifier attributes, which the domain and the API handle as canonical UUID strings,
+ * to native 16-byte UUID columns. Unlike an AttributeConverter it also applies to @Id attributes.
+ *
+ * A string that is not a UUID, such as a mistyped id in a request path, is bound as a name-based
+ * (version 3) UUID. No stored key has that version, so looking it up finds nothing instead of failing.
+ */
+public class UuidStringJavaType extends AbstractClassJavaType<String> {
+
+    public UuidStringJavaType() {
+        super(String.class);
+    }
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+        return indicators.getJdbcType(SqlTypes.UUID);
+    }
+
+    @Override
+    public String toString(String value) {
+        return value;
+    }
+
+    @Override
+    public String fromString(CharSequence string) {
+        return string == null ? null : string.toString();
+    }
+
+    @Override
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (UUID.class.isAssignableFrom(type)) {
+            return type.cast(toUuid(value));
+        }
+        if (String.class.isAssignableFrom(type)) {
+            return type.cast(value);
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        if (value instanceof String string) {
+            return string;
+        }
+        throw unknownWrap(value.getClass());
+    }
+
+    private static UUID toUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for creating many tasks in one call.
+ * Every distinct assignee and project is looked up once for the whole request, and all accepted
+ * tasks are inserted together. Invalid items are reported by position instead of failing the request.
+ */
+public class BulkCreateTasksUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(BulkCreateTasksUseCase.class);
+    static final int MAX_ITEMS = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskViewRepository taskViewRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final Validator validator;
+    private final Clock clock;
+    private final TaskEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEvents;
+
+    public BulkCreateTasksUseCase(TaskRepository taskRepository, TaskViewRepository taskViewRepository,
+                                  UserRepository userRepository, ProjectRepository projectRepository,
+                                  Validator validator, Clock clock, TaskEventPublisher eventPublisher,
+                                  DomainEventOutbox domainEvents) {
+        this.taskRepository = taskRepository;
+        this.taskViewRepository = taskViewRepository;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.validator = validator;
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+        this.domainEvents = domainEvents;
+    }
+
+    public BulkCreateTasksOutputData execute(List<CreateTaskInputData> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessRuleViolationException("At least one task is required");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new BusinessRuleViolationException("Cannot create more than " + MAX_ITEMS + " tasks at once: " + items.size());
+        }
+        logger.info("Creating {} tasks in bulk", items.size());
+
+        List<BulkItemErrorData> errors = new ArrayList<>();
+        List<CreateTaskInputData> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            String violations = violations(items.get(i));
+            if (violations != null) {
+                errors.add(new BulkItemErrorData(i, violations));
+            } else {
+                accepted.add(items.get(i));
+                acceptedIndexes.add(i);
+            }
+        }
+
+        Map<String, User> users = userRepository.findByIds(accepted.stream()
+                .map(CreateTaskInputData::getAssignedUserId).collect(Collectors.toSet()));
+        Map<String, Project> projects = projectRepository.findByIds(accepted.stream()
+                .map(CreateTaskInputData::getProjectId).collect(Collectors.toSet()));
+
+        List<Task> tasks = new ArrayList<>();
+        List<TaskView> views = new ArrayList<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            CreateTaskInputData inputData = accepted.get(i);
+            User assignedUser = users.get(inputData.getAssignedUserId());
+            Project project = projects.get(inputData.getProjectId());
+            int index = acceptedIndexes.get(i);
+            if (assignedUser == null) {
+                errors.add(new BulkItemErrorData(index, "User not found: " + inputData.getAssignedUserId()));
+                continue;
+            }
+            if (project == null) {
+                errors.add(new BulkItemErrorData(index, "Project not found: " + inputData.getProjectId()));
+                continue;
+            }
+            if (!project.getStatus().canAcceptTasks()) {
+                errors.add(new BulkItemErrorData(index, "Cannot create tasks in project status: " + project.getStatus()));
+                continue;
+            }
+
+            Task task;
+            try {
+                task = new Task(
+                    inputData.getTitle(),
+                    inputData.getDescription(),
+                    inputData.getDueDate(),
+                    inputData.getAssignedUserId(),
+                    inputData.getProjectId(),
+                    inputData.getPriority()
+                );
+            } catch (IllegalArgumentException e) {
+                errors.add(new BulkItemErrorData(index, e.getMessage()));
+                continue;
+            }
+            tasks.add(task);
+            views.add(new TaskView(task, assignedUser.getFullName(), project.getName()));
+        }
+
+        taskRepository.insertAll(tasks);
+        taskViewRepository.insertAll(views);
+        if (!tasks.isEmpty()) {
+            taskViewRepository.bumpProjectVersions(tasks.stream().map(Task::getProjectId).collect(Collectors.toSet()));
+        }
+        errors.sort(Comparator.comparingInt(BulkItemErrorData::getIndex));
+        logger.info("Bulk created {} tasks, rejected {}", tasks.size(), errors.size());
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<TaskOutputData> created = views.stream().map(view -> TaskPages.toOutputData(view, now)).collect(Collectors.toList());
+        created.forEach(task -> eventPublisher.publish(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, task)));
+        if (!created.isEmpty()) {
+            domainEvents.recordAll(created.stream()
+                    .map(task -> new DomainEvent(DomainEvent.Type.TASK_CREATED, task.getId(), task))
+                    .collect(Collectors.toList()));
+        }
+        return new BulkCreateTasksOutputData(created, errors);
+    }
+
+    private String violations(CreateTaskInputData inputData) {
+        if (inputData == null) {
+            return "Task is required";
+        }
+        Set<ConstraintViolation<CreateTaskInputData>> violations = validator.validate(inputData);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .filter(Objects::nonNull)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,118 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for moving many tasks to the same status at once.
+ * The tasks and their projects are read in two queries and checked against the same rules as
+ * UpdateTaskStatusUseCase; the accepted tasks are then changed with one conditional UPDATE.
+ */
+public class BulkUpdateTaskStatusUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(BulkUpdateTaskStatusUseCase.class);
+    static final int MAX_TASKS = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskViewRepository taskViewRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEvents;
+    private final Clock clock;
+
+    public BulkUpdateTaskStatusUseCase(TaskRepository taskRepository, TaskViewRepository taskViewRepository,
+                                       ProjectRepository projectRepository, TaskEventPublisher eventPublisher,
+                                       DomainEventOutbox domainEvents, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.taskViewRepository = taskViewRepository;
+        this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.domainEvents = domainEvents;
+        this.clock = clock;
+    }
+
+    public BulkUpdateTaskStatusOutputData execute(List<String> taskIds, TaskStatus newStatus) {
+        if (newStatus == null) {
+            throw new BusinessRuleViolationException("Status is required");
+        }
+        if (taskIds == null || taskIds.isEmpty()) {
+            throw new BusinessRuleViolationException("At least one task ID is required");
+        }
+        Set<String> ids = new LinkedHashSet<>(taskIds);
+        if (ids.size() > MAX_TASKS) {
+            throw new BusinessRuleViolationException("Cannot update more than " + MAX_TASKS + " tasks at once: " + ids.size());
+        }
+        logger.info("Updating {} tasks to status {}", ids.size(), newStatus);
+
+        Map<String, Task> tasks = taskRepository.findByIds(ids);
+        Map<String, Project> projects = projectRepository.findByIds(tasks.values().stream()
+                .map(Task::getProjectId).collect(Collectors.toSet()));
+
+        List<String> accepted = new ArrayList<>();
+        List<TaskRejectionData> rejected = new ArrayList<>();
+        for (String id : ids) {
+            Task task = tasks.get(id);
+            if (task == null) {
+                rejected.add(new TaskRejectionData(id, "Task not found: " + id));
+                continue;
+            }
+            Project project = projects.get(task.getProjectId());
+            if (project == null) {
+                rejected.add(new TaskRejectionData(id, "Project not found: " + task.getProjectId()));
+            } else if (!project.getStatus().canAcceptTasks()) {
+                rejected.add(new TaskRejectionData(id, "Cannot update tasks in project status: " + project.getStatus()));
+            } else if (!task.getStatus().canTransitionTo(newStatus)) {
+                rejected.add(new TaskRejectionData(id, "Cannot change task status from " + task.getStatus() + " to " + newStatus));
+            } else {
+                accepted.add(id);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            // The status guard repeats the check above inside the UPDATE, so a task changed by
+            // another transaction since it was read is never moved along an invalid transition
+            int updated = taskRepository.updateStatus(accepted, sourceStatuses(newStatus), newStatus, now);
+            if (updated != accepted.size()) {
+                throw new BusinessRuleViolationException("Tasks were modified concurrently, retry the request");
+            }
+            taskViewRepository.updateStatus(accepted, newStatus, now);
+            taskViewRepository.bumpProjectVersions(accepted.stream()
+                    .map(id -> tasks.get(id).getProjectId()).collect(Collectors.toSet()));
+            List<DomainEvent> changes = new ArrayList<>(accepted.size());
+            for (String id : accepted) {
+                Task task = tasks.get(id);
+                TaskChangeEvent changed = new TaskChangeEvent(TaskChangeEvent.Type.STATUS_CHANGED, id, task.getProjectId(),
+                        task.getAssignedUserId(), newStatus, null);
+                eventPublisher.publish(changed);
+                changes.add(new DomainEvent(DomainEvent.Type.TASK_STATUS_CHANGED, id, changed));
+            }
+            domainEvents.recordAll(changes);
+        }
+
+        logger.info("Updated {} tasks to status {}, rejected {}", accepted.size(), newStatus, rejected.size());
+        return new BulkUpdateTaskStatusOutputData(newStatus, accepted, rejected);
+    }
+
+    private static Set<TaskStatus> sourceStatuses(TaskStatus target) {
+        Set<TaskStatus> sources = EnumSet.noneOf(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case for answering a conditional request for one task.
+ * Computes the tag GetTaskByIdUseCase would produce right now from the few columns it covers,
+ * so a client that already holds the task costs one narrow primary key lookup.
+ */
+public class CheckTaskETagUseCase {
+    private final TaskViewRepository taskViewRepository;
+    private final Clock clock;
+
+    public CheckTaskETagUseCase(TaskViewRepository taskViewRepository, Clock clock) {
+        this.taskViewRepository = taskViewRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the current tag of the task if it is one of the given tags, or empty when none matches
+     * or the task doesn't exist.
+     */
+    public Optional<String> execute(String taskId, List<String> eTags) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return taskViewRepository.findStampById(taskId)
+                .map(stamp -> TaskETags.task(stamp.getId(), stamp.getUpdatedAt(), stamp.getAssignedUserName(),
+                        stamp.getProjectName(), stamp.isOverdue(now), stamp.getDaysUntilDue(now)))
+                .filter(eTags::contains);
+    }
+}
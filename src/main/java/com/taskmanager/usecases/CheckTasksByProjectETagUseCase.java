@@ -0,0 +1,37 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case for answering a conditional request for a page of a project's tasks.
+ * A list tag is checked against the project's current version, never recomputed from the page,
+ * so the whole check is one primary key lookup however many tags the client sends.
+ */
+public class CheckTasksByProjectETagUseCase {
+    private final TaskViewRepository taskViewRepository;
+    private final Clock clock;
+
+    public CheckTasksByProjectETagUseCase(TaskViewRepository taskViewRepository, Clock clock) {
+        this.taskViewRepository = taskViewRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the first of the given tags under which GetTasksByProjectUseCase would return the same page,
+     * or empty when none of them is current.
+     */
+    public Optional<String> execute(String projectId, String cursor, Integer limit, List<String> eTags) {
+        int pageSize = TaskPages.pageSize(limit);
+        long version = taskViewRepository.findProjectVersion(projectId);
+        LocalDateTime now = LocalDateTime.now(clock);
+        return eTags.stream()
+                .filter(eTag -> TaskETags.isCurrentList(eTag, version, now, projectId, cursor, pageSize))
+                .findFirst();
+    }
+}
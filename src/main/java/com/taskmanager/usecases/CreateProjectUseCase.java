@@ -10,10 +10,13 @@ public class CreateProjectUseCase {
     private static final Logger logger = LoggerFactory.getLogger(CreateProjectUseCase.class);
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final DomainEventOutbox domainEvents;
 
-    public CreateProjectUseCase(ProjectRepository projectRepository, UserRepository userRepository) {
+    public CreateProjectUseCase(ProjectRepository projectRepository, UserRepository userRepository,
+                                DomainEventOutbox domainEvents) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
+        this.domainEvents = domainEvents;
     }
 
     public ProjectOutputData execute(CreateProjectInputData inputData) {
@@ -40,8 +43,7 @@ public class CreateProjectUseCase {
         Project savedProject = projectRepository.save(project);
         logger.info("Project created successfully: {}", savedProject.getId());
 
-        // Return output data
-        return new ProjectOutputData(
+        ProjectOutputData outputData = new ProjectOutputData(
                 savedProject.getId(),
                 savedProject.getName(),
                 savedProject.getDescription(),
@@ -56,5 +58,7 @@ public class CreateProjectUseCase {
                 savedProject.getTimeProgress(),
                 savedProject.isNearDeadline()
         );
+        domainEvents.record(new DomainEvent(DomainEvent.Type.PROJECT_CREATED, outputData.getId(), outputData));
+        return outputData;
     }
 }
\ No newline at end of file
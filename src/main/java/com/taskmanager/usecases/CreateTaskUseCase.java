@@ -15,14 +15,21 @@ import java.util.stream.Collectors;
 public class CreateTaskUseCase {
     private static final Logger logger = LoggerFactory.getLogger(CreateTaskUseCase.class);
     private final TaskRepository taskRepository;
+    private final TaskViewRepository taskViewRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final TaskEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEvents;
 
-    public CreateTaskUseCase(TaskRepository taskRepository, UserRepository userRepository,
-                                ProjectRepository projectRepository) {
+    public CreateTaskUseCase(TaskRepository taskRepository, TaskViewRepository taskViewRepository,
+                                UserRepository userRepository, ProjectRepository projectRepository,
+                                TaskEventPublisher eventPublisher, DomainEventOutbox domainEvents) {
         this.taskRepository = taskRepository;
+        this.taskViewRepository = taskViewRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.domainEvents = domainEvents;
     }
 
     public TaskOutputData execute(CreateTaskInputData inputData) {
@@ -60,9 +67,11 @@ public class CreateTaskUseCase {
 
             // Save task
             Task savedTask = taskRepository.save(task);
+            taskViewRepository.save(new TaskView(savedTask, assignedUser.getFullName(), project.getName()));
+            taskViewRepository.bumpProjectVersions(List.of(savedTask.getProjectId()));
             logger.info("Task created successfully: {}", savedTask.getId());
 
-            return new TaskOutputData(
+            TaskOutputData outputData = new TaskOutputData(
                     savedTask.getId(),
                     savedTask.getTitle(),
                     savedTask.getDescription(),
@@ -78,6 +87,9 @@ public class CreateTaskUseCase {
                     savedTask.isOverdue(),
                     savedTask.getDaysUntilDue()
             );
+            eventPublisher.publish(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, outputData));
+            domainEvents.record(new DomainEvent(DomainEvent.Type.TASK_CREATED, outputData.getId(), outputData));
+            return outputData;
         } catch (Exception e) {
             logger.error("Failed to create task: {}", e.getMessage(), e);
             throw e;
@@ -9,9 +9,13 @@ import org.slf4j.LoggerFactory;
 public class CreateUserUseCase {
     private static final Logger logger = LoggerFactory.getLogger(CreateUserUseCase.class);
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final DomainEventOutbox domainEvents;
 
-    public CreateUserUseCase(UserRepository userRepository) {
+    public CreateUserUseCase(UserRepository userRepository, PasswordHasher passwordHasher, DomainEventOutbox domainEvents) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.domainEvents = domainEvents;
     }
 
     public UserOutputData execute(CreateUserInputData inputData) {
@@ -31,13 +35,13 @@ public class CreateUserUseCase {
                 inputData.getPassword(),
                 inputData.getRole()
         );
+        user.hashPassword(passwordHasher::hash);
 
         // Save user
         User savedUser = userRepository.save(user);
         logger.info("User created successfully: {}", savedUser.getId());
 
-        // Return output data
-        return new UserOutputData(
+        UserOutputData outputData = new UserOutputData(
                 savedUser.getId(),
                 savedUser.getEmail(),
                 savedUser.getFirstName(),
@@ -49,5 +53,7 @@ public class CreateUserUseCase {
                 savedUser.getLastLoginAt(),
                 savedUser.isRecentlyActive()
         );
+        domainEvents.record(new DomainEvent(DomainEvent.Type.USER_CREATED, outputData.getId(), outputData));
+        return outputData;
     }
 }
\ No newline at end of file
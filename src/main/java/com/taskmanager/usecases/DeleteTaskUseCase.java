@@ -1,22 +1,37 @@
 package com.taskmanager.usecases;
 
 import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
 import com.taskmanager.usecases.ports.*;
 
+import java.util.List;
+
 public class DeleteTaskUseCase {
     private final TaskRepository taskRepository;
+    private final TaskViewRepository taskViewRepository;
+    private final TaskEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEvents;
 
-    public DeleteTaskUseCase(TaskRepository taskRepository) {
+    public DeleteTaskUseCase(TaskRepository taskRepository, TaskViewRepository taskViewRepository,
+                             TaskEventPublisher eventPublisher, DomainEventOutbox domainEvents) {
         this.taskRepository = taskRepository;
+        this.taskViewRepository = taskViewRepository;
+        this.eventPublisher = eventPublisher;
+        this.domainEvents = domainEvents;
     }
 
     public void execute(String taskId) {
         // Validate task exists
-        if (!taskRepository.existsById(taskId)) {
-            throw new TaskNotFoundException("Task not found: " + taskId);
-        }
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found: " + taskId));
 
-        // Delete task
+        // Delete task and its read model
         taskRepository.deleteById(taskId);
+        taskViewRepository.deleteById(taskId);
+        taskViewRepository.bumpProjectVersions(List.of(task.getProjectId()));
+        TaskChangeEvent deleted = new TaskChangeEvent(TaskChangeEvent.Type.DELETED, taskId, task.getProjectId(),
+                task.getAssignedUserId(), task.getStatus(), null);
+        eventPublisher.publish(deleted);
+        domainEvents.record(new DomainEvent(DomainEvent.Type.TASK_DELETED, taskId, deleted));
     }
 }
\ No newline at end of file
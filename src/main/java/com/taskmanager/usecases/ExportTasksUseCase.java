@@ -0,0 +1,50 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting tasks in bulk without holding them in memory
+ */
+public class ExportTasksUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(ExportTasksUseCase.class);
+    private final TaskRepository taskRepository;
+
+    public ExportTasksUseCase(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Streams every task matching the optional filters to the sink, one record at a time.
+     * Returns the number of exported tasks.
+     */
+    public long execute(String projectId, TaskStatus status, LocalDateTime updatedSince, Consumer<TaskExportData> sink) {
+        logger.info("Exporting tasks for project={}, status={}, updatedSince={}", projectId, status, updatedSince);
+
+        long[] exported = {0};
+        taskRepository.forEachMatching(projectId, status, updatedSince, task -> {
+            sink.accept(new TaskExportData(
+                    task.getId(),
+                    task.getTitle(),
+                    task.getDescription(),
+                    task.getDueDate(),
+                    task.getStatus(),
+                    task.getPriority(),
+                    task.getAssignedUserId(),
+                    task.getProjectId(),
+                    task.getCreatedAt(),
+                    task.getUpdatedAt()
+            ));
+            exported[0]++;
+        });
+
+        logger.info("Exported {} tasks", exported[0]);
+        return exported[0];
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for listing overdue tasks, earliest due date first.
+ * The ids come from the deadline tracker and the views are loaded by primary key,
+ * so the cost follows the number of tasks returned instead of the size of the tasks table.
+ */
+public class GetOverdueTasksUseCase {
+    private final DeadlineTracker deadlineTracker;
+    private final TaskViewRepository taskViewRepository;
+    private final Clock clock;
+
+    public GetOverdueTasksUseCase(DeadlineTracker deadlineTracker, TaskViewRepository taskViewRepository, Clock clock) {
+        this.deadlineTracker = deadlineTracker;
+        this.taskViewRepository = taskViewRepository;
+        this.clock = clock;
+    }
+
+    public List<TaskOutputData> execute(Integer limit) {
+        List<String> ids = deadlineTracker.findOverdueTaskIds(TaskPages.pageSize(limit));
+        Map<String, TaskView> views = taskViewRepository.findByIds(ids);
+
+        return TaskPages.inOrder(ids, views, LocalDateTime.now(clock));
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class GetProjectDashboardUseCase {
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final Clock clock;
+
+    public GetProjectDashboardUseCase(TaskRepository taskRepository, ProjectRepository projectRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Summarizes the project's tasks from one grouped query; the groups are folded into
+     * per-status and per-priority totals here, so the cost does not grow with the task count.
+     */
+    public ProjectDashboardOutputData execute(String projectId) {
+        List<TaskCountGroup> groups = taskRepository.countByProjectIdGrouped(projectId, LocalDateTime.now(clock));
+
+        // Only an empty result needs to tell a missing project from one without tasks
+        if (groups.isEmpty() && !projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("Project not found: " + projectId);
+        }
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        long total = 0;
+        long overdue = 0;
+        LocalDateTime nextDueDate = null;
+        for (TaskCountGroup group : groups) {
+            byStatus.merge(group.getStatus(), group.getCount(), Long::sum);
+            byPriority.merge(group.getPriority(), group.getCount(), Long::sum);
+            total += group.getCount();
+            overdue += group.getOverdueCount();
+            if (group.getNextDueDate() != null && (nextDueDate == null || group.getNextDueDate().isBefore(nextDueDate))) {
+                nextDueDate = group.getNextDueDate();
+            }
+        }
+        return new ProjectDashboardOutputData(projectId, total, byStatus, byPriority, overdue, nextDueDate);
+    }
+}
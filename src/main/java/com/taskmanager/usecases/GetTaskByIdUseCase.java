@@ -4,47 +4,24 @@ import com.taskmanager.entities.*;
 import com.taskmanager.usecases.dto.*;
 import com.taskmanager.usecases.ports.*;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+
 public class GetTaskByIdUseCase {
-    private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
-    private final ProjectRepository projectRepository;
+    private final TaskViewRepository taskViewRepository;
+    private final Clock clock;
 
-    public GetTaskByIdUseCase(TaskRepository taskRepository, UserRepository userRepository,
-                             ProjectRepository projectRepository) {
-        this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
-        this.projectRepository = projectRepository;
+    public GetTaskByIdUseCase(TaskViewRepository taskViewRepository, Clock clock) {
+        this.taskViewRepository = taskViewRepository;
+        this.clock = clock;
     }
 
     public TaskOutputData execute(String taskId) {
-        // Find task
-        Task task = taskRepository.findById(taskId)
+        // Find task together with its assignee and project names
+        TaskView task = taskViewRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found: " + taskId));
 
-        // Get assigned user
-        User assignedUser = userRepository.findById(task.getAssignedUserId())
-                .orElseThrow(() -> new UserNotFoundException("Assigned user not found"));
-
-        // Get project
-        Project project = projectRepository.findById(task.getProjectId())
-                .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
-
         // Return output data
-        return new TaskOutputData(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getDueDate(),
-                task.getStatus(),
-                task.getPriority(),
-                task.getAssignedUserId(),
-                assignedUser.getFullName(),
-                task.getProjectId(),
-                project.getName(),
-                task.getCreatedAt(),
-                task.getUpdatedAt(),
-                task.isOverdue(),
-                task.getDaysUntilDue()
-        );
+        return TaskPages.toOutputData(task, LocalDateTime.now(clock));
     }
-}
\ No newline at end of file
+}
@@ -3,51 +3,49 @@ package com.taskmanager.usecases;
 import com.taskmanager.entities.*;
 import com.taskmanager.usecases.dto.*;
 import com.taskmanager.usecases.ports.*;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class GetTasksByProjectUseCase {
-    private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
+    private final TaskViewRepository taskViewRepository;
     private final ProjectRepository projectRepository;
+    private final Clock clock;
 
-    public GetTasksByProjectUseCase(TaskRepository taskRepository, UserRepository userRepository,
-                                   ProjectRepository projectRepository) {
-        this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
+    public GetTasksByProjectUseCase(TaskViewRepository taskViewRepository, ProjectRepository projectRepository, Clock clock) {
+        this.taskViewRepository = taskViewRepository;
         this.projectRepository = projectRepository;
+        this.clock = clock;
     }
 
-    public List<TaskOutputData> execute(String projectId) {
-        // Validate project exists
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Project not found: " + projectId));
+    /**
+     * Returns one page of the project's tasks, ordered by creation time.
+     * A null cursor starts at the first task; a null limit uses the default page size.
+     */
+    public TaskPageOutputData execute(String projectId, String cursor, Integer limit) {
+        int pageSize = TaskPages.pageSize(limit);
+        TaskCursor after = TaskPages.cursor(cursor);
 
-        // Get tasks
-        List<Task> tasks = taskRepository.findByProjectId(projectId);
+        // Get one task beyond the page to know whether another page follows
+        ProjectTaskViews result = after == null
+                ? taskViewRepository.findByProjectIdAfter(projectId, null, null, pageSize + 1)
+                : taskViewRepository.findByProjectIdAfter(projectId, after.getCreatedAt(), after.getId(), pageSize + 1);
+        List<TaskView> tasks = result.getViews();
 
-        // Map to output data
-        return tasks.stream()
-                .map(task -> {
-                    User assignedUser = userRepository.findById(task.getAssignedUserId())
-                            .orElseThrow(() -> new UserNotFoundException("Assigned user not found"));
-                    return new TaskOutputData(
-                            task.getId(),
-                            task.getTitle(),
-                            task.getDescription(),
-                            task.getDueDate(),
-                            task.getStatus(),
-                            task.getPriority(),
-                            task.getAssignedUserId(),
-                            assignedUser.getFullName(),
-                            task.getProjectId(),
-                            project.getName(),
-                            task.getCreatedAt(),
-                            task.getUpdatedAt(),
-                            task.isOverdue(),
-                            task.getDaysUntilDue()
-                    );
-                })
-                .collect(Collectors.toList());
+        // Only an empty page needs to tell a missing project from one without tasks
+        if (tasks.isEmpty() && !projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("Project not found: " + projectId);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        TaskPageOutputData page = TaskPages.page(tasks, pageSize, now);
+        // The version was read with the tasks, so a write committed since only ever makes the tag older than
+        // the data. An empty page has no version and no tag; it's cheap to send again.
+        if (result.getVersion() == null) {
+            return page;
+        }
+        LocalDateTime validUntil = TaskPages.validUntil(tasks.subList(0, Math.min(pageSize, tasks.size())), now);
+        String eTag = TaskETags.list(result.getVersion(), validUntil, projectId, cursor, pageSize);
+        return new TaskPageOutputData(page.getItems(), page.getNextCursor(), eTag);
     }
-}
\ No newline at end of file
+}
@@ -3,51 +3,39 @@ package com.taskmanager.usecases;
 import com.taskmanager.entities.*;
 import com.taskmanager.usecases.dto.*;
 import com.taskmanager.usecases.ports.*;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class GetTasksByUserUseCase {
-    private final TaskRepository taskRepository;
+    private final TaskViewRepository taskViewRepository;
     private final UserRepository userRepository;
-    private final ProjectRepository projectRepository;
+    private final Clock clock;
 
-    public GetTasksByUserUseCase(TaskRepository taskRepository, UserRepository userRepository,
-                                ProjectRepository projectRepository) {
-        this.taskRepository = taskRepository;
+    public GetTasksByUserUseCase(TaskViewRepository taskViewRepository, UserRepository userRepository, Clock clock) {
+        this.taskViewRepository = taskViewRepository;
         this.userRepository = userRepository;
-        this.projectRepository = projectRepository;
+        this.clock = clock;
     }
 
-    public List<TaskOutputData> execute(String userId) {
-        // Validate user exists
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found: " + userId));
+    /**
+     * Returns one page of the user's tasks, ordered by creation time.
+     * A null cursor starts at the first task; a null limit uses the default page size.
+     */
+    public TaskPageOutputData execute(String userId, String cursor, Integer limit) {
+        int pageSize = TaskPages.pageSize(limit);
+        TaskCursor after = TaskPages.cursor(cursor);
 
-        // Get tasks
-        List<Task> tasks = taskRepository.findByUserId(userId);
+        // Get one task beyond the page to know whether another page follows
+        List<TaskView> tasks = after == null
+                ? taskViewRepository.findByUserIdAfter(userId, null, null, pageSize + 1)
+                : taskViewRepository.findByUserIdAfter(userId, after.getCreatedAt(), after.getId(), pageSize + 1);
 
-        // Map to output data
-        return tasks.stream()
-                .map(task -> {
-                    Project project = projectRepository.findById(task.getProjectId())
-                            .orElseThrow(() -> new ProjectNotFoundException("Project not found: " + task.getProjectId()));
-                    return new TaskOutputData(
-                            task.getId(),
-                            task.getTitle(),
-                            task.getDescription(),
-                            task.getDueDate(),
-                            task.getStatus(),
-                            task.getPriority(),
-                            task.getAssignedUserId(),
-                            user.getFullName(),
-                            task.getProjectId(),
-                            project.getName(),
-                            task.getCreatedAt(),
-                            task.getUpdatedAt(),
-                            task.isOverdue(),
-                            task.getDaysUntilDue()
-                    );
-                })
-                .collect(Collectors.toList());
+        // Only an empty page needs to tell a missing user from one without tasks
+        if (tasks.isEmpty() && !userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found: " + userId);
+        }
+
+        return TaskPages.page(tasks, pageSize, LocalDateTime.now(clock));
     }
-}
\ No newline at end of file
+}
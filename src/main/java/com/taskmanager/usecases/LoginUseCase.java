@@ -0,0 +1,56 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Checks a user's password once and hands out an access token for the requests that follow,
+ * so the slow password hash is paid per login rather than per request.
+ */
+public class LoginUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(LoginUseCase.class);
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final AccessTokenIssuer accessTokenIssuer;
+    private final UserLoginRecorder userLoginRecorder;
+    private final Clock clock;
+    private final Duration tokenTtl;
+
+    public LoginUseCase(UserRepository userRepository, PasswordHasher passwordHasher, AccessTokenIssuer accessTokenIssuer,
+                        UserLoginRecorder userLoginRecorder, Clock clock, Duration tokenTtl) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.accessTokenIssuer = accessTokenIssuer;
+        this.userLoginRecorder = userLoginRecorder;
+        this.clock = clock;
+        this.tokenTtl = tokenTtl;
+    }
+
+    public LoginOutputData execute(LoginInputData inputData) {
+        Optional<User> found = userRepository.findByEmail(inputData.getEmail());
+        // Unknown emails are hashed too, so the response time does not tell which emails have an account
+        boolean passwordMatches = passwordHasher.matches(inputData.getPassword(), found.map(User::getPassword).orElse(null));
+        if (found.isEmpty() || !passwordMatches || found.get().getStatus() != UserStatus.ACTIVE) {
+            logger.warn("Rejected login for email: {}", inputData.getEmail());
+            throw new InvalidCredentialsException("Invalid email or password");
+        }
+
+        User user = found.get();
+        userLoginRecorder.recordLogin(user.getId(), LocalDateTime.now(clock));
+        Instant expiresAt = clock.instant().plus(tokenTtl);
+        String accessToken = accessTokenIssuer.issue(user.getId(), user.getRole(), expiresAt);
+        logger.info("User logged in: {}", user.getId());
+
+        return new LoginOutputData(accessToken, "Bearer", LocalDateTime.ofInstant(expiresAt, clock.getZone()),
+                user.getId(), user.getRole());
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Use case for telling change feed subscribers that a task has become overdue.
+ * Runs when the deadline tracker sees the due date pass. The task is read again first, so one completed
+ * or rescheduled in the meantime is not announced.
+ */
+public class NotifyOverdueTaskUseCase {
+    private final TaskViewRepository taskViewRepository;
+    private final TaskEventPublisher eventPublisher;
+    private final Clock clock;
+
+    public NotifyOverdueTaskUseCase(TaskViewRepository taskViewRepository, TaskEventPublisher eventPublisher, Clock clock) {
+        this.taskViewRepository = taskViewRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns whether an event was published.
+     */
+    public boolean execute(String taskId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        TaskView task = taskViewRepository.findById(taskId).orElse(null);
+        if (task == null || !task.isOverdue(now)) {
+            return false;
+        }
+        eventPublisher.publish(TaskChangeEvent.of(TaskChangeEvent.Type.OVERDUE, TaskPages.toOutputData(task, now)));
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for searching task titles and descriptions, best match first.
+ * The ranked ids come from the search index and the views are loaded by primary key,
+ * so the database only sees the tasks that are returned.
+ */
+public class SearchTasksUseCase {
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskViewRepository taskViewRepository;
+    private final Clock clock;
+
+    public SearchTasksUseCase(TaskSearchIndex taskSearchIndex, TaskViewRepository taskViewRepository, Clock clock) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskViewRepository = taskViewRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * A null projectId or status doesn't filter; a null limit uses the default page size.
+     */
+    public List<TaskOutputData> execute(String query, String projectId, TaskStatus status, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessRuleViolationException("Search query is required");
+        }
+        List<String> ids = taskSearchIndex.search(query, projectId, status, TaskPages.pageSize(limit));
+        Map<String, TaskView> views = taskViewRepository.findByIds(ids);
+        return TaskPages.inOrder(ids, views, LocalDateTime.now(clock));
+    }
+}
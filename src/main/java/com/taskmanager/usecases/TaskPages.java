@@ -0,0 +1,119 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Shared keyset pagination rules and read model mapping for the task read use cases.
+ * Derived time fields are computed against one time taken per request, so every task
+ * in a response agrees on what "now" is and the clock is read once, not twice per task.
+ */
+final class TaskPages {
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private TaskPages() {
+    }
+
+    /**
+     * Applies the default page size and the hard cap to a caller-supplied limit
+     */
+    static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (requested < 1) {
+            throw new BusinessRuleViolationException("Page size must be positive: " + requested);
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    static TaskCursor cursor(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            return TaskCursor.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleViolationException("Invalid page cursor: " + token);
+        }
+    }
+
+    /**
+     * Builds a page from a result that was fetched with one row beyond the page size,
+     * so the presence of that extra row tells whether a next page exists.
+     */
+    static TaskPageOutputData page(List<TaskView> tasks, int pageSize, LocalDateTime now) {
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskView> pageTasks = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = hasNext ? TaskCursor.after(pageTasks.get(pageSize - 1)).encode() : null;
+        return new TaskPageOutputData(
+                pageTasks.stream().map(task -> toOutputData(task, now)).collect(Collectors.toList()),
+                nextCursor
+        );
+    }
+
+    /**
+     * Returns the first instant after now at which the overdue flag or the days until due of one of the
+     * tasks changes, or LocalDateTime.MAX when none of them has a due date.
+     */
+    static LocalDateTime validUntil(List<TaskView> tasks, LocalDateTime now) {
+        LocalDateTime validUntil = LocalDateTime.MAX;
+        for (TaskView task : tasks) {
+            LocalDateTime dueDate = task.getDueDate();
+            if (dueDate == null) {
+                continue;
+            }
+            long days = task.getDaysUntilDue(now);
+            // Before the due date the count drops once now passes dueDate - days, and at days = 0 the task turns
+            // overdue just after dueDate; afterwards it drops further each time another full day has passed
+            LocalDateTime change = now.isAfter(dueDate)
+                    ? dueDate.plusDays(1 - days)
+                    : dueDate.minusDays(days).plusNanos(1);
+            if (change.isBefore(validUntil)) {
+                validUntil = change;
+            }
+        }
+        return validUntil;
+    }
+
+    /**
+     * Maps the views in the order of the given ids, skipping ids without a view,
+     * such as a task deleted since its id was looked up.
+     */
+    static List<TaskOutputData> inOrder(List<String> ids, Map<String, TaskView> views, LocalDateTime now) {
+        List<TaskOutputData> tasks = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            TaskView view = views.get(id);
+            if (view != null) {
+                tasks.add(toOutputData(view, now));
+            }
+        }
+        return tasks;
+    }
+
+    static TaskOutputData toOutputData(TaskView task, LocalDateTime now) {
+        return new TaskOutputData(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getDueDate(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getAssignedUserId(),
+                task.getAssignedUserName(),
+                task.getProjectId(),
+                task.getProjectName(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                task.isOverdue(now),
+                task.getDaysUntilDue(now)
+        );
+    }
+}
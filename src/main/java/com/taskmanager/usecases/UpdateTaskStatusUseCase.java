@@ -6,17 +6,26 @@ import com.taskmanager.usecases.ports.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 public class UpdateTaskStatusUseCase {
     private static final Logger logger = LoggerFactory.getLogger(UpdateTaskStatusUseCase.class);
     private final TaskRepository taskRepository;
+    private final TaskViewRepository taskViewRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final TaskEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEvents;
 
-    public UpdateTaskStatusUseCase(TaskRepository taskRepository, UserRepository userRepository,
-                                  ProjectRepository projectRepository) {
+    public UpdateTaskStatusUseCase(TaskRepository taskRepository, TaskViewRepository taskViewRepository,
+                                  UserRepository userRepository, ProjectRepository projectRepository,
+                                  TaskEventPublisher eventPublisher, DomainEventOutbox domainEvents) {
         this.taskRepository = taskRepository;
+        this.taskViewRepository = taskViewRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.domainEvents = domainEvents;
     }
 
     public TaskOutputData execute(String taskId, TaskStatus newStatus) {
@@ -58,9 +67,11 @@ public class UpdateTaskStatusUseCase {
         // Get assigned user
         User assignedUser = userRepository.findById(updatedTask.getAssignedUserId())
                 .orElseThrow(() -> new UserNotFoundException("Assigned user not found"));
+        taskViewRepository.save(new TaskView(updatedTask, assignedUser.getFullName(), project.getName()));
+        taskViewRepository.bumpProjectVersions(List.of(updatedTask.getProjectId()));
 
         logger.info("Task {} status updated to {}", taskId, newStatus);
-        return new TaskOutputData(
+        TaskOutputData outputData = new TaskOutputData(
                 updatedTask.getId(),
                 updatedTask.getTitle(),
                 updatedTask.getDescription(),
@@ -76,5 +87,8 @@ public class UpdateTaskStatusUseCase {
                 updatedTask.isOverdue(),
                 updatedTask.getDaysUntilDue()
         );
+        eventPublisher.publish(TaskChangeEvent.of(TaskChangeEvent.Type.STATUS_CHANGED, outputData));
+        domainEvents.record(new DomainEvent(DomainEvent.Type.TASK_STATUS_CHANGED, outputData.getId(), outputData));
+        return outputData;
     }
 }
\ No newline at end of file
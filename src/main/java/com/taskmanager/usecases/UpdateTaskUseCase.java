@@ -6,17 +6,26 @@ import com.taskmanager.usecases.ports.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 public class UpdateTaskUseCase {
     private static final Logger logger = LoggerFactory.getLogger(UpdateTaskUseCase.class);
     private final TaskRepository taskRepository;
+    private final TaskViewRepository taskViewRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final TaskEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEvents;
 
-    public UpdateTaskUseCase(TaskRepository taskRepository, UserRepository userRepository,
-                            ProjectRepository projectRepository) {
+    public UpdateTaskUseCase(TaskRepository taskRepository, TaskViewRepository taskViewRepository,
+                            UserRepository userRepository, ProjectRepository projectRepository,
+                            TaskEventPublisher eventPublisher, DomainEventOutbox domainEvents) {
         this.taskRepository = taskRepository;
+        this.taskViewRepository = taskViewRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.domainEvents = domainEvents;
     }
 
     public TaskOutputData execute(UpdateTaskInputData inputData) {
@@ -49,9 +58,14 @@ public class UpdateTaskUseCase {
         // Get assigned user for output data
         User assignedUser = userRepository.findById(updatedTask.getAssignedUserId())
                 .orElseThrow(() -> new UserNotFoundException("Assigned user not found"));
+        taskViewRepository.save(new TaskView(updatedTask, assignedUser.getFullName(), project.getName()));
+        taskViewRepository.bumpProjectVersions(List.of(updatedTask.getProjectId()));
 
         logger.info("Task updated successfully: {}", updatedTask.getId());
-        return createTaskOutputData(updatedTask, assignedUser, project);
+        TaskOutputData outputData = createTaskOutputData(updatedTask, assignedUser, project);
+        eventPublisher.publish(TaskChangeEvent.of(TaskChangeEvent.Type.UPDATED, outputData));
+        domainEvents.record(new DomainEvent(DomainEvent.Type.TASK_UPDATED, outputData.getId(), outputData));
+        return outputData;
     }
 
     private TaskOutputData createTaskOutputData(Task task, User assignedUser, Project project) {
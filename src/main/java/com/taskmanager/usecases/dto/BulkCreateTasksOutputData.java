@@ -0,0 +1,21 @@
+package com.taskmanager.usecases.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk task creation: the created tasks in request order and one error per rejected item.
+ */
+public class BulkCreateTasksOutputData {
+    private List<TaskOutputData> created;
+    private List<BulkItemErrorData> errors;
+
+    public BulkCreateTasksOutputData(List<TaskOutputData> created, List<BulkItemErrorData> errors) {
+        this.created = created;
+        this.errors = errors;
+    }
+
+    // Getters
+    public List<TaskOutputData> getCreated() { return created; }
+    public List<BulkItemErrorData> getErrors() { return errors; }
+    public boolean hasErrors() { return !errors.isEmpty(); }
+}
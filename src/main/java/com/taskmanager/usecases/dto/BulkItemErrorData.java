@@ -0,0 +1,18 @@
+package com.taskmanager.usecases.dto;
+
+/**
+ * Why one item of a bulk request was rejected, identified by its position in the request.
+ */
+public class BulkItemErrorData {
+    private int index;
+    private String message;
+
+    public BulkItemErrorData(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    // Getters
+    public int getIndex() { return index; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,26 @@
+package com.taskmanager.usecases.dto;
+
+import com.taskmanager.entities.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.util.List;
+import jakarta.validation.constraints.*;
+
+public class BulkUpdateTaskStatusInputData {
+    @NotEmpty(message = "At least one task ID is required")
+    private List<@NotBlank(message = "Task ID is required") String> taskIds;
+
+    @NotNull(message = "Status is required")
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private TaskStatus status;
+
+    public BulkUpdateTaskStatusInputData(List<String> taskIds, TaskStatus status) {
+        this.taskIds = taskIds;
+        this.status = status;
+    }
+
+    public BulkUpdateTaskStatusInputData() {}
+
+    // Getters
+    public List<String> getTaskIds() { return taskIds; }
+    public TaskStatus getStatus() { return status; }
+}
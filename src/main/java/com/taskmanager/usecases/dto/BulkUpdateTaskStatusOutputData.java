@@ -0,0 +1,26 @@
+package com.taskmanager.usecases.dto;
+
+import com.taskmanager.entities.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.util.List;
+
+/**
+ * Outcome of a bulk status change: the ids of the tasks moved to the new status and the rejected ones.
+ */
+public class BulkUpdateTaskStatusOutputData {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private TaskStatus status;
+    private List<String> updatedTaskIds;
+    private List<TaskRejectionData> rejected;
+
+    public BulkUpdateTaskStatusOutputData(TaskStatus status, List<String> updatedTaskIds, List<TaskRejectionData> rejected) {
+        this.status = status;
+        this.updatedTaskIds = updatedTaskIds;
+        this.rejected = rejected;
+    }
+
+    // Getters
+    public TaskStatus getStatus() { return status; }
+    public List<String> getUpdatedTaskIds() { return updatedTaskIds; }
+    public List<TaskRejectionData> getRejected() { return rejected; }
+}
@@ -0,0 +1,43 @@
+package com.taskmanager.usecases.dto;
+
+/**
+ * A change made by a write use case, for downstream consumers that would otherwise re-query everything.
+ * The payload is the use case's output data, or the identifying fields of a deleted task, and of each task whose
+ * status a bulk update changed.
+ */
+public class DomainEvent {
+    public enum Type {
+        TASK_CREATED("Task"),
+        TASK_UPDATED("Task"),
+        TASK_STATUS_CHANGED("Task"),
+        TASK_DELETED("Task"),
+        PROJECT_CREATED("Project"),
+        USER_CREATED("User");
+
+        private final String aggregateType;
+
+        Type(String aggregateType) {
+            this.aggregateType = aggregateType;
+        }
+
+        public String getAggregateType() {
+            return aggregateType;
+        }
+    }
+
+    private final Type type;
+    private final String aggregateId;
+    private final Object payload;
+
+    public DomainEvent(Type type, String aggregateId, Object payload) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+
+    // Getters
+    public Type getType() { return type; }
+    public String getAggregateType() { return type.getAggregateType(); }
+    public String getAggregateId() { return aggregateId; }
+    public Object getPayload() { return payload; }
+}
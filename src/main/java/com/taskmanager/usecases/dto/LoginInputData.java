@@ -0,0 +1,20 @@
+package com.taskmanager.usecases.dto;
+
+import jakarta.validation.constraints.*;
+
+public class LoginInputData {
+    @NotBlank(message = "Email is required")
+    private String email;
+
+    @NotBlank(message = "Password is required")
+    private String password;
+
+    public LoginInputData(String email, String password) {
+        this.email = email;
+        this.password = password;
+    }
+
+    // Getters
+    public String getEmail() { return email; }
+    public String getPassword() { return password; }
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.usecases.dto;
+
+import com.taskmanager.entities.UserRole;
+import java.time.LocalDateTime;
+
+public class LoginOutputData {
+    private String accessToken;
+    private String tokenType;
+    private LocalDateTime expiresAt;
+    private String userId;
+    private UserRole role;
+
+    public LoginOutputData(String accessToken, String tokenType, LocalDateTime expiresAt, String userId, UserRole role) {
+        this.accessToken = accessToken;
+        this.tokenType = tokenType;
+        this.expiresAt = expiresAt;
+        this.userId = userId;
+        this.role = role;
+    }
+
+    // Getters
+    public String getAccessToken() { return accessToken; }
+    public String getTokenType() { return tokenType; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public String getUserId() { return userId; }
+    public UserRole getRole() { return role; }
+}
@@ -0,0 +1,39 @@
+package com.taskmanager.usecases.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.taskmanager.entities.TaskPriority;
+import com.taskmanager.entities.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Task statistics for one project. Every status and priority is present in the maps, with 0 when no task has it.
+ * overdueTasks and nextDueDate only consider tasks that are neither completed nor cancelled.
+ */
+public class ProjectDashboardOutputData {
+    private String projectId;
+    private long totalTasks;
+    private Map<TaskStatus, Long> tasksByStatus;
+    private Map<TaskPriority, Long> tasksByPriority;
+    private long overdueTasks;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime nextDueDate;
+
+    public ProjectDashboardOutputData(String projectId, long totalTasks, Map<TaskStatus, Long> tasksByStatus,
+                                      Map<TaskPriority, Long> tasksByPriority, long overdueTasks, LocalDateTime nextDueDate) {
+        this.projectId = projectId;
+        this.totalTasks = totalTasks;
+        this.tasksByStatus = tasksByStatus;
+        this.tasksByPriority = tasksByPriority;
+        this.overdueTasks = overdueTasks;
+        this.nextDueDate = nextDueDate;
+    }
+
+    // Getters
+    public String getProjectId() { return projectId; }
+    public long getTotalTasks() { return totalTasks; }
+    public Map<TaskStatus, Long> getTasksByStatus() { return tasksByStatus; }
+    public Map<TaskPriority, Long> getTasksByPriority() { return tasksByPriority; }
+    public long getOverdueTasks() { return overdueTasks; }
+    public LocalDateTime getNextDueDate() { return nextDueDate; }
+}
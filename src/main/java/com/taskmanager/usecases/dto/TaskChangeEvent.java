@@ -0,0 +1,44 @@
+package com.taskmanager.usecases.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.taskmanager.entities.TaskStatus;
+
+/**
+ * A committed change to one task, as streamed to change feed subscribers.
+ * The task is included when the use case has it at hand; it is null for deletions
+ * and for status changes made in bulk, which only carry the new status.
+ * OVERDUE is not a write: it is sent once when the due date of an open task passes.
+ */
+public class TaskChangeEvent {
+    public enum Type { CREATED, UPDATED, STATUS_CHANGED, DELETED, OVERDUE }
+
+    private final Type type;
+    private final String taskId;
+    private final String projectId;
+    private final String assignedUserId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final TaskStatus status;
+    private final TaskOutputData task;
+
+    public TaskChangeEvent(Type type, String taskId, String projectId, String assignedUserId, TaskStatus status,
+                           TaskOutputData task) {
+        this.type = type;
+        this.taskId = taskId;
+        this.projectId = projectId;
+        this.assignedUserId = assignedUserId;
+        this.status = status;
+        this.task = task;
+    }
+
+    public static TaskChangeEvent of(Type type, TaskOutputData task) {
+        return new TaskChangeEvent(type, task.getId(), task.getProjectId(), task.getAssignedUserId(), task.getStatus(), task);
+    }
+
+    // Getters
+    public Type getType() { return type; }
+    public String getTaskId() { return taskId; }
+    public String getProjectId() { return projectId; }
+    public String getAssignedUserId() { return assignedUserId; }
+    public TaskStatus getStatus() { return status; }
+    public TaskOutputData getTask() { return task; }
+}
@@ -0,0 +1,87 @@
+package com.taskmanager.usecases.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Entity tags for task responses, so polling clients can be answered with 304 Not Modified.
+ *
+ * A single task's tag digests its id, its updatedAt and the fields that change without touching updatedAt:
+ * the denormalized names, the overdue flag and the days until due, which move with time alone.
+ *
+ * A task list's tag reads "version.validUntil.scope": the project's task change version, the first instant at
+ * which a time-derived field of a listed task changes, and a digest of the project, cursor and page size.
+ * Whether it is still current is decided from those three parts alone, without reading the tasks again.
+ */
+public final class TaskETags {
+    private static final char SEPARATOR = '.';
+
+    private TaskETags() {
+    }
+
+    public static String of(TaskOutputData task) {
+        return task(task.getId(), task.getUpdatedAt(), task.getAssignedUserName(), task.getProjectName(),
+                task.isOverdue(), task.getDaysUntilDue());
+    }
+
+    public static String task(String id, LocalDateTime updatedAt, String assignedUserName, String projectName,
+                              boolean overdue, long daysUntilDue) {
+        return digest(id, String.valueOf(updatedAt), assignedUserName, projectName,
+                String.valueOf(overdue), String.valueOf(daysUntilDue));
+    }
+
+    /**
+     * @param validUntil exclusive end of the time the page looks the same, or LocalDateTime.MAX
+     */
+    public static String list(long version, LocalDateTime validUntil, String projectId, String cursor, int pageSize) {
+        return Long.toString(version) + SEPARATOR + Long.toString(epochMillis(validUntil), Character.MAX_RADIX)
+                + SEPARATOR + digest(projectId, String.valueOf(cursor), String.valueOf(pageSize));
+    }
+
+    /**
+     * Tells whether a tag produced by {@link #list} still describes the same page. Malformed tags never do.
+     */
+    public static boolean isCurrentList(String tag, long version, LocalDateTime now, String projectId, String cursor,
+                                        int pageSize) {
+        int first = tag.indexOf(SEPARATOR);
+        int second = tag.indexOf(SEPARATOR, first + 1);
+        if (first <= 0 || second <= first + 1) {
+            return false;
+        }
+        try {
+            return Long.parseLong(tag.substring(0, first)) == version
+                    && epochMillis(now) < Long.parseLong(tag.substring(first + 1, second), Character.MAX_RADIX)
+                    && tag.substring(second + 1).equals(digest(projectId, String.valueOf(cursor), String.valueOf(pageSize)));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // Rounds down, so a tag never outlives the instant it was computed for
+    private static long epochMillis(LocalDateTime time) {
+        if (time.equals(LocalDateTime.MAX)) {
+            return Long.MAX_VALUE;
+        }
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String digest(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            // 128 bits keep accidental matches out of reach while keeping the header short
+            byte[] hash = digest.digest();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
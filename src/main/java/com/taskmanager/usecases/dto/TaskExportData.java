@@ -0,0 +1,55 @@
+package com.taskmanager.usecases.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.taskmanager.entities.TaskPriority;
+import com.taskmanager.entities.TaskStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Flat export record of a task, one per line in the warehouse export.
+ * Carries raw IDs only; names are joined downstream.
+ */
+public class TaskExportData {
+    private String id;
+    private String title;
+    private String description;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime dueDate;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private TaskStatus status;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private TaskPriority priority;
+    private String assignedUserId;
+    private String projectId;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    public TaskExportData(String id, String title, String description, LocalDateTime dueDate,
+                          TaskStatus status, TaskPriority priority, String assignedUserId,
+                          String projectId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.priority = priority;
+        this.assignedUserId = assignedUserId;
+        this.projectId = projectId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public LocalDateTime getDueDate() { return dueDate; }
+    public TaskStatus getStatus() { return status; }
+    public TaskPriority getPriority() { return priority; }
+    public String getAssignedUserId() { return assignedUserId; }
+    public String getProjectId() { return projectId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,29 @@
+package com.taskmanager.usecases.dto;
+
+import java.util.List;
+
+/**
+ * One page of tasks plus the cursor for the following page, or null on the last page,
+ * and the entity tag of the page when the list supports conditional requests.
+ */
+public class TaskPageOutputData {
+    private List<TaskOutputData> items;
+    private String nextCursor;
+    private String eTag;
+
+    public TaskPageOutputData(List<TaskOutputData> items, String nextCursor) {
+        this(items, nextCursor, null);
+    }
+
+    public TaskPageOutputData(List<TaskOutputData> items, String nextCursor, String eTag) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.eTag = eTag;
+    }
+
+    // Getters
+    public List<TaskOutputData> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public String getETag() { return eTag; }
+    public boolean hasNext() { return nextCursor != null; }
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.usecases.dto;
+
+/**
+ * Why a bulk operation left one task unchanged.
+ */
+public class TaskRejectionData {
+    private String taskId;
+    private String message;
+
+    public TaskRejectionData(String taskId, String message) {
+        this.taskId = taskId;
+        this.message = message;
+    }
+
+    // Getters
+    public String getTaskId() { return taskId; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.usecases.ports;
+
+import com.taskmanager.entities.UserRole;
+import java.time.Instant;
+
+/**
+ * Issues the signed access tokens that authenticate requests after a login.
+ * This is an output port that will be implemented by the infrastructure layer.
+ */
+public interface AccessTokenIssuer {
+    /**
+     * Returns a token that carries the user's id and role and is accepted until it expires.
+     */
+    String issue(String userId, UserRole role, Instant expiresAt);
+}
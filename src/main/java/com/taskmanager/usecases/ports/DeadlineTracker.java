@@ -0,0 +1,16 @@
+package com.taskmanager.usecases.ports;
+
+import java.util.List;
+
+/**
+ * Keeps the due dates of open tasks ordered in memory and knows which of them have passed.
+ * This is an output port that will be implemented by the infrastructure layer.
+ */
+public interface DeadlineTracker {
+    /**
+     * Returns the ids of up to limit open tasks whose due date has passed, earliest due date first.
+     * The cost grows with the number of ids returned, not with the number of tasks.
+     */
+    List<String> findOverdueTaskIds(int limit);
+    long countOverdue();
+}
@@ -0,0 +1,24 @@
+package com.taskmanager.usecases.ports;
+
+import com.taskmanager.usecases.dto.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Records the domain events of the write use cases for downstream consumers.
+ * This is an output port that will be implemented by the infrastructure layer.
+ */
+public interface DomainEventOutbox {
+    /**
+     * Records the event as part of the surrounding transaction: it reaches consumers only if that transaction
+     * commits, and is delivered at least once.
+     */
+    void record(DomainEvent event);
+
+    /**
+     * Records the events in order, like record does for each, for use cases that change many aggregates at once.
+     */
+    default void recordAll(List<DomainEvent> events) {
+        events.forEach(this::record);
+    }
+}
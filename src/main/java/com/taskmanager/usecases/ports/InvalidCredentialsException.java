@@ -0,0 +1,10 @@
+package com.taskmanager.usecases.ports;
+
+/**
+ * Exception thrown when a login does not match an active user
+ */
+public class InvalidCredentialsException extends RuntimeException {
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.usecases.ports;
+
+/**
+ * One-way hashing of user passwords.
+ * This is an output port that will be implemented by the infrastructure layer.
+ */
+public interface PasswordHasher {
+    String hash(String rawPassword);
+
+    /**
+     * Checks the raw password against a stored hash. A null hash never matches but takes as long as one that
+     * does not, so callers can check an unknown user without revealing that it is unknown.
+     */
+    boolean matches(String rawPassword, String passwordHash);
+}
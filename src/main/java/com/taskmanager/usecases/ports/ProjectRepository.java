@@ -3,7 +3,9 @@ package com.taskmanager.usecases.ports;
 import com.taskmanager.entities.Project;
 import com.taskmanager.entities.ProjectStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -13,6 +15,11 @@ import java.util.Optional;
 public interface ProjectRepository {
     Project save(Project project);
     Optional<Project> findById(String id);
+    /**
+     * Loads all projects with the given IDs in a single round trip, keyed by ID.
+     * IDs without a matching project are absent from the result.
+     */
+    Map<String, Project> findByIds(Collection<String> ids);
     List<Project> findAll();
     List<Project> findByOwnerId(String ownerId);
     List<Project> findByStatus(com.taskmanager.entities.ProjectStatus status);
@@ -0,0 +1,22 @@
+package com.taskmanager.usecases.ports;
+
+import com.taskmanager.entities.TaskView;
+import java.util.List;
+
+/**
+ * Task views of one project together with the project's task change version, read in the same statement,
+ * so the version never describes a later state than the views. An empty result carries no version.
+ */
+public class ProjectTaskViews {
+    private final List<TaskView> views;
+    private final Long version;
+
+    public ProjectTaskViews(List<TaskView> views, Long version) {
+        this.views = views;
+        this.version = version;
+    }
+
+    // Getters
+    public List<TaskView> getViews() { return views; }
+    public Long getVersion() { return version; }
+}
@@ -0,0 +1,32 @@
+package com.taskmanager.usecases.ports;
+
+import com.taskmanager.entities.TaskPriority;
+import com.taskmanager.entities.TaskStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate over the tasks that share one status and priority, as returned by TaskRepository.countByProjectIdGrouped.
+ * overdueCount and nextDueDate only consider open tasks, so they are 0 and null for completed and cancelled groups.
+ */
+public class TaskCountGroup {
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final long count;
+    private final long overdueCount;
+    private final LocalDateTime nextDueDate;
+
+    public TaskCountGroup(TaskStatus status, TaskPriority priority, Long count, Long overdueCount, LocalDateTime nextDueDate) {
+        this.status = status;
+        this.priority = priority;
+        this.count = count != null ? count : 0;
+        this.overdueCount = overdueCount != null ? overdueCount : 0;
+        this.nextDueDate = nextDueDate;
+    }
+
+    // Getters
+    public TaskStatus getStatus() { return status; }
+    public TaskPriority getPriority() { return priority; }
+    public long getCount() { return count; }
+    public long getOverdueCount() { return overdueCount; }
+    public LocalDateTime getNextDueDate() { return nextDueDate; }
+}
@@ -0,0 +1,14 @@
+package com.taskmanager.usecases.ports;
+
+import com.taskmanager.usecases.dto.TaskChangeEvent;
+
+/**
+ * Tells the subscribers of the change feed about task changes.
+ * This is an output port that will be implemented by the infrastructure layer.
+ */
+public interface TaskEventPublisher {
+    /**
+     * Publishes the event once the surrounding transaction commits; it is dropped if the transaction rolls back.
+     */
+    void publish(TaskChangeEvent event);
+}
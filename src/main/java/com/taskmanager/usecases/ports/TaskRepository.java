@@ -4,8 +4,11 @@ import com.taskmanager.entities.Task;
 import com.taskmanager.entities.TaskStatus;
 import com.taskmanager.entities.TaskPriority;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for Task operations.
@@ -13,7 +16,17 @@ import java.util.Optional;
  */
 public interface TaskRepository {
     Task save(Task task);
+    /**
+     * Inserts tasks that do not exist yet in as few JDBC round trips as possible.
+     * Unlike save, no task is looked up first, so passing an existing task fails.
+     * The inserted tasks are detached afterwards.
+     */
+    List<Task> insertAll(List<Task> tasks);
     Optional<Task> findById(String id);
+    /**
+     * Loads the tasks with the given ids in one query, keyed by id. Unknown ids are absent from the map.
+     */
+    Map<String, Task> findByIds(Collection<String> ids);
     List<Task> findAll();
     List<Task> findByUserId(String userId);
     List<Task> findByProjectId(String projectId);
@@ -23,9 +36,26 @@ public interface TaskRepository {
     List<Task> findTasksDueWithin(LocalDateTime dueDateLimit);
     List<Task> findByUserIdAndStatus(String userId, TaskStatus status);
     List<Task> findByProjectIdAndStatus(String projectId, TaskStatus status);
+    /**
+     * Hands every task matching the filters to the consumer one at a time, reading through a
+     * forward-only cursor so the result is never materialized. Null filters match all tasks.
+     * Tasks passed to the consumer are detached and must not be modified.
+     */
+    void forEachMatching(String projectId, TaskStatus status, LocalDateTime updatedSince, Consumer<Task> consumer);
+    /**
+     * Moves the listed tasks whose current status is one of fromStatuses to the new status in a single
+     * conditional statement and returns the number of tasks changed. Tasks in any other status are left untouched.
+     */
+    int updateStatus(Collection<String> ids, Collection<TaskStatus> fromStatuses, TaskStatus status, LocalDateTime updatedAt);
     boolean existsById(String id);
     void deleteById(String id);
     long countByUserId(String userId);
     long countByProjectId(String projectId);
     long countByStatus(TaskStatus status);
+    /**
+     * Counts the project's tasks per status and priority in a single grouped query. Each group also carries
+     * how many of its open tasks were due before now and the earliest due date of its open tasks not yet due.
+     * Pairs without tasks are absent.
+     */
+    List<TaskCountGroup> countByProjectIdGrouped(String projectId, LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.taskmanager.usecases.ports;
+
+import com.taskmanager.entities.TaskStatus;
+import java.util.List;
+
+/**
+ * Full-text index over task titles and descriptions.
+ * This is an output port that will be implemented by the infrastructure layer.
+ */
+public interface TaskSearchIndex {
+    /**
+     * Returns the ids of up to limit tasks whose title or description contains every word of the query,
+     * best match first. A word ending in '*' matches every word that starts with it.
+     * A non-null projectId or status only keeps the tasks that have it.
+     */
+    List<String> search(String query, String projectId, TaskStatus status, int limit);
+}
@@ -0,0 +1,63 @@
+package com.taskmanager.usecases.ports;
+
+import com.taskmanager.entities.TaskStatus;
+import com.taskmanager.entities.TaskView;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository interface for the denormalized task read model.
+ * This is an output port that will be implemented by the infrastructure layer.
+ */
+public interface TaskViewRepository {
+    TaskView save(TaskView taskView);
+    /**
+     * Inserts views of newly created tasks in as few JDBC round trips as possible.
+     */
+    List<TaskView> insertAll(List<TaskView> taskViews);
+    Optional<TaskView> findById(String id);
+    /**
+     * Reads only the columns that decide whether a copy of the view is still current.
+     */
+    Optional<TaskViewStamp> findStampById(String id);
+    /**
+     * Loads the views with the given ids in one query, keyed by id. Unknown ids are absent from the map.
+     */
+    Map<String, TaskView> findByIds(Collection<String> ids);
+    void deleteById(String id);
+    /**
+     * Returns up to limit views of the project ordered by (createdAt, id), starting strictly
+     * after the given position, or from the first task when afterCreatedAt is null,
+     * together with the project's change version.
+     */
+    ProjectTaskViews findByProjectIdAfter(String projectId, LocalDateTime afterCreatedAt, String afterId, int limit);
+    /**
+     * Returns up to limit views assigned to the user ordered by (createdAt, id), starting strictly
+     * after the given position, or from the first task when afterCreatedAt is null.
+     */
+    List<TaskView> findByUserIdAfter(String userId, LocalDateTime afterCreatedAt, String afterId, int limit);
+    /**
+     * Rewrites the denormalized assignee name after a user is renamed.
+     */
+    int updateAssignedUserName(String userId, String assignedUserName);
+    /**
+     * Rewrites the denormalized project name after a project is renamed.
+     */
+    int updateProjectName(String projectId, String projectName);
+    /**
+     * Copies a bulk status change onto the views of the listed tasks.
+     */
+    int updateStatus(Collection<String> ids, TaskStatus status, LocalDateTime updatedAt);
+    /**
+     * Returns the change version of the project's tasks, 0 until one of them is written.
+     */
+    long findProjectVersion(String projectId);
+    /**
+     * Advances the change version of each listed project. Called in the transaction of every task write,
+     * so a list read after the commit never carries the version from before it.
+     */
+    void bumpProjectVersions(Collection<String> projectIds);
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.taskmanager.usecases.ports;
+
+import com.taskmanager.entities.TaskStatus;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The columns of a task view that decide whether a client's copy of the task is still current,
+ * as returned by TaskViewRepository.findStampById without reading the title and description.
+ */
+public class TaskViewStamp {
+    private final String id;
+    private final LocalDateTime dueDate;
+    private final TaskStatus status;
+    private final String assignedUserName;
+    private final String projectName;
+    private final LocalDateTime updatedAt;
+
+    public TaskViewStamp(String id, LocalDateTime dueDate, TaskStatus status, String assignedUserName,
+                         String projectName, LocalDateTime updatedAt) {
+        this.id = id;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.assignedUserName = assignedUserName;
+        this.projectName = projectName;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Checks if the task is overdue at the given time, using the same rule as {@link com.taskmanager.entities.TaskView#isOverdue(LocalDateTime)}
+     */
+    public boolean isOverdue(LocalDateTime now) {
+        return dueDate != null &&
+               now.isAfter(dueDate) &&
+               status != TaskStatus.COMPLETED &&
+               status != TaskStatus.CANCELLED;
+    }
+
+    /**
+     * Calculates the number of days from the given time until due date, using the same rule as
+     * {@link com.taskmanager.entities.TaskView#getDaysUntilDue(LocalDateTime)}
+     */
+    public long getDaysUntilDue(LocalDateTime now) {
+        if (dueDate == null) {
+            return Long.MAX_VALUE;
+        }
+        return now.until(dueDate, ChronoUnit.DAYS);
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public LocalDateTime getDueDate() { return dueDate; }
+    public TaskStatus getStatus() { return status; }
+    public String getAssignedUserName() { return assignedUserName; }
+    public String getProjectName() { return projectName; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.usecases.ports;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records when users log in.
+ * This is an output port that will be implemented by the infrastructure layer.
+ */
+public interface UserLoginRecorder {
+    /**
+     * Records a login of the user at the given time. The write may be deferred and merged with later logins
+     * of the same user, so the stored last-login time can lag behind for a bounded time but never moves backwards.
+     */
+    void recordLogin(String userId, LocalDateTime loginAt);
+}
@@ -4,7 +4,9 @@ import com.taskmanager.entities.User;
 import com.taskmanager.entities.UserRole;
 import com.taskmanager.entities.UserStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -14,6 +16,11 @@ import java.util.Optional;
 public interface UserRepository {
     User save(User user);
     Optional<User> findById(String id);
+    /**
+     * Loads all users with the given IDs in a single round trip, keyed by ID.
+     * IDs without a matching user are absent from the result.
+     */
+    Map<String, User> findByIds(Collection<String> ids);
     Optional<User> findByEmail(String email);
     List<User> findAll();
     /**
@@ -1,8 +1,9 @@
+-- Fixed UUIDs keep the sample users and project easy to recognize; both users log in with Password1!
 INSERT INTO users (id, email, first_name, last_name, password, role, status, created_at, updated_at)
-VALUES ('user1', 'test@example.com', 'John', 'Doe', 'Password1!', 'USER', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-       ('user2', 'pm@example.com', 'Jane', 'Smith', 'Password1!', 'PROJECT_MANAGER', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+VALUES ('00000000-0000-7000-8000-000000000001', 'test@example.com', 'John', 'Doe', '$2a$10$B5kaH/QbHISGXAv37ef1yOXjAc4B.g8PvHrbiEoT4sINqPrC20txO', 'USER', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+       ('00000000-0000-7000-8000-000000000002', 'pm@example.com', 'Jane', 'Smith', '$2a$10$B5kaH/QbHISGXAv37ef1yOXjAc4B.g8PvHrbiEoT4sINqPrC20txO', 'PROJECT_MANAGER', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 INSERT INTO projects (id, name, description, owner_id, status, start_date, end_date, created_at, updated_at)
 VALUES 
-  ('project1', 'Test Project', 'Sample project', 'user2', 'PLANNING', CURRENT_TIMESTAMP, 
+  ('00000000-0000-7000-8000-000000000101', 'Test Project', 'Sample project', '00000000-0000-7000-8000-000000000002', 'PLANNING', CURRENT_TIMESTAMP, 
    DATEADD('DAY', 10, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
\ No newline at end of file
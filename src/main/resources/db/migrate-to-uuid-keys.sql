@@ -0,0 +1,130 @@
+-- Upgrades a database created with VARCHAR(36) keys to native UUID keys, as defined in schema.sql.
+-- Run it once, with the application stopped, for example:
+--   java -cp h2.jar org.h2.tools.RunScript -url <jdbc url> -script migrate-to-uuid-keys.sql
+-- Keys that already are UUIDs keep their value. Anything else, such as hand-written sample ids,
+-- gets a new random UUID, applied consistently to every column referring to it.
+
+CREATE TABLE uuid_keys (
+    old_id VARCHAR(36) PRIMARY KEY,
+    new_id UUID NOT NULL
+);
+
+INSERT INTO uuid_keys (old_id, new_id)
+SELECT id,
+       CASE WHEN REGEXP_LIKE(id, '^[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}$')
+            THEN CAST(id AS UUID)
+            ELSE RANDOM_UUID()
+       END
+FROM (SELECT id FROM users UNION SELECT id FROM projects UNION SELECT id FROM tasks) AS entity_keys;
+
+CREATE TABLE users_uuid (
+    id UUID PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    password VARCHAR(100) NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    last_login_at TIMESTAMP
+);
+
+INSERT INTO users_uuid
+SELECT k.new_id, u.email, u.first_name, u.last_name, u.password, u.role, u.status, u.created_at, u.updated_at, u.last_login_at
+FROM users u
+JOIN uuid_keys k ON k.old_id = u.id;
+
+CREATE TABLE projects_uuid (
+    id UUID PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    owner_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    start_date TIMESTAMP,
+    end_date TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (owner_id) REFERENCES users_uuid(id)
+);
+
+INSERT INTO projects_uuid
+SELECT k.new_id, p.name, p.description, owner.new_id, p.status, p.start_date, p.end_date, p.created_at, p.updated_at
+FROM projects p
+JOIN uuid_keys k ON k.old_id = p.id
+JOIN uuid_keys owner ON owner.old_id = p.owner_id;
+
+CREATE TABLE tasks_uuid (
+    id UUID PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    due_date TIMESTAMP,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assigned_user_id UUID,
+    project_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (assigned_user_id) REFERENCES users_uuid(id),
+    FOREIGN KEY (project_id) REFERENCES projects_uuid(id)
+);
+
+INSERT INTO tasks_uuid
+SELECT k.new_id, t.title, t.description, t.due_date, t.status, t.priority, assignee.new_id, project.new_id,
+       t.created_at, t.updated_at
+FROM tasks t
+JOIN uuid_keys k ON k.old_id = t.id
+LEFT JOIN uuid_keys assignee ON assignee.old_id = t.assigned_user_id
+JOIN uuid_keys project ON project.old_id = t.project_id;
+
+CREATE TABLE task_view_uuid (
+    id UUID PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    due_date TIMESTAMP,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assigned_user_id UUID NOT NULL,
+    assigned_user_name VARCHAR(101) NOT NULL,
+    project_id UUID NOT NULL,
+    project_name VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO task_view_uuid
+SELECT k.new_id, v.title, v.description, v.due_date, v.status, v.priority, assignee.new_id, v.assigned_user_name,
+       project.new_id, v.project_name, v.created_at, v.updated_at
+FROM task_view v
+JOIN uuid_keys k ON k.old_id = v.id
+JOIN uuid_keys assignee ON assignee.old_id = v.assigned_user_id
+JOIN uuid_keys project ON project.old_id = v.project_id;
+
+DROP TABLE task_view;
+DROP TABLE tasks;
+DROP TABLE projects;
+DROP TABLE users;
+DROP TABLE uuid_keys;
+
+ALTER TABLE users_uuid RENAME TO users;
+ALTER TABLE projects_uuid RENAME TO projects;
+ALTER TABLE tasks_uuid RENAME TO tasks;
+ALTER TABLE task_view_uuid RENAME TO task_view;
+
+-- The secondary indexes went away with the old tables; recreate them as in schema.sql
+CREATE INDEX idx_users_status ON users (status);
+CREATE INDEX idx_users_role ON users (role);
+
+CREATE INDEX idx_projects_owner_status ON projects (owner_id, status);
+CREATE INDEX idx_projects_status_end_date ON projects (status, end_date);
+CREATE INDEX idx_projects_end_date ON projects (end_date);
+
+CREATE INDEX idx_tasks_project_status ON tasks (project_id, status);
+CREATE INDEX idx_tasks_assignee_status ON tasks (assigned_user_id, status);
+CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date);
+CREATE INDEX idx_tasks_priority ON tasks (priority);
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at);
+
+CREATE INDEX idx_task_view_project_created ON task_view (project_id, created_at, id);
+CREATE INDEX idx_task_view_assignee_created ON task_view (assigned_user_id, created_at, id);
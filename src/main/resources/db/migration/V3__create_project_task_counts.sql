@@ -0,0 +1,21 @@
+-- Task totals of the project dashboard; see schema.sql
+
+-- A database baselined at version 1 may still carry the index without priority and due_date
+DROP INDEX IF EXISTS idx_tasks_project_status;
+CREATE INDEX idx_tasks_project_status ON tasks (project_id, status, priority, due_date);
+
+-- Task totals per project, status and priority, each the sum of its slots, kept current by the task repository
+CREATE TABLE project_task_counts (
+    project_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    slot INT NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (project_id, status, priority, slot),
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+INSERT INTO project_task_counts (project_id, status, priority, slot, task_count)
+SELECT project_id, status, priority, 0, COUNT(*)
+FROM tasks
+GROUP BY project_id, status, priority;
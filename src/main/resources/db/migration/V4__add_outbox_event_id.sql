@@ -0,0 +1,5 @@
+-- Outbox events get a UUID for consumers to drop duplicates by; see schema.sql. Rows still waiting to be
+-- relayed get a random one
+
+ALTER TABLE outbox_events ADD COLUMN event_id UUID DEFAULT RANDOM_UUID() NOT NULL;
+ALTER TABLE outbox_events ALTER COLUMN event_id DROP DEFAULT;
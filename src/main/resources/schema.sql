@@ -1,9 +1,13 @@
+DROP TABLE IF EXISTS outbox_events;
+DROP TABLE IF EXISTS project_task_counts;
+DROP TABLE IF EXISTS project_task_versions;
+DROP TABLE IF EXISTS task_view;
 DROP TABLE IF EXISTS tasks;
 DROP TABLE IF EXISTS projects;
 DROP TABLE IF EXISTS users;
 
 CREATE TABLE users (
-    id VARCHAR(36) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     email VARCHAR(255) NOT NULL UNIQUE,
     first_name VARCHAR(50) NOT NULL,
     last_name VARCHAR(50) NOT NULL,
@@ -16,10 +20,10 @@ CREATE TABLE users (
 );
 
 CREATE TABLE projects (
-    id VARCHAR(36) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
     description TEXT,
-    owner_id VARCHAR(36) NOT NULL,
+    owner_id UUID NOT NULL,
     status VARCHAR(20) NOT NULL,
     start_date TIMESTAMP,
     end_date TIMESTAMP,
@@ -29,16 +33,82 @@ CREATE TABLE projects (
 );
 
 CREATE TABLE tasks (
-    id VARCHAR(36) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     title VARCHAR(200) NOT NULL,
     description TEXT,
     due_date TIMESTAMP,
     status VARCHAR(20) NOT NULL,
     priority VARCHAR(20) NOT NULL,
-    assigned_user_id VARCHAR(36),
-    project_id VARCHAR(36) NOT NULL,
+    assigned_user_id UUID,
+    project_id UUID NOT NULL,
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP NOT NULL,
     FOREIGN KEY (assigned_user_id) REFERENCES users(id),
     FOREIGN KEY (project_id) REFERENCES projects(id)
-);
\ No newline at end of file
+);
+
+-- Denormalized read model maintained by the task use cases; no foreign keys on purpose
+CREATE TABLE task_view (
+    id UUID PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    due_date TIMESTAMP,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assigned_user_id UUID NOT NULL,
+    assigned_user_name VARCHAR(101) NOT NULL,
+    project_id UUID NOT NULL,
+    project_name VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Bumped with every task write, so unchanged task lists can be answered with 304 Not Modified
+CREATE TABLE project_task_versions (
+    project_id UUID PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+-- Task totals per project, status and priority for the dashboard, each the sum of its slots; the task repository
+-- adds to a random slot as it writes tasks, so concurrent writers seldom contend for a row
+CREATE TABLE project_task_counts (
+    project_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    slot INT NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (project_id, status, priority, slot),
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+-- Transactional outbox: domain events written in the transaction of the change they describe, moved to the
+-- event log by OutboxRelay and deleted once there. id only orders the rows of this database; event_id identifies
+-- the event in the log, which outlives the database when it is in memory
+CREATE TABLE outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id UUID NOT NULL,
+    event_type VARCHAR(40) NOT NULL,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Secondary indexes, one per access path used by the JPA repositories
+CREATE INDEX idx_users_status ON users (status);
+CREATE INDEX idx_users_role ON users (role);
+
+CREATE INDEX idx_projects_owner_status ON projects (owner_id, status);
+CREATE INDEX idx_projects_status_end_date ON projects (status, end_date);
+CREATE INDEX idx_projects_end_date ON projects (end_date);
+
+CREATE INDEX idx_tasks_project_status ON tasks (project_id, status, priority, due_date);
+CREATE INDEX idx_tasks_assignee_status ON tasks (assigned_user_id, status);
+CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date);
+CREATE INDEX idx_tasks_priority ON tasks (priority);
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at);
+
+-- Keyset pagination seeks on (created_at, id) within a project or assignee
+CREATE INDEX idx_task_view_project_created ON task_view (project_id, created_at, id);
+CREATE INDEX idx_task_view_assignee_created ON task_view (assigned_user_id, created_at, id);
\ No newline at end of file
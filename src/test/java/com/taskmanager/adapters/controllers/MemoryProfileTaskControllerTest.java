@@ -0,0 +1,95 @@
+package com.taskmanager.adapters.controllers;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.ProjectRepository;
+import com.taskmanager.usecases.ports.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * With the memory profile, task reads come from the in-memory store and the task_view table stays empty.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("memory")
+class MemoryProfileTaskControllerTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void memoryDirectory(DynamicPropertyRegistry registry) {
+        registry.add("taskmanager.memory.directory", () -> directory.toString());
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testTaskReadsAreServedFromMemory() {
+        User user = new User("memory@example.com", "Mia", "Memory", "Password1!", UserRole.USER);
+        userRepository.save(user);
+        Project project = new Project("Memory Project", "Description", user.getId(), LocalDateTime.now(), LocalDateTime.now().plusDays(10));
+        projectRepository.save(project);
+        TestRestTemplate client = restTemplate.withBasicAuth("demo", "demo");
+
+        TaskOutputData first = create(client, user, project, "First Task");
+
+        ResponseEntity<TaskOutputData> byId = client.getForEntity("/api/tasks/" + first.getId(), TaskOutputData.class);
+        assertEquals(HttpStatus.OK, byId.getStatusCode());
+        assertEquals("Mia Memory", byId.getBody().getAssignedUserName());
+        assertEquals("Memory Project", byId.getBody().getProjectName());
+
+        ResponseEntity<TaskOutputData[]> list = client.getForEntity("/api/tasks/project/" + project.getId(), TaskOutputData[].class);
+        assertEquals(1, list.getBody().length);
+        String eTag = list.getHeaders().getETag();
+        assertNotNull(eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, getProjectTasks(client, project, eTag).getStatusCode());
+
+        create(client, user, project, "Second Task");
+
+        ResponseEntity<TaskOutputData[]> changed = getProjectTasks(client, project, eTag);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals(2, changed.getBody().length);
+        assertEquals(2, client.getForEntity("/api/tasks/user/" + user.getId(), TaskOutputData[].class).getBody().length);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_view", Integer.class));
+    }
+
+    private static TaskOutputData create(TestRestTemplate client, User user, Project project, String title) {
+        ResponseEntity<TaskOutputData> response = client.postForEntity("/api/tasks", new CreateTaskInputData(
+                title, "Description", LocalDateTime.now().plusDays(1),
+                user.getId(), project.getId(), TaskPriority.MEDIUM), TaskOutputData.class);
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private static ResponseEntity<TaskOutputData[]> getProjectTasks(TestRestTemplate client, Project project, String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        return client.exchange("/api/tasks/project/" + project.getId(), HttpMethod.GET, new HttpEntity<>(headers), TaskOutputData[].class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskmanager.adapters.controllers;
+
+import com.taskmanager.config.ReplicaRoutingDataSource;
+import com.taskmanager.entities.Project;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * With the replicas profile, the task reads and their If-None-Match checks run against the replica. The rows
+ * written here exist on the replica only, so any of these requests answered by the primary would find nothing,
+ * and any of them left in a shared cache would be served to readers of the primary.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("replicas")
+@TestPropertySource(properties = "taskmanager.datasource.replicas.stickiness=0s")
+class ReplicaProfileTaskControllerTest {
+    // Seeded by data.sql on the primary and the replica
+    private static final String OWNER_ID = "00000000-0000-7000-8000-000000000002";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${taskmanager.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Test
+    void testTaskReadsAndTagChecksAreServedByTheReplica() {
+        UUID taskId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(replicaUrls.get(0), "sa", ""));
+        replica.update("INSERT INTO task_view (id, title, due_date, status, priority, assigned_user_id, assigned_user_name, "
+                        + "project_id, project_name, created_at, updated_at) VALUES (?, 'Replica only', ?, 'TODO', 'MEDIUM', ?, "
+                        + "'Rita Replica', ?, 'Replica Project', ?, ?)",
+                taskId, Timestamp.valueOf(LocalDateTime.now().plusDays(1)), UUID.randomUUID(), projectId, now, now);
+        replica.update("INSERT INTO project_task_versions (project_id, version) VALUES (?, 42)", projectId);
+        TestRestTemplate client = restTemplate.withBasicAuth("demo", "demo");
+
+        String taskUrl = "/api/tasks/" + taskId;
+        ResponseEntity<TaskOutputData> task = client.getForEntity(taskUrl, TaskOutputData.class);
+        assertEquals(HttpStatus.OK, task.getStatusCode());
+        assertEquals("Rita Replica", task.getBody().getAssignedUserName());
+        assertEquals(HttpStatus.NOT_MODIFIED, getIfNoneMatch(client, taskUrl, task.getHeaders().getETag()).getStatusCode());
+
+        String listUrl = "/api/tasks/project/" + projectId;
+        ResponseEntity<TaskOutputData[]> list = client.getForEntity(listUrl, TaskOutputData[].class);
+        assertEquals(HttpStatus.OK, list.getStatusCode());
+        assertEquals(1, list.getBody().length);
+        assertTrue(list.getHeaders().getETag().startsWith("\"42."));
+        assertEquals(HttpStatus.NOT_MODIFIED, getIfNoneMatch(client, listUrl, list.getHeaders().getETag()).getStatusCode());
+    }
+
+    @Test
+    void testProjectsReadFromTheReplicaAreNotCached() {
+        String projectId = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(replicaUrls.get(0), "sa", ""));
+        replica.update("INSERT INTO projects (id, name, description, owner_id, status, start_date, end_date, created_at, updated_at) "
+                + "VALUES (?, 'Replica only', 'Description', ?, 'PLANNING', ?, ?, ?, ?)",
+                UUID.fromString(projectId), UUID.fromString(OWNER_ID), now, now, now, now);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        boolean previous = ReplicaRoutingDataSource.preferReplica(true);
+        try {
+            assertTrue(readOnly.execute(status -> projectRepository.findById(projectId)).isPresent());
+        } finally {
+            ReplicaRoutingDataSource.preferReplica(previous);
+        }
+
+        assertFalse(entityManagerFactory.getCache().contains(Project.class, projectId));
+        assertTrue(readOnly.execute(status -> projectRepository.findById(projectId)).isEmpty());
+    }
+
+    private static ResponseEntity<String> getIfNoneMatch(TestRestTemplate client, String url, String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        return client.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
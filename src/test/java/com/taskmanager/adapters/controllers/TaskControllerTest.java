@@ -1,17 +1,26 @@
 package com.taskmanager.adapters.controllers;
 
 import com.taskmanager.usecases.*;
+import com.taskmanager.usecases.BulkUpdateTaskStatusUseCase;
 import com.taskmanager.usecases.dto.*;
 import com.taskmanager.entities.*;
 import com.taskmanager.usecases.ports.UserRepository;
 import com.taskmanager.usecases.ports.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -26,6 +35,12 @@ class TaskControllerTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BulkUpdateTaskStatusUseCase bulkUpdateTaskStatusUseCase;
+
     @Test
     void testCreateTask() {
         User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.USER);
@@ -68,4 +83,135 @@ class TaskControllerTest {
         assertNotNull(response.getBody());
         assertTrue(response.getBody().length > 0);
     }
+
+    @Test
+    void testUnchangedTaskAndListAreNotModified() {
+        User user = new User("test3@example.com", "Joe", "Bloggs", "Password1!", UserRole.USER);
+        userRepository.save(user);
+
+        Project project = new Project("Test Project 3", "Description", user.getId(), LocalDateTime.now(), LocalDateTime.now().plusDays(10));
+        projectRepository.save(project);
+
+        TestRestTemplate client = restTemplate.withBasicAuth("demo", "demo");
+        TaskOutputData task = client.postForEntity("/api/tasks", new CreateTaskInputData(
+                "Test Task", "Description", LocalDateTime.now().plusDays(1),
+                user.getId(), project.getId(), TaskPriority.MEDIUM), TaskOutputData.class).getBody();
+        assertNotNull(task);
+
+        String taskUrl = "/api/tasks/" + task.getId();
+        String listUrl = "/api/tasks/project/" + project.getId();
+        String taskTag = client.getForEntity(taskUrl, TaskOutputData.class).getHeaders().getETag();
+        String listTag = client.getForEntity(listUrl, TaskOutputData[].class).getHeaders().getETag();
+        assertNotNull(taskTag);
+        assertNotNull(listTag);
+
+        ResponseEntity<TaskOutputData> unchangedTask = getIfNoneMatch(client, taskUrl, taskTag, TaskOutputData.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, unchangedTask.getStatusCode());
+        assertEquals(taskTag, unchangedTask.getHeaders().getETag());
+        assertNull(unchangedTask.getBody());
+        ResponseEntity<TaskOutputData[]> unchangedList = getIfNoneMatch(client, listUrl, "\"stale\", " + listTag, TaskOutputData[].class);
+        assertEquals(HttpStatus.NOT_MODIFIED, unchangedList.getStatusCode());
+        assertEquals(listTag, unchangedList.getHeaders().getETag());
+        // The checks run as use cases, inside their own read-only transaction and timed like the others
+        assertEquals(1, meterRegistry.get("usecase.execution").tag("usecase", "CheckTaskETagUseCase").timer().count());
+        assertEquals(1, meterRegistry.get("usecase.execution").tag("usecase", "CheckTasksByProjectETagUseCase").timer().count());
+
+        client.put(taskUrl, new UpdateTaskInputData(task.getId(), "Renamed Task", "Description",
+                task.getDueDate(), TaskPriority.HIGH));
+
+        ResponseEntity<TaskOutputData> changedTask = getIfNoneMatch(client, taskUrl, taskTag, TaskOutputData.class);
+        assertEquals(HttpStatus.OK, changedTask.getStatusCode());
+        assertEquals("Renamed Task", changedTask.getBody().getTitle());
+        assertNotEquals(taskTag, changedTask.getHeaders().getETag());
+        ResponseEntity<TaskOutputData[]> changedList = getIfNoneMatch(client, listUrl, listTag, TaskOutputData[].class);
+        assertEquals(HttpStatus.OK, changedList.getStatusCode());
+        assertNotEquals(listTag, changedList.getHeaders().getETag());
+    }
+
+    @Test
+    void testTaskIsListedAndAnnouncedOnceOverdue() throws InterruptedException {
+        User user = new User("test4@example.com", "Olive", "Overdue", "Password1!", UserRole.USER);
+        userRepository.save(user);
+
+        Project project = new Project("Test Project 4", "Description", user.getId(), LocalDateTime.now(), LocalDateTime.now().plusDays(10));
+        projectRepository.save(project);
+
+        TestRestTemplate client = restTemplate.withBasicAuth("demo", "demo");
+        ResponseEntity<TaskOutputData> created = client.postForEntity("/api/tasks", new CreateTaskInputData(
+                "Due soon", "Description", LocalDateTime.now().plusSeconds(3),
+                user.getId(), project.getId(), TaskPriority.HIGH), TaskOutputData.class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        TaskOutputData task = created.getBody();
+        double published = meterRegistry.get("tasks.events.published").counter().count();
+        assertFalse(overdueIds(client).contains(task.getId()));
+
+        // The tracker collects passed deadlines once per second
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (!overdueIds(client).contains(task.getId()) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(overdueIds(client).contains(task.getId()));
+        // Read as JSON: the response names the flag "overdue", which TaskOutputData does not map back
+        Map<?, ?> listed = Arrays.stream(client.getForEntity("/api/tasks/overdue", Map[].class).getBody())
+                .filter(overdue -> task.getId().equals(overdue.get("id"))).findFirst().orElseThrow();
+        assertEquals(Boolean.TRUE, listed.get("overdue"));
+        assertEquals("Olive Overdue", listed.get("assignedUserName"));
+
+        // The OVERDUE change feed event is published on the tracker thread, right after the task is listed
+        while (meterRegistry.get("tasks.events.published").counter().count() == published && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(meterRegistry.get("tasks.events.published").counter().count() > published);
+    }
+
+    @Test
+    void testSearchFollowsCommittedWrites() {
+        User user = new User("test5@example.com", "Sam", "Searcher", "Password1!", UserRole.USER);
+        userRepository.save(user);
+
+        Project project = new Project("Test Project 5", "Description", user.getId(), LocalDateTime.now(), LocalDateTime.now().plusDays(10));
+        projectRepository.save(project);
+
+        TestRestTemplate client = restTemplate.withBasicAuth("demo", "demo");
+        TaskOutputData task = client.postForEntity("/api/tasks", new CreateTaskInputData(
+                "Calibrate flux capacitor", "Before the zephyrine launch", LocalDateTime.now().plusDays(1),
+                user.getId(), project.getId(), TaskPriority.MEDIUM), TaskOutputData.class).getBody();
+        assertNotNull(task);
+
+        ResponseEntity<TaskOutputData[]> found = client.getForEntity("/api/tasks/search?q=zephyr* capacitor", TaskOutputData[].class);
+        assertEquals(HttpStatus.OK, found.getStatusCode());
+        assertEquals(List.of(task.getId()), Arrays.stream(found.getBody()).map(TaskOutputData::getId).toList());
+        assertEquals("Sam Searcher", found.getBody()[0].getAssignedUserName());
+        assertEquals(List.of(task.getId()), searchIds(client, "zephyrine&projectId=" + project.getId() + "&status=TODO"));
+
+        client.put("/api/tasks/" + task.getId(), new UpdateTaskInputData(task.getId(), "Recalibrate flux capacitor",
+                "Before the quetzal launch", task.getDueDate(), TaskPriority.MEDIUM));
+        assertEquals(List.of(), searchIds(client, "zephyrine"));
+        assertEquals(List.of(task.getId()), searchIds(client, "quetzal"));
+
+        bulkUpdateTaskStatusUseCase.execute(List.of(task.getId()), TaskStatus.IN_PROGRESS);
+        assertEquals(List.of(), searchIds(client, "quetzal&status=TODO"));
+        assertEquals(List.of(task.getId()), searchIds(client, "quetzal&status=IN_PROGRESS"));
+
+        client.delete("/api/tasks/" + task.getId());
+        assertEquals(List.of(), searchIds(client, "quetzal"));
+    }
+
+    private static List<String> searchIds(TestRestTemplate client, String query) {
+        ResponseEntity<TaskOutputData[]> response = client.getForEntity("/api/tasks/search?q=" + query, TaskOutputData[].class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return Arrays.stream(response.getBody()).map(TaskOutputData::getId).toList();
+    }
+
+    private static List<String> overdueIds(TestRestTemplate client) {
+        ResponseEntity<TaskOutputData[]> response = client.getForEntity("/api/tasks/overdue", TaskOutputData[].class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return Arrays.stream(response.getBody()).map(TaskOutputData::getId).toList();
+    }
+
+    private <T> ResponseEntity<T> getIfNoneMatch(TestRestTemplate client, String url, String eTag, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        return client.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), type);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.taskmanager.adapters.controllers;
+
+import com.taskmanager.adapters.events.TaskChangeFeed;
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.ProjectRepository;
+import com.taskmanager.usecases.ports.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskEventControllerTest {
+    private static final String AUTHORIZATION =
+            "Basic " + Base64.getEncoder().encodeToString("demo:demo".getBytes(StandardCharsets.UTF_8));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void testBulkStatusChangeAndDeletionReachTheAssigneesFeed() throws Exception {
+        User assignee = userRepository.save(new User("events-assignee@example.com", "Ada", "Assignee", "Password1!", UserRole.USER));
+        Project project = projectRepository.save(new Project("Events Project", "Description", assignee.getId(),
+                LocalDateTime.now(), LocalDateTime.now().plusDays(10)));
+        TestRestTemplate client = restTemplate.withBasicAuth("demo", "demo");
+        TaskOutputData task = client.postForEntity("/api/tasks", new CreateTaskInputData("Watched", "Description",
+                LocalDateTime.now().plusDays(1), assignee.getId(), project.getId(), TaskPriority.MEDIUM),
+                TaskOutputData.class).getBody();
+        assertNotNull(task);
+
+        // The response only starts with its first event, so the subscription is awaited on the feed itself
+        int subscribers = taskChangeFeed.countSubscribers();
+        CompletableFuture<HttpResponse<Stream<String>>> response = open("/api/tasks/events?userId=" + assignee.getId(), null);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskChangeFeed.countSubscribers() == subscribers && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // The bulk status change and the deletion carry no task, only the ids it belonged to
+        HttpResponse<String> changed = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/bulk/status"))
+                .header("Authorization", AUTHORIZATION)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                        "{\"taskIds\":[\"" + task.getId() + "\"],\"status\":\"IN_PROGRESS\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, changed.statusCode(), changed.body());
+        client.delete("/api/tasks/" + task.getId());
+
+        HttpResponse<Stream<String>> stream = response.get(5, TimeUnit.SECONDS);
+        assertEquals(200, stream.statusCode());
+        assertTrue(stream.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+        Iterator<String> lines = stream.body().iterator();
+        String statusChanged = nextData(lines);
+        assertTrue(statusChanged.contains("\"type\":\"STATUS_CHANGED\""), statusChanged);
+        assertTrue(statusChanged.contains("\"taskId\":\"" + task.getId() + "\""), statusChanged);
+        String deleted = nextData(lines);
+        assertTrue(deleted.contains("\"type\":\"DELETED\""), deleted);
+        assertTrue(deleted.contains("\"assignedUserId\":\"" + assignee.getId() + "\""), deleted);
+        stream.body().close();
+    }
+
+    @Test
+    void testLastEventIdFromAnEarlierRunAsksForAReload() throws Exception {
+        HttpResponse<Stream<String>> stream = open("/api/tasks/events", "earlier-run-7").get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, stream.statusCode());
+        assertEquals("event:reset", line(stream.body().iterator(), "event:"));
+        stream.body().close();
+    }
+
+    private CompletableFuture<HttpResponse<Stream<String>>> open(String path, String lastEventId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", AUTHORIZATION)
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines());
+    }
+
+    private static String nextData(Iterator<String> lines) throws Exception {
+        return line(lines, "data:").substring("data:".length());
+    }
+
+    // Keep-alive comments and blank separators are skipped; a missing line fails the test instead of hanging it
+    private static String line(Iterator<String> lines, String prefix) throws Exception {
+        CompletableFuture<String> found = CompletableFuture.supplyAsync(() -> {
+            while (lines.hasNext()) {
+                String line = lines.next();
+                if (line.startsWith(prefix)) {
+                    return line;
+                }
+            }
+            return null;
+        });
+        String line = found.get(5, TimeUnit.SECONDS);
+        assertNotNull(line, "The stream ended before a " + prefix + " line");
+        return line;
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskmanager.adapters.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.ProjectRepository;
+import com.taskmanager.usecases.ports.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskExportControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testExportWritesOneJsonObjectPerLine() throws Exception {
+        User user = new User("export@example.com", "Ada", "Export", "Password1!", UserRole.USER);
+        userRepository.save(user);
+        Project project = new Project("Export Project", "Description", user.getId(), LocalDateTime.now(), LocalDateTime.now().plusDays(10));
+        projectRepository.save(project);
+
+        TestRestTemplate client = restTemplate.withBasicAuth("demo", "demo");
+        Map<String, TaskOutputData> created = new HashMap<>();
+        for (String title : new String[] {"First Task", "Second Task"}) {
+            TaskOutputData task = client.postForEntity("/api/tasks", new CreateTaskInputData(
+                    title, "Description", LocalDateTime.now().plusDays(1),
+                    user.getId(), project.getId(), TaskPriority.MEDIUM), TaskOutputData.class).getBody();
+            created.put(task.getId(), task);
+        }
+
+        ResponseEntity<byte[]> response = client.getForEntity("/api/tasks/export?projectId=" + project.getId(), byte[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String body = new String(response.getBody(), StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        // Rebuild the expected bytes line by line, in the order the export returned the tasks
+        ObjectWriter writer = objectMapper.writerFor(TaskExportData.class);
+        StringBuilder expected = new StringBuilder();
+        for (String line : lines) {
+            TaskOutputData task = created.get(objectMapper.readTree(line).get("id").asText());
+            assertNotNull(task);
+            expected.append(writer.writeValueAsString(new TaskExportData(task.getId(), task.getTitle(), task.getDescription(),
+                    task.getDueDate(), task.getStatus(), task.getPriority(), task.getAssignedUserId(), task.getProjectId(),
+                    task.getCreatedAt(), task.getUpdatedAt()))).append('\n');
+        }
+        assertEquals(expected.toString(), body);
+    }
+}
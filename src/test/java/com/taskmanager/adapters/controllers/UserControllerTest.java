@@ -0,0 +1,101 @@
+package com.taskmanager.adapters.controllers;
+
+import com.taskmanager.adapters.repositories.WriteBehindTimestamps;
+import com.taskmanager.usecases.dto.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Timestamp;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserControllerTest {
+    // Seeded by data.sql
+    private static final String PROJECT_ID = "00000000-0000-7000-8000-000000000101";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private WriteBehindTimestamps lastLoginTimestamps;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testLoginTokenAuthenticatesRequests() {
+        ResponseEntity<LoginOutputData> login = restTemplate.postForEntity("/api/users/login",
+                new LoginInputData("test@example.com", "Password1!"), LoginOutputData.class);
+
+        assertEquals(HttpStatus.OK, login.getStatusCode());
+        assertEquals("Bearer", login.getBody().getTokenType());
+
+        ResponseEntity<String> response = getTasks(login.getBody().getAccessToken());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    void testLoginIsStoredAsLastLogin() {
+        ResponseEntity<LoginOutputData> login = restTemplate.postForEntity("/api/users/login",
+                new LoginInputData("test@example.com", "Password1!"), LoginOutputData.class);
+        assertEquals(HttpStatus.OK, login.getStatusCode());
+
+        lastLoginTimestamps.flush();
+
+        assertNotNull(jdbcTemplate.queryForObject("SELECT last_login_at FROM users WHERE id = ?", Timestamp.class,
+                UUID.fromString(login.getBody().getUserId())));
+    }
+
+    @Test
+    void testLoginWithWrongPasswordIsUnauthorized() {
+        // HttpURLConnection cannot read a 401 answering a streamed POST body
+        TestRestTemplate client = new TestRestTemplate(new RestTemplateBuilder()
+                .requestFactory(JdkClientHttpRequestFactory.class)
+                .rootUri(restTemplate.getRootUri()));
+
+        ResponseEntity<String> login = client.postForEntity("/api/users/login",
+                new LoginInputData("test@example.com", "Wrong1!xx"), String.class);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, login.getStatusCode());
+    }
+
+    @Test
+    void testInvalidTokenIsUnauthorized() {
+        ResponseEntity<String> response = getTasks("not-a-token");
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("Bearer error=\"invalid_token\"", response.getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE));
+    }
+
+    @Test
+    void testActuatorIsForAdminsExceptHealth() {
+        ResponseEntity<LoginOutputData> login = restTemplate.postForEntity("/api/users/login",
+                new LoginInputData("test@example.com", "Password1!"), LoginOutputData.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(login.getBody().getAccessToken());
+
+        ResponseEntity<String> cache = restTemplate.exchange("/actuator/hibernatecache", HttpMethod.DELETE,
+                new HttpEntity<>(headers), String.class);
+        ResponseEntity<String> health = restTemplate.getForEntity("/actuator/health", String.class);
+
+        assertEquals(HttpStatus.FORBIDDEN, cache.getStatusCode());
+        assertEquals(HttpStatus.OK, health.getStatusCode());
+    }
+
+    private ResponseEntity<String> getTasks(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange("/api/tasks/project/" + PROJECT_ID, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
@@ -0,0 +1,145 @@
+package com.taskmanager.adapters.deadlines;
+
+import com.taskmanager.adapters.repositories.NotifyingTaskRepository;
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskDeadlineTrackerTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private MutableClock clock;
+    private List<TaskOverdueEvent> events;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskDeadlineTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        events = new ArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new TaskDeadlineTracker(clock, Duration.ofSeconds(1),
+                event -> events.add((TaskOverdueEvent) event), meterRegistry);
+    }
+
+    @Test
+    void testPassedDeadlinesBecomeOverdueOnceInDueDateOrder() {
+        tracker.track("later", START.plusHours(2), TaskStatus.TODO);
+        tracker.track("sooner", START.plusHours(1), TaskStatus.IN_PROGRESS);
+        tracker.track("next week", START.plusDays(7), TaskStatus.TODO);
+
+        clock.set(START.plusHours(3));
+        tracker.advance();
+        tracker.advance();
+
+        assertEquals(List.of("sooner", "later"), tracker.findOverdueTaskIds(10));
+        assertEquals(List.of("sooner"), tracker.findOverdueTaskIds(1));
+        assertEquals(List.of("sooner", "later"), events.stream().map(TaskOverdueEvent::getTaskId).toList());
+        assertEquals(START.plusHours(3), events.get(0).getDetectedAt());
+        assertEquals(1, tracker.countPending());
+        assertEquals(2.0, meterRegistry.get(TaskDeadlineTracker.EXPIRED_METRIC).counter().count());
+    }
+
+    @Test
+    void testDeadlineIsNotPassedUntilAfterTheDueDate() {
+        tracker.track("task", START.plusHours(1), TaskStatus.TODO);
+
+        clock.set(START.plusHours(1));
+        tracker.advance();
+
+        assertEquals(0, tracker.countOverdue());
+    }
+
+    @Test
+    void testClosedTasksAndTasksWithoutDueDateAreNotTracked() {
+        tracker.track("completed", START.minusDays(1), TaskStatus.COMPLETED);
+        tracker.track("no due date", null, TaskStatus.TODO);
+        tracker.track("cancelled later", START.minusDays(1), TaskStatus.TODO);
+        tracker.track("cancelled later", START.minusDays(1), TaskStatus.CANCELLED);
+
+        tracker.advance();
+
+        assertEquals(0, tracker.countOverdue());
+        assertEquals(0, tracker.countPending());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void testMovingTheDueDateReschedulesAnOverdueTask() {
+        tracker.track("task", START.minusHours(1), TaskStatus.TODO);
+        tracker.advance();
+
+        tracker.track("task", START.plusDays(1), TaskStatus.TODO);
+
+        assertEquals(0, tracker.countOverdue());
+        assertEquals(1, tracker.countPending());
+        tracker.track("task", START.plusDays(1), TaskStatus.IN_PROGRESS);
+        assertEquals(1, tracker.countPending());
+    }
+
+    @Test
+    void testRepositoryWritesReachTheTrackerOnlyAfterCommit() {
+        TaskRepository delegate = mock(TaskRepository.class);
+        when(delegate.save(any(Task.class))).then(invocation -> invocation.getArgument(0));
+        when(delegate.updateStatus(anyCollection(), anyCollection(), eq(TaskStatus.COMPLETED), any())).thenReturn(1);
+        NotifyingTaskRepository repository = new NotifyingTaskRepository(delegate, List.of(tracker));
+        Task task = new Task("id-1", "Title", null, START.plusHours(1), TaskStatus.TODO, TaskPriority.HIGH,
+                "user1", "project1", START, START);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.save(task);
+            assertEquals(0, tracker.countPending());
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, tracker.countPending());
+
+        repository.updateStatus(List.of("id-1"), Set.of(TaskStatus.TODO), TaskStatus.COMPLETED, START);
+        assertEquals(0, tracker.countPending());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime start) {
+            set(start);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
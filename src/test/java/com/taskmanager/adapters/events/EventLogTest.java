@@ -0,0 +1,191 @@
+package com.taskmanager.adapters.events;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogTest {
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void testReadReturnsRecordsFromOffset() {
+        EventLog log = open(Duration.ZERO);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, log.append(bytes("event-" + i)));
+        }
+
+        List<EventLog.Record> records = log.read(37, 5);
+
+        assertEquals(List.of(37L, 38L, 39L, 40L, 41L), records.stream().map(EventLog.Record::offset).collect(Collectors.toList()));
+        assertEquals("event-37", text(records.get(0).data()));
+        assertEquals(100, log.endOffset());
+        assertTrue(log.read(100, 10).isEmpty());
+    }
+
+    @Test
+    void testTemporaryLogIsDeletedOnClose() {
+        EventLog log = EventLog.temporary(SEGMENT_SIZE, Duration.ZERO, clock);
+        for (int i = 0; i < 100; i++) {
+            log.append(bytes("event-" + i));
+        }
+        assertEquals("event-99", text(log.read(99, 1).get(0).data()));
+        assertTrue(Files.isDirectory(log.directory()));
+
+        log.close();
+
+        assertFalse(Files.exists(log.directory()));
+    }
+
+    @Test
+    void testRecordsSpanSegments() throws IOException {
+        EventLog log = open(Duration.ZERO);
+        for (int i = 0; i < 200; i++) {
+            log.append(bytes("event-" + i));
+        }
+
+        List<EventLog.Record> records = log.read(0, 500);
+
+        assertTrue(segmentFiles().size() > 1);
+        assertEquals(200, records.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, records.get(i).offset());
+            assertEquals("event-" + i, text(records.get(i).data()));
+        }
+    }
+
+    @Test
+    void testReadSlicesAreReadOnly() {
+        EventLog log = open(Duration.ZERO);
+        log.append(bytes("event"));
+
+        assertTrue(log.read(0, 1).get(0).data().isReadOnly());
+    }
+
+    @Test
+    void testReopenRecoversRecords() {
+        EventLog log = open(Duration.ZERO);
+        for (int i = 0; i < 150; i++) {
+            log.append(bytes("event-" + i));
+        }
+        log.close();
+
+        EventLog reopened = open(Duration.ZERO);
+
+        assertEquals(150, reopened.endOffset());
+        assertEquals("event-149", text(reopened.read(149, 1).get(0).data()));
+        assertEquals(150, reopened.append(bytes("event-150")));
+        assertEquals("event-150", text(reopened.read(150, 1).get(0).data()));
+    }
+
+    @Test
+    void testReopenStopsAtTornRecord() throws IOException {
+        EventLog log = open(Duration.ZERO);
+        for (int i = 0; i < 3; i++) {
+            log.append(bytes("event-" + i));
+        }
+        log.close();
+        // Corrupt the payload of the last record, as a crash in the middle of writing it would
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(2 * (8 + "event-0".length()) + 8);
+            file.write('X');
+        }
+
+        EventLog reopened = open(Duration.ZERO);
+
+        assertEquals(2, reopened.endOffset());
+        assertEquals(2, reopened.append(bytes("event-2")));
+        assertEquals("event-2", text(reopened.read(2, 1).get(0).data()));
+    }
+
+    @Test
+    void testRetentionDeletesSealedSegmentsOnly() throws IOException {
+        EventLog log = open(Duration.ofHours(1));
+        for (int i = 0; i < 200; i++) {
+            log.append(bytes("event-" + i));
+        }
+        int segments = segmentFiles().size();
+
+        log.enforceRetention();
+        assertEquals(segments, segmentFiles().size());
+
+        clock.advance(Duration.ofHours(2));
+        log.enforceRetention();
+
+        assertEquals(1, segmentFiles().size());
+        assertTrue(log.startOffset() > 0);
+        List<EventLog.Record> records = log.read(0, 500);
+        assertEquals(log.startOffset(), records.get(0).offset());
+        assertEquals(199, records.get(records.size() - 1).offset());
+    }
+
+    @Test
+    void testRecordLargerThanSegmentIsRejected() {
+        EventLog log = open(Duration.ZERO);
+
+        assertThrows(IllegalArgumentException.class, () -> log.append(new byte[SEGMENT_SIZE]));
+        assertEquals(0, log.endOffset());
+    }
+
+    private EventLog open(Duration retention) {
+        return new EventLog(directory, SEGMENT_SIZE, retention, clock);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(ByteBuffer data) {
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2030-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
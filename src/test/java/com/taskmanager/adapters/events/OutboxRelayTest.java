@@ -0,0 +1,144 @@
+package com.taskmanager.adapters.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanager.entities.TaskStatus;
+import com.taskmanager.usecases.dto.DomainEvent;
+import com.taskmanager.usecases.dto.TaskChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Records events through JdbcDomainEventOutbox and relays them into an EventLog, against the outbox_events
+ * table of schema.sql.
+ */
+class OutboxRelayTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path directory;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transaction;
+    private JdbcDomainEventOutbox outbox;
+    private EventLog eventLog;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        outbox = new JdbcDomainEventOutbox(jdbcTemplate, objectMapper, Clock.systemUTC());
+        eventLog = new EventLog(directory, 1 << 20, Duration.ZERO, Clock.systemUTC());
+        // Relayed by the tests themselves
+        relay = new OutboxRelay(jdbcTemplate, eventLog, objectMapper, 2, Duration.ofHours(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.close();
+        eventLog.close();
+    }
+
+    @Test
+    void testCommittedEventsAreRelayedInOrderAndRemovedFromOutbox() throws IOException {
+        transaction.executeWithoutResult(status -> {
+            outbox.record(deleted("task1"));
+            outbox.record(deleted("task2"));
+            outbox.record(deleted("task3"));
+        });
+
+        assertEquals(2, relay.relayBatch());
+        assertEquals(1, relay.relayBatch());
+        assertEquals(0, relay.relayBatch());
+
+        List<EventLog.Record> records = eventLog.read(0, 10);
+        assertEquals(3, records.size());
+        for (int i = 0; i < 3; i++) {
+            JsonNode event = json(records.get(i).data());
+            assertEquals(i, event.get("offset").asLong());
+            assertEquals("TASK_DELETED", event.get("type").asText());
+            assertEquals("Task", event.get("aggregateType").asText());
+            assertEquals("task" + (i + 1), event.get("aggregateId").asText());
+            assertEquals("task" + (i + 1), event.get("payload").get("taskId").asText());
+        }
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class));
+        assertEquals(3, meterRegistry.get(OutboxRelay.RELAYED_METRIC).counter().count());
+    }
+
+    @Test
+    void testRolledBackEventsAreNeverRelayed() {
+        transaction.executeWithoutResult(status -> {
+            outbox.record(deleted("task1"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, relay.relayBatch());
+        assertEquals(0, eventLog.endOffset());
+    }
+
+    @Test
+    void testEventIdsSurviveRelayForDeduplication() throws IOException {
+        transaction.executeWithoutResult(status -> outbox.record(deleted("task1")));
+        UUID id = jdbcTemplate.queryForObject("SELECT event_id FROM outbox_events", UUID.class);
+
+        relay.relayBatch();
+
+        assertEquals(id.toString(), json(eventLog.read(0, 1).get(0).data()).get("id").asText());
+    }
+
+    @Test
+    void testEventIdsStayUniqueWhenTheDatabaseStartsOver() throws IOException {
+        transaction.executeWithoutResult(status -> outbox.recordAll(List.of(deleted("task1"), deleted("task2"))));
+        relay.relayBatch();
+        // A restart with an in-memory database hands out the same row ids again, while the log keeps its records
+        tearDown();
+        setUp();
+        transaction.executeWithoutResult(status -> outbox.record(deleted("task3")));
+        relay.relayBatch();
+
+        List<EventLog.Record> records = eventLog.read(0, 10);
+        assertEquals(3, records.size());
+        List<String> ids = new ArrayList<>();
+        for (EventLog.Record record : records) {
+            ids.add(json(record.data()).get("id").asText());
+        }
+        assertEquals(3, Set.copyOf(ids).size());
+        assertEquals("task3", json(records.get(2).data()).get("aggregateId").asText());
+    }
+
+    private static DomainEvent deleted(String taskId) {
+        return new DomainEvent(DomainEvent.Type.TASK_DELETED, taskId,
+                new TaskChangeEvent(TaskChangeEvent.Type.DELETED, taskId, "project1", "user1", TaskStatus.TODO, null));
+    }
+
+    private JsonNode json(ByteBuffer data) throws IOException {
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return objectMapper.readTree(bytes);
+    }
+}
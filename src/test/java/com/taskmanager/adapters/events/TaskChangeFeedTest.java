@@ -0,0 +1,177 @@
+package com.taskmanager.adapters.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanager.entities.TaskStatus;
+import com.taskmanager.usecases.dto.TaskChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskChangeFeedTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TaskChangeFeed feed = feed(100);
+
+    @AfterEach
+    void tearDown() {
+        feed.close();
+    }
+
+    @Test
+    void testSubscriberOnlyGetsEventsMatchingItsFilter() throws InterruptedException {
+        RecordingEmitter projectA = new RecordingEmitter();
+        RecordingEmitter userTwo = new RecordingEmitter();
+        feed.subscribe("projectA", null, null, projectA);
+        feed.subscribe(null, "user2", null, userTwo);
+
+        feed.publish(event("task1", "projectA", "user1"));
+        feed.publish(event("task2", "projectB", "user2"));
+        feed.publish(event("task3", "projectA", "user2"));
+
+        assertTrue(projectA.next().data().contains("\"taskId\":\"task1\""));
+        assertTrue(projectA.next().data().contains("\"taskId\":\"task3\""));
+        assertTrue(userTwo.next().data().contains("\"taskId\":\"task2\""));
+        assertTrue(userTwo.next().data().contains("\"taskId\":\"task3\""));
+        assertNull(projectA.poll(100));
+    }
+
+    @Test
+    void testReconnectingSubscriberResumesAfterLastEventId() throws InterruptedException {
+        RecordingEmitter first = new RecordingEmitter();
+        feed.subscribe(null, null, null, first);
+        for (int i = 1; i <= 3; i++) {
+            feed.publish(event("task" + i, "projectA", "user1"));
+        }
+        String lastEventId = first.next().id();
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        feed.subscribe(null, null, lastEventId, resumed);
+
+        assertTrue(resumed.next().data().contains("task2"));
+        assertTrue(resumed.next().data().contains("task3"));
+        assertNull(resumed.poll(100));
+    }
+
+    @Test
+    void testSubscriberResumingBeyondTheRingIsToldToReload() throws InterruptedException {
+        feed.close();
+        feed = feed(2);
+        RecordingEmitter first = new RecordingEmitter();
+        feed.subscribe(null, null, null, first);
+        feed.publish(event("task1", "projectA", "user1"));
+        String oldest = first.next().id();
+        for (int i = 2; i <= 5; i++) {
+            feed.publish(event("task" + i, "projectA", "user1"));
+        }
+
+        RecordingEmitter late = new RecordingEmitter();
+        feed.subscribe(null, null, oldest, late);
+        Sent reset = late.next();
+        RecordingEmitter restarted = new RecordingEmitter();
+        feed.subscribe(null, null, "earlier-run-7", restarted);
+
+        assertEquals(TaskChangeFeed.RESET_EVENT, reset.name());
+        assertTrue(reset.id().endsWith("-5"));
+        assertNull(late.poll(100));
+        assertEquals(TaskChangeFeed.RESET_EVENT, restarted.next().name());
+    }
+
+    @Test
+    void testEventsArePublishedOnlyAfterCommit() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(null, null, null, emitter);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            feed.publish(event("rolled-back", "projectA", "user1"));
+            feed.publish(event("committed", "projectA", "user1"));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertNull(emitter.poll(100));
+            synchronizations.get(1).afterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(emitter.next().data().contains("committed"));
+        assertNull(emitter.poll(100));
+    }
+
+    @Test
+    void testBrokenConnectionIsDropped() throws InterruptedException {
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.fail = true;
+        feed.subscribe(null, null, null, broken);
+        assertEquals(1.0, meterRegistry.get(TaskChangeFeed.SUBSCRIBERS_METRIC).gauge().value());
+
+        feed.publish(event("task1", "projectA", "user1"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (feed.countSubscribers() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, feed.countSubscribers());
+    }
+
+    private TaskChangeFeed feed(int replaySize) {
+        return new TaskChangeFeed(new ObjectMapper().registerModule(new JavaTimeModule()), replaySize, 2,
+                Duration.ofMinutes(1), meterRegistry);
+    }
+
+    private static TaskChangeEvent event(String taskId, String projectId, String userId) {
+        return new TaskChangeEvent(TaskChangeEvent.Type.STATUS_CHANGED, taskId, projectId, userId, TaskStatus.COMPLETED, null);
+    }
+
+    private record Sent(String id, String name, String data) {
+    }
+
+    /**
+     * Records what would be written to the connection, one server-sent event at a time.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+        private volatile boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            String text = builder.build().stream().map(part -> part.getData().toString()).collect(Collectors.joining());
+            List<String> data = new ArrayList<>();
+            String id = null;
+            String name = null;
+            for (String line : text.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                } else if (line.startsWith("data:")) {
+                    data.add(line.substring(5));
+                }
+            }
+            sent.add(new Sent(id, name, String.join("\n", data)));
+        }
+
+        Sent next() throws InterruptedException {
+            Sent event = poll(5000);
+            assertNotNull(event, "No event was sent");
+            return event;
+        }
+
+        Sent poll(long millis) throws InterruptedException {
+            return sent.poll(millis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * What the projects cache adds to EntityCache; the shared hit, miss and eviction behaviour is in EntityCacheTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingProjectRepositoryTest {
+
+    @Mock
+    private ProjectRepository delegate;
+
+    private CachingProjectRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingProjectRepository(delegate, 2, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testSaveAndDeleteEvict() {
+        Project project = project("project1");
+        when(delegate.findById("project1")).thenReturn(Optional.of(project));
+        when(delegate.save(project)).thenReturn(project);
+
+        repository.findById("project1");
+        repository.save(project);
+        repository.findById("project1");
+        repository.deleteById("project1");
+        repository.findById("project1");
+
+        verify(delegate, times(3)).findById("project1");
+    }
+
+    @Test
+    void testCachedCopyKeepsEveryField() {
+        Project project = project("project1");
+        when(delegate.findById("project1")).thenReturn(Optional.of(project));
+
+        repository.findById("project1");
+        Project cached = repository.findById("project1").orElseThrow();
+
+        assertNotSame(project, cached);
+        assertEquals(project.getDescription(), cached.getDescription());
+        assertEquals(project.getOwnerId(), cached.getOwnerId());
+        assertEquals(ProjectStatus.PLANNING, cached.getStatus());
+        assertEquals(project.getStartDate(), cached.getStartDate());
+        assertEquals(project.getEndDate(), cached.getEndDate());
+    }
+
+    private Project project(String id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Project(id, "Project " + id, "Description", "owner1", ProjectStatus.PLANNING,
+                now, now.plusDays(10), now, now);
+    }
+}
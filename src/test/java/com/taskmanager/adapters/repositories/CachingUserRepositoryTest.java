@@ -0,0 +1,110 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * What the users cache adds to EntityCache; the shared hit, miss and eviction behaviour is in EntityCacheTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private CachingUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingUserRepository(delegate, 2, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testEmailLookupsAlwaysGoToTheStore() {
+        when(delegate.findById("user1")).thenReturn(Optional.of(user("user1")));
+        when(delegate.findByEmail("user1@example.com")).thenReturn(Optional.of(user("user1")));
+        when(delegate.existsByEmail("user1@example.com")).thenReturn(true);
+        repository.findById("user1");
+
+        assertEquals("user1", repository.findByEmail("user1@example.com").orElseThrow().getId());
+        assertEquals("user1", repository.findByEmail("user1@example.com").orElseThrow().getId());
+        assertTrue(repository.existsByEmail("user1@example.com"));
+
+        verify(delegate, times(2)).findByEmail("user1@example.com");
+        verify(delegate).existsByEmail("user1@example.com");
+    }
+
+    @Test
+    void testSaveEvictsTheSavedUser() {
+        User saved = new User("user1", "renamed@example.com", "First", "Last", "Password1!", UserRole.USER,
+                UserStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now(), null);
+        when(delegate.findById("user1")).thenReturn(Optional.of(user("user1"))).thenReturn(Optional.of(saved));
+        when(delegate.save(saved)).thenReturn(saved);
+        repository.findById("user1");
+
+        repository.save(saved);
+
+        assertEquals("renamed@example.com", repository.findById("user1").orElseThrow().getEmail());
+    }
+
+    @Test
+    void testDeleteAndEvictDropCachedUsers() {
+        when(delegate.findById("user1")).thenReturn(Optional.of(user("user1")));
+        when(delegate.findById("user2")).thenReturn(Optional.of(user("user2")));
+        repository.findById("user1");
+        repository.findById("user2");
+
+        repository.deleteById("user1");
+        repository.evict(List.of("user2"));
+        repository.findById("user1");
+        repository.findById("user2");
+
+        verify(delegate, times(2)).findById("user1");
+        verify(delegate, times(2)).findById("user2");
+    }
+
+    @Test
+    void testExistsByIdIsAnsweredFromCache() {
+        when(delegate.findById("user1")).thenReturn(Optional.of(user("user1")));
+        repository.findById("user1");
+
+        assertTrue(repository.existsById("user1"));
+
+        verify(delegate, never()).existsById("user1");
+    }
+
+    @Test
+    void testCachedCopyKeepsEveryField() {
+        LocalDateTime lastLogin = LocalDateTime.now().minusHours(1);
+        User user = new User("user1", "user1@example.com", "First", "Last", "Password1!", UserRole.ADMIN,
+                UserStatus.INACTIVE, LocalDateTime.now().minusDays(1), LocalDateTime.now(), lastLogin);
+        when(delegate.findById("user1")).thenReturn(Optional.of(user));
+
+        repository.findById("user1");
+        User cached = repository.findById("user1").orElseThrow();
+
+        assertNotSame(user, cached);
+        assertEquals(user.getPassword(), cached.getPassword());
+        assertEquals(UserRole.ADMIN, cached.getRole());
+        assertEquals(UserStatus.INACTIVE, cached.getStatus());
+        assertEquals(user.getCreatedAt(), cached.getCreatedAt());
+        assertEquals(lastLogin, cached.getLastLoginAt());
+    }
+
+    private User user(String id) {
+        return new User(id, id + "@example.com", "First", "Last", "Password1!", UserRole.USER, UserStatus.ACTIVE,
+                LocalDateTime.now(), LocalDateTime.now(), null);
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskmanager.adapters.repositories;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The caching behaviour CachingUserRepository and CachingProjectRepository share, with StringBuilders as the
+ * mutable entities and a map as the store they are loaded from.
+ */
+class EntityCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, String> rows = new HashMap<>(Map.of("a", "A", "b", "B"));
+    private final List<String> loads = new ArrayList<>();
+    private final AtomicBoolean storeLoaded = new AtomicBoolean(true);
+    private final EntityCache<StringBuilder> cache =
+            new EntityCache<>("entities", 10, Duration.ofMinutes(10), StringBuilder::new, storeLoaded::get, meterRegistry);
+
+    @Test
+    void testGetIsServedFromCache() {
+        assertEquals("A", get("a"));
+        assertEquals("A", get("a"));
+
+        assertEquals(List.of("a"), loads);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "entities").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "entities").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testMissingEntitiesAreNotCached() {
+        assertNull(get("missing"));
+        assertNull(get("missing"));
+
+        assertEquals(List.of("missing", "missing"), loads);
+    }
+
+    @Test
+    void testGetAllOnlyLoadsMisses() {
+        get("a");
+
+        Map<String, StringBuilder> found = cache.getAll(List.of("a", "b", "missing"), this::loadAll);
+
+        assertEquals(Set.of("a", "b"), found.keySet());
+        assertEquals(List.of("a", "b", "missing"), loads);
+    }
+
+    @Test
+    void testCallersCannotChangeCachedEntities() {
+        cache.get("a", this::load).orElseThrow().append("changed");
+
+        assertEquals("A", get("a"));
+    }
+
+    @Test
+    void testInvalidateEvicts() {
+        get("a");
+        cache.invalidate("a");
+
+        assertFalse(cache.contains("a"));
+        get("a");
+        assertEquals(List.of("a", "a"), loads);
+    }
+
+    @Test
+    void testLoadRacingAnInvalidationIsNotCached() {
+        assertEquals("A", cache.get("a", id -> {
+            Optional<StringBuilder> loaded = load(id);
+            cache.invalidate(id);
+            return loaded;
+        }).orElseThrow().toString());
+
+        assertFalse(cache.contains("a"));
+    }
+
+    @Test
+    void testInvalidateInsideTransactionEvictsAgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate("a");
+            // A reader that loaded the old row before the commit
+            get("a");
+            assertTrue(cache.contains("a"));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(cache.contains("a"));
+    }
+
+    @Test
+    void testEntitiesLoadedWhileNotStoringAreServedButNotCached() {
+        get("a");
+        storeLoaded.set(false);
+
+        assertEquals("B", get("b"));
+        Map<String, StringBuilder> found = cache.getAll(List.of("a", "b"), this::loadAll);
+
+        assertEquals("A", found.get("a").toString());
+        assertEquals("B", found.get("b").toString());
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertEquals(List.of("a", "b", "b"), loads);
+    }
+
+    private String get(String id) {
+        return cache.get(id, this::load).map(StringBuilder::toString).orElse(null);
+    }
+
+    private Optional<StringBuilder> load(String id) {
+        loads.add(id);
+        return Optional.ofNullable(rows.get(id)).map(StringBuilder::new);
+    }
+
+    private Map<String, StringBuilder> loadAll(Collection<String> ids) {
+        Map<String, StringBuilder> loaded = new HashMap<>();
+        ids.stream().sorted().forEach(id -> load(id).ifPresent(entity -> loaded.put(id, entity)));
+        return loaded;
+    }
+}
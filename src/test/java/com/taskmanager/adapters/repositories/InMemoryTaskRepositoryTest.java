@@ -0,0 +1,147 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTaskRepositoryTest extends TaskRepositoryContract {
+
+    @TempDir
+    Path directory;
+
+    private InMemoryTaskRepository repository;
+
+    @Override
+    protected TaskRepository repository() {
+        if (repository == null) {
+            repository = new InMemoryTaskRepository(directory, false, Duration.ZERO);
+        }
+        return repository;
+    }
+
+    @Override
+    protected String createUser(String email) {
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    protected String createProject(String name, String ownerId) {
+        return UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void closeRepository() throws IOException {
+        repository.close();
+    }
+
+    @Test
+    void testReopenReplaysTheJournal() throws IOException {
+        repository.deleteById(taskId(1));
+        repository.updateStatus(List.of(taskId(0)), List.of(TaskStatus.TODO), TaskStatus.IN_PROGRESS, LocalDateTime.now());
+
+        reopen();
+
+        assertEquals(5, repository.findAll().size());
+        assertFalse(repository.existsById(taskId(1)));
+        assertEquals(TaskStatus.IN_PROGRESS, repository.findById(taskId(0)).orElseThrow().getStatus());
+        assertEquals(List.of(taskId(0)), ids(repository.findByStatus(TaskStatus.IN_PROGRESS)));
+        assertEquals(2, repository.countByProjectId(secondProjectId));
+    }
+
+    @Test
+    void testSnapshotReplacesOlderJournals() throws IOException {
+        repository.snapshot();
+        repository.deleteById(taskId(2));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of("journal-2.log", "snapshot-2.bin"),
+                    files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+
+        reopen();
+
+        assertEquals(5, repository.findAll().size());
+        assertFalse(repository.existsById(taskId(2)));
+        assertEquals("Task 5", repository.findById(taskId(5)).orElseThrow().getTitle());
+    }
+
+    @Test
+    void testTornJournalTailIsIgnored() throws IOException {
+        Path journal = directory.resolve("journal-1.log");
+        long intact = Files.size(journal);
+        repository.deleteById(taskId(3));
+        assertTrue(Files.size(journal) > intact);
+        // Simulate a crash halfway through the last append: cut the entry short and never close the repository
+        try (var channel = Files.newByteChannel(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(journal) - 3);
+        }
+
+        repository = new InMemoryTaskRepository(directory, false, Duration.ZERO);
+
+        assertEquals(6, repository.findAll().size());
+        assertTrue(repository.existsById(taskId(3)));
+    }
+
+    @Test
+    void testWritesAreAppliedWhenTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.deleteById(taskId(1));
+            assertEquals(1, repository.updateStatus(List.of(taskId(0)), List.of(TaskStatus.TODO), TaskStatus.IN_PROGRESS,
+                    LocalDateTime.now()));
+
+            assertTrue(repository.existsById(taskId(1)));
+            assertEquals(TaskStatus.TODO, repository.findById(taskId(0)).orElseThrow().getStatus());
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(repository.existsById(taskId(1)));
+        assertEquals(TaskStatus.IN_PROGRESS, repository.findById(taskId(0)).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testRolledBackWritesAreNeitherAppliedNorJournaled() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.save(new Task(taskId(100), "Rolled back", null, null, TaskStatus.TODO, TaskPriority.LOW,
+                    userId, firstProjectId, LocalDateTime.now(), LocalDateTime.now()));
+            repository.deleteById(taskId(1));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(repository.existsById(taskId(100)));
+        reopen();
+
+        assertFalse(repository.existsById(taskId(100)));
+        assertTrue(repository.existsById(taskId(1)));
+    }
+
+    @Test
+    void testReturnedTasksAreCopies() {
+        repository.findById(taskId(0)).orElseThrow().markAsInProgress();
+
+        assertEquals(TaskStatus.TODO, repository.findById(taskId(0)).orElseThrow().getStatus());
+    }
+
+    private void reopen() throws IOException {
+        repository.close();
+        repository = new InMemoryTaskRepository(directory, false, Duration.ZERO);
+    }
+}
@@ -0,0 +1,135 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryTaskViewRepositoryTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private InMemoryTaskRepository tasks;
+    private InMemoryTaskViewRepository views;
+    private final User user = new User("user-1", "jane@example.com", "Jane", "Doe", "secret",
+            UserRole.USER, UserStatus.ACTIVE, CREATED, CREATED, null);
+    private final Project project = new Project("project-1", "Apollo", null, "user-1",
+            ProjectStatus.IN_PROGRESS, CREATED, null, CREATED, CREATED);
+
+    @BeforeEach
+    void setUp() {
+        tasks = new InMemoryTaskRepository(directory, false, Duration.ZERO);
+        views = newViews(Instant.parse("2024-06-01T00:00:00Z"));
+        lenient().when(userRepository.findByIds(anyCollection())).thenReturn(Map.of(user.getId(), user));
+        lenient().when(projectRepository.findByIds(anyCollection())).thenReturn(Map.of(project.getId(), project));
+    }
+
+    @AfterEach
+    void closeRepository() throws IOException {
+        tasks.close();
+    }
+
+    @Test
+    void testViewsReflectTaskWritesWithoutBeingWritten() {
+        Task task = tasks.save(task("task-1", 0, "user-1"));
+
+        assertEquals("Jane Doe", views.findById("task-1").orElseThrow().getAssignedUserName());
+        assertEquals("Apollo", views.findById("task-1").orElseThrow().getProjectName());
+
+        task.markAsInProgress();
+        tasks.save(task);
+        assertEquals(TaskStatus.IN_PROGRESS, views.findById("task-1").orElseThrow().getStatus());
+        assertEquals(TaskStatus.IN_PROGRESS, views.findStampById("task-1").orElseThrow().getStatus());
+
+        tasks.deleteById("task-1");
+        assertTrue(views.findById("task-1").isEmpty());
+        assertTrue(views.findStampById("task-1").isEmpty());
+    }
+
+    @Test
+    void testUnknownNamesAreLeftEmpty() {
+        tasks.save(task("task-1", 0, "user-2"));
+        tasks.save(task("task-2", 1, null));
+
+        Map<String, TaskView> found = views.findByIds(List.of("task-1", "task-2", "missing"));
+
+        assertEquals(Set.of("task-1", "task-2"), found.keySet());
+        assertNull(found.get("task-1").getAssignedUserName());
+        assertNull(found.get("task-2").getAssignedUserName());
+        assertEquals("Apollo", found.get("task-2").getProjectName());
+    }
+
+    @Test
+    void testPagesFollowCreationOrder() {
+        tasks.save(task("task-c", 2, "user-1"));
+        tasks.save(task("task-a", 0, "user-1"));
+        tasks.save(task("task-b", 1, null));
+
+        ProjectTaskViews first = views.findByProjectIdAfter("project-1", null, null, 2);
+        assertEquals(List.of("task-a", "task-b"), first.getViews().stream().map(TaskView::getId).toList());
+        TaskView last = first.getViews().get(1);
+        assertEquals(List.of("task-c"), views.findByProjectIdAfter("project-1", last.getCreatedAt(), last.getId(), 2)
+                .getViews().stream().map(TaskView::getId).toList());
+
+        assertEquals(List.of("task-a", "task-c"), views.findByUserIdAfter("user-1", null, null, 10)
+                .stream().map(TaskView::getId).toList());
+        assertEquals(List.of("task-c"), views.findByUserIdAfter("user-1", CREATED, "task-a", 10)
+                .stream().map(TaskView::getId).toList());
+        assertTrue(views.findByUserIdAfter("user-2", null, null, 10).isEmpty());
+    }
+
+    @Test
+    void testProjectVersionsAdvanceAndDoNotRepeatAfterARestart() {
+        tasks.save(task("task-1", 0, "user-1"));
+        long initial = views.findProjectVersion("project-1");
+        assertEquals(initial, views.findByProjectIdAfter("project-1", null, null, 10).getVersion());
+        assertNull(views.findByProjectIdAfter("project-2", null, null, 10).getVersion());
+
+        views.bumpProjectVersions(List.of("project-1", "project-1"));
+        assertEquals(initial + 1, views.findProjectVersion("project-1"));
+        views.updateProjectName("project-1", "Artemis");
+        assertEquals(initial + 2, views.findProjectVersion("project-1"));
+        views.updateAssignedUserName("user-1", "Jane Roe");
+        assertEquals(initial + 3, views.findProjectVersion("project-1"));
+
+        InMemoryTaskViewRepository restarted = newViews(Instant.parse("2024-06-01T00:00:01Z"));
+        assertTrue(restarted.findProjectVersion("project-1") > initial + 3);
+    }
+
+    private InMemoryTaskViewRepository newViews(Instant bootTime) {
+        return new InMemoryTaskViewRepository(tasks, userRepository, projectRepository, Clock.fixed(bootTime, ZoneOffset.UTC));
+    }
+
+    private static Task task(String id, int minutes, String assignedUserId) {
+        LocalDateTime createdAt = CREATED.plusMinutes(minutes);
+        return new Task(id, "Task " + id, null, null, TaskStatus.TODO, TaskPriority.MEDIUM, assignedUserId,
+                "project-1", createdAt, createdAt);
+    }
+}
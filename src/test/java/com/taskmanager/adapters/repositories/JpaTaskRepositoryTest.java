@@ -0,0 +1,94 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class JpaTaskRepositoryTest extends TaskRepositoryContract {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Override
+    protected TaskRepository repository() {
+        return taskRepository;
+    }
+
+    @Override
+    protected String createUser(String email) {
+        return userRepository.save(new User(email, "Erin", "Export", "Password1!", UserRole.PROJECT_MANAGER)).getId();
+    }
+
+    @Override
+    protected String createProject(String name, String ownerId) {
+        return projectRepository.save(new Project(name, "Description", ownerId,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(10))).getId();
+    }
+
+    @Override
+    protected void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testForEachMatchingNeverManagesVisitedTasks() {
+        taskRepository.forEachMatching(null, null, null, task -> assertFalse(entityManager.contains(task)));
+
+        assertFalse(collect(null, null, null).isEmpty());
+    }
+
+    @Test
+    void testInsertAllDetachesInsertedTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            tasks.add(new Task("Batch " + i, "Description", LocalDateTime.now().plusDays(1), userId, firstProjectId, TaskPriority.LOW));
+        }
+
+        taskRepository.insertAll(tasks);
+
+        assertTrue(tasks.stream().noneMatch(entityManager::contains));
+    }
+
+    @Test
+    void testInsertAllKeepsCallersEntitiesManaged() {
+        Project project = projectRepository.findById(firstProjectId).orElseThrow();
+        assertTrue(entityManager.contains(project));
+
+        taskRepository.insertAll(List.of(new Task("Batch", "Description", LocalDateTime.now().plusDays(1), userId,
+                firstProjectId, TaskPriority.LOW)));
+
+        assertTrue(entityManager.contains(project));
+    }
+
+    @Test
+    void testUpdateStatusDetachesOnlyTheChangedTasks() {
+        Project project = projectRepository.findById(firstProjectId).orElseThrow();
+        Task changed = taskRepository.findById(taskId(0)).orElseThrow();
+        Task unchanged = taskRepository.findById(taskId(1)).orElseThrow();
+
+        taskRepository.updateStatus(List.of(taskId(0)), List.of(TaskStatus.TODO), TaskStatus.CANCELLED, LocalDateTime.now());
+
+        assertTrue(entityManager.contains(project));
+        assertTrue(entityManager.contains(unchanged));
+        assertFalse(entityManager.contains(changed));
+        assertEquals(TaskStatus.CANCELLED, taskRepository.findById(taskId(0)).orElseThrow().getStatus());
+    }
+}
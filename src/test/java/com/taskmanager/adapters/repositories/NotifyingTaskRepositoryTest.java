@@ -0,0 +1,179 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotifyingTaskRepositoryTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TaskRepository delegate;
+
+    private final List<String> applied = new ArrayList<>();
+    private final List<TaskStatus> capturedStatuses = new ArrayList<>();
+    private NotifyingTaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new NotifyingTaskRepository(delegate, List.of(new RecordingListener("first"), new RecordingListener("second")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testWritesReachListenersOnlyAfterCommit() {
+        Task task = task("task1");
+        when(delegate.save(task)).thenReturn(task);
+        when(delegate.updateStatus(anyCollection(), anyCollection(), eq(TaskStatus.COMPLETED), eq(NOW))).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        repository.save(task);
+        repository.updateStatus(List.of("task1"), List.of(TaskStatus.TODO), TaskStatus.COMPLETED, NOW);
+        repository.deleteById("task1");
+
+        assertEquals(List.of(), applied);
+        commit();
+        assertEquals(List.of("first saved task1", "second saved task1",
+                "first statusChanged [task1] COMPLETED", "second statusChanged [task1] COMPLETED",
+                "first deleted task1", "second deleted task1"), applied);
+    }
+
+    @Test
+    void testRolledBackWritesNeverReachListeners() {
+        Task task = task("task1");
+        when(delegate.insertAll(List.of(task))).thenReturn(List.of(task));
+        TransactionSynchronizationManager.initSynchronization();
+
+        repository.insertAll(List.of(task));
+        repository.deleteById("task1");
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertEquals(List.of(), applied);
+        verify(delegate).deleteById("task1");
+    }
+
+    @Test
+    void testListenersCaptureTheTaskWhenItIsWritten() {
+        Task task = task("task1");
+        when(delegate.save(task)).thenReturn(task);
+        TransactionSynchronizationManager.initSynchronization();
+
+        repository.save(task);
+        task.markAsInProgress();
+        commit();
+
+        assertEquals(List.of("first saved task1", "second saved task1"), applied);
+        assertEquals(List.of(TaskStatus.TODO, TaskStatus.TODO), capturedStatuses);
+    }
+
+    @Test
+    void testUnchangedStatusAndWritesOutsideATransactionAreHandledImmediately() {
+        when(delegate.updateStatus(anyCollection(), anyCollection(), any(), any())).thenReturn(0);
+
+        repository.updateStatus(List.of("task1"), List.of(TaskStatus.TODO), TaskStatus.COMPLETED, NOW);
+        repository.deleteById("task2");
+
+        assertEquals(List.of("first deleted task2", "second deleted task2"), applied);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRebuildHandsEveryTaskToEveryListenerInOnePass() {
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(3);
+            consumer.accept(task("task1"));
+            consumer.accept(task("task2"));
+            return null;
+        }).when(delegate).forEachMatching(isNull(), isNull(), isNull(), any(Consumer.class));
+
+        repository.rebuildListeners();
+
+        assertEquals(List.of("first saved task1", "second saved task1", "first saved task2", "second saved task2"), applied);
+        verify(delegate).forEachMatching(any(), any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWritesDuringARebuildAreAppliedAfterIt() {
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(3);
+            consumer.accept(task("task1"));
+            repository.deleteById("task1");
+            assertTrue(repository.isRebuilding());
+            consumer.accept(task("task2"));
+            return null;
+        }).when(delegate).forEachMatching(isNull(), isNull(), isNull(), any(Consumer.class));
+
+        repository.rebuildListeners();
+        repository.deleteById("task2");
+
+        assertFalse(repository.isRebuilding());
+        assertEquals(List.of("first saved task1", "second saved task1", "first saved task2", "second saved task2",
+                "first deleted task1", "second deleted task1", "first deleted task2", "second deleted task2"), applied);
+    }
+
+    private static void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+    }
+
+    private static Task task(String id) {
+        return new Task(id, "Task " + id, null, NOW.plusDays(1), TaskStatus.TODO, TaskPriority.MEDIUM, "user1",
+                "project1", NOW, NOW);
+    }
+
+    /**
+     * Notes each change when it is applied, under the listener's name.
+     */
+    private class RecordingListener implements TaskChangeListener {
+        private final String name;
+
+        RecordingListener(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Runnable saved(Task task) {
+            String id = task.getId();
+            TaskStatus status = task.getStatus();
+            return () -> {
+                applied.add(name + " saved " + id);
+                capturedStatuses.add(status);
+            };
+        }
+
+        @Override
+        public Runnable statusChanged(List<String> ids, TaskStatus status) {
+            return () -> applied.add(name + " statusChanged " + ids + " " + status);
+        }
+
+        @Override
+        public Runnable deleted(String id) {
+            return () -> applied.add(name + " deleted " + id);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every filtering repository method against a seeded database, captures the SQL Hibernate
+ * sends for it and fails when EXPLAIN shows that statement falling back to a full table scan.
+ * The seed is committed once per class because ANALYZE ends the test transaction, so the class
+ * gets its own context and embedded database, which is dropped once it has run.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.taskmanager.adapters.repositories.QueryPlanTest$SqlRecorder")
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaTaskRepository taskRepository;
+
+    @Autowired
+    private JpaProjectRepository projectRepository;
+
+    @Autowired
+    private JpaTaskViewRepository taskViewRepository;
+
+    @Autowired
+    private JpaUserRepository userRepository;
+
+    /**
+     * Records the SQL of every statement Hibernate prepares.
+     */
+    public static class SqlRecorder implements StatementInspector {
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        static List<String> record(Runnable query) {
+            statements.clear();
+            query.run();
+            return List.copyOf(statements);
+        }
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        PageRequest firstPage = PageRequest.of(0, 50);
+        return Stream.of(
+                // JpaTaskRepository
+                query("findByUserId", () -> taskRepository.findByUserId(userId(1))),
+                query("findByProjectId", () -> taskRepository.findByProjectId(projectId(1))),
+                query("findByStatus", () -> taskRepository.findByStatus(TaskStatus.TODO)),
+                query("findByPriority", () -> taskRepository.findByPriority(TaskPriority.HIGH)),
+                query("findOverdueTasks", () -> taskRepository.findOverdueTasks(NOW)),
+                query("findTasksDueWithin", () -> taskRepository.findTasksDueWithin(NOW)),
+                query("findByUserIdAndStatus", () -> taskRepository.findByUserIdAndStatus(userId(1), TaskStatus.TODO)),
+                query("findByProjectIdAndStatus", () -> taskRepository.findByProjectIdAndStatus(projectId(1), TaskStatus.TODO)),
+                query("countByUserId (task)", () -> taskRepository.countByUserId(userId(1))),
+                query("countByProjectId", () -> taskRepository.countByProjectId(projectId(1))),
+                query("countByStatus (task)", () -> taskRepository.countByStatus(TaskStatus.TODO)),
+                query("countByProjectIdGrouped", () -> taskRepository.countByProjectIdGrouped(projectId(1), NOW)),
+                query("forEachMatching (project)", () -> taskRepository.forEachMatching(projectId(1), null, null, task -> { })),
+                query("forEachMatching (status)", () -> taskRepository.forEachMatching(null, TaskStatus.TODO, null, task -> { })),
+                query("forEachMatching (updatedSince)", () -> taskRepository.forEachMatching(null, null, NOW, task -> { })),
+                query("forEachMatching (all filters)",
+                        () -> taskRepository.forEachMatching(projectId(1), TaskStatus.TODO, NOW, task -> { })),
+                query("updateStatus (task)", () -> taskRepository.updateStatus(List.of(taskId(1), taskId(2)),
+                        EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED), TaskStatus.COMPLETED, NOW)),
+                // JpaProjectRepository
+                query("findByOwnerId", () -> projectRepository.findByOwnerId(userId(1))),
+                query("findByStatus (project)", () -> projectRepository.findByStatus(ProjectStatus.PLANNING)),
+                query("findActiveProjects", () -> projectRepository.findActiveProjects()),
+                query("findOverdueProjects", () -> projectRepository.findOverdueProjects(NOW)),
+                query("findProjectsEndingWithin", () -> projectRepository.findProjectsEndingWithin(NOW)),
+                query("countByOwnerId", () -> projectRepository.countByOwnerId(userId(1))),
+                query("countByStatus (project)", () -> projectRepository.countByStatus(ProjectStatus.PLANNING)),
+                // JpaTaskViewRepository
+                query("findProjectViewsFromStart", () -> taskViewRepository.findProjectViewsFromStart(projectId(1), firstPage)),
+                query("findProjectViewsAfter",
+                        () -> taskViewRepository.findProjectViewsAfter(projectId(1), NOW, taskId(1), firstPage)),
+                query("findUserViewsFromStart", () -> taskViewRepository.findUserViewsFromStart(userId(1), firstPage)),
+                query("findUserViewsAfter", () -> taskViewRepository.findUserViewsAfter(userId(1), NOW, taskId(1), firstPage)),
+                query("findStampById", () -> taskViewRepository.findStampById(taskId(1))),
+                query("findProjectIdsByAssignedUserId", () -> taskViewRepository.findProjectIdsByAssignedUserId(userId(1))),
+                query("renameAssignedUser", () -> taskViewRepository.renameAssignedUser(userId(1), "Renamed")),
+                query("renameProject", () -> taskViewRepository.renameProject(projectId(1), "Renamed")),
+                query("findVersionByProjectId", () -> taskViewRepository.findVersionByProjectId(projectId(1))),
+                query("updateStatus (view)",
+                        () -> taskViewRepository.updateStatus(List.of(taskId(1), taskId(2)), TaskStatus.COMPLETED, NOW)),
+                // JpaUserRepository
+                query("findByEmail", () -> userRepository.findByEmail("seed-1@example.com")),
+                query("findActiveUsers", () -> userRepository.findActiveUsers(UserStatus.ACTIVE)),
+                query("findByRole", () -> userRepository.findByRole(UserRole.USER)),
+                query("countActiveUsers", () -> userRepository.countActiveUsers(UserStatus.ACTIVE)),
+                query("countByRole", () -> userRepository.countByRole(UserRole.USER)),
+                query("countByEmail", () -> userRepository.countByEmail("seed-1@example.com"))
+        );
+    }
+
+    private static Arguments query(String repositoryMethod, Runnable query) {
+        return Arguments.of(repositoryMethod, query);
+    }
+
+    @BeforeAll
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String[] roles = {"USER", "PROJECT_MANAGER", "ADMIN"};
+        String[] userStatuses = {"ACTIVE", "INACTIVE", "DELETED"};
+        String[] projectStatuses = {"PLANNING", "IN_PROGRESS", "ON_HOLD", "COMPLETED", "CANCELLED"};
+        String[] taskStatuses = {"TODO", "IN_PROGRESS", "COMPLETED", "CANCELLED"};
+        String[] priorities = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(new Object[]{userId(i), "seed-" + i + "@example.com", roles[i % roles.length],
+                    userStatuses[i % userStatuses.length], now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, first_name, last_name, password, role, status, created_at, updated_at) "
+                + "VALUES (?, ?, 'Seed', 'User', 'Password1!', ?, ?, ?, ?)", users);
+
+        List<Object[]> projects = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            projects.add(new Object[]{projectId(i), "Project " + i, userId(i % 100),
+                    projectStatuses[i % projectStatuses.length], now, Timestamp.valueOf(LocalDateTime.now().plusDays(i % 60)), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, name, owner_id, status, start_date, end_date, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", projects);
+
+        List<Object[]> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            tasks.add(new Object[]{taskId(i), "Task " + i, Timestamp.valueOf(LocalDateTime.now().plusDays(i % 90 - 30)),
+                    taskStatuses[i % taskStatuses.length], priorities[i % priorities.length],
+                    userId(i % 100), projectId(i % 200), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, title, due_date, status, priority, assigned_user_id, project_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", tasks);
+
+        jdbcTemplate.update("INSERT INTO task_view (id, title, due_date, status, priority, assigned_user_id, assigned_user_name, "
+                + "project_id, project_name, created_at, updated_at) "
+                + "SELECT t.id, t.title, t.due_date, t.status, t.priority, t.assigned_user_id, u.first_name || ' ' || u.last_name, "
+                + "t.project_id, p.name, t.created_at, t.updated_at "
+                + "FROM tasks t JOIN users u ON u.id = t.assigned_user_id JOIN projects p ON p.id = t.project_id");
+
+        jdbcTemplate.update("INSERT INTO project_task_counts (project_id, status, priority, slot, task_count) "
+                + "SELECT project_id, status, priority, 0, COUNT(*) FROM tasks GROUP BY project_id, status, priority");
+
+        List<Object[]> versions = new ArrayList<>();
+        for (int i = 0; i < 200; i += 2) {
+            versions.add(new Object[]{projectId(i), i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO project_task_versions (project_id, version) VALUES (?, ?)", versions);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static String userId(int number) {
+        return String.format("00000000-0000-7000-8001-%012d", number);
+    }
+
+    private static String projectId(int number) {
+        return String.format("00000000-0000-7000-8002-%012d", number);
+    }
+
+    private static String taskId(int number) {
+        return String.format("00000000-0000-7000-8003-%012d", number);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void testQueryUsesAnIndex(String repositoryMethod, Runnable query) {
+        List<String> statements = SqlRecorder.record(query);
+
+        assertFalse(statements.isEmpty(), repositoryMethod + " sent no SQL");
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            assertFalse(plan.contains("tableScan"), repositoryMethod + " falls back to a full table scan:\n" + plan);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskmanager.adapters.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the Flyway migrations of the durable profile against schema.sql, which the default profile
+ * still uses, and that running them again on an existing database leaves its data alone.
+ */
+class SchemaMigrationTest {
+    private static final String COLUMNS = "SELECT TABLE_NAME || '.' || COLUMN_NAME || ' ' || DATA_TYPE || ' ' || IS_NULLABLE "
+            + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME <> 'flyway_schema_history' "
+            + "ORDER BY TABLE_NAME, COLUMN_NAME";
+    private static final String INDEXES = "SELECT TABLE_NAME || '.' || INDEX_NAME || '.' || COLUMN_NAME || ' ' || ORDINAL_POSITION "
+            + "FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' AND INDEX_NAME LIKE 'IDX_%' "
+            + "ORDER BY TABLE_NAME, INDEX_NAME, ORDINAL_POSITION";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testMigrationsMatchSchemaScript() {
+        SingleConnectionDataSource scripted = dataSource("jdbc:h2:mem:scripted-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(scripted);
+        SingleConnectionDataSource migrated = dataSource("jdbc:h2:mem:migrated-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        flyway(migrated).migrate();
+
+        assertEquals(describe(scripted, COLUMNS), describe(migrated, COLUMNS));
+        assertEquals(describe(scripted, INDEXES), describe(migrated, INDEXES));
+    }
+
+    @Test
+    void testMigrateKeepsDataOfFileDatabase() {
+        String url = "jdbc:h2:file:" + directory.resolve("taskmanager");
+        SingleConnectionDataSource first = dataSource(url);
+        flyway(first).migrate();
+        new JdbcTemplate(first).update("INSERT INTO users (id, email, first_name, last_name, password, role, status, created_at, updated_at) "
+                + "VALUES (RANDOM_UUID(), 'test@example.com', 'John', 'Doe', 'Password1!', 'USER', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        first.destroy();
+
+        SingleConnectionDataSource restarted = dataSource(url);
+        assertEquals(0, flyway(restarted).migrate().migrationsExecuted);
+        assertEquals(1, new JdbcTemplate(restarted).queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+        restarted.destroy();
+    }
+
+    @Test
+    void testDatabaseCreatedBySchemaScriptIsBaselined() {
+        // schema.sql as it was when the durable profile was introduced, which is what V1 holds
+        SingleConnectionDataSource scripted = dataSource("jdbc:h2:mem:baseline-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__create_schema.sql")).execute(scripted);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(scripted);
+        // Databases from before the dashboard, and those converted by migrate-to-uuid-keys.sql, have the narrow index
+        jdbcTemplate.execute("DROP INDEX idx_tasks_project_status");
+        jdbcTemplate.execute("CREATE INDEX idx_tasks_project_status ON tasks (project_id, status)");
+        jdbcTemplate.update("INSERT INTO users (id, email, first_name, last_name, password, role, status, created_at, updated_at) "
+                + "VALUES ('00000000-0000-7000-8001-000000000001', 'test@example.com', 'John', 'Doe', 'Password1!', 'USER', 'ACTIVE', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO projects (id, name, owner_id, status, created_at, updated_at) VALUES "
+                + "('00000000-0000-7000-8002-000000000001', 'Project', '00000000-0000-7000-8001-000000000001', 'PLANNING', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO tasks (id, title, status, priority, project_id, created_at, updated_at) VALUES "
+                + "(RANDOM_UUID(), 'First', 'TODO', 'HIGH', '00000000-0000-7000-8002-000000000001', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP), "
+                + "(RANDOM_UUID(), 'Second', 'TODO', 'HIGH', '00000000-0000-7000-8002-000000000001', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+        Flyway flyway = Flyway.configure().dataSource(scripted).locations("classpath:db/migration")
+                .baselineOnMigrate(true).baselineVersion("1").load();
+
+        assertEquals(3, flyway.migrate().migrationsExecuted);
+        assertEquals("4", flyway.info().current().getVersion().getVersion());
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                + "WHERE INDEX_NAME = 'IDX_TASKS_PROJECT_STATUS'", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_task_counts", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT task_count FROM project_task_counts "
+                + "WHERE status = 'TODO' AND priority = 'HIGH'", Integer.class));
+    }
+
+    private static SingleConnectionDataSource dataSource(String url) {
+        return new SingleConnectionDataSource(url, "sa", "", true);
+    }
+
+    private static Flyway flyway(SingleConnectionDataSource dataSource) {
+        return Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load();
+    }
+
+    private static List<String> describe(SingleConnectionDataSource dataSource, String query) {
+        return new JdbcTemplate(dataSource).queryForList(query, String.class);
+    }
+}
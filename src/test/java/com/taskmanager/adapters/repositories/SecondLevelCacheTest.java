@@ -0,0 +1,122 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs a read-heavy mix of user and project lookups as a series of short transactions, once with the
+ * second-level and query caches bypassed and once with them in use, and compares the SQL statement counts.
+ * Every request commits on its own, as in production, so the test does not run inside a test transaction.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+    private static final int REQUESTS = 200;
+    // Sample rows inserted by data.sql
+    private static final String USER_1 = "00000000-0000-7000-8000-000000000001";
+    private static final String USER_2 = "00000000-0000-7000-8000-000000000002";
+    private static final String PROJECT_1 = "00000000-0000-7000-8000-000000000101";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void testReadHeavyMixIssuesFarFewerStatementsWithTheCache() {
+        long uncached = runReadMix(CacheRetrieveMode.BYPASS, CacheStoreMode.BYPASS);
+        long cached = runReadMix(CacheRetrieveMode.USE, CacheStoreMode.USE);
+
+        assertTrue(cached * 20 <= uncached, "expected at least 20x fewer statements, got " + cached + " vs " + uncached);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+    }
+
+    @Test
+    void testWritesEvictCachedEntitiesAndQueries() {
+        Project project = inTransaction(() -> projectRepository.save(new Project("Cached", "Description", USER_2,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(10))));
+        try {
+            assertEquals("Cached", inTransaction(() -> projectRepository.findById(project.getId()).orElseThrow().getName()));
+            long activeBefore = inTransaction(() -> (long) projectRepository.findActiveProjects().size());
+
+            inTransaction(() -> {
+                Project loaded = projectRepository.findById(project.getId()).orElseThrow();
+                loaded.updateDetails("Renamed", loaded.getDescription(), loaded.getStartDate(), loaded.getEndDate());
+                loaded.cancel();
+                return projectRepository.save(loaded);
+            });
+
+            assertEquals("Renamed", inTransaction(() -> projectRepository.findById(project.getId()).orElseThrow().getName()));
+            assertEquals(activeBefore - 1, inTransaction(() -> (long) projectRepository.findActiveProjects().size()));
+        } finally {
+            inTransaction(() -> {
+                projectRepository.deleteById(project.getId());
+                return null;
+            });
+        }
+        assertTrue(inTransaction(() -> projectRepository.findById(project.getId())).isEmpty());
+    }
+
+    private long runReadMix(CacheRetrieveMode retrieveMode, CacheStoreMode storeMode) {
+        statistics.clear();
+        for (int i = 0; i < REQUESTS; i++) {
+            inTransaction(() -> {
+                entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, retrieveMode);
+                entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, storeMode);
+                userRepository.findById(USER_1).orElseThrow();
+                userRepository.findById(USER_2).orElseThrow();
+                projectRepository.findById(PROJECT_1).orElseThrow();
+                projectRepository.findActiveProjects();
+                userRepository.findActiveUsers();
+                userRepository.findByRole(UserRole.USER);
+                return null;
+            });
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,257 @@
+package com.taskmanager.adapters.repositories;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every TaskRepository adapter must share. Each adapter has a test class extending this one
+ * that supplies the repository and creates the users and projects the tasks refer to.
+ * Spring looks up test transactions on the class declaring the test method, so the annotation lives here
+ * for the JPA adapter; adapters tested without a Spring context ignore it.
+ */
+@Transactional
+abstract class TaskRepositoryContract {
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+    protected String userId;
+    protected String firstProjectId;
+    protected String secondProjectId;
+
+    protected abstract TaskRepository repository();
+
+    protected abstract String createUser(String email);
+
+    protected abstract String createProject(String name, String ownerId);
+
+    /**
+     * Pushes pending writes to storage and forgets cached state, so the next read comes from storage.
+     */
+    protected void flushAndClear() {
+    }
+
+    @BeforeEach
+    void seedTasks() {
+        userId = createUser("contract@example.com");
+        firstProjectId = createProject("First", userId);
+        secondProjectId = createProject("Second", userId);
+        LocalDateTime old = NOW.minusDays(30);
+        for (int i = 0; i < 6; i++) {
+            String projectId = i % 2 == 0 ? firstProjectId : secondProjectId;
+            TaskStatus status = i < 3 ? TaskStatus.TODO : TaskStatus.COMPLETED;
+            LocalDateTime updatedAt = i < 4 ? old : NOW;
+            repository().save(new Task(taskId(i), "Task " + i, "Description", NOW.plusDays(1),
+                    status, TaskPriority.MEDIUM, userId, projectId, old, updatedAt));
+        }
+        flushAndClear();
+    }
+
+    @Test
+    void testSaveAndFindByIdRoundTripsEveryField() {
+        Task task = new Task(taskId(100), "Round trip", null, null, TaskStatus.IN_PROGRESS, TaskPriority.URGENT,
+                userId, secondProjectId, NOW.minusHours(2), NOW.minusHours(1));
+        repository().save(task);
+        flushAndClear();
+
+        Task found = repository().findById(taskId(100)).orElseThrow();
+
+        assertEquals("Round trip", found.getTitle());
+        assertNull(found.getDescription());
+        assertNull(found.getDueDate());
+        assertEquals(TaskStatus.IN_PROGRESS, found.getStatus());
+        assertEquals(TaskPriority.URGENT, found.getPriority());
+        assertEquals(userId, found.getAssignedUserId());
+        assertEquals(secondProjectId, found.getProjectId());
+        assertEquals(NOW.minusHours(2), found.getCreatedAt());
+        assertEquals(NOW.minusHours(1), found.getUpdatedAt());
+        assertTrue(repository().findById("missing").isEmpty());
+    }
+
+    @Test
+    void testSaveReplacesAnExistingTask() {
+        Task task = repository().findById(taskId(0)).orElseThrow();
+        task.markAsInProgress();
+        repository().save(task);
+        flushAndClear();
+
+        assertEquals(TaskStatus.IN_PROGRESS, repository().findById(taskId(0)).orElseThrow().getStatus());
+        assertEquals(List.of(taskId(1), taskId(2)), ids(repository().findByStatus(TaskStatus.TODO)));
+        assertEquals(List.of(taskId(0)), ids(repository().findByStatus(TaskStatus.IN_PROGRESS)));
+    }
+
+    @Test
+    void testFindByIdsSkipsUnknownIds() {
+        Map<String, Task> found = repository().findByIds(List.of(taskId(1), taskId(4), "missing"));
+
+        assertEquals(Set.of(taskId(1), taskId(4)), found.keySet());
+        assertEquals("Task 4", found.get(taskId(4)).getTitle());
+    }
+
+    @Test
+    void testFindersUseEveryFilter() {
+        assertEquals(6, repository().findAll().size());
+        assertEquals(6, repository().findByUserId(userId).size());
+        assertEquals(List.of(taskId(0), taskId(2), taskId(4)), ids(repository().findByProjectId(firstProjectId)));
+        assertEquals(List.of(taskId(3), taskId(4), taskId(5)), ids(repository().findByStatus(TaskStatus.COMPLETED)));
+        assertEquals(6, repository().findByPriority(TaskPriority.MEDIUM).size());
+        assertTrue(repository().findByPriority(TaskPriority.HIGH).isEmpty());
+        assertEquals(List.of(taskId(0), taskId(1), taskId(2)), ids(repository().findByUserIdAndStatus(userId, TaskStatus.TODO)));
+        assertEquals(List.of(taskId(3), taskId(5)), ids(repository().findByProjectIdAndStatus(secondProjectId, TaskStatus.COMPLETED)));
+        assertTrue(repository().findByUserId("nobody").isEmpty());
+    }
+
+    @Test
+    void testDueDateQueriesSkipClosedTasks() {
+        repository().save(task(101, TaskStatus.IN_PROGRESS, NOW.minusDays(2)));
+        repository().save(task(102, TaskStatus.COMPLETED, NOW.minusDays(2)));
+        repository().save(task(103, TaskStatus.CANCELLED, NOW.minusDays(3)));
+        repository().save(task(104, TaskStatus.TODO, NOW.plusHours(3)));
+        repository().save(task(105, TaskStatus.TODO, null));
+        flushAndClear();
+
+        assertEquals(List.of(taskId(101)), ids(repository().findOverdueTasks(NOW)));
+        assertEquals(List.of(taskId(101), taskId(104)), ids(repository().findTasksDueWithin(NOW.plusHours(12))));
+    }
+
+    @Test
+    void testCountsFollowWrites() {
+        assertEquals(6, repository().countByUserId(userId));
+        assertEquals(3, repository().countByProjectId(firstProjectId));
+        assertEquals(3, repository().countByStatus(TaskStatus.TODO));
+
+        repository().deleteById(taskId(0));
+        repository().deleteById("missing");
+        flushAndClear();
+
+        assertFalse(repository().existsById(taskId(0)));
+        assertTrue(repository().existsById(taskId(1)));
+        assertEquals(5, repository().countByUserId(userId));
+        assertEquals(2, repository().countByProjectId(firstProjectId));
+        assertEquals(2, repository().countByStatus(TaskStatus.TODO));
+        assertEquals(0, repository().countByProjectId("missing"));
+    }
+
+    @Test
+    void testCountByProjectIdGroupedSummarizesEachStatusAndPriority() {
+        repository().save(task(110, TaskStatus.TODO, NOW.minusDays(2)));
+        repository().save(new Task(taskId(111), "Done late", "Description", NOW.minusDays(3), TaskStatus.COMPLETED,
+                TaskPriority.MEDIUM, userId, firstProjectId, NOW, NOW));
+        repository().save(new Task(taskId(112), "Undated", "Description", null, TaskStatus.IN_PROGRESS,
+                TaskPriority.MEDIUM, userId, firstProjectId, NOW, NOW));
+        repository().save(new Task(taskId(113), "Soon", "Description", NOW.plusHours(1), TaskStatus.TODO,
+                TaskPriority.MEDIUM, userId, firstProjectId, NOW, NOW));
+        flushAndClear();
+
+        Map<String, String> groups = new TreeMap<>();
+        for (TaskCountGroup group : repository().countByProjectIdGrouped(firstProjectId, NOW)) {
+            groups.put(group.getStatus() + "/" + group.getPriority(),
+                    group.getCount() + " " + group.getOverdueCount() + " " + group.getNextDueDate());
+        }
+
+        assertEquals(Map.of(
+                "TODO/HIGH", "1 1 null",
+                "TODO/MEDIUM", "3 0 " + NOW.plusHours(1),
+                "IN_PROGRESS/MEDIUM", "1 0 null",
+                "COMPLETED/MEDIUM", "2 0 null"), groups);
+        assertTrue(repository().countByProjectIdGrouped("missing", NOW).isEmpty());
+    }
+
+    @Test
+    void testCountByProjectIdGroupedFollowsUpdatesAndDeletes() {
+        Task moved = repository().findById(taskId(0)).orElseThrow();
+        moved.updateDetails(moved.getTitle(), moved.getDescription(), moved.getDueDate(), TaskPriority.URGENT);
+        repository().save(moved);
+        repository().updateStatus(List.of(taskId(2)), List.of(TaskStatus.values()), TaskStatus.CANCELLED, NOW);
+        repository().deleteById(taskId(4));
+        flushAndClear();
+
+        Map<String, Long> counts = new TreeMap<>();
+        for (TaskCountGroup group : repository().countByProjectIdGrouped(firstProjectId, NOW)) {
+            counts.put(group.getStatus() + "/" + group.getPriority(), group.getCount());
+        }
+
+        assertEquals(Map.of("TODO/URGENT", 1L, "CANCELLED/MEDIUM", 1L), counts);
+    }
+
+    @Test
+    void testForEachMatchingWithoutFiltersVisitsEveryTask() {
+        assertEquals(6, collect(null, null, null).size());
+    }
+
+    @Test
+    void testForEachMatchingAppliesFilters() {
+        assertEquals(List.of(taskId(0), taskId(2), taskId(4)), ids(collect(firstProjectId, null, null)));
+        assertEquals(List.of(taskId(3), taskId(4), taskId(5)), ids(collect(null, TaskStatus.COMPLETED, null)));
+        assertEquals(List.of(taskId(4), taskId(5)), ids(collect(null, null, NOW.minusDays(1))));
+        assertEquals(List.of(taskId(4)), ids(collect(firstProjectId, TaskStatus.COMPLETED, NOW.minusDays(1))));
+    }
+
+    @Test
+    void testInsertAllPersistsEveryTask() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(new Task("Batch " + i, "Description", NOW.plusDays(1), userId, firstProjectId, TaskPriority.LOW));
+        }
+
+        repository().insertAll(tasks);
+        flushAndClear();
+
+        assertEquals(123, repository().countByProjectId(firstProjectId));
+        assertEquals("Batch 119", repository().findById(tasks.get(119).getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void testInsertAllRejectsExistingTasks() {
+        Task existing = new Task(taskId(0), "Duplicate", "Description", NOW.plusDays(1), TaskStatus.TODO,
+                TaskPriority.LOW, userId, firstProjectId, NOW, NOW);
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository().insertAll(List.of(existing)));
+    }
+
+    @Test
+    void testUpdateStatusOnlyChangesTasksInAllowedStatuses() {
+        int updated = repository().updateStatus(List.of(taskId(0), taskId(3), "missing"),
+                List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), TaskStatus.CANCELLED, NOW);
+        flushAndClear();
+
+        assertEquals(1, updated);
+        Task cancelled = repository().findById(taskId(0)).orElseThrow();
+        assertEquals(TaskStatus.CANCELLED, cancelled.getStatus());
+        assertEquals(NOW, cancelled.getUpdatedAt());
+        assertEquals(TaskStatus.COMPLETED, repository().findById(taskId(3)).orElseThrow().getStatus());
+        assertEquals(TaskStatus.TODO, repository().findById(taskId(1)).orElseThrow().getStatus());
+        assertEquals(List.of(taskId(0)), ids(repository().findByStatus(TaskStatus.CANCELLED)));
+    }
+
+    /**
+     * Fixed task ids, which sort in the order of their numbers.
+     */
+    protected static String taskId(int number) {
+        return String.format("00000000-0000-7000-8000-%012d", number);
+    }
+
+    protected List<Task> collect(String projectId, TaskStatus status, LocalDateTime updatedSince) {
+        List<Task> tasks = new ArrayList<>();
+        repository().forEachMatching(projectId, status, updatedSince, tasks::add);
+        return tasks;
+    }
+
+    protected List<String> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).sorted().toList();
+    }
+
+    private Task task(int number, TaskStatus status, LocalDateTime dueDate) {
+        return new Task(taskId(number), "Task " + number, "Description", dueDate, status, TaskPriority.HIGH, userId, firstProjectId, NOW, NOW);
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskmanager.adapters.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs db/migrate-to-uuid-keys.sql against a database created with the old VARCHAR(36) keys.
+ */
+class UuidKeyMigrationTest {
+    private static final String RANDOM_TASK_ID = "3f1d2c4b-5a69-4e7d-8c1b-2a3f4e5d6c7b";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createOldDatabase() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/varchar-keys-schema.sql")).execute(dataSource);
+
+        jdbcTemplate.update("INSERT INTO users (id, email, first_name, last_name, password, role, status, created_at, updated_at) "
+                + "VALUES ('user1', 'test@example.com', 'John', 'Doe', 'Password1!', 'USER', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO projects (id, name, owner_id, status, created_at, updated_at) "
+                + "VALUES ('project1', 'Test Project', 'user1', 'PLANNING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO tasks (id, title, status, priority, assigned_user_id, project_id, created_at, updated_at) "
+                + "VALUES (?, 'Random key', 'TODO', 'LOW', 'user1', 'project1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP), "
+                + "('task-2', 'Unassigned', 'TODO', 'LOW', NULL, 'project1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", RANDOM_TASK_ID);
+        jdbcTemplate.update("INSERT INTO task_view (id, title, status, priority, assigned_user_id, assigned_user_name, "
+                + "project_id, project_name, created_at, updated_at) "
+                + "VALUES (?, 'Random key', 'TODO', 'LOW', 'user1', 'John Doe', 'project1', 'Test Project', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                RANDOM_TASK_ID);
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/migrate-to-uuid-keys.sql")).execute(dataSource);
+    }
+
+    @Test
+    void testKeyColumnsBecomeNativeUuids() {
+        assertEquals(9, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE COLUMN_NAME IN ('ID', 'OWNER_ID', 'ASSIGNED_USER_ID', 'PROJECT_ID') AND DATA_TYPE = 'UUID'", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_NAME LIKE '%UUID%'", Integer.class));
+    }
+
+    @Test
+    void testUuidKeysAreKept() {
+        Map<String, Object> task = jdbcTemplate.queryForMap("SELECT * FROM tasks WHERE id = ?", UUID.fromString(RANDOM_TASK_ID));
+        Map<String, Object> view = jdbcTemplate.queryForMap("SELECT * FROM task_view WHERE id = ?", UUID.fromString(RANDOM_TASK_ID));
+
+        assertEquals("Random key", task.get("TITLE"));
+        assertEquals(task.get("ASSIGNED_USER_ID"), view.get("ASSIGNED_USER_ID"));
+        assertEquals(task.get("PROJECT_ID"), view.get("PROJECT_ID"));
+    }
+
+    @Test
+    void testOtherKeysAreReplacedConsistently() {
+        UUID userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'test@example.com'", UUID.class);
+        UUID projectId = jdbcTemplate.queryForObject("SELECT id FROM projects WHERE name = 'Test Project'", UUID.class);
+        UUID unassignedId = jdbcTemplate.queryForObject("SELECT id FROM tasks WHERE title = 'Unassigned'", UUID.class);
+
+        assertNotNull(userId);
+        assertNotNull(unassignedId);
+        assertEquals(userId, jdbcTemplate.queryForObject("SELECT owner_id FROM projects", UUID.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE project_id = ?", Integer.class, projectId));
+        assertNull(jdbcTemplate.queryForObject("SELECT assigned_user_id FROM tasks WHERE id = ?", UUID.class, unassignedId));
+    }
+
+    @Test
+    void testIndexesAndForeignKeysAreRestored() {
+        assertEquals(13, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE INDEX_NAME LIKE 'IDX_%'", Integer.class));
+        assertThrows(Exception.class, () -> jdbcTemplate.update("INSERT INTO tasks (id, title, status, priority, project_id, created_at, updated_at) "
+                + "VALUES (RANDOM_UUID(), 'Orphan', 'TODO', 'LOW', RANDOM_UUID(), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"));
+    }
+}
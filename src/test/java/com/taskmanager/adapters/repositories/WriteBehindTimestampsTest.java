@@ -0,0 +1,123 @@
+package com.taskmanager.adapters.repositories;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes last-login times through WriteBehindTimestamps into the users table of schema.sql.
+ */
+class WriteBehindTimestampsTest {
+    private static final String USER1 = "00000000-0000-7000-8000-000000000001";
+    private static final String USER2 = "00000000-0000-7000-8000-000000000002";
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<String>> flushedIds = new ArrayList<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private WriteBehindTimestamps lastLogins;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:write-behind-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // Flushed by the tests themselves, unless the size trigger fires
+        lastLogins = open(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lastLogins.close();
+    }
+
+    @Test
+    void testRepeatedLoginsAreCoalescedIntoOneWrite() {
+        lastLogins.record(USER1, NOW);
+        lastLogins.record(USER1, NOW.plusSeconds(2));
+        lastLogins.record(USER1, NOW.plusSeconds(1));
+        assertNull(lastLogin(USER1));
+
+        assertEquals(1, lastLogins.flush());
+
+        assertEquals(NOW.plusSeconds(2), lastLogin(USER1));
+        assertNull(lastLogin(USER2));
+        assertEquals(3, meterRegistry.get(WriteBehindTimestamps.RECORDED_METRIC).counter().count());
+        assertEquals(2, meterRegistry.get(WriteBehindTimestamps.ABSORBED_METRIC).counter().count());
+        assertEquals(1, meterRegistry.get(WriteBehindTimestamps.WRITTEN_METRIC).counter().count());
+        assertEquals(List.of(List.of(USER1)), flushedIds);
+        assertEquals(0, lastLogins.flush());
+    }
+
+    @Test
+    void testOlderTimestampNeverOverwritesNewerOne() {
+        lastLogins.record(USER1, NOW);
+        lastLogins.flush();
+
+        lastLogins.record(USER1, NOW.minusMinutes(1));
+        lastLogins.flush();
+
+        assertEquals(NOW, lastLogin(USER1));
+    }
+
+    @Test
+    void testFlushStartsOnceMaxPendingRowsAreWaiting() throws InterruptedException {
+        lastLogins.close();
+        lastLogins = open(2);
+
+        lastLogins.record(USER1, NOW);
+        lastLogins.record(USER2, NOW);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (lastLogin(USER2) == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(NOW, lastLogin(USER1));
+        assertEquals(NOW, lastLogin(USER2));
+    }
+
+    @Test
+    void testIdThatIsNotAUuidIsRejectedBeforeItReachesABatch() {
+        assertThrows(IllegalArgumentException.class, () -> lastLogins.record("user1", NOW));
+        lastLogins.record(USER1, NOW);
+
+        assertEquals(1, lastLogins.flush());
+        assertEquals(NOW, lastLogin(USER1));
+    }
+
+    @Test
+    void testCloseWritesPendingTimestamps() {
+        lastLogins.record(USER1, NOW);
+        lastLogins.record(USER2, NOW.plusSeconds(1));
+
+        lastLogins.close();
+
+        assertEquals(NOW, lastLogin(USER1));
+        assertEquals(NOW.plusSeconds(1), lastLogin(USER2));
+    }
+
+    private WriteBehindTimestamps open(int maxPending) {
+        return new WriteBehindTimestamps(jdbcTemplate, "users", "last_login_at", maxPending, Duration.ofHours(1),
+                flushedIds::add, meterRegistry);
+    }
+
+    private LocalDateTime lastLogin(String userId) {
+        Timestamp lastLogin = jdbcTemplate.queryForObject("SELECT last_login_at FROM users WHERE id = ?",
+                Timestamp.class, userId);
+        return lastLogin != null ? lastLogin.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskmanager.adapters.search;
+
+import com.taskmanager.entities.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedTaskIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private InvertedTaskIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new InvertedTaskIndex(meterRegistry);
+    }
+
+    @Test
+    void testWordsAreMatchedCaseInsensitivelyAndTitlesRankFirst() {
+        index.index("in-description", "Weekly sync", "Review the LOGIN flow.", "project1", TaskStatus.TODO);
+        index.index("in-title", "Fix login-page crash", "Happens on Safari", "project1", TaskStatus.TODO);
+        index.index("unrelated", "Update docs", null, "project1", TaskStatus.TODO);
+
+        assertEquals(List.of("in-title", "in-description"), index.search("Login", null, null, 10));
+        assertEquals(List.of("in-title"), index.search("login crash", null, null, 10));
+        assertEquals(List.of(), index.search("login deploy", null, null, 10));
+        assertEquals(List.of("in-title"), index.search("login", null, null, 1));
+        assertEquals(List.of(), index.search("  ...  ", null, null, 10));
+    }
+
+    @Test
+    void testWordEndingInStarMatchesPrefix() {
+        index.index("deploy", "Deploy release", null, "project1", TaskStatus.TODO);
+        index.index("deployment", "Deployment checklist", null, "project1", TaskStatus.TODO);
+        index.index("dependencies", "Upgrade dependencies", null, "project1", TaskStatus.TODO);
+
+        assertEquals(List.of("deploy"), index.search("deploy", null, null, 10));
+        assertEquals(2, index.search("deploy*", null, null, 10).size());
+        assertEquals(3, index.search("dep*", null, null, 10).size());
+        assertEquals(List.of("deployment"), index.search("dep* checklist", null, null, 10));
+    }
+
+    @Test
+    void testPrefixSumsTheScoresOfEveryMatchingWordOfALiveTask() {
+        index.index("one-word", "Deploy release", null, "project1", TaskStatus.TODO);
+        index.index("two-words", "Deploy deployment", null, "project1", TaskStatus.TODO);
+        index.index("replaced", "Deployment deploys deployed", null, "project1", TaskStatus.TODO);
+        index.index("replaced", "Archive archived", null, "project1", TaskStatus.TODO);
+
+        assertEquals(List.of("two-words", "one-word"), index.search("deploy*", null, null, 10));
+        assertEquals(List.of("two-words"), index.search("deploy* deployment", null, null, 10));
+        assertEquals(List.of("replaced"), index.search("archive*", null, null, 10));
+    }
+
+    @Test
+    void testProjectAndStatusFiltersNarrowTheHits() {
+        index.index("a-todo", "Write report", null, "projectA", TaskStatus.TODO);
+        index.index("a-done", "Write report", null, "projectA", TaskStatus.COMPLETED);
+        index.index("b-todo", "Write report", null, "projectB", TaskStatus.TODO);
+
+        assertEquals(List.of("a-todo"), index.search("report", "projectA", TaskStatus.TODO, 10));
+        assertEquals(List.of(), index.search("report", "unknown", null, 10));
+
+        index.statusChanged(List.of("a-todo"), TaskStatus.IN_PROGRESS).run();
+
+        assertEquals(List.of(), index.search("report", "projectA", TaskStatus.TODO, 10));
+        assertEquals(List.of("a-todo"), index.search("report", null, TaskStatus.IN_PROGRESS, 10));
+    }
+
+    @Test
+    void testSavedTaskReplacesItsWordsAndDeletedTaskDisappears() {
+        Task task = new Task("task", "Old title", "Old description", null, TaskStatus.TODO, TaskPriority.LOW,
+                "user1", "project1", NOW, NOW);
+        index.saved(task).run();
+        Runnable rename = index.saved(new Task("task", "New title", null, null, TaskStatus.TODO, TaskPriority.LOW,
+                "user1", "project1", NOW, NOW));
+
+        assertEquals(List.of("task"), index.search("old", null, null, 10));
+        rename.run();
+        assertEquals(List.of(), index.search("old", null, null, 10));
+        assertEquals(List.of("task"), index.search("new title", null, null, 10));
+        assertEquals(1, index.countDocuments());
+
+        index.deleted("task").run();
+
+        assertEquals(List.of(), index.search("title", null, null, 10));
+        assertEquals(0.0, meterRegistry.get(InvertedTaskIndex.DOCUMENTS_METRIC).gauge().value());
+    }
+
+    @Test
+    void testReplacedDocumentsAreCompactedAway() {
+        // Tombstones outnumber the live documents early in the third round
+        for (String stage : List.of("draft", "review", "final")) {
+            for (int i = 0; i < 12_000; i++) {
+                index.index("task" + i, "Task " + i + " " + stage, null, "project" + (i % 3), TaskStatus.TODO);
+            }
+        }
+
+        assertEquals(12_000, index.countDocuments());
+        assertEquals(List.of(), index.search("draft", null, null, 10));
+        assertEquals(List.of(), index.search("review", null, null, 10));
+        assertEquals(List.of("task11999"), index.search("11999 final", "project2", null, 10));
+        assertEquals(10, index.search("final", null, null, 10).size());
+    }
+
+    @Test
+    void testSavedTasksAreIndexedWhateverTheirStatus() {
+        index.saved(new Task("open", "Open task", null, null, TaskStatus.TODO, TaskPriority.LOW,
+                "user1", "project1", NOW, NOW)).run();
+        index.saved(new Task("closed", "Closed task", null, null, TaskStatus.COMPLETED, TaskPriority.LOW,
+                "user1", "project1", NOW, NOW)).run();
+
+        List<String> hits = new ArrayList<>(index.search("task", null, null, 10));
+        hits.sort(null);
+        assertEquals(List.of("closed", "open"), hits);
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmanager.adapters.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.entities.UserRole;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenServiceTest {
+    private static final byte[] OLD_KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NEW_KEY = "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void testIssuedTokenVerifiesWithItsClaims() {
+        AccessTokenService tokens = service(Map.of("k1", OLD_KEY), "k1");
+        Instant expiresAt = clock.instant().plus(Duration.ofHours(1));
+
+        Optional<AccessTokenService.Claims> claims = tokens.verify(tokens.issue("user1", UserRole.ADMIN, expiresAt));
+
+        assertEquals(Optional.of(new AccessTokenService.Claims("user1", UserRole.ADMIN, expiresAt)), claims);
+    }
+
+    @Test
+    void testExpiredTokenIsRejected() {
+        AccessTokenService tokens = service(Map.of("k1", OLD_KEY), "k1");
+        String token = tokens.issue("user1", UserRole.USER, clock.instant().plus(Duration.ofMinutes(5)));
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertTrue(tokens.verify(token).isEmpty());
+    }
+
+    @Test
+    void testTamperedClaimsAreRejected() {
+        AccessTokenService tokens = service(Map.of("k1", OLD_KEY), "k1");
+        String[] parts = tokens.issue("user1", UserRole.USER, clock.instant().plus(Duration.ofHours(1))).split("\\.");
+        String claims = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8).replace("USER", "ADMIN");
+        String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                claims.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertTrue(tokens.verify(forged).isEmpty());
+        assertTrue(tokens.verify("not-a-token").isEmpty());
+        assertTrue(tokens.verify(parts[0] + "." + parts[1] + ".%%%").isEmpty());
+    }
+
+    @Test
+    void testUnsignedTokenIsRejected() {
+        AccessTokenService tokens = service(Map.of("k1", OLD_KEY), "k1");
+        String[] parts = tokens.issue("user1", UserRole.USER, clock.instant().plus(Duration.ofHours(1))).split("\\.");
+        String none = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"alg\":\"none\",\"typ\":\"JWT\",\"kid\":\"k1\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(tokens.verify(none + "." + parts[1] + ".").isEmpty());
+    }
+
+    @Test
+    void testRotationKeepsOldTokensValidUntilTheOldKeyIsRemoved() {
+        Instant expiresAt = clock.instant().plus(Duration.ofHours(1));
+        String oldToken = service(Map.of("k1", OLD_KEY), "k1").issue("user1", UserRole.USER, expiresAt);
+
+        AccessTokenService rotated = service(Map.of("k1", OLD_KEY, "k2", NEW_KEY), "k2");
+        String newToken = rotated.issue("user1", UserRole.USER, expiresAt);
+        AccessTokenService retired = service(Map.of("k2", NEW_KEY), "k2");
+
+        assertTrue(rotated.verify(oldToken).isPresent());
+        assertTrue(rotated.verify(newToken).isPresent());
+        assertTrue(retired.verify(oldToken).isEmpty());
+        assertTrue(retired.verify(newToken).isPresent());
+    }
+
+    @Test
+    void testKeysMustBeLongEnoughAndIncludeSigningKey() {
+        assertThrows(IllegalArgumentException.class, () -> service(Map.of("k1", new byte[16]), "k1"));
+        assertThrows(IllegalArgumentException.class, () -> service(Map.of("k1", OLD_KEY), "k2"));
+    }
+
+    private AccessTokenService service(Map<String, byte[]> keys, String signingKeyId) {
+        return new AccessTokenService(keys, signingKeyId, objectMapper, clock);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2030-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
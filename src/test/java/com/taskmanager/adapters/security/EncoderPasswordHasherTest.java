@@ -0,0 +1,29 @@
+package com.taskmanager.adapters.security;
+
+import com.taskmanager.entities.User;
+import com.taskmanager.entities.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncoderPasswordHasherTest {
+    // The lowest BCrypt cost, to keep the test fast
+    private final EncoderPasswordHasher passwordHasher = new EncoderPasswordHasher(new BCryptPasswordEncoder(4));
+
+    @Test
+    void testChangedPasswordIsStoredHashedAndMatches() {
+        User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.USER);
+        user.hashPassword(passwordHasher::hash);
+
+        user.changePassword("NewPass1!", passwordHasher::hash);
+
+        assertNotEquals("NewPass1!", user.getPassword());
+        assertTrue(passwordHasher.matches("NewPass1!", user.getPassword()));
+        assertFalse(passwordHasher.matches("Password1!", user.getPassword()));
+    }
+
+    @Test
+    void testMissingHashNeverMatches() {
+        assertFalse(passwordHasher.matches("Password1!", null));
+    }
+}
@@ -0,0 +1,132 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdmissionControlledDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource target;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    void testClosingAConnectionAdmitsTheNextCaller() throws Exception {
+        AdmissionControlledDataSource dataSource = dataSource(2, 10, Duration.ofSeconds(5));
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertEquals(2, dataSource.getActiveConnections());
+
+        CompletableFuture<Connection> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        waitForWaitingCallers(dataSource, 1);
+        assertFalse(third.isDone());
+        assertEquals(1.0, meterRegistry.get(AdmissionControlledDataSource.WAITING_METRIC).gauge().value());
+
+        first.close();
+
+        assertNotNull(third.get(5, TimeUnit.SECONDS));
+        assertEquals(2, dataSource.getActiveConnections());
+        second.close();
+        assertEquals(1, dataSource.getActiveConnections());
+    }
+
+    @Test
+    void testClosingTwiceReleasesOnePermit() throws Exception {
+        AdmissionControlledDataSource dataSource = dataSource(2, 10, Duration.ofSeconds(5));
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        first.close();
+        first.close();
+
+        assertEquals(1, dataSource.getActiveConnections());
+        verify(((ConnectionProxy) first).getTargetConnection(), times(2)).close();
+    }
+
+    @Test
+    void testFullQueueIsRejectedImmediately() throws Exception {
+        AdmissionControlledDataSource dataSource = dataSource(1, 0, Duration.ofSeconds(30));
+        dataSource.getConnection();
+
+        long start = System.nanoTime();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(1.0, rejected("queue-full"));
+        assertEquals(0, dataSource.getWaitingCallers());
+    }
+
+    @Test
+    void testWaitingCallerTimesOut() throws Exception {
+        AdmissionControlledDataSource dataSource = dataSource(1, 10, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        assertEquals(1.0, rejected("timeout"));
+        assertEquals(0, dataSource.getWaitingCallers());
+        assertEquals(1, dataSource.getActiveConnections());
+    }
+
+    @Test
+    void testFailedConnectionReleasesItsPermit() throws Exception {
+        when(target.getConnection()).thenThrow(new SQLException("database down"));
+        AdmissionControlledDataSource dataSource = dataSource(1, 0, Duration.ofSeconds(5));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(0, dataSource.getActiveConnections());
+    }
+
+    @Test
+    void testConnectionsExposeTheirTarget() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        AdmissionControlledDataSource dataSource = dataSource(1, 0, Duration.ofSeconds(5));
+
+        Connection proxy = dataSource.getConnection();
+        proxy.commit();
+
+        assertSame(connection, ((ConnectionProxy) proxy).getTargetConnection());
+        verify(connection).commit();
+        assertEquals(1.0, meterRegistry.get(AdmissionControlledDataSource.ACTIVE_METRIC).gauge().value());
+    }
+
+    private AdmissionControlledDataSource dataSource(int maxConnections, int maxWaiting, Duration acquireTimeout) {
+        return new AdmissionControlledDataSource(target, "primary", maxConnections, maxWaiting, acquireTimeout, meterRegistry);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get(AdmissionControlledDataSource.REJECTED_METRIC).tag("reason", reason).counter().count();
+    }
+
+    private void waitForWaitingCallers(AdmissionControlledDataSource dataSource, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.getWaitingCallers() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, dataSource.getWaitingCallers());
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PinnedThreadMonitorTest {
+    private static final List<String> REPOSITORY_STACK = List.of(
+            "java.lang.VirtualThread.parkOnCarrierThread:675",
+            "org.h2.engine.SessionLocal.lock:1234",
+            "com.taskmanager.adapters.repositories.EntityCache.get:42",
+            "com.taskmanager.adapters.repositories.CachingUserRepository.findById:38",
+            "com.taskmanager.usecases.CreateTaskUseCase.execute:51");
+
+    private SimpleMeterRegistry meterRegistry;
+    private PinnedThreadMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new PinnedThreadMonitor(meterRegistry, Duration.ofMillis(20));
+    }
+
+    @Test
+    void testPinsAreAttributedToTheInnermostApplicationFrame() {
+        monitor.record(REPOSITORY_STACK, Duration.ofMillis(30));
+        monitor.record(REPOSITORY_STACK, Duration.ofMillis(80));
+
+        Map<String, Object> site = onlySite();
+        assertEquals("com.taskmanager.adapters.repositories.EntityCache.get", site.get("site"));
+        assertEquals(2L, site.get("count"));
+        assertEquals("PT0.08S", site.get("maxDuration"));
+        assertEquals(REPOSITORY_STACK, site.get("stackTrace"));
+        assertEquals(2.0, meterRegistry.get(PinnedThreadMonitor.PINNED_METRIC)
+                .tag("site", "com.taskmanager.adapters.repositories.EntityCache.get").counter().count());
+    }
+
+    @Test
+    void testPinsWithoutApplicationFramesAreGrouped() {
+        monitor.record(List.of("java.lang.VirtualThread.parkOnCarrierThread:675", "org.h2.mvstore.MVStore.store:99"),
+                Duration.ofMillis(25));
+
+        assertEquals(PinnedThreadMonitor.OUTSIDE_APPLICATION, onlySite().get("site"));
+    }
+
+    @Test
+    void testResetClearsTheReport() {
+        monitor.record(REPOSITORY_STACK, Duration.ofMillis(30));
+
+        monitor.reset();
+
+        assertEquals(List.of(), monitor.report().get("sites"));
+    }
+
+    @Test
+    void testStaysIdleBeforeJdk21() {
+        monitor.start();
+        try {
+            assertEquals(Runtime.version().feature() >= 21, monitor.isRunning());
+        } finally {
+            monitor.close();
+        }
+        assertFalse(monitor.isRunning());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> onlySite() {
+        List<Map<String, Object>> sites = (List<Map<String, Object>>) monitor.report().get("sites");
+        assertEquals(1, sites.size());
+        return sites.get(0);
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import javax.sql.DataSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The replicas and virtual-threads profiles together: the application starts, and the primary and the replica
+ * each get an admission limiter sized for their own pool.
+ */
+@SpringBootTest
+@ActiveProfiles({"replicas", "virtual-threads"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admission-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "taskmanager.datasource.replicas.urls=jdbc:h2:mem:admission-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.minimum-idle=1"})
+class ReplicaAdmissionProfileTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testPrimaryAndReplicaEachHaveTheirOwnLimiter() {
+        assertInstanceOf(ReplicaRoutingDataSource.class, dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+        boolean previous = ReplicaRoutingDataSource.preferReplica(true);
+        try {
+            assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+        } finally {
+            ReplicaRoutingDataSource.preferReplica(previous);
+        }
+
+        for (String pool : new String[]{"primary", "replica-0"}) {
+            assertEquals(0.0, meterRegistry.get(AdmissionControlledDataSource.ACTIVE_METRIC).tag("pool", pool).gauge().value());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.preferReplica(false);
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void testOnlyThreadsPreferringAReplicaReadFromIt() throws SQLException {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofMinutes(1), meterRegistry);
+
+        assertEquals("primary", role(dataSource));
+        assertFalse(ReplicaRoutingDataSource.preferReplica(true));
+        assertEquals("replica", role(dataSource));
+        assertTrue(ReplicaRoutingDataSource.preferReplica(false));
+        assertEquals("primary", role(dataSource));
+    }
+
+    @Test
+    void testFailedReplicaIsSkippedUntilItPassesTheHealthCheck() throws SQLException {
+        AtomicBoolean down = new AtomicBoolean(true);
+        DataSource flaky = mock(DataSource.class);
+        when(flaky.getConnection()).thenAnswer(invocation -> {
+            if (down.get()) {
+                throw new SQLException("Connection refused");
+            }
+            return replica.getConnection();
+        });
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(flaky), Duration.ofMinutes(1), meterRegistry);
+        ReplicaRoutingDataSource.preferReplica(true);
+
+        assertEquals("primary", role(dataSource));
+        assertEquals("primary", role(dataSource));
+        assertEquals(0, dataSource.countHealthy());
+        assertEquals(2.0, meterRegistry.get(ReplicaRoutingDataSource.FALLBACKS_METRIC).counter().count());
+        verify(flaky, times(1)).getConnection();
+
+        down.set(false);
+        dataSource.checkHealth();
+
+        assertEquals(1.0, meterRegistry.get(ReplicaRoutingDataSource.HEALTHY_METRIC).gauge().value());
+        assertEquals("replica", role(dataSource));
+    }
+
+    @Test
+    void testConnectionsWithExplicitCredentialsComeFromThePrimary() throws SQLException {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofMinutes(1), meterRegistry);
+        ReplicaRoutingDataSource.preferReplica(true);
+
+        try (Connection connection = dataSource.getConnection("", "");
+             ResultSet resultSet = connection.createStatement().executeQuery("SELECT name FROM role")) {
+            resultSet.next();
+            assertEquals("primary", resultSet.getString(1));
+        }
+    }
+
+    @Test
+    void testBusyReplicaStaysInRotation() throws SQLException {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofMinutes(1), meterRegistry);
+        AdmissionControlledDataSource[] limiters = new AdmissionControlledDataSource[1];
+        dataSource.wrapPools((name, pool) -> name.equals("primary") ? pool
+                : (limiters[0] = new AdmissionControlledDataSource(pool, name, 1, 0, Duration.ZERO, meterRegistry)));
+        ReplicaRoutingDataSource.preferReplica(true);
+
+        try (Connection held = dataSource.getConnection()) {
+            assertEquals(1, limiters[0].getActiveConnections());
+            assertEquals("primary", role(dataSource));
+            // The health check goes to the pool itself, past the limiter
+            dataSource.checkHealth();
+            assertEquals(1, dataSource.countHealthy());
+        }
+
+        assertEquals("replica", role(dataSource));
+    }
+
+    @Test
+    void testReadsAreSpreadOverTheReplicas() throws SQLException {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica, database("second")), Duration.ofMinutes(1),
+                meterRegistry);
+        ReplicaRoutingDataSource.preferReplica(true);
+
+        assertNotEquals(role(dataSource), role(dataSource));
+    }
+
+    static DataSource database(String role) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + role + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE role (name VARCHAR(20))");
+            statement.execute("INSERT INTO role VALUES ('" + role + "')");
+        }
+        return dataSource;
+    }
+
+    static String role(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.createStatement().executeQuery("SELECT name FROM role")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
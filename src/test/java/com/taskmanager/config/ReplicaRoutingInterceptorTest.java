@@ -0,0 +1,103 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingInterceptorTest {
+
+    private ReplicaRoutingDataSource dataSource;
+    private Lookup reads;
+    private Lookup writes;
+    private Lookup failingWrites;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new ReplicaRoutingDataSource(ReplicaRoutingDataSourceTest.database("primary"),
+                List.of(ReplicaRoutingDataSourceTest.database("replica")), Duration.ofMinutes(1), new SimpleMeterRegistry());
+        ReplicaRoutingInterceptor routing = new ReplicaRoutingInterceptor(Duration.ofMillis(300), 100);
+        reads = proxy(new Lookup(dataSource, false), routing.forReads());
+        writes = proxy(new Lookup(dataSource, false), routing.forWrites());
+        failingWrites = proxy(new Lookup(dataSource, true), routing.forWrites());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        dataSource.close();
+    }
+
+    @Test
+    void testUserReadsFromThePrimaryRightAfterTheirOwnWrite() throws Exception {
+        signIn("alice");
+        assertEquals("replica", reads.execute());
+
+        assertEquals("primary", writes.execute());
+        assertEquals("primary", reads.execute());
+        signIn("bob");
+        assertEquals("replica", reads.execute());
+
+        signIn("alice");
+        Thread.sleep(500);
+        assertEquals("replica", reads.execute());
+    }
+
+    @Test
+    void testOnlyExecuteIsRouted() throws SQLException {
+        signIn("alice");
+
+        assertEquals("replica", reads.execute());
+        assertEquals("primary", reads.lookUp());
+    }
+
+    @Test
+    void testFailedWriteKeepsReadsOnTheReplica() throws SQLException {
+        signIn("alice");
+
+        assertThrows(IllegalStateException.class, failingWrites::execute);
+        assertEquals("replica", reads.execute());
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, "password", AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static Lookup proxy(Lookup target, ReplicaRoutingInterceptor interceptor) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return (Lookup) proxyFactory.getProxy();
+    }
+
+    public static class Lookup {
+        private final DataSource dataSource;
+        private final boolean failing;
+
+        public Lookup(DataSource dataSource, boolean failing) {
+            this.dataSource = dataSource;
+            this.failing = failing;
+        }
+
+        public String execute() throws SQLException {
+            if (failing) {
+                throw new IllegalStateException("Rolled back");
+            }
+            return lookUp();
+        }
+
+        public String lookUp() throws SQLException {
+            return ReplicaRoutingDataSourceTest.role(dataSource);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskmanager.config;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.GetTaskByIdUseCase;
+import com.taskmanager.usecases.ports.*;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UseCaseMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskViewRepository taskViewRepository;
+    private GetTaskByIdUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskViewRepository = mock(TaskViewRepository.class);
+        ProxyFactory proxyFactory = new ProxyFactory(new GetTaskByIdUseCase(taskViewRepository, Clock.systemDefaultZone()));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new UseCaseMetricsInterceptor(meterRegistry, "GetTaskByIdUseCase"));
+        useCase = (GetTaskByIdUseCase) proxyFactory.getProxy();
+    }
+
+    @Test
+    void testSuccessfulCallsAreTimed() {
+        when(taskViewRepository.findById("task1")).thenReturn(Optional.of(view()));
+
+        useCase.execute("task1");
+        useCase.execute("task1");
+
+        Timer timer = timer("SUCCESS", "none");
+        assertEquals(2, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(0, meterRegistry.get(UseCaseMetricsInterceptor.ACTIVE_METRIC).gauge().value());
+    }
+
+    @Test
+    void testFailuresAreCountedPerExceptionType() {
+        when(taskViewRepository.findById("missing")).thenReturn(Optional.empty());
+        when(taskViewRepository.findById("broken")).thenThrow(new BusinessRuleViolationException("broken"));
+
+        assertThrows(TaskNotFoundException.class, () -> useCase.execute("missing"));
+        assertThrows(TaskNotFoundException.class, () -> useCase.execute("missing"));
+        assertThrows(BusinessRuleViolationException.class, () -> useCase.execute("broken"));
+
+        assertEquals(2, timer("ERROR", "TaskNotFoundException").count());
+        assertEquals(1, timer("ERROR", "BusinessRuleViolationException").count());
+        assertEquals(0, timer("SUCCESS", "none").count());
+    }
+
+    @Test
+    void testActiveGaugeCountsCallsInProgress() {
+        AtomicReference<Double> activeDuringCall = new AtomicReference<>();
+        when(taskViewRepository.findById("task1")).thenAnswer(invocation -> {
+            activeDuringCall.set(meterRegistry.get(UseCaseMetricsInterceptor.ACTIVE_METRIC)
+                    .tag("usecase", "GetTaskByIdUseCase").gauge().value());
+            return Optional.of(view());
+        });
+
+        useCase.execute("task1");
+
+        assertEquals(1.0, activeDuringCall.get());
+        assertEquals(0, meterRegistry.get(UseCaseMetricsInterceptor.ACTIVE_METRIC).gauge().value());
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return meterRegistry.get(UseCaseMetricsInterceptor.EXECUTION_METRIC)
+                .tag("usecase", "GetTaskByIdUseCase")
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+    }
+
+    private TaskView view() {
+        Task task = new Task("task1", "Task", "Description", LocalDateTime.now().plusDays(1), TaskStatus.TODO,
+                TaskPriority.MEDIUM, "user1", "project1", LocalDateTime.now(), LocalDateTime.now());
+        return new TaskView(task, "John Doe", "Test Project");
+    }
+}
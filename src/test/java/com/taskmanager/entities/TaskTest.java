@@ -45,5 +45,29 @@ class TaskTest {
         
         assertTrue(task.isOverdue());
     }
+
+    @Test
+    void testCanTransitionToMatchesTaskStateChanges() {
+        for (TaskStatus from : TaskStatus.values()) {
+            for (TaskStatus to : TaskStatus.values()) {
+                Task task = new Task("id", "Task", "Description", LocalDateTime.now().plusDays(1), from,
+                        TaskPriority.MEDIUM, "user1", "project1", LocalDateTime.now(), LocalDateTime.now());
+                boolean allowed;
+                try {
+                    // The calls UpdateTaskStatusUseCase makes; one that leaves the status unchanged is not a transition
+                    switch (to) {
+                        case COMPLETED -> task.markAsCompleted();
+                        case IN_PROGRESS -> task.markAsInProgress();
+                        case CANCELLED -> task.cancel();
+                        case TODO -> task.updateDetails(task.getTitle(), task.getDescription(), task.getDueDate(), task.getPriority());
+                    }
+                    allowed = task.getStatus() == to;
+                } catch (IllegalStateException e) {
+                    allowed = false;
+                }
+                assertEquals(allowed, from.canTransitionTo(to), from + " -> " + to);
+            }
+        }
+    }
 }
 // No User objects are created in this file, so no password update is needed.
\ No newline at end of file
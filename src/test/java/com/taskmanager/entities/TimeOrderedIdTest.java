@@ -0,0 +1,72 @@
+package com.taskmanager.entities;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdTest {
+    @Test
+    void testIdsAreVersion7UuidsStampedWithTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedId.nextUuid();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        // A burst in the same millisecond may borrow the following one
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+        assertEquals(id, UUID.fromString(id.toString()));
+    }
+
+    @Test
+    void testIdsSortInCreationOrder() {
+        String previous = TimeOrderedId.next();
+        for (int i = 0; i < 100_000; i++) {
+            String next = TimeOrderedId.next();
+            assertTrue(next.compareTo(previous) > 0, next + " does not sort after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void testConcurrentCallersNeverGetTheSameId() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(TimeOrderedId.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(160_000, ids.size());
+    }
+
+    @Test
+    void testNewEntitiesGetTimeOrderedIds() {
+        Task task = new Task("Task", "Description", null, "user1", "project1", TaskPriority.LOW);
+        Project project = new Project("Project", "Description", "user1", null, null);
+        User user = new User("ids@example.com", "Ida", "Ids", "Password1!", UserRole.USER);
+
+        assertEquals(7, UUID.fromString(task.getId()).version());
+        assertEquals(7, UUID.fromString(project.getId()).version());
+        assertEquals(7, UUID.fromString(user.getId()).version());
+    }
+}
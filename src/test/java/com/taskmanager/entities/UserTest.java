@@ -27,10 +27,17 @@ class UserTest {
     }
 
     @Test
-    void testChangePassword() {
+    void testChangePasswordStoresTheHash() {
         User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.USER);
-        user.changePassword("NewPass1!");
-        assertEquals("NewPass1!", user.getPassword());
+        user.changePassword("NewPass1!", raw -> "hashed:" + raw);
+        assertEquals("hashed:NewPass1!", user.getPassword());
+    }
+
+    @Test
+    void testChangePasswordValidatesBeforeHashing() {
+        User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.USER);
+        assertThrows(IllegalArgumentException.class, () -> user.changePassword("short", raw -> "hashed:" + raw));
+        assertEquals("Password1!", user.getPassword());
     }
 
     @Test
@@ -0,0 +1,126 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCreateTasksUseCaseTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskViewRepository taskViewRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private DomainEventOutbox domainEvents;
+
+    private BulkCreateTasksUseCase bulkCreateTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        bulkCreateTasksUseCase = new BulkCreateTasksUseCase(taskRepository, taskViewRepository, userRepository,
+                projectRepository, Validation.buildDefaultValidatorFactory().getValidator(), Clock.systemDefaultZone(),
+                event -> { }, domainEvents);
+    }
+
+    @Test
+    void testExecuteLooksUpEachUserAndProjectOnce() {
+        User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.USER);
+        Project project = new Project("Test Project", "Description", "owner1", LocalDateTime.now(), LocalDateTime.now().plusDays(10));
+        when(userRepository.findByIds(Set.of("user1"))).thenReturn(Map.of("user1", user));
+        when(projectRepository.findByIds(Set.of("project1"))).thenReturn(Map.of("project1", project));
+        List<CreateTaskInputData> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(item("Task " + i, "user1", "project1"));
+        }
+
+        BulkCreateTasksOutputData result = bulkCreateTasksUseCase.execute(items);
+
+        assertEquals(20, result.getCreated().size());
+        assertFalse(result.hasErrors());
+        assertEquals("Task 0", result.getCreated().get(0).getTitle());
+        assertEquals("John Doe", result.getCreated().get(0).getAssignedUserName());
+        assertEquals("Test Project", result.getCreated().get(0).getProjectName());
+        verify(userRepository, times(1)).findByIds(anyCollection());
+        verify(projectRepository, times(1)).findByIds(anyCollection());
+        verify(taskRepository, never()).save(any(Task.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> tasks = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository, times(1)).insertAll(tasks.capture());
+        assertEquals(20, tasks.getValue().size());
+        verify(taskViewRepository, times(1)).insertAll(argThat(views -> views.size() == 20));
+        verify(domainEvents, times(1)).recordAll(argThat(events -> events.size() == 20
+                && events.stream().allMatch(event -> event.getType() == DomainEvent.Type.TASK_CREATED)));
+    }
+
+    @Test
+    void testExecuteReportsErrorsPerItem() {
+        User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.USER);
+        Project open = new Project("Open", "Description", "owner1", LocalDateTime.now(), LocalDateTime.now().plusDays(10));
+        Project closed = new Project("Closed", "Description", "owner1", LocalDateTime.now(), LocalDateTime.now().plusDays(10));
+        closed.cancel();
+        when(userRepository.findByIds(anyCollection())).thenReturn(Map.of("user1", user));
+        when(projectRepository.findByIds(anyCollection())).thenReturn(Map.of("open", open, "closed", closed));
+
+        BulkCreateTasksOutputData result = bulkCreateTasksUseCase.execute(Arrays.asList(
+                item("Valid", "user1", "open"),
+                item("", "user1", "open"),
+                item("Unknown user", "ghost", "open"),
+                null,
+                item("Unknown project", "user1", "missing"),
+                item("Closed project", "user1", "closed"),
+                item("Also valid", "user1", "open")
+        ));
+
+        assertEquals(List.of("Valid", "Also valid"), result.getCreated().stream().map(TaskOutputData::getTitle).toList());
+        assertEquals(List.of(1, 2, 3, 4, 5), result.getErrors().stream().map(BulkItemErrorData::getIndex).toList());
+        assertEquals("Title is required", result.getErrors().get(0).getMessage());
+        assertEquals("User not found: ghost", result.getErrors().get(1).getMessage());
+        assertEquals("Task is required", result.getErrors().get(2).getMessage());
+        assertEquals("Project not found: missing", result.getErrors().get(3).getMessage());
+        assertTrue(result.getErrors().get(4).getMessage().startsWith("Cannot create tasks in project status"));
+        verify(userRepository).findByIds(argThat((Collection<String> ids) -> !ids.contains(null)));
+    }
+
+    @Test
+    void testExecuteRejectsOversizedRequests() {
+        List<CreateTaskInputData> items = new ArrayList<>();
+        for (int i = 0; i <= BulkCreateTasksUseCase.MAX_ITEMS; i++) {
+            items.add(item("Task " + i, "user1", "project1"));
+        }
+
+        assertThrows(BusinessRuleViolationException.class, () -> bulkCreateTasksUseCase.execute(items));
+        assertThrows(BusinessRuleViolationException.class, () -> bulkCreateTasksUseCase.execute(List.of()));
+        verifyNoInteractions(taskRepository, taskViewRepository, userRepository, projectRepository, domainEvents);
+    }
+
+    private CreateTaskInputData item(String title, String userId, String projectId) {
+        return new CreateTaskInputData(title, "Description", LocalDateTime.now().plusDays(1), userId, projectId, TaskPriority.MEDIUM);
+    }
+}
@@ -0,0 +1,128 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkUpdateTaskStatusUseCaseTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskViewRepository taskViewRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskEventPublisher eventPublisher;
+
+    @Mock
+    private DomainEventOutbox domainEvents;
+
+    private BulkUpdateTaskStatusUseCase bulkUpdateTaskStatusUseCase;
+
+    @BeforeEach
+    void setUp() {
+        bulkUpdateTaskStatusUseCase = new BulkUpdateTaskStatusUseCase(taskRepository, taskViewRepository,
+                projectRepository, eventPublisher, domainEvents, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    void testExecuteUpdatesAcceptedTasksInOneStatement() {
+        Project open = project("open");
+        Project closed = project("closed");
+        closed.cancel();
+        Map<String, Task> tasks = Map.of(
+                "todo", task("todo", TaskStatus.TODO, "open"),
+                "started", task("started", TaskStatus.IN_PROGRESS, "open"),
+                "cancelled", task("cancelled", TaskStatus.CANCELLED, "open"),
+                "frozen", task("frozen", TaskStatus.TODO, "closed"));
+        when(taskRepository.findByIds(anyCollection())).thenReturn(tasks);
+        when(projectRepository.findByIds(Set.of("open", "closed"))).thenReturn(Map.of("open", open, "closed", closed));
+        when(taskRepository.updateStatus(eq(List.of("todo", "started")), eq(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED)),
+                eq(TaskStatus.COMPLETED), eq(NOW))).thenReturn(2);
+
+        BulkUpdateTaskStatusOutputData result = bulkUpdateTaskStatusUseCase.execute(
+                List.of("todo", "started", "cancelled", "frozen", "missing", "todo"), TaskStatus.COMPLETED);
+
+        assertEquals(List.of("todo", "started"), result.getUpdatedTaskIds());
+        assertEquals(List.of("cancelled", "frozen", "missing"),
+                result.getRejected().stream().map(TaskRejectionData::getTaskId).toList());
+        assertEquals("Cannot change task status from CANCELLED to COMPLETED", result.getRejected().get(0).getMessage());
+        assertEquals("Task not found: missing", result.getRejected().get(2).getMessage());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskViewRepository).updateStatus(List.of("todo", "started"), TaskStatus.COMPLETED, NOW);
+        verify(eventPublisher, times(2)).publish(argThat(event -> event.getType() == TaskChangeEvent.Type.STATUS_CHANGED
+                && event.getStatus() == TaskStatus.COMPLETED && event.getProjectId().equals("open")));
+        verify(domainEvents).recordAll(argThat(events -> events.stream().map(DomainEvent::getAggregateId).toList()
+                .equals(List.of("todo", "started"))
+                && events.stream().allMatch(event -> event.getType() == DomainEvent.Type.TASK_STATUS_CHANGED)));
+    }
+
+    @Test
+    void testExecuteFailsWhenTasksChangedConcurrently() {
+        when(taskRepository.findByIds(anyCollection())).thenReturn(Map.of("todo", task("todo", TaskStatus.TODO, "open")));
+        when(projectRepository.findByIds(anyCollection())).thenReturn(Map.of("open", project("open")));
+        when(taskRepository.updateStatus(anyCollection(), anyCollection(), eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(BusinessRuleViolationException.class,
+                () -> bulkUpdateTaskStatusUseCase.execute(List.of("todo"), TaskStatus.IN_PROGRESS));
+        verifyNoInteractions(taskViewRepository);
+    }
+
+    @Test
+    void testExecuteRejectsMovingStartedTasksBackToTodo() {
+        when(taskRepository.findByIds(anyCollection())).thenReturn(Map.of(
+                "todo", task("todo", TaskStatus.TODO, "open"),
+                "started", task("started", TaskStatus.IN_PROGRESS, "open")));
+        when(projectRepository.findByIds(anyCollection())).thenReturn(Map.of("open", project("open")));
+        when(taskRepository.updateStatus(eq(List.of("todo")), eq(Set.of(TaskStatus.TODO)), eq(TaskStatus.TODO), eq(NOW)))
+                .thenReturn(1);
+
+        BulkUpdateTaskStatusOutputData result = bulkUpdateTaskStatusUseCase.execute(List.of("todo", "started"), TaskStatus.TODO);
+
+        assertEquals(List.of("todo"), result.getUpdatedTaskIds());
+        assertEquals("Cannot change task status from IN_PROGRESS to TODO", result.getRejected().get(0).getMessage());
+    }
+
+    @Test
+    void testExecuteSkipsUpdateWhenEverythingIsRejected() {
+        when(taskRepository.findByIds(anyCollection())).thenReturn(Map.of());
+        when(projectRepository.findByIds(anyCollection())).thenReturn(Map.of());
+
+        BulkUpdateTaskStatusOutputData result = bulkUpdateTaskStatusUseCase.execute(List.of("missing"), TaskStatus.CANCELLED);
+
+        assertTrue(result.getUpdatedTaskIds().isEmpty());
+        assertEquals(1, result.getRejected().size());
+        verify(taskRepository, never()).updateStatus(anyCollection(), anyCollection(), any(), any());
+        verifyNoInteractions(taskViewRepository, domainEvents);
+    }
+
+    private Project project(String id) {
+        return new Project(id, "Project " + id, "Description", "owner1", ProjectStatus.PLANNING,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(10), LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private Task task(String id, TaskStatus status, String projectId) {
+        return new Task(id, "Task " + id, "Description", LocalDateTime.now().plusDays(1), status,
+                TaskPriority.MEDIUM, "user1", projectId, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -20,12 +20,21 @@ class CreateTaskUseCaseTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskViewRepository taskViewRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private TaskEventPublisher eventPublisher;
+
+    @Mock
+    private DomainEventOutbox domainEvents;
+
     @InjectMocks
     private CreateTaskUseCase createTaskUseCase;
 
@@ -49,6 +58,11 @@ class CreateTaskUseCaseTest {
         assertEquals("Test Task", outputData.getTitle());
         assertEquals(TaskPriority.HIGH, outputData.getPriority());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskViewRepository, times(1)).save(any(TaskView.class));
+        verify(eventPublisher).publish(argThat(event -> event.getType() == TaskChangeEvent.Type.CREATED
+                && event.getTask() == outputData));
+        verify(domainEvents).record(argThat(event -> event.getType() == DomainEvent.Type.TASK_CREATED
+                && event.getAggregateId().equals(outputData.getId()) && event.getPayload() == outputData));
     }
 
     @Test
@@ -60,6 +74,7 @@ class CreateTaskUseCaseTest {
         when(userRepository.findById("user1")).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> createTaskUseCase.execute(inputData));
+        verifyNoInteractions(domainEvents);
     }
 
     @Test
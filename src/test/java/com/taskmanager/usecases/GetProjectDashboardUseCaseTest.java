@@ -0,0 +1,82 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetProjectDashboardUseCaseTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private GetProjectDashboardUseCase getProjectDashboardUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getProjectDashboardUseCase = new GetProjectDashboardUseCase(taskRepository, projectRepository,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    void testGroupsAreFoldedIntoTotals() {
+        LocalDateTime soon = NOW.plusHours(2);
+        LocalDateTime later = NOW.plusDays(3);
+        when(taskRepository.countByProjectIdGrouped("project1", NOW)).thenReturn(List.of(
+                new TaskCountGroup(TaskStatus.TODO, TaskPriority.HIGH, 4L, 1L, later),
+                new TaskCountGroup(TaskStatus.TODO, TaskPriority.LOW, 2L, 0L, soon),
+                new TaskCountGroup(TaskStatus.IN_PROGRESS, TaskPriority.HIGH, 3L, 2L, null),
+                new TaskCountGroup(TaskStatus.COMPLETED, TaskPriority.URGENT, 5L, 0L, null)));
+
+        ProjectDashboardOutputData dashboard = getProjectDashboardUseCase.execute("project1");
+
+        assertEquals("project1", dashboard.getProjectId());
+        assertEquals(14, dashboard.getTotalTasks());
+        assertEquals(6L, dashboard.getTasksByStatus().get(TaskStatus.TODO));
+        assertEquals(3L, dashboard.getTasksByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(5L, dashboard.getTasksByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(0L, dashboard.getTasksByStatus().get(TaskStatus.CANCELLED));
+        assertEquals(7L, dashboard.getTasksByPriority().get(TaskPriority.HIGH));
+        assertEquals(0L, dashboard.getTasksByPriority().get(TaskPriority.MEDIUM));
+        assertEquals(3, dashboard.getOverdueTasks());
+        assertEquals(soon, dashboard.getNextDueDate());
+        verify(taskRepository, never()).countByProjectId(any());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void testProjectWithoutTasksHasAnEmptyDashboard() {
+        when(taskRepository.countByProjectIdGrouped(eq("project1"), any())).thenReturn(List.of());
+        when(projectRepository.existsById("project1")).thenReturn(true);
+
+        ProjectDashboardOutputData dashboard = getProjectDashboardUseCase.execute("project1");
+
+        assertEquals(0, dashboard.getTotalTasks());
+        assertEquals(4, dashboard.getTasksByStatus().size());
+        assertNull(dashboard.getNextDueDate());
+    }
+
+    @Test
+    void testExecuteProjectNotFound() {
+        when(taskRepository.countByProjectIdGrouped(eq("missing"), any())).thenReturn(List.of());
+        when(projectRepository.existsById("missing")).thenReturn(false);
+
+        assertThrows(ProjectNotFoundException.class, () -> getProjectDashboardUseCase.execute("missing"));
+    }
+}
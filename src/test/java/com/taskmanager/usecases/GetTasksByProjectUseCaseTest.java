@@ -0,0 +1,151 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetTasksByProjectUseCaseTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 15, 12, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Mock
+    private TaskViewRepository taskViewRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private GetTasksByProjectUseCase getTasksByProjectUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getTasksByProjectUseCase = new GetTasksByProjectUseCase(taskViewRepository, projectRepository, CLOCK);
+    }
+
+    @Test
+    void testFirstPageReturnsNextCursor() {
+        List<TaskView> tasks = views("project1", 3);
+        when(taskViewRepository.findByProjectIdAfter("project1", null, null, 3)).thenReturn(new ProjectTaskViews(tasks, 0L));
+
+        TaskPageOutputData page = getTasksByProjectUseCase.execute("project1", null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals("Jane Smith", page.getItems().get(0).getAssignedUserName());
+        assertEquals("Test Project", page.getItems().get(0).getProjectName());
+        assertTrue(page.hasNext());
+        TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+        assertEquals(tasks.get(1).getId(), cursor.getId());
+        assertEquals(tasks.get(1).getCreatedAt(), cursor.getCreatedAt());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void testNextPageSeeksPastCursor() {
+        List<TaskView> tasks = views("project1", 1);
+        TaskCursor after = new TaskCursor(LocalDateTime.now().minusHours(1), "last-seen");
+        when(taskViewRepository.findByProjectIdAfter("project1", after.getCreatedAt(), "last-seen", 51)).thenReturn(new ProjectTaskViews(tasks, 0L));
+
+        TaskPageOutputData page = getTasksByProjectUseCase.execute("project1", after.encode(), null);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.hasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testPageSizeIsCapped() {
+        when(taskViewRepository.findByProjectIdAfter(eq("project1"), isNull(), isNull(), anyInt())).thenReturn(new ProjectTaskViews(List.of(), null));
+        when(projectRepository.existsById("project1")).thenReturn(true);
+
+        TaskPageOutputData page = getTasksByProjectUseCase.execute("project1", null, 1_000_000);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getETag());
+        verify(taskViewRepository).findByProjectIdAfter("project1", null, null, 201);
+    }
+
+    @Test
+    void testExecuteProjectNotFound() {
+        when(taskViewRepository.findByProjectIdAfter("missing", null, null, 51)).thenReturn(new ProjectTaskViews(List.of(), null));
+        when(projectRepository.existsById("missing")).thenReturn(false);
+
+        assertThrows(ProjectNotFoundException.class, () -> getTasksByProjectUseCase.execute("missing", null, null));
+    }
+
+    @Test
+    void testDerivedFieldsUseOneTimeForThePage() {
+        Task overdue = new Task("overdue", "Overdue", null, NOW.minusDays(2).minusHours(1), TaskStatus.TODO, TaskPriority.HIGH,
+                "user1", "project1", NOW.minusDays(5), NOW.minusDays(5));
+        Task upcoming = new Task("upcoming", "Upcoming", null, NOW.plusDays(3).plusHours(1), TaskStatus.IN_PROGRESS, TaskPriority.LOW,
+                "user1", "project1", NOW.minusDays(4), NOW.minusDays(4));
+        when(taskViewRepository.findByProjectIdAfter("project1", null, null, 51)).thenReturn(new ProjectTaskViews(List.of(
+                new TaskView(overdue, "Jane Smith", "Test Project"), new TaskView(upcoming, "Jane Smith", "Test Project")), 0L));
+
+        TaskPageOutputData page = getTasksByProjectUseCase.execute("project1", null, null);
+
+        assertTrue(page.getItems().get(0).isOverdue());
+        assertEquals(-2, page.getItems().get(0).getDaysUntilDue());
+        assertFalse(page.getItems().get(1).isOverdue());
+        assertEquals(3, page.getItems().get(1).getDaysUntilDue());
+    }
+
+    @Test
+    void testListTagStaysCurrentUntilVersionOrDerivedFieldsChange() {
+        Task overdue = new Task("overdue", "Overdue", null, NOW.minusDays(2).minusHours(1), TaskStatus.TODO, TaskPriority.HIGH,
+                "user1", "project1", NOW.minusDays(5), NOW.minusDays(5));
+        Task upcoming = new Task("upcoming", "Upcoming", null, NOW.plusDays(3).plusHours(1), TaskStatus.IN_PROGRESS, TaskPriority.LOW,
+                "user1", "project1", NOW.minusDays(4), NOW.minusDays(4));
+        when(taskViewRepository.findByProjectIdAfter("project1", null, null, 51)).thenReturn(new ProjectTaskViews(List.of(
+                new TaskView(overdue, "Jane Smith", "Test Project"), new TaskView(upcoming, "Jane Smith", "Test Project")), 7L));
+        when(taskViewRepository.findProjectVersion("project1")).thenReturn(7L);
+
+        String eTag = getTasksByProjectUseCase.execute("project1", null, null).getETag();
+
+        // The upcoming task's days until due drops from 3 to 2 one hour from now
+        assertEquals(Optional.of(eTag), checkAt(NOW.plusMinutes(59)).execute("project1", null, null, List.of("not-a-tag", eTag)));
+        assertEquals(Optional.empty(), checkAt(NOW.plusHours(1)).execute("project1", null, null, List.of(eTag)));
+        assertEquals(Optional.empty(), checkAt(NOW).execute("project1", null, 20, List.of(eTag)));
+
+        when(taskViewRepository.findProjectVersion("project1")).thenReturn(8L);
+        assertEquals(Optional.empty(), checkAt(NOW).execute("project1", null, null, List.of(eTag)));
+        verify(taskViewRepository, times(1)).findByProjectIdAfter(any(), any(), any(), anyInt());
+        // One version lookup per check, however many tags it compares
+        verify(taskViewRepository, times(4)).findProjectVersion("project1");
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        assertThrows(BusinessRuleViolationException.class,
+                () -> getTasksByProjectUseCase.execute("project1", "not-a-cursor", null));
+        verifyNoInteractions(taskViewRepository);
+    }
+
+    private CheckTasksByProjectETagUseCase checkAt(LocalDateTime now) {
+        return new CheckTasksByProjectETagUseCase(taskViewRepository, Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    private List<TaskView> views(String projectId, int count) {
+        List<TaskView> views = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("task" + i, "Task " + i, "Description", LocalDateTime.now().plusDays(1),
+                    TaskStatus.TODO, TaskPriority.MEDIUM, "user1", projectId, createdAt.plusMinutes(i), createdAt.plusMinutes(i));
+            views.add(new TaskView(task, "Jane Smith", "Test Project"));
+        }
+        return views;
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginUseCaseTest {
+    private static final Instant NOW = Instant.parse("2030-01-01T12:00:00Z");
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private AccessTokenIssuer accessTokenIssuer;
+
+    @Mock
+    private UserLoginRecorder userLoginRecorder;
+
+    private LoginUseCase loginUseCase;
+
+    @BeforeEach
+    void setUp() {
+        loginUseCase = new LoginUseCase(userRepository, passwordHasher, accessTokenIssuer, userLoginRecorder,
+                Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofHours(1));
+    }
+
+    @Test
+    void testExecuteSuccess() {
+        User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.PROJECT_MANAGER);
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("Password1!", user.getPassword())).thenReturn(true);
+        when(accessTokenIssuer.issue(user.getId(), UserRole.PROJECT_MANAGER, NOW.plus(Duration.ofHours(1)))).thenReturn("token");
+
+        LoginOutputData outputData = loginUseCase.execute(new LoginInputData("test@example.com", "Password1!"));
+
+        assertEquals("token", outputData.getAccessToken());
+        assertEquals("Bearer", outputData.getTokenType());
+        assertEquals(LocalDateTime.of(2030, 1, 1, 13, 0), outputData.getExpiresAt());
+        assertEquals(user.getId(), outputData.getUserId());
+        assertEquals(UserRole.PROJECT_MANAGER, outputData.getRole());
+        verify(userLoginRecorder).recordLogin(user.getId(), LocalDateTime.of(2030, 1, 1, 12, 0));
+    }
+
+    @Test
+    void testExecuteWrongPassword() {
+        User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.USER);
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("Wrong1!xx", user.getPassword())).thenReturn(false);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> loginUseCase.execute(new LoginInputData("test@example.com", "Wrong1!xx")));
+        verifyNoInteractions(accessTokenIssuer, userLoginRecorder);
+    }
+
+    @Test
+    void testExecuteUnknownEmailStillChecksPassword() {
+        when(userRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> loginUseCase.execute(new LoginInputData("nobody@example.com", "Password1!")));
+        verify(passwordHasher).matches("Password1!", null);
+        verifyNoInteractions(accessTokenIssuer, userLoginRecorder);
+    }
+
+    @Test
+    void testExecuteInactiveUser() {
+        User user = new User("test@example.com", "John", "Doe", "Password1!", UserRole.USER);
+        user.deactivate();
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches(any(), any())).thenReturn(true);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> loginUseCase.execute(new LoginInputData("test@example.com", "Password1!")));
+        verifyNoInteractions(accessTokenIssuer, userLoginRecorder);
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotifyOverdueTaskUseCaseTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TaskViewRepository taskViewRepository;
+
+    @Mock
+    private TaskEventPublisher eventPublisher;
+
+    private NotifyOverdueTaskUseCase notifyOverdueTaskUseCase;
+
+    @BeforeEach
+    void setUp() {
+        notifyOverdueTaskUseCase = new NotifyOverdueTaskUseCase(taskViewRepository, eventPublisher,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    void testOverdueTaskIsPublished() {
+        when(taskViewRepository.findById("task1")).thenReturn(Optional.of(view(NOW.minusMinutes(1), TaskStatus.IN_PROGRESS)));
+
+        assertTrue(notifyOverdueTaskUseCase.execute("task1"));
+
+        ArgumentCaptor<TaskChangeEvent> event = ArgumentCaptor.forClass(TaskChangeEvent.class);
+        verify(eventPublisher).publish(event.capture());
+        assertEquals(TaskChangeEvent.Type.OVERDUE, event.getValue().getType());
+        assertEquals("project1", event.getValue().getProjectId());
+        assertEquals("user1", event.getValue().getAssignedUserId());
+        assertTrue(event.getValue().getTask().isOverdue());
+    }
+
+    @Test
+    void testTaskClosedOrRescheduledSinceIsNotPublished() {
+        when(taskViewRepository.findById("completed")).thenReturn(Optional.of(view(NOW.minusMinutes(1), TaskStatus.COMPLETED)));
+        when(taskViewRepository.findById("rescheduled")).thenReturn(Optional.of(view(NOW.plusDays(1), TaskStatus.TODO)));
+        when(taskViewRepository.findById("deleted")).thenReturn(Optional.empty());
+
+        assertFalse(notifyOverdueTaskUseCase.execute("completed"));
+        assertFalse(notifyOverdueTaskUseCase.execute("rescheduled"));
+        assertFalse(notifyOverdueTaskUseCase.execute("deleted"));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static TaskView view(LocalDateTime dueDate, TaskStatus status) {
+        Task task = new Task("task1", "Task", null, dueDate, status, TaskPriority.HIGH, "user1", "project1",
+                NOW.minusDays(2), NOW.minusDays(1));
+        return new TaskView(task, "Jane Doe", "Apollo");
+    }
+}
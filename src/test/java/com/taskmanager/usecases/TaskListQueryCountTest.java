@@ -0,0 +1,150 @@
+package com.taskmanager.usecases;
+
+import com.taskmanager.entities.*;
+import com.taskmanager.usecases.dto.*;
+import com.taskmanager.usecases.ports.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the task read use cases issue a constant number of SQL statements,
+ * no matter how many tasks, assignees or projects are involved.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskListQueryCountTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private CreateTaskUseCase createTaskUseCase;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        createTaskUseCase = new CreateTaskUseCase(taskRepository, taskViewRepository, userRepository, projectRepository,
+                event -> { }, event -> { });
+    }
+
+    @Test
+    void testGetTasksByProjectStatementCountIsConstant() {
+        GetTasksByProjectUseCase useCase = new GetTasksByProjectUseCase(taskViewRepository, projectRepository, Clock.systemDefaultZone());
+        Project small = seedProject("small", 2, 2);
+        Project large = seedProject("large", 40, 20);
+
+        long smallCount = countStatements(() -> assertEquals(2, useCase.execute(small.getId(), null, 100).getItems().size()));
+        long largeCount = countStatements(() -> assertEquals(40, useCase.execute(large.getId(), null, 100).getItems().size()));
+
+        assertEquals(1, smallCount);
+        assertEquals(smallCount, largeCount);
+    }
+
+    @Test
+    void testDeepPagesCostTheSameAsTheFirstPage() {
+        GetTasksByProjectUseCase useCase = new GetTasksByProjectUseCase(taskViewRepository, projectRepository, Clock.systemDefaultZone());
+        Project project = seedProject("paged", 40, 5);
+
+        Set<String> seen = new HashSet<>();
+        String[] cursor = new String[1];
+        do {
+            long count = countStatements(() -> {
+                TaskPageOutputData page = useCase.execute(project.getId(), cursor[0], 10);
+                page.getItems().forEach(task -> assertTrue(seen.add(task.getId())));
+                cursor[0] = page.getNextCursor();
+            });
+            assertEquals(1, count);
+        } while (cursor[0] != null);
+
+        assertEquals(40, seen.size());
+    }
+
+    @Test
+    void testGetTasksByUserStatementCountIsConstant() {
+        GetTasksByUserUseCase useCase = new GetTasksByUserUseCase(taskViewRepository, userRepository, Clock.systemDefaultZone());
+        User owner = userRepository.save(new User("owner@example.com", "Olivia", "Owner", "Password1!", UserRole.PROJECT_MANAGER));
+        User assignee = userRepository.save(new User("busy@example.com", "Bob", "Busy", "Password1!", UserRole.USER));
+        for (int i = 0; i < 15; i++) {
+            Project project = projectRepository.save(new Project("Project " + i, "Description", owner.getId(),
+                    LocalDateTime.now(), LocalDateTime.now().plusDays(10)));
+            for (int j = 0; j < 3; j++) {
+                createTask("Task " + i + "-" + j, assignee, project);
+            }
+        }
+
+        long count = countStatements(() -> {
+            List<TaskOutputData> tasks = useCase.execute(assignee.getId(), null, 100).getItems();
+            assertEquals(45, tasks.size());
+            assertTrue(tasks.stream().allMatch(task -> task.getAssignedUserName().equals("Bob Busy")));
+        });
+
+        assertEquals(1, count);
+    }
+
+    @Test
+    void testGetTaskByIdIsASingleLookup() {
+        GetTaskByIdUseCase useCase = new GetTaskByIdUseCase(taskViewRepository, Clock.systemDefaultZone());
+        Project project = seedProject("single", 1, 1);
+        String taskId = taskViewRepository.findByProjectIdAfter(project.getId(), null, null, 1).getViews().get(0).getId();
+
+        long count = countStatements(() -> assertEquals("single", useCase.execute(taskId).getProjectName()));
+
+        assertEquals(1, count);
+    }
+
+    private Project seedProject(String name, int taskCount, int assigneeCount) {
+        User owner = userRepository.save(new User(name + "-owner@example.com", "Olivia", "Owner", "Password1!", UserRole.PROJECT_MANAGER));
+        Project project = projectRepository.save(new Project(name, "Description", owner.getId(),
+                LocalDateTime.now(), LocalDateTime.now().plusDays(10)));
+        for (int i = 0; i < assigneeCount; i++) {
+            userRepository.save(new User(name + "-user" + i + "@example.com", "User", "Number" + i, "Password1!", UserRole.USER));
+        }
+        List<User> users = userRepository.findByRole(UserRole.USER).stream()
+                .filter(user -> user.getEmail().startsWith(name + "-"))
+                .toList();
+        for (int i = 0; i < taskCount; i++) {
+            createTask("Task " + i, users.get(i % users.size()), project);
+        }
+        return project;
+    }
+
+    private void createTask(String title, User assignee, Project project) {
+        createTaskUseCase.execute(new CreateTaskInputData(title, "Description", LocalDateTime.now().plusDays(1),
+                assignee.getId(), project.getId(), TaskPriority.MEDIUM));
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
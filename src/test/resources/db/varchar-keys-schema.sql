@@ -0,0 +1,81 @@
+-- Schema before the move to UUID keys, used to test db/migrate-to-uuid-keys.sql
+DROP TABLE IF EXISTS task_view;
+DROP TABLE IF EXISTS tasks;
+DROP TABLE IF EXISTS projects;
+DROP TABLE IF EXISTS users;
+
+CREATE TABLE users (
+    id VARCHAR(36) PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    password VARCHAR(100) NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    last_login_at TIMESTAMP
+);
+
+CREATE TABLE projects (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    owner_id VARCHAR(36) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    start_date TIMESTAMP,
+    end_date TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (owner_id) REFERENCES users(id)
+);
+
+CREATE TABLE tasks (
+    id VARCHAR(36) PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    due_date TIMESTAMP,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assigned_user_id VARCHAR(36),
+    project_id VARCHAR(36) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (assigned_user_id) REFERENCES users(id),
+    FOREIGN KEY (project_id) REFERENCES projects(id)
+);
+
+-- Denormalized read model maintained by the task use cases; no foreign keys on purpose
+CREATE TABLE task_view (
+    id VARCHAR(36) PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    due_date TIMESTAMP,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    assigned_user_id VARCHAR(36) NOT NULL,
+    assigned_user_name VARCHAR(101) NOT NULL,
+    project_id VARCHAR(36) NOT NULL,
+    project_name VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Secondary indexes, one per access path used by the JPA repositories
+CREATE INDEX idx_users_status ON users (status);
+CREATE INDEX idx_users_role ON users (role);
+
+CREATE INDEX idx_projects_owner_status ON projects (owner_id, status);
+CREATE INDEX idx_projects_status_end_date ON projects (status, end_date);
+CREATE INDEX idx_projects_end_date ON projects (end_date);
+
+CREATE INDEX idx_tasks_project_status ON tasks (project_id, status);
+CREATE INDEX idx_tasks_assignee_status ON tasks (assigned_user_id, status);
+CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date);
+CREATE INDEX idx_tasks_priority ON tasks (priority);
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at);
+
+-- Keyset pagination seeks on (created_at, id) within a project or assignee
+CREATE INDEX idx_task_view_project_created ON task_view (project_id, created_at, id);
+CREATE INDEX idx_task_view_assignee_created ON task_view (assigned_user_id, created_at, id);
\ No newline at end of file